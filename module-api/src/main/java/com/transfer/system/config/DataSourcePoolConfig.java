@@ -0,0 +1,37 @@
+package com.transfer.system.config;
+
+import com.transfer.system.policy.VirtualThreadPolicy;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DB 연결 풀 크기, 연결 대기 시간 적용
+ * 가상 스레드 모드에서는 Tomcat 스레드 수가 동시 요청을 제한하지 않으므로, 고정 크기 풀과 짧은 연결 대기 시간으로 과부하 요청을 빠르게 거절
+ */
+@Slf4j
+@Configuration
+public class DataSourcePoolConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourcePoolPostProcessor(ObjectProvider<VirtualThreadPolicy> virtualThreadPolicy) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    VirtualThreadPolicy policy = virtualThreadPolicy.getObject();
+                    dataSource.setMaximumPoolSize(policy.getPoolMaxSize());
+                    dataSource.setMinimumIdle(policy.getPoolMaxSize());
+                    dataSource.setConnectionTimeout(policy.getConnectionTimeout().toMillis());
+
+                    log.info("[DataSourcePoolConfig] 연결 풀 설정 virtualThreads : {}, maxSize : {}, connectionTimeout : {}ms",
+                        policy.isEnabled(), policy.getPoolMaxSize(), policy.getConnectionTimeout().toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+}
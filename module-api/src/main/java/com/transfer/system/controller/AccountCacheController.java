@@ -0,0 +1,29 @@
+package com.transfer.system.controller;
+
+import com.transfer.system.dto.AccountCacheStatsDTO;
+import com.transfer.system.dto.CommonResponseDTO;
+import com.transfer.system.enums.ResponseMessage;
+import com.transfer.system.service.AccountCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "계좌 캐시 관리 API", description = "계좌 메타데이터 캐시 통계 조회 API")
+@RestController
+@RequestMapping("/api/admin/account-cache")
+@RequiredArgsConstructor
+public class AccountCacheController {
+    private final AccountCache accountCache;
+
+    @Operation(summary = "계좌 캐시 통계 조회", description = "캐시 적중, 미적중, 제거 횟수 조회")
+    @GetMapping("/stats")
+    public ResponseEntity<CommonResponseDTO<AccountCacheStatsDTO>> getStats() {
+        AccountCacheStatsDTO stats = accountCache.getStats();
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(stats, ResponseMessage.ACCOUNT_CACHE_STATS_RETRIEVED.getMessage()));
+    }
+}
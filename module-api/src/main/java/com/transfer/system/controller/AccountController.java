@@ -2,14 +2,21 @@ package com.transfer.system.controller;
 
 import com.transfer.system.dto.*;
 import com.transfer.system.enums.ResponseMessage;
+import com.transfer.system.filter.IdempotencyFilter;
+import com.transfer.system.service.AccountBalanceSlotService;
 import com.transfer.system.service.AccountService;
+import com.transfer.system.service.BalanceSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Tag(name = "계좌 API", description = "계좌 생성, 조회, 삭제, 입출금 관련 API")
@@ -18,6 +25,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final AccountBalanceSlotService accountBalanceSlotService;
 
     @Operation(summary = "계좌 생성")
     @PostMapping("/create")
@@ -44,6 +53,7 @@ public class AccountController {
     }
 
     @Operation(summary = "입금 처리")
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, description = "중복 실행 방지 키 (같은 키의 재요청은 최초 응답 반환)")
     @PostMapping("/deposit")
     public ResponseEntity<CommonResponseDTO<AccountBalanceResponseDTO>> deposit(@Valid @RequestBody AccountBalanceRequestDTO accountBalanceRequestDTO) {
         AccountBalanceResponseDTO response = accountService.deposit(accountBalanceRequestDTO.getAccountNumber(), accountBalanceRequestDTO.getAmount());
@@ -52,10 +62,27 @@ public class AccountController {
     }
 
     @Operation(summary = "출금 처리", description = "일 한도 : 1,000,000원")
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, description = "중복 실행 방지 키 (같은 키의 재요청은 최초 응답 반환)")
     @PostMapping("/withdraw")
     public ResponseEntity<CommonResponseDTO<AccountBalanceResponseDTO>> withdraw(@Valid @RequestBody AccountBalanceRequestDTO accountBalanceRequestDTO) {
         AccountBalanceResponseDTO response = accountService.withdraw(accountBalanceRequestDTO.getAccountNumber(), accountBalanceRequestDTO.getAmount());
 
         return ResponseEntity.ok(CommonResponseDTO.successHasData(response, ResponseMessage.WITHDRAW_SUCCESSFUL.getMessage()));
     }
+
+    @Operation(summary = "시점 잔액 조회", description = "특정 시점(KST)의 계좌 잔액 조회 (시점 이전 마지막 잔액 스냅샷에 이후 거래만 합산)")
+    @GetMapping("/balance/as-of")
+    public ResponseEntity<CommonResponseDTO<AccountBalanceAsOfResponseDTO>> getBalanceAsOf(@RequestParam String accountNumber, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        AccountBalanceAsOfResponseDTO response = balanceSnapshotService.getBalanceAsOf(accountNumber, asOf);
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(response, ResponseMessage.BALANCE_AS_OF_RETRIEVED.getMessage()));
+    }
+
+    @Operation(summary = "잔액 슬롯 설정", description = "수신이 몰리는 계좌의 입금을 slotCount개 잔액 슬롯에 나눠 반영 (0이면 분산 해제, 기존 슬롯 잔액은 계좌 잔액으로 이동)")
+    @PutMapping("/balance-slots")
+    public ResponseEntity<CommonResponseDTO<AccountBalanceSlotResponseDTO>> changeBalanceSlots(@Valid @RequestBody AccountBalanceSlotRequestDTO accountBalanceSlotRequestDTO) {
+        AccountBalanceSlotResponseDTO response = accountBalanceSlotService.changeSlotCount(accountBalanceSlotRequestDTO.getAccountNumber(), accountBalanceSlotRequestDTO.getSlotCount());
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(response, ResponseMessage.BALANCE_SLOTS_CHANGED.getMessage()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.transfer.system.controller;
+
+import com.transfer.system.dto.CommonResponseDTO;
+import com.transfer.system.dto.DailyUsageMismatchDTO;
+import com.transfer.system.dto.DailyUsageRebuildResponseDTO;
+import com.transfer.system.enums.ResponseMessage;
+import com.transfer.system.service.DailyUsageService;
+import com.transfer.system.utils.TimeUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "일일 사용량 관리 API", description = "출금, 이체 일일 누적 사용량 재계산 및 검증 API")
+@RestController
+@RequestMapping("/api/admin/daily-usage")
+@RequiredArgsConstructor
+public class DailyUsageController {
+    private final DailyUsageService dailyUsageService;
+
+    @Operation(summary = "일일 사용량 재계산", description = "거래 내역 기준으로 누적 사용량을 다시 계산 (기본값 : 오늘)")
+    @PostMapping("/rebuild")
+    public ResponseEntity<CommonResponseDTO<DailyUsageRebuildResponseDTO>> rebuild(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate usageDate) {
+        LocalDate targetDate = usageDate != null ? usageDate : TimeUtils.nowKstLocalDate();
+        int rebuiltAccountCount = dailyUsageService.rebuild(targetDate);
+
+        DailyUsageRebuildResponseDTO response = DailyUsageRebuildResponseDTO.builder()
+            .usageDate(targetDate)
+            .rebuiltAccountCount(rebuiltAccountCount)
+            .build();
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(response, ResponseMessage.DAILY_USAGE_REBUILT.getMessage()));
+    }
+
+    @Operation(summary = "일일 사용량 검증", description = "누적 사용량과 거래 내역 집계가 다른 항목 조회 (기본값 : 오늘)")
+    @GetMapping("/verify")
+    public ResponseEntity<CommonResponseDTO<List<DailyUsageMismatchDTO>>> verify(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate usageDate) {
+        LocalDate targetDate = usageDate != null ? usageDate : TimeUtils.nowKstLocalDate();
+        List<DailyUsageMismatchDTO> mismatches = dailyUsageService.verify(targetDate);
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(mismatches, ResponseMessage.DAILY_USAGE_VERIFIED.getMessage()));
+    }
+}
@@ -1,18 +1,35 @@
 package com.transfer.system.controller;
 
+import com.transfer.system.dto.BulkTransferResponseDTO;
 import com.transfer.system.dto.CommonResponseDTO;
 import com.transfer.system.dto.TransactionRequestDTO;
 import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
 import com.transfer.system.enums.ResponseMessage;
+import com.transfer.system.enums.TransactionExportFormat;
+import com.transfer.system.filter.IdempotencyFilter;
+import com.transfer.system.service.TransactionExport;
+import com.transfer.system.service.TransactionExportService;
 import com.transfer.system.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import org.springframework.data.domain.Page;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @Tag(name = "거래 API", description = "계좌 간 이체 및 거래 내역 조회 API")
 @RestController
@@ -21,8 +38,10 @@ import org.springframework.data.domain.Page;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
     @Operation(summary = "계좌 이체", description = "이체 수수료 : 1%")
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, description = "중복 실행 방지 키 (같은 키의 재요청은 최초 응답 반환)")
     @PostMapping("/transfer")
     public ResponseEntity<CommonResponseDTO<TransactionResponseDTO>> transfer(@Valid @RequestBody TransactionRequestDTO transactionRequestDTO) {
         TransactionResponseDTO response = transactionService.transfer(transactionRequestDTO);
@@ -30,6 +49,15 @@ public class TransactionController {
         return ResponseEntity.ok(CommonResponseDTO.successHasData(response, ResponseMessage.TRANSFER_SUCCESSFUL.getMessage()));
     }
 
+    @Operation(summary = "일괄 이체", description = "관련 계좌를 한 번에 잠근 뒤 요청 순서대로 이체하고 건별 결과 반환 (실패한 건은 건너뜀)")
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, description = "중복 실행 방지 키 (같은 키의 재요청은 최초 응답 반환)")
+    @PostMapping("/transfer/bulk")
+    public ResponseEntity<CommonResponseDTO<BulkTransferResponseDTO>> transferBulk(@RequestBody List<TransactionRequestDTO> transactionRequestDTOs) {
+        BulkTransferResponseDTO response = transactionService.transferBulk(transactionRequestDTOs);
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(response, ResponseMessage.BULK_TRANSFER_COMPLETED.getMessage()));
+    }
+
     @Operation(summary = "거래 내역 조회", description = "거래 내역 최신 순 조회")
     @GetMapping("/history")
     public ResponseEntity<CommonResponseDTO<Page<TransactionResponseDTO>>> getTransactionHistory(@RequestParam String accountNumber, @RequestParam int page, @RequestParam int size) {
@@ -37,4 +65,41 @@ public class TransactionController {
 
         return ResponseEntity.ok(CommonResponseDTO.successHasData(history, ResponseMessage.TRANSACTION_HISTORY_RETRIEVED.getMessage()));
     }
+
+    @Operation(summary = "거래 내역 커서 조회", description = "거래 내역 최신 순 조회 (응답의 nextCursor로 다음 페이지 조회)")
+    @GetMapping("/history/cursor")
+    public ResponseEntity<CommonResponseDTO<TransactionSliceResponseDTO>> getTransactionHistoryByCursor(@RequestParam String accountNumber, @RequestParam(required = false) String cursor, @RequestParam int size) {
+        TransactionSliceResponseDTO history = transactionService.getTransactionHistoryByCursor(accountNumber, cursor, size);
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(history, ResponseMessage.TRANSACTION_HISTORY_RETRIEVED.getMessage()));
+    }
+
+    @Operation(summary = "거래 내역 내보내기", description = "계좌 전체 거래 내역을 시간 순으로 NDJSON 또는 CSV 파일로 스트리밍 (from, to 미지정 시 전체 기간, gzip=true면 gzip 압축 파일)")
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @RequestParam String accountNumber,
+            @RequestParam(defaultValue = "NDJSON") TransactionExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        // 검증 오류는 응답 전송 전에 일반 오류 응답으로 반환
+        TransactionExport export = transactionExportService.prepareExport(accountNumber, from, to, format);
+
+        String fileName = "transactions-" + accountNumber + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                export.writeTo(out);
+                return;
+            }
+
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+            export.writeTo(gzipOut);
+            gzipOut.finish();
+        };
+
+        return ResponseEntity.ok()
+            .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+            .body(body);
+    }
 }
\ No newline at end of file
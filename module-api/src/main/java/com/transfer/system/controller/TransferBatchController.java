@@ -0,0 +1,31 @@
+package com.transfer.system.controller;
+
+import com.transfer.system.dto.CommonResponseDTO;
+import com.transfer.system.dto.TransferBatchStatsDTO;
+import com.transfer.system.enums.ResponseMessage;
+import com.transfer.system.service.BatchingTransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "이체 배치 관리 API", description = "이체 그룹 커밋 통계 조회 API")
+@RestController
+@RequestMapping("/api/admin/transfer-batch")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transfer.batch.enabled", havingValue = "true")
+public class TransferBatchController {
+    private final BatchingTransactionService batchingTransactionService;
+
+    @Operation(summary = "이체 배치 통계 조회", description = "커밋된 배치 수와 평균, 최대 배치 크기 조회")
+    @GetMapping("/stats")
+    public ResponseEntity<CommonResponseDTO<TransferBatchStatsDTO>> getStats() {
+        TransferBatchStatsDTO stats = batchingTransactionService.getStats();
+
+        return ResponseEntity.ok(CommonResponseDTO.successHasData(stats, ResponseMessage.TRANSFER_BATCH_STATS_RETRIEVED.getMessage()));
+    }
+}
@@ -0,0 +1,169 @@
+package com.transfer.system.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transfer.system.dto.CommonResponseDTO;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.GlobalExceptionHandler;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.service.IdempotencyService;
+import com.transfer.system.service.IdempotentResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 이체, 입금, 출금 요청의 중복 실행 방지
+ * 같은 키의 재요청은 컨트롤러를 거치지 않고 최초 응답을 그대로 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of(
+        "/api/transaction/transfer",
+        "/api/transaction/transfer/bulk",
+        "/api/account/deposit",
+        "/api/account/withdraw"
+    );
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+            || !IDEMPOTENT_PATHS.contains(requestPath(request))
+            || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String requestPath = requestPath(request);
+        byte[] body = request.getInputStream().readAllBytes();
+        String requestHash = hash(request.getMethod(), requestPath, body);
+
+        IdempotentResponse result;
+        try {
+            result = idempotencyService.execute(idempotencyKey, requestPath, requestHash, () -> {
+                ContentCachingResponseWrapper capturingResponse = new ContentCachingResponseWrapper(response);
+                filterChain.doFilter(new CachedBodyRequest(request, body), capturingResponse);
+                return new IdempotentResponse(capturingResponse.getStatus(), new String(capturingResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+            });
+        } catch (TransferSystemException e) {
+            log.warn("[IdempotencyFilter] 멱등 키 처리 실패 key : {}, code : {}", idempotencyKey, e.getErrorCode());
+            writeError(response, e.getErrorCode());
+            return;
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+
+        response.setStatus(result.status());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(result.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode code) throws IOException {
+        response.setStatus(code.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), CommonResponseDTO.failure(GlobalExceptionHandler.toResultCode(code), code.getMessage()));
+    }
+
+    private static String requestPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 요청 메서드, 경로, 본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+     */
+    private static String hash(String method, String requestPath, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + " " + requestPath + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 미리 읽은 본문을 다시 제공하는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try { // 본문이 이미 메모리에 있으므로 바로 읽기 가능 알림 후 남은 본문이 없으면 완료 알림
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.transfer.system.monitor;
+
+import com.transfer.system.policy.VirtualThreadPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지 (가상 스레드 모드에서만 동작)
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 메트릭으로 기록하고, 고정이 발생한 호출 위치별로 한 번씩 경고 로그 출력
+ * (드라이버 내부 synchronized 블록 안에서 I/O 대기 시 캐리어 스레드가 함께 멈춤)
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    public static final String PINNED_TIMER = "transfer.system.virtual_thread.pinned";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 8; // 로그에 남길 호출 스택 깊이
+    private static final int MAX_REPORTED_SITES = 100; // 경고 로그를 남길 최대 호출 위치 수
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, VirtualThreadPolicy virtualThreadPolicy) {
+        this.pinnedTimer = Timer.builder(PINNED_TIMER)
+            .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+            .register(meterRegistry);
+        this.threshold = virtualThreadPolicy.getPinnedThreshold();
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("[VirtualThreadPinningMonitor] 캐리어 고정 감지 시작 threshold : {}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedTimer.count();
+    }
+
+    /**
+     * 고정 시간 기록, 처음 발견한 호출 위치는 경고 로그 출력
+     */
+    void report(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        String site = describe(event.getStackTrace());
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("[VirtualThreadPinningMonitor] 가상 스레드 캐리어 고정 감지 duration : {}ms, stack : {}", event.getDuration().toMillis(), site);
+        } else {
+            log.debug("[VirtualThreadPinningMonitor] 가상 스레드 캐리어 고정 duration : {}ms", event.getDuration().toMillis());
+        }
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+            .limit(MAX_FRAMES)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+            .collect(Collectors.joining(" <- "));
+    }
+}
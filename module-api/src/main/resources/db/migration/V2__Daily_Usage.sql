@@ -0,0 +1,17 @@
+-- 계좌별 일일 사용 금액 누적 테이블
+CREATE TABLE daily_usage (
+    account_number VARCHAR(14) NOT NULL, -- 계좌 번호
+    usage_date DATE NOT NULL, -- 사용 일자 (KST)
+    transaction_type VARCHAR(255) NOT NULL, -- 거래 유형
+    used_amount DECIMAL(19, 2) NOT NULL, -- 누적 사용 금액
+    updated_time_stamp TIMESTAMP, -- 마지막 갱신 시간
+    PRIMARY KEY (account_number, usage_date, transaction_type)
+);
+
+-- 기존 거래 내역 기준 누적 금액 백필
+INSERT INTO daily_usage (account_number, usage_date, transaction_type, used_amount, updated_time_stamp)
+SELECT ae.account_number, CAST(te.created_time_stamp AS DATE), te.transaction_type, SUM(te.amount), CURRENT_TIMESTAMP
+FROM transaction_entity te
+JOIN account_entity ae ON ae.account_id = te.from_account_id
+WHERE te.transaction_type IN ('WITHDRAW', 'TRANSFER')
+GROUP BY ae.account_number, CAST(te.created_time_stamp AS DATE), te.transaction_type;
@@ -0,0 +1,13 @@
+-- 멱등 키별 처리 상태, 응답 저장 테이블
+CREATE TABLE idempotency_record (
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY, -- 멱등 키
+    request_path VARCHAR(255) NOT NULL, -- 요청 경로
+    request_hash VARCHAR(64) NOT NULL, -- 요청 해시 (SHA-256)
+    status VARCHAR(20) NOT NULL, -- 처리 상태
+    response_status INT, -- 응답 HTTP 상태 코드
+    response_body CLOB, -- 응답 본문
+    created_time_stamp TIMESTAMP NOT NULL, -- 최초 요청 시간
+    completed_time_stamp TIMESTAMP -- 처리 완료 시간
+);
+
+CREATE INDEX ix_idempotency_record_created_time_stamp ON idempotency_record (created_time_stamp);
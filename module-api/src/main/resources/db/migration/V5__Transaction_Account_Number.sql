@@ -0,0 +1,11 @@
+-- 거래 내역 조회, 한도 계산 시 계좌 테이블 조인 없이 계좌 번호를 읽기 위한 비정규화 컬럼
+ALTER TABLE transaction_entity ADD COLUMN from_account_number VARCHAR(14); -- 출금 계좌 번호
+ALTER TABLE transaction_entity ADD COLUMN to_account_number VARCHAR(14); -- 입금 계좌 번호
+
+-- 기존 거래 백필 (거래 이력이 있는 계좌는 삭제할 수 없으므로 계좌 번호가 바뀌지 않음)
+UPDATE transaction_entity te
+SET from_account_number = (SELECT ae.account_number FROM account_entity ae WHERE ae.account_id = te.from_account_id),
+    to_account_number = (SELECT ae.account_number FROM account_entity ae WHERE ae.account_id = te.to_account_id);
+
+-- 계좌 번호 기준 일일 사용 금액 집계
+CREATE INDEX idx_tx_from_number_type_created ON transaction_entity (from_account_number, transaction_type, created_time_stamp);
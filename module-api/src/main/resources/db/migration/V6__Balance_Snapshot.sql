@@ -0,0 +1,10 @@
+-- 계좌별 잔액 스냅샷 테이블 (기준 시간까지 생성된 거래를 모두 반영한 잔액)
+CREATE TABLE balance_snapshot (
+    account_id BINARY(16) NOT NULL, -- 계좌 고유 식별자
+    snapshot_time_stamp TIMESTAMP NOT NULL, -- 스냅샷 기준 시간
+    balance DECIMAL(19, 2) NOT NULL, -- 기준 시간 잔액
+    last_transaction_id BINARY(16), -- 기준 시간까지 마지막으로 반영한 거래 고유 식별자
+    created_time_stamp TIMESTAMP, -- 스냅샷 생성 시간
+    PRIMARY KEY (account_id, snapshot_time_stamp),
+    CONSTRAINT fk_snapshot_account FOREIGN KEY (account_id) REFERENCES account_entity(account_id)
+);
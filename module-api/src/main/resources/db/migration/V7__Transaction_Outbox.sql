@@ -0,0 +1,12 @@
+-- 거래 이벤트 아웃박스 테이블 (거래 저장과 같은 트랜잭션에서 기록, 릴레이가 전달 후 삭제)
+CREATE TABLE transaction_outbox (
+    outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY, -- 이벤트 순번 (기록 순서, 전달 순서)
+    transaction_id BINARY(16) NOT NULL, -- 거래 고유 식별자
+    transaction_type VARCHAR(255) NOT NULL, -- 거래 유형
+    from_account_number VARCHAR(14), -- 출금 계좌 번호
+    to_account_number VARCHAR(14), -- 입금 계좌 번호
+    amount DECIMAL(19, 2) NOT NULL, -- 거래 금액
+    fee DECIMAL(19, 2), -- 수수료
+    transaction_time_stamp TIMESTAMP NOT NULL, -- 거래 생성 일시
+    created_time_stamp TIMESTAMP NOT NULL -- 이벤트 기록 일시 (전달 지연 계산 기준)
+);
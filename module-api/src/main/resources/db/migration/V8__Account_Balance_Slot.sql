@@ -0,0 +1,12 @@
+-- 입금 분산 잔액 슬롯 수 (0이면 분산하지 않는 일반 계좌)
+ALTER TABLE account_entity ADD COLUMN balance_slot_count INT DEFAULT 0 NOT NULL;
+
+-- 입금 분산 계좌의 잔액 슬롯 테이블 (공개 잔액 = 계좌 잔액 + 슬롯 잔액 합계)
+CREATE TABLE account_balance_slot (
+    account_id BINARY(16) NOT NULL, -- 계좌 고유 식별자
+    slot_index INT NOT NULL, -- 슬롯 번호 (0 ~ 슬롯 수 - 1)
+    balance DECIMAL(19, 2) NOT NULL, -- 슬롯 잔액
+    updated_time_stamp TIMESTAMP, -- 마지막 갱신 시간
+    PRIMARY KEY (account_id, slot_index),
+    CONSTRAINT fk_balance_slot_account FOREIGN KEY (account_id) REFERENCES account_entity(account_id) ON DELETE CASCADE
+);
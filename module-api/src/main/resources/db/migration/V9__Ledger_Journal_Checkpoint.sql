@@ -0,0 +1,8 @@
+-- 원장 저널 적용 위치 (DB에 반영된 마지막 저널 순번, 재시작 시 이후 기록부터 재생)
+CREATE TABLE ledger_journal_checkpoint (
+    checkpoint_id INT NOT NULL PRIMARY KEY, -- 적용 위치 식별자 (단일 행)
+    applied_sequence BIGINT NOT NULL, -- DB에 반영된 마지막 저널 순번
+    updated_time_stamp TIMESTAMP -- 마지막 갱신 시간
+);
+
+INSERT INTO ledger_journal_checkpoint (checkpoint_id, applied_sequence, updated_time_stamp) VALUES (1, 0, CURRENT_TIMESTAMP);
@@ -1,7 +1,10 @@
 package com.transfer.system.controller;
 
+import com.transfer.system.dto.AccountBalanceAsOfResponseDTO;
 import com.transfer.system.dto.AccountBalanceRequestDTO;
 import com.transfer.system.dto.AccountBalanceResponseDTO;
+import com.transfer.system.dto.AccountBalanceSlotRequestDTO;
+import com.transfer.system.dto.AccountBalanceSlotResponseDTO;
 import com.transfer.system.dto.AccountCreateRequestDTO;
 import com.transfer.system.dto.AccountResponseDTO;
 import com.transfer.system.enums.AccountStatus;
@@ -12,9 +15,12 @@ import com.transfer.system.enums.ResponseMessage;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.GlobalExceptionHandler;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.service.AccountBalanceSlotService;
 import com.transfer.system.service.AccountService;
+import com.transfer.system.service.BalanceSnapshotService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -28,6 +34,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +51,12 @@ class AccountControllerTest {
     @Mock
     private AccountService accountService;
 
+    @Mock
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @Mock
+    private AccountBalanceSlotService accountBalanceSlotService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private AccountCreateRequestDTO accountCreateRequestDTO;
@@ -58,13 +71,15 @@ class AccountControllerTest {
         static final String DELETE = "/api/account/{accountId}";
         static final String DEPOSIT = "/api/account/deposit";
         static final String WITHDRAW = "/api/account/withdraw";
+        static final String BALANCE_AS_OF = "/api/account/balance/as-of";
+        static final String BALANCE_SLOTS = "/api/account/balance-slots";
     }
 
     @BeforeEach
     void setUp() {
-        AccountController accountController = new AccountController(accountService);
+        AccountController accountController = new AccountController(accountService, balanceSnapshotService, accountBalanceSlotService);
         mockMvc = MockMvcBuilders.standaloneSetup(accountController)
-            .setControllerAdvice(new GlobalExceptionHandler())
+            .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
             .build();
 
         accountCreateRequestDTO = AccountCreateRequestDTO.builder()
@@ -406,4 +421,110 @@ class AccountControllerTest {
             expectBalanceError(Endpoint.WITHDRAW, requestDTO, ErrorCode.INSUFFICIENT_BALANCE, HttpStatus.BAD_REQUEST);
         }
     }
+
+    // ========================= 시점 잔액 조회 테스트 =========================
+    @Nested
+    class BalanceAsOfTest {
+
+        private final LocalDateTime asOf = LocalDateTime.of(2025, 8, 13, 15, 0, 0);
+
+        /**
+         * 시점 잔액 조회 성공
+         */
+        @Test
+        void getBalanceAsOf_success() throws Exception {
+            AccountBalanceAsOfResponseDTO responseDTO = AccountBalanceAsOfResponseDTO.builder()
+                .accountNumber(testAccountNumber)
+                .asOf(asOf)
+                .balance(new BigDecimal("120000.00"))
+                .snapshotTimeStamp(asOf.minusMinutes(30))
+                .foldedTransactionCount(3)
+                .build();
+
+            when(balanceSnapshotService.getBalanceAsOf(testAccountNumber, asOf)).thenReturn(responseDTO);
+
+            mockMvc.perform(get(Endpoint.BALANCE_AS_OF)
+                    .param("accountNumber", testAccountNumber)
+                    .param("asOf", "2025-08-13T15:00:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result_code").value(ResultCode.SUCCESS_HAS_DATA.getCode()))
+                .andExpect(jsonPath("$.message").value(ResponseMessage.BALANCE_AS_OF_RETRIEVED.getMessage()))
+                .andExpect(jsonPath("$.data.accountNumber").value(testAccountNumber))
+                .andExpect(jsonPath("$.data.balance").value(120000.00))
+                .andExpect(jsonPath("$.data.foldedTransactionCount").value(3));
+
+            verify(balanceSnapshotService).getBalanceAsOf(testAccountNumber, asOf);
+        }
+
+        /**
+         * 계좌 생성 전 시점 조회
+         */
+        @Test
+        void getBalanceAsOf_beforeAccountCreated() throws Exception {
+            when(balanceSnapshotService.getBalanceAsOf(testAccountNumber, asOf))
+                .thenThrow(new TransferSystemException(ErrorCode.INVALID_REQUEST));
+
+            mockMvc.perform(get(Endpoint.BALANCE_AS_OF)
+                    .param("accountNumber", testAccountNumber)
+                    .param("asOf", "2025-08-13T15:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorCode.INVALID_REQUEST.getMessage()));
+        }
+    }
+
+    // ========================= 잔액 슬롯 설정 테스트 =========================
+    @Nested
+    class BalanceSlotTest {
+
+        /**
+         * 잔액 슬롯 수 변경 성공
+         */
+        @Test
+        void changeBalanceSlots_success() throws Exception {
+            AccountBalanceSlotRequestDTO requestDTO = AccountBalanceSlotRequestDTO.builder()
+                .accountNumber(testAccountNumber)
+                .slotCount(8)
+                .build();
+            AccountBalanceSlotResponseDTO responseDTO = AccountBalanceSlotResponseDTO.builder()
+                .accountNumber(testAccountNumber)
+                .slotCount(8)
+                .balance(new BigDecimal("100000.00"))
+                .build();
+
+            when(accountBalanceSlotService.changeSlotCount(testAccountNumber, 8)).thenReturn(responseDTO);
+
+            mockMvc.perform(put(Endpoint.BALANCE_SLOTS)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDTO)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result_code").value(ResultCode.SUCCESS_HAS_DATA.getCode()))
+                .andExpect(jsonPath("$.message").value(ResponseMessage.BALANCE_SLOTS_CHANGED.getMessage()))
+                .andExpect(jsonPath("$.data.slotCount").value(8))
+                .andExpect(jsonPath("$.data.balance").value(100000.00));
+
+            verify(accountBalanceSlotService).changeSlotCount(testAccountNumber, 8);
+        }
+
+        /**
+         * 최대 슬롯 수를 초과한 경우
+         */
+        @Test
+        void changeBalanceSlots_invalidSlotCount() throws Exception {
+            AccountBalanceSlotRequestDTO requestDTO = AccountBalanceSlotRequestDTO.builder()
+                .accountNumber(testAccountNumber)
+                .slotCount(1000)
+                .build();
+
+            when(accountBalanceSlotService.changeSlotCount(testAccountNumber, 1000))
+                .thenThrow(new TransferSystemException(ErrorCode.INVALID_BALANCE_SLOT_COUNT));
+
+            mockMvc.perform(put(Endpoint.BALANCE_SLOTS)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorCode.INVALID_BALANCE_SLOT_COUNT.getMessage()));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.transfer.system.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountBalanceRequestDTO;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.filter.IdempotencyFilter;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+class IdempotencyFilterTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    private static class Endpoint {
+        static final String TRANSFER = "/api/transaction/transfer";
+        static final String DEPOSIT = "/api/account/deposit";
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+            .addFilters(idempotencyFilter)
+            .build();
+    }
+
+    // ========================= 공통 메서드 =========================
+
+    /**
+     * 계좌 생성
+     */
+    private String createAccount() {
+        return accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build()).getAccountNumber();
+    }
+
+    /**
+     * 멱등 키를 포함한 POST 요청 수행
+     */
+    private MvcResult postWithKey(String url, String idempotencyKey, Object body) throws Exception {
+        return mockMvc.perform(post(url)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)))
+            .andReturn();
+    }
+
+    private AccountBalanceRequestDTO depositRequest(String accountNumber, String amount) {
+        return AccountBalanceRequestDTO.builder()
+            .accountNumber(accountNumber)
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getBalance).orElseThrow();
+    }
+
+    // ========================= 재요청 테스트 =========================
+    @Nested
+    class ReplayTest {
+
+        /**
+         * 같은 키 재요청 시 최초 응답을 그대로 반환하고 한 번만 입금
+         */
+        @Test
+        void deposit_sameKey_replaysOriginalResponse() throws Exception {
+            String accountNumber = createAccount();
+            String key = UUID.randomUUID().toString();
+
+            MvcResult first = postWithKey(Endpoint.DEPOSIT, key, depositRequest(accountNumber, "10000"));
+            MvcResult second = postWithKey(Endpoint.DEPOSIT, key, depositRequest(accountNumber, "10000"));
+
+            assertEquals(200, first.getResponse().getStatus());
+            assertEquals(200, second.getResponse().getStatus());
+            assertEquals(first.getResponse().getContentAsString(), second.getResponse().getContentAsString());
+            assertEquals(0, new BigDecimal("10000").compareTo(balanceOf(accountNumber)));
+        }
+
+        /**
+         * 같은 키로 다른 요청을 보내면 422
+         */
+        @Test
+        void deposit_sameKeyDifferentBody_rejected() throws Exception {
+            String accountNumber = createAccount();
+            String key = UUID.randomUUID().toString();
+
+            postWithKey(Endpoint.DEPOSIT, key, depositRequest(accountNumber, "10000"));
+            MvcResult reused = postWithKey(Endpoint.DEPOSIT, key, depositRequest(accountNumber, "20000"));
+
+            assertEquals(422, reused.getResponse().getStatus());
+            assertEquals(0, new BigDecimal("10000").compareTo(balanceOf(accountNumber)));
+        }
+
+        /**
+         * 실패한 요청은 저장하지 않아 같은 키로 다시 실행 가능
+         */
+        @Test
+        void transfer_failedRequest_canBeRetried() throws Exception {
+            String fromAccountNumber = createAccount();
+            String toAccountNumber = createAccount();
+            String key = UUID.randomUUID().toString();
+            TransactionRequestDTO request = TransactionRequestDTO.builder()
+                .fromAccountNumber(fromAccountNumber)
+                .toAccountNumber(toAccountNumber)
+                .amount(new BigDecimal("10000"))
+                .build();
+
+            MvcResult failed = postWithKey(Endpoint.TRANSFER, key, request);
+            assertEquals(400, failed.getResponse().getStatus()); // 잔액 부족
+
+            accountService.deposit(fromAccountNumber, new BigDecimal("100000"));
+            MvcResult succeeded = postWithKey(Endpoint.TRANSFER, key, request);
+
+            assertEquals(200, succeeded.getResponse().getStatus());
+            assertEquals(0, new BigDecimal("10000").compareTo(balanceOf(toAccountNumber)));
+        }
+
+        /**
+         * 유효하지 않은 키는 400
+         */
+        @Test
+        void deposit_blankKey_rejected() throws Exception {
+            MvcResult result = postWithKey(Endpoint.DEPOSIT, " ", depositRequest(createAccount(), "10000"));
+
+            assertEquals(400, result.getResponse().getStatus());
+        }
+    }
+
+    // ========================= 동시 요청 테스트 =========================
+    @Nested
+    class ConcurrentTest {
+
+        /**
+         * 같은 키의 동시 요청은 한 번만 실행되고 모두 같은 응답을 받음
+         */
+        @Test
+        void transfer_concurrentSameKey_executesOnce() throws Exception {
+            String fromAccountNumber = createAccount();
+            String toAccountNumber = createAccount();
+            accountService.deposit(fromAccountNumber, new BigDecimal("100000"));
+
+            String key = UUID.randomUUID().toString();
+            TransactionRequestDTO request = TransactionRequestDTO.builder()
+                .fromAccountNumber(fromAccountNumber)
+                .toAccountNumber(toAccountNumber)
+                .amount(new BigDecimal("10000"))
+                .build();
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return postWithKey(Endpoint.TRANSFER, key, request);
+                }));
+            }
+
+            start.countDown();
+            Set<String> bodies = ConcurrentHashMap.newKeySet();
+            for (Future<MvcResult> future : futures) {
+                MvcResult result = future.get(1, TimeUnit.MINUTES);
+                assertEquals(200, result.getResponse().getStatus());
+                bodies.add(result.getResponse().getContentAsString());
+            }
+            executor.shutdown();
+
+            assertEquals(1, bodies.size());
+            assertEquals(0, new BigDecimal("89900").compareTo(balanceOf(fromAccountNumber)));
+            assertEquals(0, new BigDecimal("10000").compareTo(balanceOf(toAccountNumber)));
+        }
+    }
+}
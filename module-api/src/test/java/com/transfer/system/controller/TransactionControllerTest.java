@@ -1,16 +1,22 @@
 package com.transfer.system.controller;
 
+import com.transfer.system.dto.BulkTransferItemResultDTO;
+import com.transfer.system.dto.BulkTransferResponseDTO;
 import com.transfer.system.dto.TransactionRequestDTO;
 import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
 import com.transfer.system.enums.ResultCode;
 import com.transfer.system.enums.ResponseMessage;
+import com.transfer.system.enums.TransactionExportFormat;
 import com.transfer.system.enums.TransactionType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.GlobalExceptionHandler;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.service.TransactionExportService;
 import com.transfer.system.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,13 +29,20 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -44,6 +57,9 @@ class TransactionControllerTest {
     @Mock
     private TransactionService transactionService;
 
+    @Mock
+    private TransactionExportService transactionExportService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private TransactionRequestDTO transactionRequestDTO;
@@ -55,14 +71,17 @@ class TransactionControllerTest {
 
     private static class Endpoint {
         static final String TRANSFER = "/api/transaction/transfer";
+        static final String TRANSFER_BULK = "/api/transaction/transfer/bulk";
         static final String HISTORY = "/api/transaction/history";
+        static final String HISTORY_CURSOR = "/api/transaction/history/cursor";
+        static final String HISTORY_EXPORT = "/api/transaction/history/export";
     }
 
     @BeforeEach
     void setUp() {
-        TransactionController transactionController = new TransactionController(transactionService);
+        TransactionController transactionController = new TransactionController(transactionService, transactionExportService);
         mockMvc = MockMvcBuilders.standaloneSetup(transactionController)
-            .setControllerAdvice(new GlobalExceptionHandler())
+            .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
             .build();
 
         transactionRequestDTO = TransactionRequestDTO.builder()
@@ -347,4 +366,174 @@ class TransactionControllerTest {
             verify(transactionService, never()).getTransactionHistory(anyString(), anyInt(), anyInt());
         }
     }
-}
\ No newline at end of file
+    // ========================= 거래 내역 커서 조회 테스트 =========================
+    @Nested
+    class GetTransactionHistoryByCursorTest {
+
+        /**
+         * 거래 내역 커서 조회 성공
+         */
+        @Test
+        void getTransactionHistoryByCursor_success() throws Exception {
+            TransactionSliceResponseDTO slice = TransactionSliceResponseDTO.builder()
+                .content(List.of(transactionResponseDTO))
+                .size(1)
+                .numberOfElements(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+
+            when(transactionService.getTransactionHistoryByCursor(testFromAccountNumber, null, 1)).thenReturn(slice);
+
+            mockMvc.perform(get(Endpoint.HISTORY_CURSOR)
+                    .param("accountNumber", testFromAccountNumber)
+                    .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result_code").value(ResultCode.SUCCESS_HAS_DATA.getCode()))
+                .andExpect(jsonPath("$.message").value(ResponseMessage.TRANSACTION_HISTORY_RETRIEVED.getMessage()))
+                .andExpect(jsonPath("$.data.content[0].transactionId").value(testTransactionId.toString()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+
+            verify(transactionService).getTransactionHistoryByCursor(testFromAccountNumber, null, 1);
+        }
+
+        /**
+         * 잘못된 커서
+         */
+        @Test
+        void getTransactionHistoryByCursor_invalidCursor() throws Exception {
+            when(transactionService.getTransactionHistoryByCursor(testFromAccountNumber, "broken", 10))
+                .thenThrow(new TransferSystemException(ErrorCode.INVALID_CURSOR));
+
+            mockMvc.perform(get(Endpoint.HISTORY_CURSOR)
+                    .param("accountNumber", testFromAccountNumber)
+                    .param("cursor", "broken")
+                    .param("size", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorCode.INVALID_CURSOR.getMessage()));
+        }
+    }
+
+    // ========================= 일괄 이체 테스트 =========================
+    @Nested
+    class TransferBulkTest {
+
+        /**
+         * 일괄 이체 건별 결과 반환
+         */
+        @Test
+        void transferBulk_success() throws Exception {
+            BulkTransferResponseDTO response = BulkTransferResponseDTO.of(List.of(
+                BulkTransferItemResultDTO.success(0, transactionResponseDTO),
+                BulkTransferItemResultDTO.failure(1, ErrorCode.INSUFFICIENT_BALANCE)
+            ));
+            when(transactionService.transferBulk(anyList())).thenReturn(response);
+
+            mockMvc.perform(post(Endpoint.TRANSFER_BULK)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(transactionRequestDTO, transactionRequestDTO))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(ResponseMessage.BULK_TRANSFER_COMPLETED.getMessage()))
+                .andExpect(jsonPath("$.data.totalCount").value(2))
+                .andExpect(jsonPath("$.data.successCount").value(1))
+                .andExpect(jsonPath("$.data.failureCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].transaction.transactionId").value(testTransactionId.toString()))
+                .andExpect(jsonPath("$.data.results[1].success").value(false))
+                .andExpect(jsonPath("$.data.results[1].errorCode").value(ErrorCode.INSUFFICIENT_BALANCE.name()));
+
+            verify(transactionService).transferBulk(anyList());
+        }
+
+        /**
+         * 최대 건수 초과
+         */
+        @Test
+        void transferBulk_sizeExceeded() throws Exception {
+            when(transactionService.transferBulk(anyList()))
+                .thenThrow(new TransferSystemException(ErrorCode.BULK_SIZE_EXCEEDED));
+
+            mockMvc.perform(post(Endpoint.TRANSFER_BULK)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(transactionRequestDTO))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.result_code").value(ResultCode.FAIL_INVALID_PARAMETER.getCode()))
+                .andExpect(jsonPath("$.message").value(ErrorCode.BULK_SIZE_EXCEEDED.getMessage()));
+        }
+    }
+
+    // ========================= 거래 내역 내보내기 테스트 =========================
+    @Nested
+    class ExportTransactionHistoryTest {
+
+        private static final String CSV_BODY = "transactionId,fromAccountNumber\n";
+
+        /**
+         * CSV 내보내기 (비동기 스트리밍 응답, 첨부 파일명)
+         */
+        @Test
+        void exportTransactionHistory_csv() throws Exception {
+            when(transactionExportService.prepareExport(testFromAccountNumber, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), TransactionExportFormat.CSV))
+                .thenReturn(out -> out.write(CSV_BODY.getBytes(StandardCharsets.UTF_8)));
+
+            MvcResult result = mockMvc.perform(get(Endpoint.HISTORY_EXPORT)
+                    .param("accountNumber", testFromAccountNumber)
+                    .param("format", "CSV")
+                    .param("from", "2025-08-01")
+                    .param("to", "2025-08-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions-" + testFromAccountNumber + ".csv\""))
+                .andExpect(content().string(CSV_BODY));
+        }
+
+        /**
+         * gzip 압축 내보내기 (기본 형식 NDJSON)
+         */
+        @Test
+        void exportTransactionHistory_gzip() throws Exception {
+            when(transactionExportService.prepareExport(testFromAccountNumber, null, null, TransactionExportFormat.NDJSON))
+                .thenReturn(out -> out.write("{}\n".getBytes(StandardCharsets.UTF_8)));
+
+            MvcResult result = mockMvc.perform(get(Endpoint.HISTORY_EXPORT)
+                    .param("accountNumber", testFromAccountNumber)
+                    .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions-" + testFromAccountNumber + ".ndjson.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+            assertEquals("{}\n", gunzip(body));
+        }
+
+        /**
+         * 계좌가 없으면 스트리밍 시작 전 오류 응답
+         */
+        @Test
+        void exportTransactionHistory_accountNotFound() throws Exception {
+            when(transactionExportService.prepareExport(testFromAccountNumber, null, null, TransactionExportFormat.NDJSON))
+                .thenThrow(new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+            mockMvc.perform(get(Endpoint.HISTORY_EXPORT)
+                    .param("accountNumber", testFromAccountNumber))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(ErrorCode.ACCOUNT_NOT_FOUND.getMessage()));
+        }
+
+        private String gunzip(byte[] compressed) throws IOException {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
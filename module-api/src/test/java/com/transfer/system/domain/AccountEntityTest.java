@@ -0,0 +1,55 @@
+package com.transfer.system.domain;
+
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountEntityTest {
+
+    private static AccountEntity account(CurrencyType currencyType, String balance) {
+        return AccountEntity.builder()
+            .accountNumber("00125080800001")
+            .currencyType(currencyType)
+            .balance(new BigDecimal(balance))
+            .build();
+    }
+
+    // ========================== 잔액 변경 테스트 ==========================
+    @Nested
+    class BalanceTest {
+
+        /**
+         * 통화 자리수로 저장된 잔액은 그대로 변경 (컬럼 자리수의 끝자리 0은 허용)
+         */
+        @Test
+        void addBalance_representableStoredBalance() {
+            AccountEntity account = account(CurrencyType.JPY, "1000.00");
+
+            account.addBalance(new BigDecimal("500"));
+            account.subtractBalance(new BigDecimal("200"));
+
+            assertEquals(0, new BigDecimal("1300").compareTo(account.getBalance()));
+        }
+
+        /**
+         * 통화 자리수로 표현할 수 없는 저장 잔액은 반올림하지 않고 거부하며 잔액도 바꾸지 않음
+         */
+        @Test
+        void changeBalance_unrepresentableStoredBalanceRejected() {
+            AccountEntity account = account(CurrencyType.JPY, "1000.50");
+
+            TransferSystemException add = assertThrows(TransferSystemException.class, () -> account.addBalance(new BigDecimal("500")));
+            assertEquals(ErrorCode.INTERNAL_ERROR, add.getErrorCode());
+            assertThrows(TransferSystemException.class, () -> account.subtractBalance(new BigDecimal("200")));
+            assertThrows(TransferSystemException.class, () -> account.updateBalance(account.getBalance().subtract(new BigDecimal("200"))));
+
+            assertEquals(new BigDecimal("1000.50"), account.getBalance());
+        }
+    }
+}
@@ -0,0 +1,492 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.LedgerJournalPolicy;
+import com.transfer.system.policy.LedgerPolicy;
+import com.transfer.system.policy.TransferPolicy;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.DailyUsageRepository;
+import com.transfer.system.repository.LedgerJournalCheckpointJdbcRepository;
+import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.service.AccountBalanceSlotService;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.DailyUsageService;
+import com.transfer.system.service.TransactionBatchWriter;
+import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "ledger.enabled=true")
+class LedgerEngineTest {
+
+    @Autowired
+    private LedgerEngine ledgerEngine;
+
+    @Autowired
+    private LedgerPersister ledgerPersister;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DailyUsageRepository dailyUsageRepository;
+
+    @Autowired
+    private DailyUsageService dailyUsageService;
+
+    @Autowired
+    private TransferPolicy transferPolicy;
+
+    @Autowired
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Autowired
+    private LedgerPolicy ledgerPolicy;
+
+    @Autowired
+    private TransactionBatchWriter transactionBatchWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LedgerJournalCheckpointJdbcRepository ledgerJournalCheckpointJdbcRepository;
+
+    @TempDir
+    private Path journalDirectory;
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 잔액이 입금된 계좌 생성
+     */
+    private String createAccount(CurrencyType currencyType, String balance) {
+        String accountNumber = accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(currencyType)
+            .build()).getAccountNumber();
+
+        if (new BigDecimal(balance).signum() > 0) {
+            ledgerEngine.deposit(accountNumber, new BigDecimal(balance));
+        }
+        return accountNumber;
+    }
+
+    /**
+     * 원하는 샤드 관계(같은 샤드, 다른 샤드)의 계좌 쌍 생성
+     */
+    private String[] createAccountPair(boolean sameShard, CurrencyType toCurrencyType) {
+        String fromAccountNumber = createAccount(CurrencyType.KRW, "100000");
+        while (true) {
+            String toAccountNumber = createAccount(toCurrencyType, "0");
+            boolean same = ledgerEngine.shardIndexOf(fromAccountNumber) == ledgerEngine.shardIndexOf(toAccountNumber);
+            if (same == sameShard) {
+                return new String[]{fromAccountNumber, toAccountNumber};
+            }
+        }
+    }
+
+    /**
+     * 저장 대기 거래 반영 후 DB 잔액 조회
+     */
+    private BigDecimal persistedBalance(String accountNumber) throws InterruptedException {
+        assertTrue(ledgerPersister.awaitPersisted(Duration.ofSeconds(10)));
+        return accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getBalance).orElseThrow();
+    }
+
+    // ========================= 이체 테스트 =========================
+    @Nested
+    class TransferTest {
+
+        /**
+         * 같은 샤드 계좌 간 이체 후 원장, DB 잔액 반영
+         */
+        @Test
+        void transfer_sameShard() throws InterruptedException {
+            String[] pair = createAccountPair(true, CurrencyType.KRW);
+
+            LedgerEntry entry = ledgerEngine.transfer(pair[0], pair[1], new BigDecimal("10000"));
+
+            assertEquals(0, new BigDecimal("100").compareTo(entry.fee()));
+            assertEquals(0, new BigDecimal("89900").compareTo(ledgerEngine.getBalance(pair[0]).orElseThrow()));
+            assertEquals(0, new BigDecimal("10000").compareTo(ledgerEngine.getBalance(pair[1]).orElseThrow()));
+            assertEquals(0, new BigDecimal("89900").compareTo(persistedBalance(pair[0])));
+            assertEquals(0, new BigDecimal("10000").compareTo(persistedBalance(pair[1])));
+            assertTrue(transactionRepository.findById(entry.transactionId()).isPresent());
+        }
+
+        /**
+         * 다른 샤드 계좌 간 이체 후 원장, DB 잔액과 일일 사용량 반영
+         */
+        @Test
+        void transfer_crossShard() throws InterruptedException {
+            String[] pair = createAccountPair(false, CurrencyType.KRW);
+
+            ledgerEngine.transfer(pair[0], pair[1], new BigDecimal("10000"));
+
+            assertEquals(0, new BigDecimal("89900").compareTo(persistedBalance(pair[0])));
+            assertEquals(0, new BigDecimal("10000").compareTo(persistedBalance(pair[1])));
+            assertEquals(0, new BigDecimal("10000").compareTo(dailyUsageService.getUsedAmount(pair[0], TransactionType.TRANSFER, TimeUtils.nowKstLocalDate())));
+        }
+
+        /**
+         * 입금 단계 실패 시 출금 계좌 홀드 해제
+         */
+        @Test
+        void transfer_crossShard_receiverFailureReleasesHold() throws InterruptedException {
+            String[] pair = createAccountPair(false, CurrencyType.USD);
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> ledgerEngine.transfer(pair[0], pair[1], new BigDecimal("10000")));
+
+            assertEquals(ErrorCode.CURRENCY_TYPE_MISMATCH, exception.getErrorCode());
+            assertEquals(0, new BigDecimal("100000").compareTo(ledgerEngine.getBalance(pair[0]).orElseThrow()));
+            assertEquals(0, new BigDecimal("100000").compareTo(persistedBalance(pair[0])));
+
+            // 해제된 한도로 다시 이체 가능
+            String toAccountNumber = createAccountPair(false, CurrencyType.KRW)[1];
+            assertNotNull(ledgerEngine.transfer(pair[0], toAccountNumber, new BigDecimal("10000")));
+        }
+
+        /**
+         * 저장 대기열에 등록하지 못하면 같은 샤드 명령에서 입금을 되돌리고 출금 계좌 홀드와 한도도 복구
+         */
+        @Test
+        void transfer_enqueueFailureRevertsLedger() throws InterruptedException {
+            String[] pair = createAccountPair(false, CurrencyType.KRW);
+            assertTrue(ledgerPersister.awaitPersisted(Duration.ofSeconds(10)));
+
+            // 첫 번째 등록만 실패하는 저장기로 DB 기준 원장 구성
+            LedgerPersister failingPersister = spy(ledgerPersister);
+            doThrow(new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE)).doCallRealMethod().when(failingPersister).enqueue(any());
+            LedgerEngine engine = new LedgerEngine(accountRepository, dailyUsageRepository, dailyUsageService, transferPolicy, failingPersister, accountBalanceSlotService, ledgerPolicy);
+            engine.start();
+            try {
+                TransferSystemException exception = assertThrows(TransferSystemException.class,
+                    () -> engine.transfer(pair[0], pair[1], new BigDecimal("10000")));
+                assertEquals(ErrorCode.LEDGER_UNAVAILABLE, exception.getErrorCode());
+
+                assertEquals(0, new BigDecimal("100000").compareTo(engine.getBalance(pair[0]).orElseThrow()));
+                assertEquals(0, BigDecimal.ZERO.compareTo(engine.getBalance(pair[1]).orElseThrow()));
+
+                // 되돌린 뒤의 원장과 DB가 같은 상태에서 이어서 처리
+                engine.transfer(pair[0], pair[1], new BigDecimal("10000"));
+            } finally {
+                engine.stop();
+            }
+
+            assertEquals(0, new BigDecimal("89900").compareTo(persistedBalance(pair[0])));
+            assertEquals(0, new BigDecimal("10000").compareTo(persistedBalance(pair[1])));
+            assertEquals(0, new BigDecimal("10000").compareTo(dailyUsageService.getUsedAmount(pair[0], TransactionType.TRANSFER, TimeUtils.nowKstLocalDate())));
+        }
+
+        /**
+         * 잔액 부족 시 변경 없음
+         */
+        @Test
+        void transfer_insufficientBalance() {
+            String[] pair = createAccountPair(false, CurrencyType.KRW);
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> ledgerEngine.transfer(pair[0], pair[1], new BigDecimal("100000")));
+
+            assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+            assertEquals(0, new BigDecimal("100000").compareTo(ledgerEngine.getBalance(pair[0]).orElseThrow()));
+        }
+
+        /**
+         * 동시 이체 후 계좌 잔액 합계 보존
+         */
+        @Test
+        void transfer_concurrently_preservesTotal() throws Exception {
+            List<String> accountNumbers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                accountNumbers.add(createAccount(CurrencyType.KRW, "1000000"));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            AtomicInteger transferCount = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        String from = accountNumbers.get((offset + i) % 8);
+                        String to = accountNumbers.get((offset + i + 1 + i % 7) % 8);
+                        ledgerEngine.transfer(from, to, new BigDecimal("100"));
+                        transferCount.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            executor.shutdown();
+
+            BigDecimal ledgerTotal = BigDecimal.ZERO;
+            BigDecimal persistedTotal = BigDecimal.ZERO;
+            for (String accountNumber : accountNumbers) {
+                ledgerTotal = ledgerTotal.add(ledgerEngine.getBalance(accountNumber).orElseThrow());
+                persistedTotal = persistedTotal.add(persistedBalance(accountNumber));
+            }
+
+            // 이체 1건당 수수료 1원만큼 합계 감소
+            BigDecimal expectedTotal = new BigDecimal("8000000").subtract(new BigDecimal(transferCount.get()));
+            assertEquals(1600, transferCount.get());
+            assertEquals(0, expectedTotal.compareTo(ledgerTotal));
+            assertEquals(0, expectedTotal.compareTo(persistedTotal));
+        }
+    }
+
+    // ========================= 계좌 차단 테스트 =========================
+    @Nested
+    class BlockTest {
+
+        /**
+         * 차단된 계좌는 입금, 이체 거절 후 해제하면 차단 전 잔액 그대로 다시 거래 가능
+         */
+        @Test
+        void block_rejectsUntilUnblocked() throws InterruptedException {
+            String[] pair = createAccountPair(false, CurrencyType.KRW);
+
+            ledgerEngine.block(pair[1]);
+            try {
+                TransferSystemException deposit = assertThrows(TransferSystemException.class,
+                    () -> ledgerEngine.deposit(pair[1], new BigDecimal("1000")));
+                assertEquals(ErrorCode.LEDGER_UNAVAILABLE, deposit.getErrorCode());
+
+                TransferSystemException transfer = assertThrows(TransferSystemException.class,
+                    () -> ledgerEngine.transfer(pair[0], pair[1], new BigDecimal("1000")));
+                assertEquals(ErrorCode.LEDGER_UNAVAILABLE, transfer.getErrorCode());
+                assertEquals(0, new BigDecimal("100000").compareTo(ledgerEngine.getBalance(pair[0]).orElseThrow())); // 홀드 해제
+            } finally {
+                ledgerEngine.unblock(pair[1]);
+            }
+
+            ledgerEngine.deposit(pair[1], new BigDecimal("1000"));
+            assertEquals(0, new BigDecimal("1000").compareTo(persistedBalance(pair[1])));
+        }
+    }
+
+    // ========================= 상태 복구 테스트 =========================
+    @Nested
+    class RebuildTest {
+
+        /**
+         * 새 원장이 DB에서 잔액, 일일 사용량을 복구
+         */
+        @Test
+        void start_rebuildsFromDatabase() throws InterruptedException {
+            String[] pair = createAccountPair(false, CurrencyType.KRW);
+            ledgerEngine.transfer(pair[0], pair[1], new BigDecimal("10000"));
+            assertTrue(ledgerPersister.awaitPersisted(Duration.ofSeconds(10)));
+
+            LedgerEngine rebuilt = new LedgerEngine(accountRepository, dailyUsageRepository, dailyUsageService, transferPolicy, ledgerPersister, accountBalanceSlotService, ledgerPolicy);
+            rebuilt.start();
+            try {
+                assertEquals(0, new BigDecimal("89900").compareTo(rebuilt.getBalance(pair[0]).orElseThrow()));
+                assertEquals(0, new BigDecimal("10000").compareTo(rebuilt.getBalance(pair[1]).orElseThrow()));
+            } finally {
+                rebuilt.stop();
+            }
+        }
+
+        /**
+         * 저널에 기록되었지만 DB에 반영되지 않은 거래를 시작 시 한 번만 재반영
+         */
+        @Test
+        void start_replaysJournal() throws IOException, InterruptedException {
+            String accountNumber = createAccount(CurrencyType.KRW, "0");
+            UUID accountId = accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getAccountId).orElseThrow();
+            LedgerJournalPolicy journalPolicy = new LedgerJournalPolicy(true, journalDirectory.toString(), 64 * LedgerJournalPolicy.RECORD_SIZE, List.of());
+
+            // 응답 후 DB 반영 전에 종료된 상황
+            LedgerJournal journal = new LedgerJournal(journalPolicy);
+            journal.recover(ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+            long lastSequence = 0;
+            for (int i = 0; i < 3; i++) {
+                lastSequence = journal.append(new LedgerEntry(UUID.randomUUID(), TransactionType.DEPOSIT, null, null, null,
+                    accountId, accountNumber, null, new BigDecimal("1000"), BigDecimal.ZERO, TimeUtils.nowKstLocalDateTime()));
+            }
+            journal.sync(lastSequence);
+            journal.close();
+
+            for (int restart = 0; restart < 2; restart++) {
+                LedgerJournal reopened = new LedgerJournal(journalPolicy);
+                LedgerPersister persister = new LedgerPersister(accountRepository, transactionBatchWriter, dailyUsageService, transactionManager, ledgerPolicy, reopened, ledgerJournalCheckpointJdbcRepository, new SimpleMeterRegistry());
+                persister.start();
+                persister.stop();
+                reopened.close();
+
+                assertEquals(0, new BigDecimal("3000").compareTo(persistedBalance(accountNumber)));
+                assertEquals(lastSequence, ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+            }
+            assertEquals(3, transactionRepository.findAll().stream()
+                .filter(transaction -> accountNumber.equals(transaction.getToAccountNumber()))
+                .count());
+        }
+
+        /**
+         * 저장할 수 없는 저널 거래를 만나면 반영 순번을 그 앞에 두고 저장 중단 (이후 거래를 반영해 순번이 지나치지 않음)
+         */
+        @Test
+        void start_haltsAtUnrecoverableJournalEntry() throws IOException, InterruptedException {
+            String accountNumber = createAccount(CurrencyType.KRW, "0");
+            UUID accountId = accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getAccountId).orElseThrow();
+            LedgerJournalPolicy journalPolicy = new LedgerJournalPolicy(true, journalDirectory.toString(), 64 * LedgerJournalPolicy.RECORD_SIZE, List.of());
+
+            // 두 번째 거래는 첫 번째 거래와 거래 ID가 같아 저장할 수 없음
+            LedgerJournal journal = new LedgerJournal(journalPolicy);
+            journal.recover(ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+            UUID duplicatedId = UUID.randomUUID();
+            long firstSequence = 0;
+            long lastSequence = 0;
+            for (UUID transactionId : List.of(duplicatedId, duplicatedId, UUID.randomUUID())) {
+                lastSequence = journal.append(new LedgerEntry(transactionId, TransactionType.DEPOSIT, null, null, null,
+                    accountId, accountNumber, null, new BigDecimal("1000"), BigDecimal.ZERO, TimeUtils.nowKstLocalDateTime()));
+                firstSequence = firstSequence == 0 ? lastSequence : firstSequence;
+            }
+            journal.sync(lastSequence);
+            journal.close();
+
+            LedgerJournal reopened = new LedgerJournal(journalPolicy);
+            try {
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                LedgerPersister persister = new LedgerPersister(accountRepository, transactionBatchWriter, dailyUsageService, transactionManager, ledgerPolicy, reopened, ledgerJournalCheckpointJdbcRepository, meterRegistry);
+                IllegalStateException exception = assertThrows(IllegalStateException.class, persister::start);
+                assertTrue(persister.isHalted());
+                assertTrue(exception.getMessage().contains("ledger.journal.quarantine-sequences=" + (firstSequence + 1)));
+                assertEquals(1.0, meterRegistry.get(LedgerPersister.HALTED_GAUGE).gauge().value());
+
+                // 저장이 중단된 원장은 신규 요청 거절
+                LedgerEngine haltedEngine = new LedgerEngine(accountRepository, dailyUsageRepository, dailyUsageService, transferPolicy, persister, accountBalanceSlotService, ledgerPolicy);
+                haltedEngine.start();
+                try {
+                    TransferSystemException rejected = assertThrows(TransferSystemException.class, () -> haltedEngine.deposit(accountNumber, new BigDecimal("1000")));
+                    assertEquals(ErrorCode.LEDGER_UNAVAILABLE, rejected.getErrorCode());
+                } finally {
+                    haltedEngine.stop();
+                }
+            } finally {
+                reopened.close();
+            }
+
+            assertEquals(firstSequence, ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+            assertEquals(0, new BigDecimal("1000").compareTo(persistedBalance(accountNumber)));
+        }
+
+        /**
+         * 저널을 사용하지 않을 때 저장할 수 없는 거래가 나오면 저장 중단 후 신규 요청 거절 (이미 응답한 이후 거래는 계속 저장)
+         */
+        @Test
+        void persist_withoutJournal_haltsOnWriteFailure() throws IOException, InterruptedException {
+            String accountNumber = createAccount(CurrencyType.KRW, "0");
+            LedgerEntry stored = ledgerEngine.deposit(accountNumber, new BigDecimal("1000"));
+            assertTrue(ledgerPersister.awaitPersisted(Duration.ofSeconds(10)));
+
+            LedgerJournal disabledJournal = new LedgerJournal(new LedgerJournalPolicy(false, journalDirectory.toString(), 64 * LedgerJournalPolicy.RECORD_SIZE, List.of()));
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            LedgerPersister persister = new LedgerPersister(accountRepository, transactionBatchWriter, dailyUsageService, transactionManager, ledgerPolicy, disabledJournal, ledgerJournalCheckpointJdbcRepository, meterRegistry);
+            persister.start();
+
+            LedgerEngine engine = new LedgerEngine(accountRepository, dailyUsageRepository, dailyUsageService, transferPolicy, persister, accountBalanceSlotService, ledgerPolicy);
+            engine.start();
+            try {
+                // 이미 저장된 거래와 거래 ID가 같아 저장할 수 없는 거래, 뒤이어 응답한 거래
+                for (UUID transactionId : List.of(stored.transactionId(), UUID.randomUUID())) {
+                    assertEquals(0, persister.enqueue(new LedgerEntry(transactionId, TransactionType.DEPOSIT, null, null, null,
+                        stored.toAccountId(), accountNumber, null, new BigDecimal("2000"), BigDecimal.ZERO, TimeUtils.nowKstLocalDateTime())));
+                }
+
+                long deadline = System.currentTimeMillis() + 10_000;
+                while (persister.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+
+                assertTrue(persister.isHalted());
+                assertEquals(1, persister.getFailedCount());
+                assertEquals(1.0, meterRegistry.get(LedgerPersister.HALTED_GAUGE).gauge().value());
+
+                TransferSystemException rejected = assertThrows(TransferSystemException.class, () -> engine.deposit(accountNumber, new BigDecimal("1000")));
+                assertEquals(ErrorCode.LEDGER_UNAVAILABLE, rejected.getErrorCode());
+            } finally {
+                engine.stop();
+                persister.stop();
+            }
+
+            assertEquals(0, new BigDecimal("3000").compareTo(persistedBalance(accountNumber)));
+        }
+
+        /**
+         * 지정한 순번의 저장할 수 없는 거래는 dead-letter 파일로 옮기고 이후 거래를 계속 재반영
+         */
+        @Test
+        void start_quarantinesConfiguredSequence() throws IOException, InterruptedException {
+            String accountNumber = createAccount(CurrencyType.KRW, "0");
+            UUID accountId = accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getAccountId).orElseThrow();
+            LedgerJournalPolicy journalPolicy = new LedgerJournalPolicy(true, journalDirectory.toString(), 64 * LedgerJournalPolicy.RECORD_SIZE, List.of());
+
+            // 두 번째 거래는 첫 번째 거래와 거래 ID가 같아 저장할 수 없음
+            LedgerJournal journal = new LedgerJournal(journalPolicy);
+            journal.recover(ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+            UUID duplicatedId = UUID.randomUUID();
+            List<Long> sequences = new ArrayList<>();
+            for (UUID transactionId : List.of(duplicatedId, duplicatedId, UUID.randomUUID())) {
+                sequences.add(journal.append(new LedgerEntry(transactionId, TransactionType.DEPOSIT, null, null, null,
+                    accountId, accountNumber, null, new BigDecimal("1000"), BigDecimal.ZERO, TimeUtils.nowKstLocalDateTime())));
+            }
+            journal.sync(sequences.get(2));
+            journal.close();
+
+            LedgerJournal reopened = new LedgerJournal(new LedgerJournalPolicy(true, journalDirectory.toString(), 64 * LedgerJournalPolicy.RECORD_SIZE, List.of(sequences.get(1))));
+            try {
+                LedgerPersister persister = new LedgerPersister(accountRepository, transactionBatchWriter, dailyUsageService, transactionManager, ledgerPolicy, reopened, ledgerJournalCheckpointJdbcRepository, new SimpleMeterRegistry());
+                persister.start();
+                persister.stop();
+
+                assertFalse(persister.isHalted());
+                assertEquals(1, persister.getQuarantinedCount());
+            } finally {
+                reopened.close();
+            }
+
+            assertEquals(sequences.get(2), ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+            assertEquals(0, new BigDecimal("2000").compareTo(persistedBalance(accountNumber)));
+            assertEquals(LedgerJournalPolicy.RECORD_SIZE, Files.size(journalDirectory.resolve("dead-letter.journal")));
+        }
+    }
+}
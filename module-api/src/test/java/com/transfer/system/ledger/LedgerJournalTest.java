@@ -0,0 +1,211 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.policy.LedgerJournalPolicy;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 세그먼트당 recordsPerSegment건을 담는 저널 생성
+     */
+    private LedgerJournal openJournal(int recordsPerSegment) {
+        return new LedgerJournal(new LedgerJournalPolicy(true, directory.toString(), recordsPerSegment * LedgerJournalPolicy.RECORD_SIZE, List.of()));
+    }
+
+    private LedgerEntry transferEntry(String amount) {
+        return new LedgerEntry(
+            UUID.randomUUID(),
+            TransactionType.TRANSFER,
+            UUID.randomUUID(),
+            "00112345678901",
+            new BigDecimal("90000"),
+            UUID.randomUUID(),
+            "00198765432109",
+            new BigDecimal("10000"),
+            new BigDecimal(amount),
+            new BigDecimal("100.50"),
+            LocalDateTime.of(2025, 8, 1, 12, 30, 15, 123_456_789)
+        );
+    }
+
+    private LedgerEntry depositEntry(String amount) {
+        return new LedgerEntry(
+            UUID.randomUUID(),
+            TransactionType.DEPOSIT,
+            null,
+            null,
+            null,
+            UUID.randomUUID(),
+            "00198765432109",
+            null,
+            new BigDecimal(amount),
+            BigDecimal.ZERO,
+            LocalDateTime.of(2025, 8, 1, 12, 30)
+        );
+    }
+
+    /**
+     * 저널에 기록 후 디스크 반영
+     */
+    private long appendAndSync(LedgerJournal journal, LedgerEntry entry) {
+        long sequence = journal.append(entry);
+        journal.sync(sequence);
+        return sequence;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    // ========================= 기록, 복구 테스트 =========================
+    @Nested
+    class RecoverTest {
+
+        /**
+         * 기록한 거래를 순번 순서대로 같은 내용으로 복구 (잔액 스냅샷은 저장하지 않음)
+         */
+        @Test
+        void recover_roundTrip() throws IOException {
+            LedgerJournal journal = openJournal(16);
+            assertTrue(journal.recover(0).isEmpty());
+
+            LedgerEntry transfer = transferEntry("10000.25");
+            LedgerEntry deposit = depositEntry("500");
+            assertEquals(1, appendAndSync(journal, transfer));
+            assertEquals(2, appendAndSync(journal, deposit));
+            journal.close();
+
+            List<JournaledEntry> recovered = openJournal(16).recover(0);
+
+            assertEquals(List.of(1L, 2L), recovered.stream().map(JournaledEntry::sequence).toList());
+            LedgerEntry recoveredTransfer = recovered.get(0).entry();
+            assertEquals(transfer.transactionId(), recoveredTransfer.transactionId());
+            assertEquals(transfer.transactionType(), recoveredTransfer.transactionType());
+            assertEquals(transfer.fromAccountId(), recoveredTransfer.fromAccountId());
+            assertEquals(transfer.fromAccountNumber(), recoveredTransfer.fromAccountNumber());
+            assertEquals(transfer.toAccountId(), recoveredTransfer.toAccountId());
+            assertEquals(transfer.toAccountNumber(), recoveredTransfer.toAccountNumber());
+            assertEquals(transfer.amount(), recoveredTransfer.amount());
+            assertEquals(transfer.fee(), recoveredTransfer.fee());
+            assertEquals(transfer.createdTimeStamp(), recoveredTransfer.createdTimeStamp());
+            assertNull(recoveredTransfer.fromBalance());
+
+            LedgerEntry recoveredDeposit = recovered.get(1).entry();
+            assertNull(recoveredDeposit.fromAccountId());
+            assertNull(recoveredDeposit.fromAccountNumber());
+            assertEquals(deposit.toAccountId(), recoveredDeposit.toAccountId());
+            assertEquals(0, new BigDecimal("500").compareTo(recoveredDeposit.amount()));
+        }
+
+        /**
+         * DB에 반영된 순번 이후 기록만 복구하고 다음 순번부터 이어서 기록
+         */
+        @Test
+        void recover_skipsAppliedAndContinuesSequence() throws IOException {
+            LedgerJournal journal = openJournal(16);
+            journal.recover(0);
+            for (int i = 0; i < 5; i++) {
+                appendAndSync(journal, depositEntry("100"));
+            }
+            journal.close();
+
+            LedgerJournal reopened = openJournal(16);
+            List<JournaledEntry> recovered = reopened.recover(3);
+
+            assertEquals(List.of(4L, 5L), recovered.stream().map(JournaledEntry::sequence).toList());
+            assertEquals(6, reopened.append(depositEntry("100")));
+        }
+
+        /**
+         * 기록 중 끊긴 위치 이후는 복구하지 않고 그 순번부터 다시 기록
+         */
+        @Test
+        void recover_stopsAtTornRecord() throws IOException {
+            LedgerJournal journal = openJournal(16);
+            journal.recover(0);
+            for (int i = 0; i < 3; i++) {
+                appendAndSync(journal, depositEntry("100"));
+            }
+            journal.close();
+
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.findFirst().orElseThrow();
+            }
+            try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+                file.seek(LedgerJournalPolicy.RECORD_SIZE + 95L); // 2번 기록의 금액 손상
+                file.write(0x7f);
+            }
+
+            LedgerJournal reopened = openJournal(16);
+            List<JournaledEntry> recovered = reopened.recover(0);
+
+            assertEquals(List.of(1L), recovered.stream().map(JournaledEntry::sequence).toList());
+            assertEquals(2, reopened.append(depositEntry("100")));
+        }
+    }
+
+    // ========================= 세그먼트 테스트 =========================
+    @Nested
+    class SegmentTest {
+
+        /**
+         * 세그먼트가 가득 차면 새 세그먼트로 전환하고 여러 세그먼트에 걸친 기록도 복구
+         */
+        @Test
+        void append_rollsOverSegments() throws IOException {
+            LedgerJournal journal = openJournal(4);
+            journal.recover(0);
+            for (int i = 0; i < 10; i++) {
+                appendAndSync(journal, depositEntry("100"));
+            }
+            journal.close();
+
+            assertEquals(3, segmentCount());
+            assertEquals(10, openJournal(4).recover(0).size());
+        }
+
+        /**
+         * DB 반영이 끝난 지난 세그먼트만 삭제
+         */
+        @Test
+        void release_deletesAppliedSegments() throws IOException {
+            LedgerJournal journal = openJournal(4);
+            journal.recover(0);
+            for (int i = 0; i < 10; i++) {
+                appendAndSync(journal, depositEntry("100"));
+            }
+
+            journal.release(6); // 1~4 세그먼트만 모두 반영됨
+            assertEquals(2, segmentCount());
+
+            journal.release(8);
+            assertEquals(1, segmentCount());
+            journal.close();
+
+            assertEquals(List.of(9L, 10L), openJournal(4).recover(8).stream().map(JournaledEntry::sequence).toList());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.transfer.system.monitor;
+
+import com.transfer.system.policy.VirtualThreadPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor monitor;
+
+    private final Object monitorLock = new Object();
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, new VirtualThreadPolicy(true, 0, 3000, 10));
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    // ========================= 캐리어 고정 감지 테스트 =========================
+    @Nested
+    class PinnedTest {
+
+        /**
+         * synchronized 블록 안에서 대기한 가상 스레드를 메트릭으로 기록
+         */
+        @Test
+        void report_pinnedVirtualThread() throws InterruptedException {
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitorLock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            // JFR 스트림은 약 1초 주기로 이벤트를 전달
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (monitor.getPinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+
+            assertTrue(monitor.getPinnedCount() > 0);
+            assertTrue(meterRegistry.get(VirtualThreadPinningMonitor.PINNED_TIMER).timer().count() > 0);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.transfer.system.outbox;
+
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.OutboxPolicy;
+import com.transfer.system.repository.TransactionOutboxJdbcRepository;
+import com.transfer.system.repository.TransactionOutboxRecord;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "outbox.relay.enabled=true", // 테스트 실행 시 기본값은 false (module-api build.gradle)
+    "outbox.relay.interval-ms=3600000"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+
+    @Autowired
+    private TransactionOutboxJdbcRepository transactionOutboxJdbcRepository;
+
+    @Autowired
+    private OutboxPolicy outboxPolicy;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay(); // 다른 테스트에서 기록된 이벤트 전달
+    }
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 계좌 생성
+     */
+    private String createAccount() {
+        return accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build()).getAccountNumber();
+    }
+
+    private TransactionResponseDTO transfer(String fromAccountNumber, String toAccountNumber, String amount) {
+        return transactionService.transfer(TransactionRequestDTO.builder()
+            .fromAccountNumber(fromAccountNumber)
+            .toAccountNumber(toAccountNumber)
+            .amount(new BigDecimal(amount))
+            .build());
+    }
+
+    /**
+     * 메모리 전달 대상에 전달된 계좌 관련 이벤트 (전달 순서)
+     */
+    private List<TransactionOutboxRecord> deliveredEvents(String accountNumber) {
+        return inMemoryOutboxSink.getEvents().stream()
+            .filter(event -> accountNumber.equals(event.fromAccountNumber()) || accountNumber.equals(event.toAccountNumber()))
+            .toList();
+    }
+
+    /**
+     * 아직 전달되지 않은 계좌 관련 이벤트
+     */
+    private List<TransactionOutboxRecord> pendingEvents(String accountNumber) {
+        return transactionOutboxJdbcRepository.findPending(outboxPolicy.getBatchSize()).stream()
+            .filter(event -> accountNumber.equals(event.fromAccountNumber()) || accountNumber.equals(event.toAccountNumber()))
+            .toList();
+    }
+
+    // ========================= 이벤트 기록 테스트 =========================
+    @Nested
+    class AppendTest {
+
+        /**
+         * 입금, 출금, 이체 커밋 시 거래 이벤트 기록
+         */
+        @Test
+        void append_depositWithdrawTransfer() {
+            String fromAccountNumber = createAccount();
+            String toAccountNumber = createAccount();
+
+            accountService.deposit(fromAccountNumber, new BigDecimal("100000"));
+            accountService.withdraw(fromAccountNumber, new BigDecimal("10000"));
+            TransactionResponseDTO transferred = transfer(fromAccountNumber, toAccountNumber, "10000");
+
+            List<TransactionOutboxRecord> pending = pendingEvents(fromAccountNumber);
+            assertEquals(List.of(TransactionType.DEPOSIT, TransactionType.WITHDRAW, TransactionType.TRANSFER),
+                pending.stream().map(TransactionOutboxRecord::transactionType).toList());
+            assertEquals(transferred.getTransactionId(), pending.get(2).transactionId());
+            assertEquals(toAccountNumber, pending.get(2).toAccountNumber());
+        }
+
+        /**
+         * 롤백된 거래는 이벤트도 기록되지 않음
+         */
+        @Test
+        void append_rolledBackWithTransaction() {
+            String accountNumber = createAccount();
+
+            assertThrows(TransferSystemException.class, () -> accountService.withdraw(accountNumber, new BigDecimal("10000")));
+
+            assertTrue(pendingEvents(accountNumber).isEmpty());
+        }
+    }
+
+    // ========================= 릴레이 테스트 =========================
+    @Nested
+    class RelayTest {
+
+        /**
+         * 계좌별 거래 순서대로 전달하고 전달한 이벤트 삭제
+         */
+        @Test
+        void relay_deliversInOrderAndDeletes() {
+            String accountNumber = createAccount();
+            String otherAccountNumber = createAccount();
+            accountService.deposit(accountNumber, new BigDecimal("100000"));
+
+            for (int i = 0; i < 5; i++) {
+                transfer(accountNumber, otherAccountNumber, "1000");
+                transfer(otherAccountNumber, accountNumber, "500");
+            }
+
+            assertTrue(outboxRelay.relay() >= 11);
+
+            List<TransactionOutboxRecord> delivered = deliveredEvents(accountNumber);
+            assertEquals(11, delivered.size());
+            for (int i = 1; i < delivered.size(); i++) {
+                assertTrue(delivered.get(i - 1).outboxId() < delivered.get(i).outboxId());
+                assertFalse(delivered.get(i).transactionTimeStamp().isBefore(delivered.get(i - 1).transactionTimeStamp()));
+            }
+            assertTrue(pendingEvents(accountNumber).isEmpty());
+            assertEquals(0, outboxRelay.relay());
+        }
+
+        /**
+         * 전달 실패 시 이벤트를 남겨두고 다음 실행에서 같은 순서로 다시 전달
+         */
+        @Test
+        void relay_failureKeepsEventsForRetry() {
+            String accountNumber = createAccount();
+            accountService.deposit(accountNumber, new BigDecimal("1000"));
+            accountService.deposit(accountNumber, new BigDecimal("2000"));
+
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            OutboxSink failingSink = events -> {
+                throw new IOException("broker unavailable");
+            };
+            OutboxRelay failingRelay = new OutboxRelay(transactionOutboxJdbcRepository, failingSink, outboxPolicy, meterRegistry);
+
+            assertEquals(0, failingRelay.relay());
+            assertEquals(1.0, meterRegistry.get(OutboxRelay.FAILURE_COUNTER).counter().count());
+            List<TransactionOutboxRecord> pending = pendingEvents(accountNumber);
+            assertEquals(2, pending.size());
+
+            outboxRelay.relay();
+
+            List<TransactionOutboxRecord> delivered = deliveredEvents(accountNumber);
+            assertEquals(pending, delivered);
+            assertEquals(0, new BigDecimal("1000").compareTo(delivered.get(0).amount()));
+            assertEquals(0, new BigDecimal("2000").compareTo(delivered.get(1).amount()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyPolicyTest {
+
+    // ========================= 동시성 제어 방식 =========================
+    @Nested
+    class ModeTest {
+
+        /**
+         * 거래 유형별 방식 조회
+         */
+        @Test
+        void modeOf_perTransactionType() {
+            ConcurrencyPolicy policy = new ConcurrencyPolicy(ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.PESSIMISTIC, ConcurrencyMode.OPTIMISTIC, 5, 2, 50);
+
+            assertEquals(ConcurrencyMode.OPTIMISTIC, policy.modeOf(TransactionType.TRANSFER));
+            assertEquals(ConcurrencyMode.PESSIMISTIC, policy.modeOf(TransactionType.DEPOSIT));
+            assertEquals(ConcurrencyMode.OPTIMISTIC, policy.modeOf(TransactionType.WITHDRAW));
+        }
+
+        /**
+         * 잘못된 설정 값
+         */
+        @Test
+        void constructor_invalidSettings() {
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> new ConcurrencyPolicy(ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.OPTIMISTIC, 0, 2, 50));
+            assertEquals(ErrorCode.INTERNAL_ERROR, exception.getErrorCode());
+
+            assertThrows(TransferSystemException.class,
+                () -> new ConcurrencyPolicy(ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.OPTIMISTIC, 5, 100, 50));
+        }
+    }
+
+    // ========================= 재시도 대기 시간 =========================
+    @Nested
+    class BackoffTest {
+
+        /**
+         * 대기 시간은 0 이상 지수 증가 상한 이하
+         */
+        @Test
+        void backoffMillis_withinBounds() {
+            ConcurrencyPolicy policy = new ConcurrencyPolicy(ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.OPTIMISTIC, ConcurrencyMode.OPTIMISTIC, 5, 2, 50);
+
+            for (int i = 0; i < 1_000; i++) {
+                long first = policy.backoffMillis(1);
+                long late = policy.backoffMillis(30);
+
+                assertTrue(first >= 0 && first <= 4);
+                assertTrue(late >= 0 && late <= 50);
+            }
+        }
+    }
+}
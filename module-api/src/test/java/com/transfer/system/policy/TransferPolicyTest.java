@@ -1,7 +1,9 @@
 package com.transfer.system.policy;
 
+import com.transfer.system.enums.CurrencyType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.utils.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,64 @@ class TransferPolicyTest {
             BigDecimal fee = policy.calculateFee(BigDecimal.ZERO);
             assertEquals(new BigDecimal("0.00"), fee);
         }
+
+        /**
+         * 수수료 계산 - 소수점이 없는 통화(JPY)는 정수 단위로 반올림
+         */
+        @Test
+        void calculateFee_jpyRoundsToInteger() {
+            BigDecimal fee = policy.calculateFee(new BigDecimal("1250"), CurrencyType.JPY);
+            assertEquals(new BigDecimal("13"), fee);
+            assertEquals(0, fee.scale());
+        }
+
+        /**
+         * 수수료 계산 - Money 경로와 BigDecimal 경로 결과 일치
+         */
+        @Test
+        void calculateFee_moneyMatchesBigDecimal() {
+            Money fee = policy.calculateFee(Money.of(new BigDecimal("12345.67"), CurrencyType.KRW));
+            assertEquals(12346L, fee.minorUnits());
+            assertEquals(policy.calculateFee(new BigDecimal("12345.67"), CurrencyType.KRW), fee.toBigDecimal());
+        }
+    }
+
+    // ========================== 금액 단위 테스트 ==========================
+    @Nested
+    class AmountScaleTest {
+
+        /**
+         * 통화 소수점 자리수 이내 금액 (뒤에 붙은 0은 자리수로 보지 않음)
+         */
+        @Test
+        void withinScale() {
+            assertDoesNotThrow(() -> policy.validateAmountScale(new BigDecimal("100.25"), CurrencyType.KRW));
+            assertDoesNotThrow(() -> policy.validateAmountScale(new BigDecimal("1250.000"), CurrencyType.JPY));
+        }
+
+        /**
+         * 통화 소수점 자리수를 넘는 금액은 반올림하지 않고 거부
+         */
+        @Test
+        void exceedScale_Throws() {
+            TransferSystemException krw = assertThrows(TransferSystemException.class,
+                    () -> policy.validateAmountScale(new BigDecimal("100.005"), CurrencyType.KRW));
+            assertEquals(ErrorCode.INVALID_AMOUNT, krw.getErrorCode());
+
+            TransferSystemException jpy = assertThrows(TransferSystemException.class,
+                    () -> policy.validateAmountScale(new BigDecimal("1234.5"), CurrencyType.JPY));
+            assertEquals(ErrorCode.INVALID_AMOUNT, jpy.getErrorCode());
+        }
+
+        /**
+         * 최소 단위(long) 범위를 넘는 금액 거부
+         */
+        @Test
+        void overflow_Throws() {
+            TransferSystemException ex = assertThrows(TransferSystemException.class,
+                    () -> policy.validateAmountScale(new BigDecimal("1E+30"), CurrencyType.KRW));
+            assertEquals(ErrorCode.INVALID_AMOUNT, ex.getErrorCode());
+        }
     }
 
     // ========================== 출금 한도 테스트 ==========================
@@ -0,0 +1,49 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPolicyTest {
+
+    // ========================= 연결 풀 크기 =========================
+    @Nested
+    class PoolSizeTest {
+
+        /**
+         * 설정 값이 있으면 그대로 사용
+         */
+        @Test
+        void poolMaxSize_configured() {
+            VirtualThreadPolicy policy = new VirtualThreadPolicy(true, 32, 3000, 20);
+
+            assertTrue(policy.isEnabled());
+            assertEquals(32, policy.getPoolMaxSize());
+        }
+
+        /**
+         * 0이면 CPU 코어 수 기준 자동 크기 (최소 기본값)
+         */
+        @Test
+        void poolMaxSize_auto() {
+            assertEquals(VirtualThreadPolicy.DEFAULT_POOL_SIZE, VirtualThreadPolicy.autoPoolSize(2));
+            assertEquals(33, VirtualThreadPolicy.autoPoolSize(16));
+            assertTrue(new VirtualThreadPolicy(false, 0, 3000, 20).getPoolMaxSize() >= VirtualThreadPolicy.DEFAULT_POOL_SIZE);
+        }
+
+        /**
+         * 잘못된 설정 값
+         */
+        @Test
+        void constructor_invalidSettings() {
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> new VirtualThreadPolicy(true, -1, 3000, 20));
+            assertEquals(ErrorCode.INTERNAL_ERROR, exception.getErrorCode());
+
+            assertThrows(TransferSystemException.class, () -> new VirtualThreadPolicy(true, 10, 100, 20));
+        }
+    }
+}
@@ -113,6 +113,19 @@ class AccountRepositoryTest {
             assertThat(savedAccount.getBalance()).isEqualByComparingTo(new BigDecimal("100000"));
         }
 
+        /**
+         * 새 계좌 ID는 저장 순서대로 증가하는 UUIDv7
+         */
+        @Test
+        void save_assignsUuidV7() {
+            AccountEntity first = accountRepository.save(createTestAccount(testFromAccountNumber, "mxxikr", new BigDecimal("100000")));
+            AccountEntity second = accountRepository.save(createTestAccount(testToAccountNumber, "mxxikr", new BigDecimal("100000")));
+
+            assertThat(first.getAccountId().version()).isEqualTo(7);
+            assertThat(second.getAccountId().version()).isEqualTo(7);
+            assertThat(Long.compareUnsigned(second.getAccountId().getMostSignificantBits(), first.getAccountId().getMostSignificantBits())).isPositive();
+        }
+
         /**
          * ID로 계좌 조회 성공
          */
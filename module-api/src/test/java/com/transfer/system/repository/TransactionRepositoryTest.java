@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,12 +21,15 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
+@Import(TransactionJdbcRepository.class)
 @ActiveProfiles("test")
 class TransactionRepositoryTest {
 
@@ -35,6 +39,9 @@ class TransactionRepositoryTest {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private TransactionJdbcRepository transactionJdbcRepository;
+
     private static final String testFromAccountNumber = "00125080800001";
     private static final String testToAccountNumber   = "00125080800002";
 
@@ -108,6 +115,23 @@ class TransactionRepositoryTest {
             assertThat(found.get().getFee()).isEqualByComparingTo("500");
         }
 
+        /**
+         * 저장 시 계좌 번호 비정규화 컬럼 채움 (입금은 출금 계좌 번호 없음)
+         */
+        @Test
+        void save_fillsAccountNumbers() {
+            AccountEntity fromAccount = testAccountEntity(testFromAccountNumber, "sender", new BigDecimal("100000"));
+            AccountEntity toAccount = testAccountEntity(testToAccountNumber, "reciever", new BigDecimal("50000"));
+
+            TransactionEntity transfer = testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("10000"), new BigDecimal("100"), TimeUtils.nowKstLocalDateTime());
+            TransactionEntity deposit = testTransactionEntity(null, toAccount, TransactionType.DEPOSIT, new BigDecimal("10000"), BigDecimal.ZERO, TimeUtils.nowKstLocalDateTime());
+
+            assertThat(transfer.getFromAccountNumber()).isEqualTo(testFromAccountNumber);
+            assertThat(transfer.getToAccountNumber()).isEqualTo(testToAccountNumber);
+            assertThat(deposit.getFromAccountNumber()).isNull();
+            assertThat(deposit.getToAccountNumber()).isEqualTo(testToAccountNumber);
+        }
+
         /**
          * 존재하지 않는 ID로 조회 시
          */
@@ -151,12 +175,12 @@ class TransactionRepositoryTest {
             testTransactionEntity(a2, a3, TransactionType.TRANSFER, new BigDecimal("5000"),  new BigDecimal("100"), TimeUtils.nowKstLocalDateTime());
 
             Pageable pageable = PageRequest.of(0, 10);
-            Page<TransactionEntity> page = transactionRepository.findAllByAccount(a1, pageable);
+            Page<TransactionView> page = transactionRepository.findAllByAccount(a1, pageable);
 
             assertThat(page.getTotalElements()).isEqualTo(2);
-            assertThat(page.getContent()).allSatisfy(transactionEntity -> {
-                boolean fromMatch = transactionEntity.getFromAccount() != null && testFromAccountNumber.equals(transactionEntity.getFromAccount().getAccountNumber());
-                boolean toMatch   = transactionEntity.getToAccount() != null && testFromAccountNumber.equals(transactionEntity.getToAccount().getAccountNumber());
+            assertThat(page.getContent()).allSatisfy(transaction -> {
+                boolean fromMatch = testFromAccountNumber.equals(transaction.fromAccountNumber());
+                boolean toMatch   = testFromAccountNumber.equals(transaction.toAccountNumber());
                 assertThat(fromMatch || toMatch).isTrue();
             });
         }
@@ -172,7 +196,7 @@ class TransactionRepositoryTest {
 
             testTransactionEntity(a1, a2, TransactionType.TRANSFER, new BigDecimal("10000"), new BigDecimal("0"), TimeUtils.nowKstLocalDateTime());
 
-            Page<TransactionEntity> page = transactionRepository.findAllByAccount(empty, PageRequest.of(0, 10));
+            Page<TransactionView> page = transactionRepository.findAllByAccount(empty, PageRequest.of(0, 10));
             assertThat(page.getTotalElements()).isZero();
             assertThat(page.getContent()).isEmpty();
         }
@@ -189,12 +213,107 @@ class TransactionRepositoryTest {
                 testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("1000"), BigDecimal.ZERO, TimeUtils.nowKstLocalDateTime());
             }
 
-            Page<TransactionEntity> page = transactionRepository.findAllByAccount(fromAccount, PageRequest.of(0, 5));
+            Page<TransactionView> page = transactionRepository.findAllByAccount(fromAccount, PageRequest.of(0, 5));
             assertThat(page.getContent()).hasSize(5);
             assertThat(page.getTotalElements()).isEqualTo(12);
         }
     }
 
+    // ==================== 커서 기반 거래 조회 ====================
+    @Nested
+    class FindBeforeCursorTest {
+
+        private final LocalDateTime baseTime = LocalDateTime.of(2025, 8, 8, 12, 0, 0);
+        private final UUID maxId = new UUID(-1L, -1L);
+
+        /**
+         * 출금 측 거래를 커서 이전부터 최신 순으로 조회
+         */
+        @Test
+        void findSentBefore() {
+            AccountEntity fromAccount = testAccountEntity(testFromAccountNumber, "sender", new BigDecimal("1000000"));
+            AccountEntity toAccount = testAccountEntity(testToAccountNumber, "reciever", new BigDecimal("50000"));
+
+            for (int i = 0; i < 5; i++) {
+                testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("1000"), BigDecimal.ZERO, baseTime.minusMinutes(i));
+            }
+            testTransactionEntity(toAccount, fromAccount, TransactionType.TRANSFER, new BigDecimal("1000"), BigDecimal.ZERO, baseTime);
+
+            List<TransactionView> firstPage = transactionRepository.findSentBefore(fromAccount, baseTime.plusDays(1), maxId, PageRequest.of(0, 3));
+            assertThat(firstPage).hasSize(3);
+            assertThat(firstPage).extracting(TransactionView::createdTimeStamp)
+                .containsExactly(baseTime, baseTime.minusMinutes(1), baseTime.minusMinutes(2));
+
+            TransactionView last = firstPage.get(2);
+            List<TransactionView> secondPage = transactionRepository.findSentBefore(fromAccount, last.createdTimeStamp(), last.transactionId(), PageRequest.of(0, 3));
+            assertThat(secondPage).extracting(TransactionView::createdTimeStamp)
+                .containsExactly(baseTime.minusMinutes(3), baseTime.minusMinutes(4));
+        }
+
+        /**
+         * 같은 시각의 거래는 거래 ID로 구분하여 누락/중복 없이 조회
+         */
+        @Test
+        void findReceivedBefore_sameTimestamp() {
+            AccountEntity fromAccount = testAccountEntity(testFromAccountNumber, "sender", new BigDecimal("1000000"));
+            AccountEntity toAccount = testAccountEntity(testToAccountNumber, "reciever", new BigDecimal("50000"));
+
+            for (int i = 0; i < 4; i++) {
+                testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("1000"), BigDecimal.ZERO, baseTime);
+            }
+
+            List<TransactionView> firstPage = transactionRepository.findReceivedBefore(toAccount, baseTime.plusDays(1), maxId, PageRequest.of(0, 2));
+            TransactionView last = firstPage.get(1);
+            List<TransactionView> secondPage = transactionRepository.findReceivedBefore(toAccount, last.createdTimeStamp(), last.transactionId(), PageRequest.of(0, 2));
+
+            assertThat(firstPage).hasSize(2);
+            assertThat(secondPage).hasSize(2);
+            assertThat(secondPage).extracting(TransactionView::transactionId)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(TransactionView::transactionId).toList());
+            assertThat(firstPage).allSatisfy(transaction -> {
+                assertThat(transaction.fromAccountNumber()).isEqualTo(testFromAccountNumber);
+                assertThat(transaction.toAccountNumber()).isEqualTo(testToAccountNumber);
+            });
+        }
+    }
+
+    // ==================== 내보내기 스트리밍 조회 ====================
+    @Nested
+    class StreamByAccountTest {
+
+        private final LocalDateTime baseTime = LocalDateTime.of(2025, 8, 8, 12, 0, 0);
+
+        /**
+         * 출금, 입금 거래를 시간 순으로 전달하고 기간 경계(from 포함, to 미포함) 적용
+         */
+        @Test
+        void streamByAccount_ordersByTimeWithinRange() {
+            AccountEntity account = testAccountEntity(testFromAccountNumber, "sender", new BigDecimal("1000000"));
+            AccountEntity other = testAccountEntity(testToAccountNumber, "reciever", new BigDecimal("50000"));
+
+            testTransactionEntity(account, other, TransactionType.TRANSFER, new BigDecimal("1000"), new BigDecimal("10"), baseTime.plusHours(2));
+            testTransactionEntity(other, account, TransactionType.TRANSFER, new BigDecimal("2000"), new BigDecimal("20"), baseTime);
+            testTransactionEntity(null, account, TransactionType.DEPOSIT, new BigDecimal("3000"), BigDecimal.ZERO, baseTime.minusDays(1));
+            testTransactionEntity(account, other, TransactionType.TRANSFER, new BigDecimal("4000"), new BigDecimal("40"), baseTime.plusDays(1));
+
+            List<TransactionView> all = new ArrayList<>();
+            transactionJdbcRepository.streamByAccount(account.getAccountId(), null, null, 2, all::add);
+
+            List<TransactionView> ranged = new ArrayList<>();
+            transactionJdbcRepository.streamByAccount(account.getAccountId(), baseTime, baseTime.plusDays(1), 2, ranged::add);
+
+            assertThat(all).extracting(TransactionView::createdTimeStamp)
+                .containsExactly(baseTime.minusDays(1), baseTime, baseTime.plusHours(2), baseTime.plusDays(1));
+            assertThat(all.get(0).fromAccountNumber()).isNull();
+            assertThat(all.get(0).toAccountNumber()).isEqualTo(testFromAccountNumber);
+            assertThat(ranged).extracting(TransactionView::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("2000"), new BigDecimal("1000"));
+            assertThat(ranged.get(1).transactionType()).isEqualTo(TransactionType.TRANSFER);
+            assertThat(ranged.get(1).toAccountNumber()).isEqualTo(testToAccountNumber);
+        }
+    }
+
     // ==================== 일일 합계 조회 ====================
     @Nested
     class SumTodayUsedAmountTest {
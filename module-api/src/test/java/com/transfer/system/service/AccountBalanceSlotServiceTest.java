@@ -0,0 +1,260 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountBalanceSlotEntity;
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.AccountResponseDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.repository.AccountBalanceSlotRepository;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.TransactionRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "account.balance-slot.enabled=true")
+class AccountBalanceSlotServiceTest {
+
+    @Autowired
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Autowired
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private static final int SLOT_COUNT = 4;
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 계좌 생성
+     */
+    private AccountResponseDTO createAccount() {
+        return accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build());
+    }
+
+    /**
+     * 계좌 행에 저장된 잔액 (슬롯 잔액 제외)
+     */
+    private BigDecimal mainBalance(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getBalance).orElseThrow();
+    }
+
+    /**
+     * 슬롯 잔액 합계
+     */
+    private BigDecimal slotBalance(AccountResponseDTO account) {
+        return accountBalanceSlotRepository.sumBalanceByAccountId(account.getAccountId());
+    }
+
+    private void transfer(String fromAccountNumber, String toAccountNumber, String amount) {
+        transactionService.transfer(TransactionRequestDTO.builder()
+            .fromAccountNumber(fromAccountNumber)
+            .toAccountNumber(toAccountNumber)
+            .amount(new BigDecimal(amount))
+            .build());
+    }
+
+    // ========================= 슬롯 입금 테스트 =========================
+    @Nested
+    class CreditTest {
+
+        /**
+         * 입금 분산 계좌 입금은 슬롯에 반영되고 공개 잔액은 슬롯 잔액 포함
+         */
+        @Test
+        void deposit_creditsSlotAndReportsTotal() {
+            AccountResponseDTO account = createAccount();
+            accountService.deposit(account.getAccountNumber(), new BigDecimal("1000"));
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), SLOT_COUNT);
+
+            BigDecimal responseBalance = accountService.deposit(account.getAccountNumber(), new BigDecimal("500")).getBalance();
+
+            assertEquals(0, new BigDecimal("1000").compareTo(mainBalance(account.getAccountNumber())));
+            assertEquals(0, new BigDecimal("500").compareTo(slotBalance(account)));
+            assertEquals(0, new BigDecimal("1500").compareTo(responseBalance));
+            assertEquals(0, new BigDecimal("1500").compareTo(accountService.getAccount(account.getAccountId()).getBalance()));
+        }
+
+        /**
+         * 여러 송신 계좌가 동시에 이체해도 수신 금액이 모두 반영되고 거래 기록과 일치
+         */
+        @Test
+        void transfer_concurrentlyToSlotAccount_preservesTotal() throws Exception {
+            AccountResponseDTO receiver = createAccount();
+            accountBalanceSlotService.changeSlotCount(receiver.getAccountNumber(), SLOT_COUNT);
+
+            int senderCount = 8;
+            int transfersPerSender = 20;
+            List<String> senders = new ArrayList<>();
+            for (int i = 0; i < senderCount; i++) {
+                String sender = createAccount().getAccountNumber();
+                accountService.deposit(sender, new BigDecimal("100000"));
+                senders.add(sender);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(senderCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (String sender : senders) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < transfersPerSender; i++) {
+                        transfer(sender, receiver.getAccountNumber(), "100");
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            executor.shutdown();
+
+            BigDecimal expected = new BigDecimal(100 * senderCount * transfersPerSender);
+            assertEquals(0, expected.compareTo(accountService.getAccount(receiver.getAccountId()).getBalance()));
+            assertEquals(0, expected.compareTo(slotBalance(receiver)));
+            assertEquals(0, BigDecimal.ZERO.compareTo(mainBalance(receiver.getAccountNumber())));
+            assertEquals(senderCount * transfersPerSender, transactionRepository.findAll().stream()
+                .filter(transaction -> receiver.getAccountNumber().equals(transaction.getToAccountNumber()))
+                .count());
+        }
+
+        /**
+         * 연속된 스레드 ID가 여러 슬롯으로 분산
+         */
+        @Test
+        void slotIndexOf_spreadsConsecutiveThreadIds() {
+            Set<Integer> used = new HashSet<>();
+            for (long threadId = 1; threadId <= 16; threadId++) {
+                int slotIndex = AccountBalanceSlotService.slotIndexOf(threadId, SLOT_COUNT);
+                assertTrue(slotIndex >= 0 && slotIndex < SLOT_COUNT);
+                used.add(slotIndex);
+            }
+            assertEquals(SLOT_COUNT, used.size());
+        }
+    }
+
+    // ========================= 슬롯 잔액 이동 테스트 =========================
+    @Nested
+    class SweepTest {
+
+        /**
+         * 계좌 잔액이 부족하면 슬롯 잔액을 옮긴 뒤 출금
+         */
+        @Test
+        void withdraw_sweepsSlotsWhenMainInsufficient() {
+            AccountResponseDTO account = createAccount();
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), SLOT_COUNT);
+            accountService.deposit(account.getAccountNumber(), new BigDecimal("3000"));
+
+            BigDecimal responseBalance = accountService.withdraw(account.getAccountNumber(), new BigDecimal("1000")).getBalance();
+
+            assertEquals(0, new BigDecimal("2000").compareTo(responseBalance));
+            assertEquals(0, new BigDecimal("2000").compareTo(mainBalance(account.getAccountNumber())));
+            assertEquals(0, BigDecimal.ZERO.compareTo(slotBalance(account)));
+        }
+
+        /**
+         * 슬롯 잔액까지 합쳐도 부족하면 잔액 부족 (슬롯 이동도 롤백)
+         */
+        @Test
+        void transfer_insufficientIncludingSlots() {
+            AccountResponseDTO account = createAccount();
+            String receiver = createAccount().getAccountNumber();
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), SLOT_COUNT);
+            accountService.deposit(account.getAccountNumber(), new BigDecimal("1000"));
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> transfer(account.getAccountNumber(), receiver, "1000")); // 수수료 포함 1010
+
+            assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+            assertEquals(0, new BigDecimal("1000").compareTo(slotBalance(account)));
+            assertEquals(0, BigDecimal.ZERO.compareTo(mainBalance(account.getAccountNumber())));
+        }
+    }
+
+    // ========================= 슬롯 수 변경 테스트 =========================
+    @Nested
+    class ChangeSlotCountTest {
+
+        /**
+         * 슬롯 수를 줄이면 슬롯 잔액을 계좌 잔액으로 옮기고 남는 슬롯 삭제
+         */
+        @Test
+        void changeSlotCount_shrinkMovesBalanceToMain() {
+            AccountResponseDTO account = createAccount();
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), SLOT_COUNT);
+            accountService.deposit(account.getAccountNumber(), new BigDecimal("700"));
+
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), 1);
+
+            List<AccountBalanceSlotEntity> slots = accountBalanceSlotRepository.findAll().stream()
+                .filter(slot -> slot.getAccountId().equals(account.getAccountId()))
+                .toList();
+            assertEquals(1, slots.size());
+            assertEquals(0, slots.get(0).getSlotIndex());
+            assertEquals(0, new BigDecimal("700").compareTo(mainBalance(account.getAccountNumber())));
+            assertEquals(0, new BigDecimal("700").compareTo(accountService.getAccount(account.getAccountId()).getBalance()));
+        }
+
+        /**
+         * 분산 해제 후 입금은 계좌 잔액에 직접 반영
+         */
+        @Test
+        void changeSlotCount_zeroDisablesSlots() {
+            AccountResponseDTO account = createAccount();
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), SLOT_COUNT);
+            accountService.deposit(account.getAccountNumber(), new BigDecimal("700"));
+
+            accountBalanceSlotService.changeSlotCount(account.getAccountNumber(), 0);
+            accountService.deposit(account.getAccountNumber(), new BigDecimal("300"));
+
+            assertEquals(0, new BigDecimal("1000").compareTo(mainBalance(account.getAccountNumber())));
+            assertEquals(0, BigDecimal.ZERO.compareTo(slotBalance(account)));
+        }
+
+        /**
+         * 허용 범위를 벗어난 슬롯 수
+         */
+        @Test
+        void changeSlotCount_invalidCount() {
+            String accountNumber = createAccount().getAccountNumber();
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> accountBalanceSlotService.changeSlotCount(accountNumber, -1));
+
+            assertEquals(ErrorCode.INVALID_BALANCE_SLOT_COUNT, exception.getErrorCode());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.policy.AccountCachePolicy;
+import com.transfer.system.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCacheTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountCache accountCache;
+    private AccountEntity accountEntity;
+
+    private final UUID testAccountId = UUID.randomUUID();
+    private final String testAccountNumber = "00125080800001";
+
+    @BeforeEach
+    void setUp() {
+        accountCache = new AccountCache(accountRepository, new AccountCachePolicy(2, 60));
+
+        accountEntity = AccountEntity.builder()
+            .accountId(testAccountId)
+            .accountNumber(testAccountNumber)
+            .accountName("mxxikr")
+            .bankName("mxxikrBank")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .balance(new BigDecimal("1000"))
+            .accountStatus(AccountStatus.ACTIVE)
+            .build();
+    }
+
+    // ========================= 조회 테스트 =========================
+    @Nested
+    class FindTest {
+
+        /**
+         * 계좌 번호로 적재한 계좌를 계좌 ID로도 캐시에서 조회
+         */
+        @Test
+        void find_loadsOnceForBothKeys() {
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+
+            AccountSnapshot byNumber = accountCache.findByAccountNumber(testAccountNumber).orElseThrow();
+            AccountSnapshot byId = accountCache.findById(testAccountId).orElseThrow();
+
+            assertEquals(byNumber, byId);
+            assertEquals(CurrencyType.KRW, byId.currencyType());
+            verify(accountRepository, never()).findById(any());
+            assertEquals(1, accountCache.getStats().getHitCount());
+            assertEquals(1, accountCache.getStats().getMissCount());
+        }
+
+        /**
+         * 없는 계좌는 캐시하지 않음
+         */
+        @Test
+        void find_missingAccountNotCached() {
+            when(accountRepository.findById(testAccountId)).thenReturn(Optional.empty());
+
+            assertTrue(accountCache.findById(testAccountId).isEmpty());
+            assertTrue(accountCache.findById(testAccountId).isEmpty());
+
+            verify(accountRepository, times(2)).findById(testAccountId);
+            assertEquals(0, accountCache.getStats().getSize());
+        }
+
+        /**
+         * 최대 크기 초과 시 오래된 계좌 제거
+         */
+        @Test
+        void find_evictsWhenFull() {
+            for (int i = 0; i < 3; i++) {
+                String accountNumber = "0012508080000" + i;
+                when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(AccountEntity.builder()
+                    .accountId(UUID.randomUUID())
+                    .accountNumber(accountNumber)
+                    .build()));
+                accountCache.findByAccountNumber(accountNumber);
+            }
+
+            assertEquals(2, accountCache.getStats().getSize());
+            assertEquals(2, accountCache.getStats().getEvictionCount()); // 계좌 ID, 계좌 번호 캐시에서 각각 제거
+        }
+    }
+
+    // ========================= 무효화 테스트 =========================
+    @Nested
+    class EvictTest {
+
+        /**
+         * 무효화 후 다시 DB에서 적재
+         */
+        @Test
+        void evict_reloadsFromDatabase() {
+            when(accountRepository.findById(testAccountId)).thenReturn(Optional.of(accountEntity));
+            accountCache.findById(testAccountId);
+
+            accountCache.evict(testAccountId, testAccountNumber);
+            accountCache.findById(testAccountId);
+
+            verify(accountRepository, times(2)).findById(testAccountId);
+            assertEquals(1, accountCache.getStats().getInvalidationCount());
+        }
+    }
+
+    // ========================= 트랜잭션 안 적재 테스트 =========================
+    @Nested
+    class TransactionalLoadTest {
+
+        /**
+         * 트랜잭션 동기화를 시작하고 조회한 뒤 등록된 완료 콜백을 커밋 또는 롤백 결과로 실행
+         */
+        private void findInTransaction(boolean commit) {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                accountCache.findByAccountNumber(testAccountNumber);
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                for (TransactionSynchronization synchronization : synchronizations) {
+                    if (commit) {
+                        synchronization.afterCommit();
+                    }
+                    synchronization.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        /**
+         * 롤백된 트랜잭션에서 적재한 계좌는 캐시하지 않음
+         */
+        @Test
+        void find_rolledBackLoadNotCached() {
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+
+            findInTransaction(false);
+
+            assertEquals(0, accountCache.getStats().getSize());
+        }
+
+        /**
+         * 커밋된 트랜잭션에서 적재한 계좌는 커밋 후 캐시
+         */
+        @Test
+        void find_committedLoadCachedAfterCommit() {
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+
+            findInTransaction(true);
+
+            assertEquals(1, accountCache.getStats().getSize());
+            assertTrue(accountCache.findById(testAccountId).isPresent());
+            verify(accountRepository, never()).findById(any());
+        }
+
+        /**
+         * 적재 후 커밋 전에 무효화된 계좌는 커밋되어도 캐시하지 않음
+         */
+        @Test
+        void find_evictedBeforeCommitNotCached() {
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                accountCache.findByAccountNumber(testAccountNumber);
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+                accountCache.evict(testAccountId, testAccountNumber); // 다른 요청의 삭제
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertEquals(0, accountCache.getStats().getSize());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AccountCreationConcurrencyTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ACCOUNTS_PER_THREAD = 1_250;
+
+    /**
+     * 다수 스레드에서 동시에 계좌를 생성해도 계좌 번호가 중복되지 않음
+     */
+    @Test
+    void createAccount_concurrently_uniqueAccountNumbers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        AccountCreateRequestDTO request = AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ACCOUNTS_PER_THREAD; i++) {
+                    assertTrue(accountNumbers.add(accountService.createAccount(request).getAccountNumber()));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES); // DUPLICATE_ACCOUNT_NUMBER 발생 시 ExecutionException
+        }
+        executor.shutdown();
+
+        assertEquals(THREAD_COUNT * ACCOUNTS_PER_THREAD, accountNumbers.size());
+    }
+}
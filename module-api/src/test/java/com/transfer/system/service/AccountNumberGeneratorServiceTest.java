@@ -1,30 +1,66 @@
 package com.transfer.system.service;
 
 import com.transfer.system.domain.AccountNumberEntity;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@Import(AccountNumberGeneratorService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 구간 예약은 별도 트랜잭션에서 커밋됨
 class AccountNumberGeneratorServiceTest {
 
     @Autowired
-    private TestEntityManager testEntityManager;
+    private EntityManager entityManager;
 
     @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
     private AccountNumberGeneratorService accountNumberGeneratorService;
 
     private static final String ACCOUNT_PREFIX = "001";
+    private static final int BLOCK_SIZE = 5;
+    private static final LocalDate TODAY = LocalDate.of(2025, 8, 13);
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> entityManager.createQuery("DELETE FROM AccountNumberEntity").executeUpdate());
+        accountNumberGeneratorService = new AccountNumberGeneratorService(entityManager, transactionManager, BLOCK_SIZE);
+    }
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 예상 계좌 번호
+     */
+    private static String expectedAccountNumber(LocalDate date, String sequence) {
+        return ACCOUNT_PREFIX + date.format(DateTimeFormatter.ofPattern("yyMMdd")) + sequence;
+    }
+
+    /**
+     * 저장된 마지막 예약 번호
+     */
+    private Long reservedLastNumber(LocalDate date) {
+        AccountNumberEntity sequence = transactionTemplate.execute(status -> entityManager.find(AccountNumberEntity.class, date));
+        return sequence != null ? sequence.getLastNumber() : null;
+    }
 
     // ========================== 계좌 번호 생성 테스트 =========================
     @Nested
@@ -35,19 +71,13 @@ class AccountNumberGeneratorServiceTest {
          */
         @Test
         void generateAccountNumber_whenSequenceExists() {
-            LocalDate today = LocalDate.now();
-            AccountNumberEntity existingSequence = new AccountNumberEntity(today, 1L);
-            testEntityManager.persistAndFlush(existingSequence);
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(new AccountNumberEntity(TODAY, 1L)));
 
-            String newAccountNumber = accountNumberGeneratorService.generateAccountNumber();
+            String newAccountNumber = accountNumberGeneratorService.generateAccountNumber(TODAY);
 
-            String datePart = today.format(DateTimeFormatter.ofPattern("yyMMdd"));
-            String expectedAccountNumber = ACCOUNT_PREFIX + datePart + "00002";
             assertNotNull(newAccountNumber);
-            assertEquals(expectedAccountNumber, newAccountNumber);
-
-            AccountNumberEntity updatedSequence = testEntityManager.find(AccountNumberEntity.class, today);
-            assertEquals(2L, updatedSequence.getLastNumber());
+            assertEquals(expectedAccountNumber(TODAY, "00002"), newAccountNumber);
+            assertEquals(1L + BLOCK_SIZE, reservedLastNumber(TODAY));
         }
 
         /**
@@ -55,18 +85,81 @@ class AccountNumberGeneratorServiceTest {
          */
         @Test
         void generateAccountNumber_whenSequenceIsNew() {
-            LocalDate today = LocalDate.now();
+            String newAccountNumber = accountNumberGeneratorService.generateAccountNumber(TODAY);
 
-            String newAccountNumber = accountNumberGeneratorService.generateAccountNumber();
-
-            String datePart = today.format(DateTimeFormatter.ofPattern("yyMMdd"));
-            String expectedAccountNumber = ACCOUNT_PREFIX + datePart + "00001";
             assertNotNull(newAccountNumber);
-            assertEquals(expectedAccountNumber, newAccountNumber);
+            assertEquals(expectedAccountNumber(TODAY, "00001"), newAccountNumber);
+            assertEquals((long) BLOCK_SIZE, reservedLastNumber(TODAY));
+        }
+    }
+
+    // ========================== 구간 예약 테스트 =========================
+    @Nested
+    class BlockReservationTest {
+
+        /**
+         * 예약 구간 안에서는 시퀀스 테이블을 갱신하지 않음
+         */
+        @Test
+        void generateAccountNumber_usesReservedBlock() {
+            for (int i = 1; i <= BLOCK_SIZE; i++) {
+                assertEquals(expectedAccountNumber(TODAY, String.format("%05d", i)), accountNumberGeneratorService.generateAccountNumber(TODAY));
+            }
+            assertEquals((long) BLOCK_SIZE, reservedLastNumber(TODAY));
+
+            // 구간 소진 시 다음 구간 예약
+            assertEquals(expectedAccountNumber(TODAY, String.format("%05d", BLOCK_SIZE + 1)), accountNumberGeneratorService.generateAccountNumber(TODAY));
+            assertEquals((long) BLOCK_SIZE * 2, reservedLastNumber(TODAY));
+        }
 
-            AccountNumberEntity createdSequence = testEntityManager.find(AccountNumberEntity.class, today);
-            assertNotNull(createdSequence);
-            assertEquals(1L, createdSequence.getLastNumber());
+        /**
+         * 여러 노드가 서로 겹치지 않는 구간을 예약
+         */
+        @Test
+        void generateAccountNumber_disjointBlocksPerNode() {
+            AccountNumberGeneratorService otherNode = new AccountNumberGeneratorService(entityManager, transactionManager, BLOCK_SIZE);
+            Set<String> issued = new HashSet<>();
+
+            for (int i = 0; i < BLOCK_SIZE * 3; i++) {
+                assertTrue(issued.add(accountNumberGeneratorService.generateAccountNumber(TODAY)));
+                assertTrue(issued.add(otherNode.generateAccountNumber(TODAY)));
+            }
+
+            assertEquals(BLOCK_SIZE * 6, issued.size());
+            assertEquals((long) BLOCK_SIZE * 6, reservedLastNumber(TODAY));
+        }
+
+        /**
+         * 날짜가 바뀌면 새 날짜의 1번부터 발급
+         */
+        @Test
+        void generateAccountNumber_rolloverAtDayBoundary() {
+            LocalDate tomorrow = TODAY.plusDays(1);
+
+            accountNumberGeneratorService.generateAccountNumber(TODAY);
+            String nextDayAccountNumber = accountNumberGeneratorService.generateAccountNumber(tomorrow);
+
+            assertEquals(expectedAccountNumber(tomorrow, "00001"), nextDayAccountNumber);
+            assertEquals((long) BLOCK_SIZE, reservedLastNumber(TODAY));
+            assertEquals((long) BLOCK_SIZE, reservedLastNumber(tomorrow));
+
+            // 날짜 변경 직전 시각으로 들어온 요청도 새 구간 사용
+            assertEquals(expectedAccountNumber(tomorrow, "00002"), accountNumberGeneratorService.generateAccountNumber(TODAY));
+        }
+    }
+
+    // ========================== 설정 검증 테스트 =========================
+    @Nested
+    class BlockSizeTest {
+
+        /**
+         * 구간 크기가 1 미만이면 설정 오류
+         */
+        @Test
+        void constructor_invalidBlockSize() {
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> new AccountNumberGeneratorService(entityManager, transactionManager, 0));
+            assertEquals(ErrorCode.INTERNAL_ERROR, exception.getErrorCode());
         }
     }
-}
\ No newline at end of file
+}
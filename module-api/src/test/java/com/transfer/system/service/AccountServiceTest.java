@@ -6,24 +6,35 @@ import com.transfer.system.dto.AccountCreateRequestDTO;
 import com.transfer.system.dto.AccountResponseDTO;
 import com.transfer.system.enums.AccountStatus;
 import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.ConcurrencyMode;
 import com.transfer.system.enums.CurrencyType;
 import com.transfer.system.enums.TransactionType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.outbox.TransactionOutbox;
+import com.transfer.system.policy.AccountCachePolicy;
+import com.transfer.system.policy.ConcurrencyPolicy;
 import com.transfer.system.policy.TransferPolicy;
+import com.transfer.system.repository.AccountBalanceView;
+import com.transfer.system.repository.AccountCreditRecord;
 import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.AccountSlotView;
 import com.transfer.system.repository.TransactionRepository;
 import com.transfer.system.utils.MoneyUtils;
 import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,7 +58,20 @@ class AccountServiceTest {
     @Mock
     private AccountNumberGeneratorService accountNumberGeneratorService;
 
+    @Mock
+    private DailyUsageService dailyUsageService;
+
+    @Mock
+    private TransactionOutbox transactionOutbox;
+
+    @Mock
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Mock
+    private AtomicBalanceService atomicBalanceService;
+
     private AccountServiceImpl accountService;
+    private AccountCache accountCache;
 
     private AccountCreateRequestDTO accountCreateRequestDTO;
     private AccountEntity accountEntity;
@@ -57,7 +81,8 @@ class AccountServiceTest {
 
     @BeforeEach
     void setUp() {
-        accountService = new AccountServiceImpl(accountRepository, transferPolicy, transactionRepository, accountNumberGeneratorService);
+        accountCache = new AccountCache(accountRepository, new AccountCachePolicy(100, 60));
+        accountService = new AccountServiceImpl(accountRepository, transferPolicy, transactionRepository, accountNumberGeneratorService, dailyUsageService, concurrencyExecutor(ConcurrencyMode.PESSIMISTIC), accountCache, SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
 
         accountCreateRequestDTO = AccountCreateRequestDTO.builder()
             .accountName("mxxikr")
@@ -91,6 +116,15 @@ class AccountServiceTest {
 
     // ========================== 공통 메서드 =========================
 
+    private static final ServiceMetrics SERVICE_METRICS = new ServiceMetrics(new SimpleMeterRegistry());
+
+    /**
+     * 동시성 제어 방식을 지정한 실행기 (트랜잭션 매니저는 Mock)
+     */
+    private static ConcurrencyExecutor concurrencyExecutor(ConcurrencyMode mode) {
+        return new ConcurrencyExecutor(mock(PlatformTransactionManager.class), new ConcurrencyPolicy(mode, mode, mode, 3, 0, 0), SERVICE_METRICS);
+    }
+
     /**
      * 금액 정규화
      */
@@ -129,10 +163,7 @@ class AccountServiceTest {
      * 오늘 사용 금액
      */
     private void todayUsed(String accountNumber, TransactionType type, BigDecimal used) {
-        when(transactionRepository.getSumTodayUsedAmount(
-                eq(accountNumber), eq(type),
-                any(LocalDateTime.class), any(LocalDateTime.class)
-        )).thenReturn(used);
+        when(dailyUsageService.getUsedAmount(eq(accountNumber), eq(type), any(LocalDate.class))).thenReturn(used);
     }
 
     // ========================= 계좌 생성 테스트 =========================
@@ -239,6 +270,7 @@ class AccountServiceTest {
         @Test
         void getAccount_success() {
             when(accountRepository.findById(testAccountId)).thenReturn(Optional.of(accountEntity));
+            when(accountRepository.findBalanceById(testAccountId)).thenReturn(Optional.of(new AccountBalanceView(accountEntity.getBalance(), accountEntity.getUpdatedTimeStamp())));
 
             AccountResponseDTO result = accountService.getAccount(testAccountId);
 
@@ -248,6 +280,41 @@ class AccountServiceTest {
             verify(accountRepository).findById(testAccountId);
         }
 
+        /**
+         * 두 번째 조회부터 계좌 정보는 캐시에서 조회하고 잔액만 DB에서 조회
+         */
+        @Test
+        void getAccount_cachedMetadata() {
+            when(accountRepository.findById(testAccountId)).thenReturn(Optional.of(accountEntity));
+            when(accountRepository.findBalanceById(testAccountId))
+                .thenReturn(Optional.of(new AccountBalanceView(new BigDecimal("100"), null)))
+                .thenReturn(Optional.of(new AccountBalanceView(new BigDecimal("200"), null)));
+
+            accountService.getAccount(testAccountId);
+            AccountResponseDTO result = accountService.getAccount(testAccountId);
+
+            assertEquals(0, new BigDecimal("200").compareTo(result.getBalance()));
+            verify(accountRepository, times(1)).findById(testAccountId);
+            verify(accountRepository, times(2)).findBalanceById(testAccountId);
+            assertEquals(1, accountCache.getStats().getHitCount());
+            assertEquals(1, accountCache.getStats().getMissCount());
+        }
+
+        /**
+         * 캐시에 남아 있지만 DB에서 삭제된 계좌는 캐시에서 제거
+         */
+        @Test
+        void getAccount_deletedElsewhere() {
+            when(accountRepository.findById(testAccountId)).thenReturn(Optional.of(accountEntity));
+            when(accountRepository.findBalanceById(testAccountId)).thenReturn(Optional.empty());
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                    () -> accountService.getAccount(testAccountId));
+
+            assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+            assertEquals(0, accountCache.getStats().getSize());
+        }
+
         /**
          * 계좌 조회 실패 - 계좌가 존재하지 않는 경우
          */
@@ -274,6 +341,7 @@ class AccountServiceTest {
 
             assertDoesNotThrow(() -> accountService.deleteAccount(testAccountId));
             verify(accountRepository).delete(accountEntity);
+            assertEquals(1, accountCache.getStats().getInvalidationCount());
         }
 
         /**
@@ -366,6 +434,42 @@ class AccountServiceTest {
             verify(accountRepository, never()).save(any());
             verify(transactionRepository, never()).save(any());
         }
+
+        /**
+         * 입금 성공 - 원자적 갱신 모드는 계좌를 조회하지 않고 갱신된 잔액으로 응답
+         */
+        @Test
+        void deposit_success_atomic() {
+            AccountServiceImpl atomicService = new AccountServiceImpl(accountRepository, transferPolicy, transactionRepository, accountNumberGeneratorService, dailyUsageService, concurrencyExecutor(ConcurrencyMode.ATOMIC), accountCache, SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
+            BigDecimal depositAmount = new BigDecimal("50000");
+
+            when(atomicBalanceService.credit(eq(testAccountNumber), eq(depositAmount), any(LocalDateTime.class)))
+                .thenReturn(new AccountCreditRecord(testAccountId, new BigDecimal("150000.00"), CurrencyType.KRW, 0));
+
+            BigDecimal balance = atomicService.deposit(testAccountNumber, depositAmount).getBalance();
+
+            assertEquals(0, new BigDecimal("150000").compareTo(balance));
+            verify(accountRepository, never()).findByAccountNumberLock(anyString());
+            verify(accountRepository, never()).save(any());
+            verify(transactionRepository).save(any(TransactionEntity.class));
+        }
+
+        /**
+         * 입금 실패 - 원자적 갱신 모드에서 활성 상태가 아닌 계좌
+         */
+        @Test
+        void deposit_fail_atomic_whenAccountInactive() {
+            AccountServiceImpl atomicService = new AccountServiceImpl(accountRepository, transferPolicy, transactionRepository, accountNumberGeneratorService, dailyUsageService, concurrencyExecutor(ConcurrencyMode.ATOMIC), accountCache, SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
+
+            when(atomicBalanceService.credit(eq(testAccountNumber), any(BigDecimal.class), any(LocalDateTime.class)))
+                .thenThrow(new TransferSystemException(ErrorCode.RECEIVER_ACCOUNT_INACTIVE));
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> atomicService.deposit(testAccountNumber, new BigDecimal("50000")));
+
+            assertEquals(ErrorCode.RECEIVER_ACCOUNT_INACTIVE, exception.getErrorCode());
+            verify(transactionRepository, never()).save(any());
+        }
     }
 
     // ========================= 출금 테스트 =========================
@@ -393,6 +497,51 @@ class AccountServiceTest {
             AccountEntity savedAccount = accountCaptor.getValue();
 
             assertEquals(0, savedAccount.getBalance().compareTo(initialBalance.subtract(withdrawAmount)));
+            verify(dailyUsageService).addUsedAmount(eq(testAccountNumber), eq(TransactionType.WITHDRAW), any(LocalDate.class), eq(withdrawAmount));
+        }
+
+        /**
+         * 출금 성공 - 낙관적 락 모드는 잠금 없이 조회하고 일일 사용량 갱신 전에 버전 확인
+         */
+        @Test
+        void withdraw_success_optimistic() {
+            AccountServiceImpl optimisticService = new AccountServiceImpl(accountRepository, transferPolicy, transactionRepository, accountNumberGeneratorService, dailyUsageService, concurrencyExecutor(ConcurrencyMode.OPTIMISTIC), accountCache, SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
+
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+            todayUsed(testAccountNumber, TransactionType.WITHDRAW, BigDecimal.ZERO);
+            doNothing().when(transferPolicy).validateWithdrawAmount(any(BigDecimal.class), any(BigDecimal.class));
+
+            optimisticService.withdraw(testAccountNumber, new BigDecimal("30000"));
+
+            verify(accountRepository, never()).findByAccountNumberLock(anyString());
+            InOrder inOrder = inOrder(accountRepository, dailyUsageService);
+            inOrder.verify(accountRepository).flush();
+            inOrder.verify(dailyUsageService).addUsedAmount(eq(testAccountNumber), eq(TransactionType.WITHDRAW), any(LocalDate.class), eq(new BigDecimal("30000")));
+        }
+
+        /**
+         * 출금 성공 - 원자적 갱신 모드는 잠금 조회 없이 조건부 차감 후 일일 한도 확인
+         */
+        @Test
+        void withdraw_success_atomic() {
+            AccountServiceImpl atomicService = new AccountServiceImpl(accountRepository, transferPolicy, transactionRepository, accountNumberGeneratorService, dailyUsageService, concurrencyExecutor(ConcurrencyMode.ATOMIC), accountCache, SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
+            AccountSlotView account = new AccountSlotView(testAccountId, testAccountNumber, CurrencyType.KRW, AccountStatus.ACTIVE, 0);
+            BigDecimal withdrawAmount = new BigDecimal("30000");
+
+            when(accountRepository.findSlotViewByAccountNumber(testAccountNumber)).thenReturn(Optional.of(account));
+            todayUsed(testAccountNumber, TransactionType.WITHDRAW, BigDecimal.ZERO);
+            doNothing().when(transferPolicy).validateWithdrawAmount(any(BigDecimal.class), any(BigDecimal.class));
+            when(accountRepository.findBalanceById(testAccountId)).thenReturn(Optional.of(new AccountBalanceView(new BigDecimal("70000"), TimeUtils.nowKstLocalDateTime())));
+
+            BigDecimal balance = atomicService.withdraw(testAccountNumber, withdrawAmount).getBalance();
+
+            assertEquals(0, new BigDecimal("70000").compareTo(balance));
+            verify(accountRepository, never()).findByAccountNumberLock(anyString());
+            verify(accountRepository, never()).save(any());
+            InOrder inOrder = inOrder(atomicBalanceService, dailyUsageService);
+            inOrder.verify(atomicBalanceService).debit(eq(account), eq(withdrawAmount), any(LocalDateTime.class));
+            inOrder.verify(dailyUsageService).getUsedAmount(eq(testAccountNumber), eq(TransactionType.WITHDRAW), any(LocalDate.class));
+            inOrder.verify(dailyUsageService).addUsedAmount(eq(testAccountNumber), eq(TransactionType.WITHDRAW), any(LocalDate.class), eq(withdrawAmount));
         }
 
         /**
@@ -438,6 +587,7 @@ class AccountServiceTest {
             expectWithdrawException(testAccountNumber, withdrawAmount, ErrorCode.EXCEEDS_WITHDRAW_LIMIT);
             verify(accountRepository, never()).save(any());
             verify(transactionRepository, never()).save(any());
+            verify(dailyUsageService, never()).addUsedAmount(anyString(), any(), any(), any());
         }
 
         /**
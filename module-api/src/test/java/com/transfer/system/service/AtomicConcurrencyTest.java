@@ -0,0 +1,220 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "concurrency.transfer-mode=ATOMIC",
+    "concurrency.deposit-mode=ATOMIC",
+    "concurrency.withdraw-mode=ATOMIC"
+})
+class AtomicConcurrencyTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    private String createAccount() {
+        return accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build()).getAccountNumber();
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getBalance).orElseThrow();
+    }
+
+    /**
+     * 스레드마다 같은 작업을 정해진 횟수만큼 동시에 실행
+     */
+    private void runConcurrently(Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    operation.run();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * 한 계좌에 동시 입금해도 모두 반영되고 응답 잔액은 입금마다 서로 다른 갱신 직후 잔액
+     */
+    @Test
+    void deposit_concurrentlyToHotAccount_appliesAll() throws Exception {
+        String accountNumber = createAccount();
+
+        Set<BigDecimal> responseBalances = ConcurrentHashMap.newKeySet();
+        runConcurrently(() -> responseBalances.add(accountService.deposit(accountNumber, new BigDecimal("100")).getBalance().stripTrailingZeros()));
+
+        int depositCount = THREAD_COUNT * OPERATIONS_PER_THREAD;
+        assertEquals(0, new BigDecimal(100 * depositCount).compareTo(balanceOf(accountNumber)));
+        assertEquals(depositCount, responseBalances.size());
+    }
+
+    /**
+     * 양방향 동시 이체에서도 교착 없이 잔액 합계 보존 (이체 1건당 수수료 1원 감소)
+     */
+    @Test
+    void transfer_concurrentlyBothDirections_preservesTotal() throws Exception {
+        List<String> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String accountNumber = createAccount();
+            accountService.deposit(accountNumber, new BigDecimal("1000000"));
+            accountNumbers.add(accountNumber);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int offset = t;
+            int step = t % 2 == 0 ? 1 : 3; // 절반은 반대 방향으로 이체
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    transactionService.transfer(TransactionRequestDTO.builder()
+                        .fromAccountNumber(accountNumbers.get((offset + i) % 4))
+                        .toAccountNumber(accountNumbers.get((offset + i + step) % 4))
+                        .amount(new BigDecimal("100"))
+                        .build());
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (String accountNumber : accountNumbers) {
+            total = total.add(balanceOf(accountNumber));
+        }
+        BigDecimal expected = new BigDecimal("4000000").subtract(new BigDecimal(THREAD_COUNT * OPERATIONS_PER_THREAD));
+        assertEquals(0, expected.compareTo(total));
+    }
+
+    /**
+     * 동시 출금은 잔액이 허용하는 건수만 성공하고 나머지는 잔액 부족 (잔액이 음수가 되지 않음)
+     */
+    @Test
+    void withdraw_concurrently_neverOverdraws() throws Exception {
+        String accountNumber = createAccount();
+        accountService.deposit(accountNumber, new BigDecimal("10000"));
+
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                accountService.withdraw(accountNumber, new BigDecimal("100"));
+                successCount.incrementAndGet();
+            } catch (TransferSystemException e) {
+                assertEquals(ErrorCode.INSUFFICIENT_BALANCE, e.getErrorCode());
+            }
+        });
+
+        assertEquals(100, successCount.get());
+        assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(accountNumber)));
+    }
+
+    /**
+     * 잠금 조회 없이도 동시 출금의 일일 한도 확인이 직렬화되어 한도(1,000,000원)를 넘지 않음
+     */
+    @Test
+    void withdraw_concurrently_respectsDailyLimit() throws Exception {
+        String accountNumber = createAccount();
+        accountService.deposit(accountNumber, new BigDecimal("100000000"));
+
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                accountService.withdraw(accountNumber, new BigDecimal("100000"));
+                successCount.incrementAndGet();
+            } catch (TransferSystemException e) {
+                assertEquals(ErrorCode.EXCEEDS_WITHDRAW_LIMIT, e.getErrorCode());
+            }
+        });
+
+        assertEquals(10, successCount.get());
+        assertEquals(0, new BigDecimal("99000000").compareTo(balanceOf(accountNumber)));
+    }
+
+    /**
+     * 잔액 부족으로 실패한 이체는 먼저 반영한 수신 금액도 롤백
+     */
+    @Test
+    void transfer_insufficientBalance_rollsBackCredit() {
+        String first = createAccount();
+        String second = createAccount();
+        String sender = first.compareTo(second) > 0 ? first : second; // 수신 계좌를 먼저 갱신하는 순서
+        String receiver = sender.equals(first) ? second : first;
+        accountService.deposit(sender, new BigDecimal("1000"));
+
+        TransferSystemException exception = assertThrows(TransferSystemException.class,
+            () -> transactionService.transfer(TransactionRequestDTO.builder()
+                .fromAccountNumber(sender)
+                .toAccountNumber(receiver)
+                .amount(new BigDecimal("1000"))
+                .build()));
+
+        assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+        assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(receiver)));
+        assertEquals(0, new BigDecimal("1000").compareTo(balanceOf(sender)));
+    }
+
+    /**
+     * 통화 소수점 자리수를 넘는 입금은 반올림하지 않고 UPDATE 전에 거부
+     */
+    @Test
+    void deposit_exceedingCurrencyScale_rejectedBeforeUpdate() {
+        String accountNumber = createAccount();
+
+        TransferSystemException exception = assertThrows(TransferSystemException.class,
+            () -> accountService.deposit(accountNumber, new BigDecimal("100.005")));
+
+        assertEquals(ErrorCode.INVALID_AMOUNT, exception.getErrorCode());
+        assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(accountNumber)));
+    }
+}
@@ -0,0 +1,197 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.dto.AccountBalanceAsOfResponseDTO;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.AccountCachePolicy;
+import com.transfer.system.policy.BalanceSnapshotPolicy;
+import com.transfer.system.repository.BalanceSnapshotJdbcRepository;
+import com.transfer.system.repository.BalanceSnapshotRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({BalanceSnapshotService.class, BalanceSnapshotJdbcRepository.class, BalanceSnapshotPolicy.class, AccountCache.class, AccountCachePolicy.class})
+class BalanceSnapshotServiceTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @Autowired
+    private BalanceSnapshotJdbcRepository balanceSnapshotJdbcRepository;
+
+    private static final AtomicInteger ACCOUNT_SEQUENCE = new AtomicInteger();
+
+    // 테스트마다 다른 계좌 번호 사용 (롤백된 이전 테스트의 계좌 번호가 공유 캐시, DB 상태에 영향을 주지 않도록)
+    private final String testAccountNumber = nextAccountNumber();
+    private final String testOtherAccountNumber = nextAccountNumber();
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 8, 8, 12, 0, 0);
+
+    private AccountEntity account;
+    private AccountEntity otherAccount;
+    private TransactionEntity firstWindowLast;
+
+    // ==================== 테스트 유틸 ====================
+
+    private static String nextAccountNumber() {
+        return String.format("0012508%07d", ACCOUNT_SEQUENCE.incrementAndGet());
+    }
+
+    /**
+     * 테스트용 계좌 생성 및 저장
+     */
+    private AccountEntity testAccountEntity(String accountNumber) {
+        return testEntityManager.persistAndFlush(AccountEntity.builder()
+            .accountNumber(accountNumber)
+            .accountName("mxxikr")
+            .bankName("mxxikrBank")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .balance(BigDecimal.ZERO)
+            .accountStatus(AccountStatus.ACTIVE)
+            .createdTimeStamp(baseTime.minusDays(1))
+            .build());
+    }
+
+    /**
+     * 테스트용 거래 생성 및 저장
+     */
+    private TransactionEntity testTransactionEntity(AccountEntity fromAccount, AccountEntity toAccount, TransactionType transactionType, String amount, String fee, LocalDateTime when) {
+        return testEntityManager.persistAndFlush(TransactionEntity.builder()
+            .fromAccount(fromAccount)
+            .toAccount(toAccount)
+            .transactionType(transactionType)
+            .amount(new BigDecimal(amount))
+            .fee(new BigDecimal(fee))
+            .createdTimeStamp(when)
+            .build());
+    }
+
+    /**
+     * 입금 100000 → 이체 10000(수수료 100) → 스냅샷(+3h) → 출금 5000 → 역방향 이체 2000(수수료 20) → 스냅샷(+6h)
+     */
+    @BeforeEach
+    void setUp() {
+        account = testAccountEntity(testAccountNumber);
+        otherAccount = testAccountEntity(testOtherAccountNumber);
+
+        testTransactionEntity(null, account, TransactionType.DEPOSIT, "100000", "0", baseTime.plusHours(1));
+        firstWindowLast = testTransactionEntity(account, otherAccount, TransactionType.TRANSFER, "10000", "100", baseTime.plusHours(2));
+        assertThat(balanceSnapshotService.takeSnapshot(baseTime.plusHours(3))).isEqualTo(2);
+
+        testTransactionEntity(account, null, TransactionType.WITHDRAW, "5000", "0", baseTime.plusHours(4));
+        testTransactionEntity(otherAccount, account, TransactionType.TRANSFER, "2000", "20", baseTime.plusHours(5));
+        assertThat(balanceSnapshotService.takeSnapshot(baseTime.plusHours(6))).isEqualTo(2);
+    }
+
+    // ==================== 스냅샷 생성 테스트 ====================
+    @Nested
+    class TakeSnapshotTest {
+
+        /**
+         * 직전 스냅샷 잔액에 구간 거래 증감을 더해 저장하고 마지막 거래 ID 기록
+         */
+        @Test
+        void takeSnapshot_foldsWindowIntoPreviousBalance() {
+            BalanceSnapshotRecord first = balanceSnapshotJdbcRepository.findLatest(account.getAccountId(), baseTime.plusHours(3)).orElseThrow();
+            BalanceSnapshotRecord second = balanceSnapshotJdbcRepository.findLatest(account.getAccountId(), baseTime.plusHours(6)).orElseThrow();
+            BalanceSnapshotRecord other = balanceSnapshotJdbcRepository.findLatest(otherAccount.getAccountId(), baseTime.plusHours(6)).orElseThrow();
+
+            assertThat(first.balance()).isEqualByComparingTo("89900");
+            assertThat(first.lastTransactionId()).isEqualTo(firstWindowLast.getTransactionId());
+            assertThat(second.snapshotTimeStamp()).isEqualTo(baseTime.plusHours(6));
+            assertThat(second.balance()).isEqualByComparingTo("86900");
+            assertThat(other.balance()).isEqualByComparingTo("7980");
+        }
+
+        /**
+         * 구간에 거래가 있는 계좌만 스냅샷 생성, 직전 기준 시간 이전 시각은 생성하지 않음
+         */
+        @Test
+        void takeSnapshot_onlyChangedAccounts() {
+            testTransactionEntity(null, otherAccount, TransactionType.DEPOSIT, "1000", "0", baseTime.plusHours(7));
+
+            assertThat(balanceSnapshotService.takeSnapshot(baseTime.plusHours(6))).isZero();
+            assertThat(balanceSnapshotService.takeSnapshot(baseTime.plusHours(8))).isEqualTo(1);
+
+            assertThat(balanceSnapshotJdbcRepository.findLatest(otherAccount.getAccountId(), baseTime.plusHours(8)).orElseThrow().balance())
+                .isEqualByComparingTo("8980");
+            assertThat(balanceSnapshotJdbcRepository.findLatest(account.getAccountId(), baseTime.plusHours(8)).orElseThrow().snapshotTimeStamp())
+                .isEqualTo(baseTime.plusHours(6));
+        }
+    }
+
+    // ==================== 시점 잔액 조회 테스트 ====================
+    @Nested
+    class BalanceAsOfTest {
+
+        /**
+         * 가장 가까운 이전 스냅샷 이후 거래만 합산
+         */
+        @Test
+        void getBalanceAsOf_foldsAfterNearestSnapshot() {
+            AccountBalanceAsOfResponseDTO response = balanceSnapshotService.getBalanceAsOf(testAccountNumber, baseTime.plusHours(4).plusMinutes(30));
+
+            assertThat(response.getBalance()).isEqualByComparingTo("84900");
+            assertThat(response.getSnapshotTimeStamp()).isEqualTo(baseTime.plusHours(3));
+            assertThat(response.getFoldedTransactionCount()).isEqualTo(1);
+        }
+
+        /**
+         * 스냅샷 시각과 같거나 이후 거래가 없는 시점은 스냅샷 잔액 그대로 반환
+         */
+        @Test
+        void getBalanceAsOf_atSnapshot() {
+            AccountBalanceAsOfResponseDTO response = balanceSnapshotService.getBalanceAsOf(testOtherAccountNumber, baseTime.plusDays(1));
+
+            assertThat(response.getBalance()).isEqualByComparingTo("7980");
+            assertThat(response.getSnapshotTimeStamp()).isEqualTo(baseTime.plusHours(6));
+            assertThat(response.getFoldedTransactionCount()).isZero();
+        }
+
+        /**
+         * 첫 스냅샷 이전 시점은 처음부터 합산
+         */
+        @Test
+        void getBalanceAsOf_beforeFirstSnapshot() {
+            AccountBalanceAsOfResponseDTO response = balanceSnapshotService.getBalanceAsOf(testAccountNumber, baseTime.plusHours(2));
+
+            assertThat(response.getBalance()).isEqualByComparingTo("89900");
+            assertThat(response.getSnapshotTimeStamp()).isNull();
+            assertThat(response.getFoldedTransactionCount()).isEqualTo(2);
+        }
+
+        /**
+         * 계좌 생성 전 시점 조회 시 실패
+         */
+        @Test
+        void getBalanceAsOf_beforeAccountCreated() {
+            assertThatThrownBy(() -> balanceSnapshotService.getBalanceAsOf(testAccountNumber, baseTime.minusDays(2)))
+                .isInstanceOf(TransferSystemException.class)
+                .extracting(e -> ((TransferSystemException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransferBatchStatsDTO;
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.ConcurrencyPolicy;
+import com.transfer.system.policy.TransferBatchPolicy;
+import com.transfer.system.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingTransactionServiceTest {
+
+    @Mock
+    private TransactionServiceImpl transactionServiceImpl;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Savepoint savepoint;
+
+    private BatchingTransactionService batchingTransactionService;
+
+    private static final int MAX_SIZE = 3;
+
+    @BeforeEach
+    void setUp() {
+        startService(ConcurrencyMode.PESSIMISTIC);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batchingTransactionService.stop();
+    }
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 이체 동시성 제어 방식을 지정해 그룹 커밋 서비스 시작
+     */
+    private void startService(ConcurrencyMode mode) {
+        // 최대 대기 시간을 길게 두어 MAX_SIZE 단위로 배치가 만들어지도록 설정
+        TransferBatchPolicy transferBatchPolicy = new TransferBatchPolicy(MAX_SIZE, 2_000, 100);
+        ConcurrencyExecutor concurrencyExecutor = new ConcurrencyExecutor(transactionManager,
+            new ConcurrencyPolicy(mode, mode, mode, 3, 0, 0), new ServiceMetrics(new SimpleMeterRegistry()));
+        batchingTransactionService = new BatchingTransactionService(transactionServiceImpl, concurrencyExecutor, transferBatchPolicy, entityManager, accountRepository);
+        batchingTransactionService.start();
+    }
+
+    /**
+     * 이체 요청 생성
+     */
+    private TransactionRequestDTO request(String fromAccountNumber, String amount) {
+        return TransactionRequestDTO.builder()
+            .fromAccountNumber(fromAccountNumber)
+            .toAccountNumber("00125080800099")
+            .amount(new BigDecimal(amount))
+            .build();
+    }
+
+    /**
+     * 이체 응답 생성
+     */
+    private TransactionResponseDTO response(TransactionRequestDTO request) {
+        return TransactionResponseDTO.builder()
+            .transactionId(UUID.randomUUID())
+            .fromAccountNumber(request.getFromAccountNumber())
+            .toAccountNumber(request.getToAccountNumber())
+            .amount(request.getAmount())
+            .build();
+    }
+
+    /**
+     * 여러 요청을 동시에 제출하고 결과 수집
+     */
+    private List<Future<TransactionResponseDTO>> submitAll(List<TransactionRequestDTO> requests) {
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+        try {
+            List<Future<TransactionResponseDTO>> futures = new ArrayList<>();
+            for (TransactionRequestDTO request : requests) {
+                futures.add(executor.submit(() -> batchingTransactionService.transfer(request)));
+            }
+            return futures;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // ========================= 배치 커밋 테스트 =========================
+    @Nested
+    class BatchCommitTest {
+
+        /**
+         * 동시에 들어온 요청을 하나의 트랜잭션으로 커밋
+         */
+        @Test
+        void transfer_batchedIntoOneTransaction() throws Exception {
+            List<TransactionRequestDTO> requests = List.of(request("00125080800001", "1000"), request("00125080800002", "2000"), request("00125080800003", "3000"));
+            when(transactionServiceImpl.executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.PESSIMISTIC))).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+            List<Future<TransactionResponseDTO>> futures = submitAll(requests);
+
+            for (int i = 0; i < requests.size(); i++) {
+                TransactionResponseDTO result = futures.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(requests.get(i).getFromAccountNumber(), result.getFromAccountNumber());
+            }
+
+            verify(transactionManager, times(1)).getTransaction(any(TransactionDefinition.class));
+            verify(transactionManager, times(1)).commit(any());
+
+            TransferBatchStatsDTO stats = batchingTransactionService.getStats();
+            assertEquals(1, stats.getBatchCount());
+            assertEquals(3, stats.getTransferCount());
+            assertEquals(3, stats.getMaxBatchSize());
+        }
+
+        /**
+         * 요청 처리 전에 배치의 모든 계좌를 계좌 번호 순서로 한 번에 잠금
+         */
+        @Test
+        void transfer_locksAllAccountsInOrderFirst() throws Exception {
+            List<TransactionRequestDTO> requests = List.of(request("00125080800003", "1000"), request("00125080800001", "2000"), request("00125080800002", "3000"));
+            when(transactionServiceImpl.executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.PESSIMISTIC))).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+            List<Future<TransactionResponseDTO>> futures = submitAll(requests);
+
+            for (Future<TransactionResponseDTO> future : futures) {
+                assertNotNull(future.get(5, TimeUnit.SECONDS));
+            }
+
+            InOrder inOrder = inOrder(accountRepository, transactionServiceImpl);
+            inOrder.verify(accountRepository).findAllByAccountNumberInLock(argThat(accountNumbers -> List.copyOf(accountNumbers).equals(
+                List.of("00125080800001", "00125080800002", "00125080800003", "00125080800099"))));
+            inOrder.verify(transactionServiceImpl, times(3)).executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.PESSIMISTIC));
+        }
+
+        /**
+         * 업무 오류가 난 요청만 실패하고 나머지는 같은 배치로 커밋
+         */
+        @Test
+        void transfer_failureIsolated() throws Exception {
+            List<TransactionRequestDTO> requests = List.of(request("00125080800001", "1000"), request("00125080800002", "2000"), request("00125080800003", "3000"));
+            when(transactionServiceImpl.executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.PESSIMISTIC))).thenAnswer(invocation -> {
+                TransactionRequestDTO request = invocation.getArgument(0);
+                if (request.getFromAccountNumber().equals("00125080800002")) {
+                    throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+                }
+                return response(request);
+            });
+
+            List<Future<TransactionResponseDTO>> futures = submitAll(requests);
+
+            assertNotNull(futures.get(0).get(5, TimeUnit.SECONDS));
+            assertNotNull(futures.get(2).get(5, TimeUnit.SECONDS));
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> futures.get(1).get(5, TimeUnit.SECONDS));
+            TransferSystemException cause = assertInstanceOf(TransferSystemException.class, exception.getCause());
+            assertEquals(ErrorCode.INSUFFICIENT_BALANCE, cause.getErrorCode());
+
+            verify(transactionManager, times(1)).commit(any());
+            verify(transactionManager, never()).rollback(any());
+        }
+
+        /**
+         * 배치 트랜잭션 자체가 실패하면 요청별 개별 트랜잭션으로 재처리
+         */
+        @Test
+        void transfer_fallbackToIndividual() throws Exception {
+            List<TransactionRequestDTO> requests = List.of(request("00125080800001", "1000"), request("00125080800002", "2000"), request("00125080800003", "3000"));
+            when(transactionServiceImpl.executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.PESSIMISTIC))).thenThrow(new CannotAcquireLockException("lock timeout"));
+            when(transactionServiceImpl.transfer(any(TransactionRequestDTO.class))).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+            List<Future<TransactionResponseDTO>> futures = submitAll(requests);
+
+            for (Future<TransactionResponseDTO> future : futures) {
+                assertNotNull(future.get(5, TimeUnit.SECONDS));
+            }
+
+            verify(transactionServiceImpl, times(3)).transfer(any(TransactionRequestDTO.class));
+            assertEquals(1, batchingTransactionService.getStats().getFallbackBatchCount());
+            assertEquals(0, batchingTransactionService.getStats().getBatchCount());
+        }
+
+        /**
+         * 설정된 이체 동시성 제어 방식으로 배치 내부 이체 처리
+         */
+        @Test
+        void transfer_usesConfiguredMode() throws Exception {
+            batchingTransactionService.stop();
+            startService(ConcurrencyMode.OPTIMISTIC);
+
+            List<TransactionRequestDTO> requests = List.of(request("00125080800001", "1000"), request("00125080800002", "2000"), request("00125080800003", "3000"));
+            when(transactionServiceImpl.executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.OPTIMISTIC))).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+            List<Future<TransactionResponseDTO>> futures = submitAll(requests);
+
+            for (Future<TransactionResponseDTO> future : futures) {
+                assertNotNull(future.get(5, TimeUnit.SECONDS));
+            }
+
+            verify(transactionServiceImpl, times(3)).executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.OPTIMISTIC));
+            verify(transactionServiceImpl, never()).executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.PESSIMISTIC));
+            verify(transactionManager, times(1)).commit(any());
+        }
+
+        /**
+         * 원자적 갱신 방식은 요청마다 세이브포인트를 두어 실패한 요청만 되돌리고 나머지는 같은 배치로 커밋
+         */
+        @Test
+        void transfer_atomicFailureRollsBackToSavepoint() throws Exception {
+            batchingTransactionService.stop();
+            startService(ConcurrencyMode.ATOMIC);
+
+            // 세이브포인트 작업은 모의 JDBC 연결에서 실행
+            when(entityManager.unwrap(Session.class)).thenReturn(session);
+            when(connection.setSavepoint()).thenReturn(savepoint);
+            when(session.doReturningWork(any())).thenAnswer(invocation -> invocation.<ReturningWork<?>>getArgument(0).execute(connection));
+            doAnswer(invocation -> {
+                invocation.<Work>getArgument(0).execute(connection);
+                return null;
+            }).when(session).doWork(any());
+
+            List<TransactionRequestDTO> requests = List.of(request("00125080800001", "1000"), request("00125080800002", "2000"), request("00125080800003", "3000"));
+            when(transactionServiceImpl.executeTransfer(any(TransactionRequestDTO.class), eq(ConcurrencyMode.ATOMIC))).thenAnswer(invocation -> {
+                TransactionRequestDTO request = invocation.getArgument(0);
+                if (request.getFromAccountNumber().equals("00125080800002")) {
+                    throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+                }
+                return response(request);
+            });
+
+            List<Future<TransactionResponseDTO>> futures = submitAll(requests);
+
+            assertNotNull(futures.get(0).get(5, TimeUnit.SECONDS));
+            assertNotNull(futures.get(2).get(5, TimeUnit.SECONDS));
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> futures.get(1).get(5, TimeUnit.SECONDS));
+            assertEquals(ErrorCode.INSUFFICIENT_BALANCE, assertInstanceOf(TransferSystemException.class, exception.getCause()).getErrorCode());
+
+            // 배치 트랜잭션 하나로 커밋하고 실패한 요청만 세이브포인트까지 롤백
+            verify(transactionManager, times(1)).commit(any());
+            verify(transactionManager, never()).rollback(any());
+            verify(connection, times(3)).setSavepoint();
+            verify(connection, times(2)).releaseSavepoint(savepoint);
+            verify(connection, times(1)).rollback(savepoint);
+            verify(entityManager, times(1)).clear();
+
+            verify(transactionServiceImpl, never()).transfer(any(TransactionRequestDTO.class));
+            TransferBatchStatsDTO stats = batchingTransactionService.getStats();
+            assertEquals(0, stats.getFallbackBatchCount());
+            assertEquals(1, stats.getBatchCount());
+            assertEquals(3, stats.getTransferCount());
+        }
+    }
+
+    // ========================= 대기열 테스트 =========================
+    @Nested
+    class QueueTest {
+
+        /**
+         * 종료 후 요청은 거절
+         */
+        @Test
+        void transfer_rejectedAfterStop() throws InterruptedException {
+            batchingTransactionService.stop();
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> batchingTransactionService.transfer(request("00125080800001", "1000")));
+            assertEquals(ErrorCode.TRANSFER_QUEUE_FULL, exception.getErrorCode());
+        }
+    }
+}
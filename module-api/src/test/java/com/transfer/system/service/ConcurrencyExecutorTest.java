@@ -0,0 +1,180 @@
+package com.transfer.system.service;
+
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.ConcurrencyPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 모든 거래 유형에 같은 방식을 적용한 실행기
+     */
+    private ConcurrencyExecutor executor(ConcurrencyMode mode) {
+        return new ConcurrencyExecutor(transactionManager, new ConcurrencyPolicy(mode, mode, mode, MAX_ATTEMPTS, 0, 0), new ServiceMetrics(meterRegistry));
+    }
+
+    /**
+     * 커밋 단계 기록 횟수
+     */
+    private long commitCount(TransactionType type) {
+        return meterRegistry.get(ServiceMetrics.STEP_TIMER)
+            .tag("operation", type.name().toLowerCase())
+            .tag("step", ServiceMetrics.Step.COMMIT.getLabel())
+            .timer()
+            .count();
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("AccountEntity", "id");
+    }
+
+    // ========================= 낙관적 락 테스트 =========================
+    @Nested
+    class OptimisticTest {
+
+        /**
+         * 버전 충돌 시 새 트랜잭션으로 재시도 후 성공
+         */
+        @Test
+        void execute_retriesOnConflict() {
+            ConcurrencyExecutor executor = executor(ConcurrencyMode.OPTIMISTIC);
+            AtomicInteger attempts = new AtomicInteger();
+
+            String result = executor.execute(TransactionType.TRANSFER, mode -> {
+                if (attempts.incrementAndGet() < MAX_ATTEMPTS) {
+                    throw conflict();
+                }
+                return mode.name();
+            });
+
+            assertEquals("OPTIMISTIC", result);
+            assertEquals(MAX_ATTEMPTS, attempts.get());
+            assertEquals(MAX_ATTEMPTS - 1, executor.getRetryCount());
+            verify(transactionManager, times(MAX_ATTEMPTS)).getTransaction(any());
+            verify(transactionManager, times(MAX_ATTEMPTS - 1)).rollback(any());
+        }
+
+        /**
+         * 재시도 횟수 소진 시 CONCURRENT_UPDATE_CONFLICT
+         */
+        @Test
+        void execute_throwsConflict_whenAttemptsExhausted() {
+            ConcurrencyExecutor executor = executor(ConcurrencyMode.OPTIMISTIC);
+            AtomicInteger attempts = new AtomicInteger();
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> executor.execute(TransactionType.WITHDRAW, mode -> {
+                    attempts.incrementAndGet();
+                    throw conflict();
+                }));
+
+            assertEquals(ErrorCode.CONCURRENT_UPDATE_CONFLICT, exception.getErrorCode());
+            assertEquals(MAX_ATTEMPTS, attempts.get());
+            assertEquals(1, executor.getExhaustedCount());
+        }
+
+        /**
+         * 업무 오류는 재시도하지 않음
+         */
+        @Test
+        void execute_doesNotRetryBusinessError() {
+            ConcurrencyExecutor executor = executor(ConcurrencyMode.OPTIMISTIC);
+            AtomicInteger attempts = new AtomicInteger();
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> executor.execute(TransactionType.WITHDRAW, mode -> {
+                    attempts.incrementAndGet();
+                    throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+                }));
+
+            assertEquals(ErrorCode.INSUFFICIENT_BALANCE, exception.getErrorCode());
+            assertEquals(1, attempts.get());
+        }
+    }
+
+    // ========================= 비관적 락 테스트 =========================
+    @Nested
+    class PessimisticTest {
+
+        /**
+         * 비관적 락은 한 번만 실행
+         */
+        @Test
+        void execute_runsOnce() {
+            ConcurrencyExecutor executor = executor(ConcurrencyMode.PESSIMISTIC);
+            AtomicInteger attempts = new AtomicInteger();
+
+            assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> executor.execute(TransactionType.DEPOSIT, mode -> {
+                    attempts.incrementAndGet();
+                    throw conflict();
+                }));
+
+            assertEquals(1, attempts.get());
+            assertEquals(0, executor.getRetryCount());
+        }
+
+        /**
+         * 연결 풀에서 DB 연결을 얻지 못하면 DATABASE_BUSY
+         */
+        @Test
+        void execute_connectionUnavailable() {
+            ConcurrencyExecutor executor = executor(ConcurrencyMode.PESSIMISTIC);
+            when(transactionManager.getTransaction(any())).thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> executor.execute(TransactionType.TRANSFER, mode -> mode));
+
+            assertEquals(ErrorCode.DATABASE_BUSY, exception.getErrorCode());
+            assertEquals(0, commitCount(TransactionType.TRANSFER));
+        }
+    }
+
+    // ========================= 메트릭 테스트 =========================
+    @Nested
+    class MetricsTest {
+
+        /**
+         * 처리가 끝난 트랜잭션만 커밋 시간 기록
+         */
+        @Test
+        void execute_recordsCommitOnlyAfterAction() {
+            ConcurrencyExecutor executor = executor(ConcurrencyMode.PESSIMISTIC);
+
+            executor.execute(TransactionType.DEPOSIT, mode -> "done");
+            assertThrows(TransferSystemException.class, () -> executor.execute(TransactionType.DEPOSIT, mode -> {
+                throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+            }));
+
+            assertEquals(1, commitCount(TransactionType.DEPOSIT));
+            assertEquals(0, commitCount(TransactionType.TRANSFER));
+        }
+    }
+}
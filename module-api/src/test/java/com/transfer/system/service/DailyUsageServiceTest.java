@@ -0,0 +1,166 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.DailyUsageEntity;
+import com.transfer.system.domain.DailyUsageId;
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.dto.DailyUsageMismatchDTO;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.utils.TimeUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(DailyUsageService.class)
+class DailyUsageServiceTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DailyUsageService dailyUsageService;
+
+    private static final String testFromAccountNumber = "00125080800001";
+    private static final String testToAccountNumber = "00125080800002";
+
+    // ==================== 테스트 유틸 ====================
+
+    /**
+     * 테스트용 계좌 생성 및 저장
+     */
+    private AccountEntity testAccountEntity(String accountNumber, BigDecimal balance) {
+        AccountEntity accountEntity = AccountEntity.builder()
+            .accountNumber(accountNumber)
+            .accountName("mxxikr")
+            .bankName("mxxikrBank")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .balance(balance)
+            .accountStatus(AccountStatus.ACTIVE)
+            .createdTimeStamp(TimeUtils.nowKstLocalDateTime())
+            .build();
+        return testEntityManager.persistAndFlush(accountEntity);
+    }
+
+    /**
+     * 테스트용 거래 생성 및 저장
+     */
+    private void testTransactionEntity(AccountEntity fromAccount, AccountEntity toAccount, TransactionType transactionType, BigDecimal amount) {
+        testEntityManager.persistAndFlush(TransactionEntity.builder()
+            .fromAccount(fromAccount)
+            .toAccount(toAccount)
+            .transactionType(transactionType)
+            .amount(amount)
+            .fee(BigDecimal.ZERO)
+            .createdTimeStamp(TimeUtils.nowKstLocalDateTime())
+            .build());
+    }
+
+    // ==================== 누적 사용량 테스트 ====================
+    @Nested
+    class UsedAmountTest {
+
+        /**
+         * 사용 내역이 없는 경우
+         */
+        @Test
+        void getUsedAmount_whenEmpty() {
+            BigDecimal used = dailyUsageService.getUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, TimeUtils.nowKstLocalDate());
+
+            assertThat(used).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        /**
+         * 사용 금액 누적
+         */
+        @Test
+        void addUsedAmount_accumulates() {
+            LocalDate today = TimeUtils.nowKstLocalDate();
+
+            dailyUsageService.addUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, today, new BigDecimal("10000"));
+            dailyUsageService.addUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, today, new BigDecimal("2500"));
+            dailyUsageService.addUsedAmount(testFromAccountNumber, TransactionType.WITHDRAW, today, new BigDecimal("700"));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            assertThat(dailyUsageService.getUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, today)).isEqualByComparingTo("12500");
+            assertThat(dailyUsageService.getUsedAmount(testFromAccountNumber, TransactionType.WITHDRAW, today)).isEqualByComparingTo("700");
+            assertThat(dailyUsageService.getUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, today.minusDays(1))).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+    }
+
+    // ==================== 재계산, 검증 테스트 ====================
+    @Nested
+    class RebuildAndVerifyTest {
+
+        /**
+         * 거래 내역 기준 재계산
+         */
+        @Test
+        void rebuild_fromTransactions() {
+            LocalDate today = TimeUtils.nowKstLocalDate();
+            AccountEntity fromAccount = testAccountEntity(testFromAccountNumber, new BigDecimal("500000"));
+            AccountEntity toAccount = testAccountEntity(testToAccountNumber, new BigDecimal("50000"));
+
+            testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("10000"));
+            testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("20000"));
+            testTransactionEntity(fromAccount, null, TransactionType.WITHDRAW, new BigDecimal("5000"));
+            testTransactionEntity(null, toAccount, TransactionType.DEPOSIT, new BigDecimal("9999"));
+
+            // 잘못 누적된 값은 덮어씀
+            testEntityManager.persistAndFlush(DailyUsageEntity.builder()
+                .accountNumber(testToAccountNumber)
+                .usageDate(today)
+                .transactionType(TransactionType.TRANSFER)
+                .usedAmount(new BigDecimal("777"))
+                .build());
+
+            int rebuilt = dailyUsageService.rebuild(today);
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            assertThat(rebuilt).isEqualTo(2);
+            assertThat(dailyUsageService.getUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, today)).isEqualByComparingTo("30000");
+            assertThat(dailyUsageService.getUsedAmount(testFromAccountNumber, TransactionType.WITHDRAW, today)).isEqualByComparingTo("5000");
+            assertThat(dailyUsageService.getUsedAmount(testToAccountNumber, TransactionType.TRANSFER, today)).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(dailyUsageService.verify(today)).isEmpty();
+        }
+
+        /**
+         * 누적 값과 거래 내역이 다른 경우 검증 실패 항목 반환
+         */
+        @Test
+        void verify_detectsMismatch() {
+            LocalDate today = TimeUtils.nowKstLocalDate();
+            AccountEntity fromAccount = testAccountEntity(testFromAccountNumber, new BigDecimal("500000"));
+            AccountEntity toAccount = testAccountEntity(testToAccountNumber, new BigDecimal("50000"));
+
+            testTransactionEntity(fromAccount, toAccount, TransactionType.TRANSFER, new BigDecimal("10000"));
+            dailyUsageService.addUsedAmount(testFromAccountNumber, TransactionType.TRANSFER, today, new BigDecimal("4000"));
+            testEntityManager.flush();
+
+            List<DailyUsageMismatchDTO> mismatches = dailyUsageService.verify(today);
+
+            assertThat(mismatches).hasSize(1);
+            assertThat(mismatches.get(0).getAccountNumber()).isEqualTo(testFromAccountNumber);
+            assertThat(mismatches.get(0).getCounterAmount()).isEqualByComparingTo("4000");
+            assertThat(mismatches.get(0).getActualAmount()).isEqualByComparingTo("10000");
+
+            DailyUsageEntity counter = testEntityManager.find(DailyUsageEntity.class, new DailyUsageId(testFromAccountNumber, today, TransactionType.TRANSFER));
+            assertThat(counter.getUsedAmount()).isEqualByComparingTo("4000");
+        }
+    }
+}
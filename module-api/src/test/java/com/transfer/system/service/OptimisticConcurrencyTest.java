@@ -0,0 +1,104 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "concurrency.transfer-mode=OPTIMISTIC",
+    "concurrency.deposit-mode=OPTIMISTIC",
+    "concurrency.withdraw-mode=OPTIMISTIC",
+    "concurrency.optimistic.max-attempts=20"
+})
+class OptimisticConcurrencyTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TRANSFERS_PER_THREAD = 50;
+
+    /**
+     * 낙관적 락 모드에서 적은 계좌에 동시 이체해도 잔액 합계 보존 (실패는 재시도 소진으로만 발생)
+     */
+    @Test
+    void transfer_concurrently_preservesTotal() throws Exception {
+        List<String> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String accountNumber = accountService.createAccount(AccountCreateRequestDTO.builder()
+                .accountName("mxxikr")
+                .accountType(AccountType.PERSONAL)
+                .currencyType(CurrencyType.KRW)
+                .build()).getAccountNumber();
+            accountService.deposit(accountNumber, new BigDecimal("1000000"));
+            accountNumbers.add(accountNumber);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    TransactionRequestDTO request = TransactionRequestDTO.builder()
+                        .fromAccountNumber(accountNumbers.get((offset + i) % 4))
+                        .toAccountNumber(accountNumbers.get((offset + i + 1) % 4))
+                        .amount(new BigDecimal("100"))
+                        .build();
+                    try {
+                        transactionService.transfer(request);
+                        successCount.incrementAndGet();
+                    } catch (TransferSystemException e) {
+                        assertEquals(ErrorCode.CONCURRENT_UPDATE_CONFLICT, e.getErrorCode());
+                        conflictCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (String accountNumber : accountNumbers) {
+            total = total.add(accountRepository.findByAccountNumber(accountNumber).map(AccountEntity::getBalance).orElseThrow());
+        }
+
+        // 이체 1건당 수수료 1원만큼 합계 감소
+        assertEquals(THREAD_COUNT * TRANSFERS_PER_THREAD, successCount.get() + conflictCount.get());
+        assertTrue(successCount.get() > 0);
+        assertEquals(0, new BigDecimal("4000000").subtract(new BigDecimal(successCount.get())).compareTo(total));
+    }
+}
@@ -0,0 +1,95 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.GlobalExceptionHandler;
+import com.transfer.system.exception.TransferSystemException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ServiceMetricsTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String createAccount(String balance) {
+        String accountNumber = accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build()).getAccountNumber();
+        BigDecimal amount = new BigDecimal(balance);
+        if (amount.signum() > 0) { // 0원 입금은 거절되므로 잔액이 없는 계좌는 입금 생략
+            accountService.deposit(accountNumber, amount);
+        }
+        return accountNumber;
+    }
+
+    private Timer timer(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).timer();
+    }
+
+    /**
+     * 기록 횟수 (아직 기록되지 않아 타이머가 없으면 0)
+     */
+    private long timerCount(String name, String... tags) {
+        Timer timer = meterRegistry.find(name).tags(tags).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    /**
+     * 이체 시 서비스 메서드 타이머와 단계별 타이머 기록
+     */
+    @Test
+    void transfer_recordsServiceAndStepTimers() {
+        String fromAccountNumber = createAccount("100000");
+        String toAccountNumber = createAccount("0");
+        long serviceCount = timerCount(ServiceMetrics.SERVICE_TIMER, "operation", "transfer");
+        long lockCount = timerCount(ServiceMetrics.STEP_TIMER, "operation", "transfer", "step", "lock");
+
+        transactionService.transfer(TransactionRequestDTO.builder()
+            .fromAccountNumber(fromAccountNumber)
+            .toAccountNumber(toAccountNumber)
+            .amount(new BigDecimal("1000"))
+            .build());
+
+        assertEquals(serviceCount + 1, timer(ServiceMetrics.SERVICE_TIMER, "operation", "transfer").count());
+        assertEquals(lockCount + 2, timer(ServiceMetrics.STEP_TIMER, "operation", "transfer", "step", "lock").count());
+        for (String step : new String[]{"daily_usage", "insert", "commit"}) {
+            assertTrue(timer(ServiceMetrics.STEP_TIMER, "operation", "transfer", "step", step).count() > 0, step);
+        }
+    }
+
+    /**
+     * 오류 응답 시 오류 코드별 카운터 증가
+     */
+    @Test
+    void errorResponse_incrementsErrorCounter() {
+        double before = meterRegistry.get(GlobalExceptionHandler.ERROR_COUNTER).tag("code", ErrorCode.INSUFFICIENT_BALANCE.name()).counter().count();
+
+        globalExceptionHandler.handleTransferException(new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE));
+
+        assertEquals(before + 1, meterRegistry.get(GlobalExceptionHandler.ERROR_COUNTER).tag("code", ErrorCode.INSUFFICIENT_BALANCE.name()).counter().count());
+    }
+}
@@ -0,0 +1,119 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.AccountResponseDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.TransactionOutboxJdbcRepository;
+import com.transfer.system.repository.TransactionOutboxRecord;
+import com.transfer.system.repository.TransactionRecord;
+import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.repository.TransactionView;
+import com.transfer.system.utils.TimeUtils;
+import com.transfer.system.utils.UuidV7;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "transaction.write.batch-size=3",
+    "outbox.relay.enabled=false"
+})
+class TransactionBatchWriterTest {
+
+    @Autowired
+    private TransactionBatchWriter transactionBatchWriter;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionOutboxJdbcRepository transactionOutboxJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private AccountResponseDTO account;
+
+    private static final int ROW_COUNT = 7; // batch-size(3)로 나누어떨어지지 않는 건수
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        account = accountService.createAccount(AccountCreateRequestDTO.builder()
+            .accountName("mxxikr")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .build());
+    }
+
+    // ========================== 공통 메서드 =========================
+
+    /**
+     * 계좌의 저장된 거래 ID (저장 순서)
+     */
+    private List<UUID> savedTransactionIds() {
+        AccountEntity accountEntity = accountRepository.findByAccountNumber(account.getAccountNumber()).orElseThrow();
+        return transactionRepository.findAllByAccount(accountEntity, PageRequest.of(0, 100)).stream()
+            .map(TransactionView::transactionId)
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * 계좌의 아웃박스 이벤트 거래 ID (기록 순서)
+     */
+    private List<UUID> outboxTransactionIds() {
+        return transactionOutboxJdbcRepository.findPending(10_000).stream()
+            .filter(event -> account.getAccountNumber().equals(event.toAccountNumber()))
+            .map(TransactionOutboxRecord::transactionId)
+            .toList();
+    }
+
+    // ========================= JDBC 저장 테스트 =========================
+    @Nested
+    class WriteAllTest {
+
+        /**
+         * batch-size 단위로 나눠 모든 거래와 이벤트를 요청 순서대로 저장
+         */
+        @Test
+        void writeAll_savesAllChunks() {
+            LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+            List<TransactionRecord> records = new ArrayList<>();
+            for (int i = 0; i < ROW_COUNT; i++) {
+                records.add(new TransactionRecord(UuidV7.next(), null, null, account.getAccountId(), account.getAccountNumber(),
+                    TransactionType.DEPOSIT, new BigDecimal("100"), BigDecimal.ZERO, now));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> transactionBatchWriter.writeAll(records));
+
+            List<UUID> expected = records.stream().map(TransactionRecord::transactionId).toList();
+            assertEquals(expected, savedTransactionIds()); // UUIDv7은 발급 순서로 정렬됨
+            assertEquals(expected, outboxTransactionIds());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.transfer.system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionExportFormat;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.AccountCachePolicy;
+import com.transfer.system.policy.TransactionExportPolicy;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.TransactionJdbcRepository;
+import com.transfer.system.repository.TransactionView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    private TransactionExportService transactionExportService;
+    private AccountEntity accountEntity;
+
+    private final String testAccountNumber = "00125080800001";
+    private final String testToAccountNumber = "00125080800002";
+    private final UUID firstTransactionId = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+    private final UUID secondTransactionId = UUID.fromString("01890a5d-ac97-7f3a-9bd0-1c2d3e4f5a6b");
+    private final LocalDateTime firstTime = LocalDateTime.of(2025, 8, 8, 9, 30);
+    private final LocalDateTime secondTime = LocalDateTime.of(2025, 8, 9, 14, 0, 5);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transactionExportService = new TransactionExportService(new AccountCache(accountRepository, new AccountCachePolicy(100, 60)), transactionJdbcRepository, new TransactionExportPolicy(2), objectMapper);
+
+        accountEntity = AccountEntity.builder()
+            .accountId(UUID.randomUUID())
+            .accountNumber(testAccountNumber)
+            .accountName("mxxikr")
+            .bankName("mxxikrBank")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .balance(new BigDecimal("100000"))
+            .accountStatus(AccountStatus.ACTIVE)
+            .build();
+    }
+
+    // ========================= 공통 메서드 =========================
+
+    /**
+     * 조회 결과로 입금 1건, 이체 1건을 전달하도록 설정
+     */
+    @SuppressWarnings("unchecked")
+    private void givenTransactions() {
+        when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+        doAnswer(invocation -> {
+            Consumer<TransactionView> action = invocation.getArgument(4);
+            action.accept(new TransactionView(firstTransactionId, null, testAccountNumber, TransactionType.DEPOSIT, new BigDecimal("50000.00"), BigDecimal.ZERO, firstTime));
+            action.accept(new TransactionView(secondTransactionId, testAccountNumber, testToAccountNumber, TransactionType.TRANSFER, new BigDecimal("10000.00"), new BigDecimal("100.00"), secondTime));
+            return null;
+        }).when(transactionJdbcRepository).streamByAccount(eq(accountEntity.getAccountId()), any(), any(), eq(2), any(Consumer.class));
+    }
+
+    /**
+     * 내보내기 실행 후 출력 문자열 반환
+     */
+    private String export(LocalDate from, LocalDate to, TransactionExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.prepareExport(testAccountNumber, from, to, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // ========================= 내보내기 테스트 =========================
+    @Nested
+    class ExportTest {
+
+        /**
+         * CSV 내보내기 (헤더와 시간 순 행, 입금 거래의 출금 계좌는 빈 값)
+         */
+        @Test
+        void export_csv() throws IOException {
+            givenTransactions();
+
+            String csv = export(null, null, TransactionExportFormat.CSV);
+
+            assertEquals(String.join("\n",
+                "transactionId,fromAccountNumber,toAccountNumber,transactionType,amount,fee,createdTimeStamp",
+                firstTransactionId + ",," + testAccountNumber + ",DEPOSIT,50000.00,0.00,2025-08-08T09:30",
+                secondTransactionId + "," + testAccountNumber + "," + testToAccountNumber + ",TRANSFER,10000.00,100.00,2025-08-09T14:00:05",
+                ""), csv);
+        }
+
+        /**
+         * NDJSON 내보내기 (한 줄에 거래 1건)
+         */
+        @Test
+        void export_ndjson() throws IOException {
+            givenTransactions();
+
+            List<String> lines = export(null, null, TransactionExportFormat.NDJSON).lines().toList();
+
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(0).startsWith("{\"transactionId\":\"" + firstTransactionId + "\""));
+            assertFalse(lines.get(0).contains("fromAccountNumber"));
+            assertTrue(lines.get(1).contains("\"fee\":100.00"));
+            assertTrue(lines.get(1).contains("\"createdTimeStamp\":\"2025-08-09T14:00:05\""));
+        }
+
+        /**
+         * 기간 지정 시 from 날짜 00:00부터 to 다음 날 00:00 전까지 조회
+         */
+        @Test
+        @SuppressWarnings("unchecked")
+        void export_dateRange() throws IOException {
+            givenTransactions();
+
+            export(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), TransactionExportFormat.CSV);
+
+            verify(transactionJdbcRepository).streamByAccount(eq(accountEntity.getAccountId()),
+                eq(LocalDateTime.of(2025, 8, 1, 0, 0)), eq(LocalDateTime.of(2025, 9, 1, 0, 0)), eq(2), any(Consumer.class));
+        }
+
+        /**
+         * 시작일이 종료일보다 늦으면 조회 없이 실패
+         */
+        @Test
+        void export_invalidDateRange() {
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> transactionExportService.prepareExport(testAccountNumber, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 8, 1), TransactionExportFormat.CSV));
+
+            assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+            verifyNoInteractions(transactionJdbcRepository);
+        }
+
+        /**
+         * 존재하지 않는 계좌는 응답 전송 전에 실패
+         */
+        @Test
+        void export_accountNotFound() {
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.empty());
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> transactionExportService.prepareExport(testAccountNumber, null, null, TransactionExportFormat.NDJSON));
+
+            assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+            verifyNoInteractions(transactionJdbcRepository);
+        }
+
+        /**
+         * 출력 실패(클라이언트 연결 종료) 시 조회를 중단하고 IOException 전달
+         */
+        @Test
+        void export_clientDisconnected() {
+            when(accountRepository.findByAccountNumber(testAccountNumber)).thenReturn(Optional.of(accountEntity));
+            OutputStream broken = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+            TransactionExport export = transactionExportService.prepareExport(testAccountNumber, null, null, TransactionExportFormat.CSV);
+
+            // 출력 버퍼가 가득 차기 전에는 실패가 드러나지 않으므로 버퍼보다 큰 행 수를 전달
+            doAnswer(invocation -> {
+                Consumer<TransactionView> action = invocation.getArgument(4);
+                for (int i = 0; i < 1000; i++) {
+                    action.accept(new TransactionView(firstTransactionId, null, testAccountNumber, TransactionType.DEPOSIT, BigDecimal.ONE, BigDecimal.ZERO, firstTime));
+                }
+                return null;
+            }).when(transactionJdbcRepository).streamByAccount(any(), any(), any(), anyInt(), any());
+
+            IOException exception = assertThrows(IOException.class, () -> export.writeTo(broken));
+            assertEquals("Broken pipe", exception.getMessage());
+        }
+    }
+}
@@ -3,24 +3,36 @@ package com.transfer.system.service;
 
 import com.transfer.system.domain.AccountEntity;
 import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.dto.BulkTransferResponseDTO;
+import com.transfer.system.dto.TransactionCursor;
 import com.transfer.system.dto.TransactionRequestDTO;
 import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
 import com.transfer.system.enums.AccountStatus;
 import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.ConcurrencyMode;
 import com.transfer.system.enums.CurrencyType;
 import com.transfer.system.enums.TransactionType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.outbox.TransactionOutbox;
+import com.transfer.system.policy.AccountCachePolicy;
+import com.transfer.system.policy.BulkTransferPolicy;
+import com.transfer.system.policy.ConcurrencyPolicy;
 import com.transfer.system.policy.PagingPolicy;
 import com.transfer.system.policy.TransferPolicy;
 import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.TransactionRecord;
 import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.repository.TransactionView;
 import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -28,9 +40,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -54,6 +70,21 @@ class TransactionServiceTest {
     @Mock
     private PagingPolicy pagingPolicy;
 
+    @Mock
+    private DailyUsageService dailyUsageService;
+
+    @Mock
+    private TransactionBatchWriter transactionBatchWriter;
+
+    @Mock
+    private TransactionOutbox transactionOutbox;
+
+    @Mock
+    private AccountBalanceSlotService accountBalanceSlotService;
+
+    @Mock
+    private AtomicBalanceService atomicBalanceService;
+
     private TransactionServiceImpl transactionService;
     private TransactionRequestDTO transactionRequestDTO;
     private AccountEntity fromAccountEntity;
@@ -66,7 +97,7 @@ class TransactionServiceTest {
 
     @BeforeEach
     void setUp() {
-        transactionService = new TransactionServiceImpl(accountRepository, transactionRepository, transferPolicy, pagingPolicy);
+        transactionService = new TransactionServiceImpl(accountRepository, transactionRepository, transferPolicy, pagingPolicy, dailyUsageService, concurrencyExecutor(ConcurrencyMode.PESSIMISTIC), transactionBatchWriter, new BulkTransferPolicy(3), new AccountCache(accountRepository, new AccountCachePolicy(100, 60)), SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
 
         transactionRequestDTO = TransactionRequestDTO.builder()
             .fromAccountNumber(testFromAccountNumber)
@@ -99,7 +130,9 @@ class TransactionServiceTest {
         transactionEntity = TransactionEntity.builder()
             .transactionId(UUID.randomUUID())
             .fromAccount(fromAccountEntity)
+            .fromAccountNumber(testFromAccountNumber)
             .toAccount(toAccountEntity)
+            .toAccountNumber(testToAccountNumber)
             .transactionType(TransactionType.TRANSFER)
             .amount(new BigDecimal("100000"))
             .fee(new BigDecimal("1000"))
@@ -109,6 +142,30 @@ class TransactionServiceTest {
 
     // ========================== 공통 메서드 =========================
 
+    private static final ServiceMetrics SERVICE_METRICS = new ServiceMetrics(new SimpleMeterRegistry());
+
+    /**
+     * 동시성 제어 방식을 지정한 실행기 (트랜잭션 매니저는 Mock)
+     */
+    private static ConcurrencyExecutor concurrencyExecutor(ConcurrencyMode mode) {
+        return new ConcurrencyExecutor(mock(PlatformTransactionManager.class), new ConcurrencyPolicy(mode, mode, mode, 3, 0, 0), SERVICE_METRICS);
+    }
+
+    /**
+     * 계좌 번호 조회와 계좌 참조 생성 (거래 내역 조회용)
+     */
+    private void stubAccountLookup(AccountEntity account) {
+        when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
+        when(accountRepository.getReferenceById(account.getAccountId())).thenReturn(account);
+    }
+
+    /**
+     * 거래 내역 조회 결과
+     */
+    private static TransactionView view(TransactionEntity e) {
+        return new TransactionView(e.getTransactionId(), e.getFromAccountNumber(), e.getToAccountNumber(), e.getTransactionType(), e.getAmount(), e.getFee(), e.getCreatedTimeStamp());
+    }
+
     /**
      * 이체 시 예외 처리
      */
@@ -131,10 +188,7 @@ class TransactionServiceTest {
      * 오늘 사용 금액
      */
     private void todayUsed(String accountNumber, TransactionType type, BigDecimal used) {
-        when(transactionRepository.getSumTodayUsedAmount(
-                eq(accountNumber), eq(type),
-                any(LocalDateTime.class), any(LocalDateTime.class)
-        )).thenReturn(used);
+        when(dailyUsageService.getUsedAmount(eq(accountNumber), eq(type), any(LocalDate.class))).thenReturn(used);
     }
 
     // ========================= 이체 테스트 =========================
@@ -150,7 +204,7 @@ class TransactionServiceTest {
 
             when(accountRepository.findByAccountNumberLock(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
             when(accountRepository.findByAccountNumberLock(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
-            when(transferPolicy.calculateFee(any(BigDecimal.class))).thenReturn(fee);
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(fee);
 
             todayUsed(testFromAccountNumber, TransactionType.TRANSFER, BigDecimal.ZERO);
             doNothing().when(transferPolicy).validateTransferAmount(any(BigDecimal.class), any(BigDecimal.class));
@@ -167,8 +221,32 @@ class TransactionServiceTest {
             assertEquals(toAccountEntity, savedTransaction.getToAccount());
             assertEquals(transactionRequestDTO.getAmount(), savedTransaction.getAmount());
             assertEquals(fee, savedTransaction.getFee());
+            verify(dailyUsageService).addUsedAmount(eq(testFromAccountNumber), eq(TransactionType.TRANSFER), any(LocalDate.class), eq(transactionRequestDTO.getAmount()));
+            verify(transactionOutbox).append(transactionEntity); // 같은 트랜잭션에 거래 이벤트 기록
         }
         
+        /**
+         * 이체 성공 - 낙관적 락 모드는 잠금 없이 조회하고 일일 사용량 갱신 전에 버전 확인
+         */
+        @Test
+        void transfer_success_optimistic() {
+            TransactionServiceImpl optimisticService = new TransactionServiceImpl(accountRepository, transactionRepository, transferPolicy, pagingPolicy, dailyUsageService, concurrencyExecutor(ConcurrencyMode.OPTIMISTIC), transactionBatchWriter, new BulkTransferPolicy(3), new AccountCache(accountRepository, new AccountCachePolicy(100, 60)), SERVICE_METRICS, transactionOutbox, accountBalanceSlotService, atomicBalanceService);
+
+            when(accountRepository.findByAccountNumber(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
+            when(accountRepository.findByAccountNumber(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(new BigDecimal("1000"));
+            todayUsed(testFromAccountNumber, TransactionType.TRANSFER, BigDecimal.ZERO);
+            doNothing().when(transferPolicy).validateTransferAmount(any(BigDecimal.class), any(BigDecimal.class));
+            when(transactionRepository.save(any(TransactionEntity.class))).thenReturn(transactionEntity);
+
+            optimisticService.transfer(transactionRequestDTO);
+
+            verify(accountRepository, never()).findByAccountNumberLock(anyString());
+            InOrder inOrder = inOrder(accountRepository, dailyUsageService);
+            inOrder.verify(accountRepository).flush();
+            inOrder.verify(dailyUsageService).addUsedAmount(eq(testFromAccountNumber), eq(TransactionType.TRANSFER), any(LocalDate.class), eq(transactionRequestDTO.getAmount()));
+        }
+
         /**
          * 이체 성공 - 입, 출금 계좌 반대
          */
@@ -182,7 +260,7 @@ class TransactionServiceTest {
 
             when(accountRepository.findByAccountNumberLock(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
             when(accountRepository.findByAccountNumberLock(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
-            when(transferPolicy.calculateFee(any(BigDecimal.class))).thenReturn(new BigDecimal("1000"));
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(new BigDecimal("1000"));
             todayUsed(testToAccountNumber, TransactionType.TRANSFER, BigDecimal.ZERO);
             doNothing().when(transferPolicy).validateTransferAmount(any(BigDecimal.class), any(BigDecimal.class));
             when(transactionRepository.save(any(TransactionEntity.class))).thenReturn(transactionEntity);
@@ -379,7 +457,7 @@ class TransactionServiceTest {
         void transfer_nullFee() {
             when(accountRepository.findByAccountNumberLock(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
             when(accountRepository.findByAccountNumberLock(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
-            when(transferPolicy.calculateFee(any(BigDecimal.class))).thenReturn(null);
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(null);
 
             expectTransferException(transactionRequestDTO, ErrorCode.INVALID_FEE);
         }
@@ -391,7 +469,7 @@ class TransactionServiceTest {
         void transfer_negativeFee() {
             when(accountRepository.findByAccountNumberLock(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
             when(accountRepository.findByAccountNumberLock(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
-            when(transferPolicy.calculateFee(any(BigDecimal.class))).thenReturn(new BigDecimal("-100"));
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(new BigDecimal("-100"));
 
             expectTransferException(transactionRequestDTO, ErrorCode.INVALID_FEE);
         }
@@ -403,12 +481,13 @@ class TransactionServiceTest {
         void transfer_limitExceeded() {
             when(accountRepository.findByAccountNumberLock(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
             when(accountRepository.findByAccountNumberLock(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
-            when(transferPolicy.calculateFee(any(BigDecimal.class))).thenReturn(new BigDecimal("1000"));
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(new BigDecimal("1000"));
 
             todayUsed(testFromAccountNumber, TransactionType.TRANSFER, BigDecimal.ZERO);
             doThrow(new TransferSystemException(ErrorCode.TRANSFER_LIMIT_EXCEEDED)).when(transferPolicy).validateTransferAmount(any(BigDecimal.class), any(BigDecimal.class));
 
             expectTransferException(transactionRequestDTO, ErrorCode.TRANSFER_LIMIT_EXCEEDED);
+            verify(dailyUsageService, never()).addUsedAmount(anyString(), any(), any(), any());
         }
 
         /**
@@ -429,7 +508,7 @@ class TransactionServiceTest {
 
             when(accountRepository.findByAccountNumberLock(testFromAccountNumber)).thenReturn(Optional.of(poorAccount));
             when(accountRepository.findByAccountNumberLock(testToAccountNumber)).thenReturn(Optional.of(toAccountEntity));
-            when(transferPolicy.calculateFee(any(BigDecimal.class))).thenReturn(new BigDecimal("1000"));
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenReturn(new BigDecimal("1000"));
 
             todayUsed(testFromAccountNumber, TransactionType.TRANSFER, BigDecimal.ZERO);
             doNothing().when(transferPolicy).validateTransferAmount(any(BigDecimal.class), any(BigDecimal.class));
@@ -438,6 +517,105 @@ class TransactionServiceTest {
         }
     }
 
+    // ========================= 일괄 이체 테스트 =========================
+    @Nested
+    class TransferBulkTest {
+
+        /**
+         * 일괄 이체 요청 생성
+         */
+        private TransactionRequestDTO request(String from, String to, String amount) {
+            return TransactionRequestDTO.builder()
+                .fromAccountNumber(from)
+                .toAccountNumber(to)
+                .amount(new BigDecimal(amount))
+                .build();
+        }
+
+        /**
+         * 건별 성공, 실패 결과와 잠금, 일괄 저장, 일일 사용량 반영 확인
+         */
+        @Test
+        @SuppressWarnings("unchecked")
+        void transferBulk_perItemResults() {
+            when(accountRepository.findAllByAccountNumberInLock(any())).thenReturn(List.of(fromAccountEntity, toAccountEntity));
+            when(transferPolicy.calculateFee(any(BigDecimal.class), any())).thenAnswer(invocation -> invocation.<BigDecimal>getArgument(0).multiply(new BigDecimal("0.01")));
+            when(dailyUsageService.getUsedAmount(eq(testFromAccountNumber), eq(TransactionType.TRANSFER), any(LocalDate.class))).thenReturn(BigDecimal.ZERO);
+
+            BulkTransferResponseDTO response = transactionService.transferBulk(List.of(
+                request(testFromAccountNumber, testToAccountNumber, "100000"),
+                request(testFromAccountNumber, testFromAccountNumber, "1000"),
+                request(testFromAccountNumber, testToAccountNumber, "150000")
+            ));
+
+            assertEquals(3, response.getTotalCount());
+            assertEquals(1, response.getSuccessCount());
+            assertEquals(2, response.getFailureCount());
+            assertTrue(response.getResults().get(0).isSuccess());
+            assertEquals(ErrorCode.TRANSFER_SAME_ACCOUNT, response.getResults().get(1).getErrorCode());
+            assertEquals(ErrorCode.INSUFFICIENT_BALANCE, response.getResults().get(2).getErrorCode());
+
+            // 실패한 건은 잔액에 반영되지 않음
+            assertEquals(0, new BigDecimal("99000").compareTo(fromAccountEntity.getBalance()));
+            assertEquals(0, new BigDecimal("200000").compareTo(toAccountEntity.getBalance()));
+
+            // 계좌 번호 순서로 한 번만 잠금
+            ArgumentCaptor<Collection<String>> lockCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(accountRepository).findAllByAccountNumberInLock(lockCaptor.capture());
+            assertEquals(List.of(testFromAccountNumber, testToAccountNumber), new ArrayList<>(lockCaptor.getValue()));
+
+            // 앞선 건의 이체 금액을 포함해 한도 확인
+            verify(transferPolicy).validateTransferAmount(new BigDecimal("100000"), BigDecimal.ZERO);
+            verify(transferPolicy).validateTransferAmount(new BigDecimal("150000"), new BigDecimal("100000"));
+
+            ArgumentCaptor<List<TransactionRecord>> recordCaptor = ArgumentCaptor.forClass(List.class);
+            verify(transactionBatchWriter).writeAll(recordCaptor.capture());
+            assertEquals(1, recordCaptor.getValue().size());
+            assertEquals(response.getResults().get(0).getTransaction().getTransactionId(), recordCaptor.getValue().get(0).transactionId());
+            verify(dailyUsageService).addUsedAmount(eq(testFromAccountNumber), eq(TransactionType.TRANSFER), any(LocalDate.class), eq(new BigDecimal("100000")));
+            verify(transactionRepository, never()).save(any());
+        }
+
+        /**
+         * 존재하지 않는 계좌가 포함된 건만 실패
+         */
+        @Test
+        void transferBulk_accountNotFound() {
+            when(accountRepository.findAllByAccountNumberInLock(any())).thenReturn(List.of(fromAccountEntity));
+
+            BulkTransferResponseDTO response = transactionService.transferBulk(List.of(transactionRequestDTO));
+
+            assertEquals(0, response.getSuccessCount());
+            assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, response.getResults().get(0).getErrorCode());
+            assertEquals(0, new BigDecimal("200000").compareTo(fromAccountEntity.getBalance()));
+            verify(transactionBatchWriter).writeAll(List.of());
+            verify(dailyUsageService, never()).addUsedAmount(any(), any(), any(), any());
+        }
+
+        /**
+         * 최대 건수 초과 시 전체 요청 거절
+         */
+        @Test
+        void transferBulk_sizeExceeded() {
+            List<TransactionRequestDTO> requests = List.of(transactionRequestDTO, transactionRequestDTO, transactionRequestDTO, transactionRequestDTO);
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class, () -> transactionService.transferBulk(requests));
+
+            assertEquals(ErrorCode.BULK_SIZE_EXCEEDED, exception.getErrorCode());
+            verify(accountRepository, never()).findAllByAccountNumberInLock(any());
+        }
+
+        /**
+         * 빈 요청 목록
+         */
+        @Test
+        void transferBulk_empty() {
+            TransferSystemException exception = assertThrows(TransferSystemException.class, () -> transactionService.transferBulk(List.of()));
+
+            assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        }
+    }
+
     // ========================= 거래 내역 조회 테스트 =========================
     @Nested
     class GetTransactionHistoryTest {
@@ -447,10 +625,10 @@ class TransactionServiceTest {
          */
         @Test
         void getTransactionHistory_success() {
-            List<TransactionEntity> transactions = List.of(transactionEntity);
-            Page<TransactionEntity> transactionPage = new PageImpl<>(transactions, PageRequest.of(0, 10), transactions.size());
+            List<TransactionView> transactions = List.of(view(transactionEntity));
+            Page<TransactionView> transactionPage = new PageImpl<>(transactions, PageRequest.of(0, 10), transactions.size());
 
-            when(accountRepository.findByAccountNumber(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
+            stubAccountLookup(fromAccountEntity);
             when(pagingPolicy.getValidatedPage(0)).thenReturn(0);
             when(pagingPolicy.getValidatedSize(10)).thenReturn(10);
             when(pagingPolicy.getTransactionSortField()).thenReturn("createdTimeStamp");
@@ -460,6 +638,8 @@ class TransactionServiceTest {
 
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
+            assertEquals(testFromAccountNumber, result.getContent().get(0).getFromAccountNumber());
+            assertEquals(testToAccountNumber, result.getContent().get(0).getToAccountNumber());
             ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
             verify(transactionRepository).findAllByAccount(eq(fromAccountEntity), pageableCaptor.capture());
 
@@ -500,10 +680,10 @@ class TransactionServiceTest {
          */
         @Test
         void getTransactionHistory_negativePage() {
-            List<TransactionEntity> transactions = List.of(transactionEntity);
-            Page<TransactionEntity> transactionPage = new PageImpl<>(transactions, PageRequest.of(0, 10), transactions.size());
+            List<TransactionView> transactions = List.of(view(transactionEntity));
+            Page<TransactionView> transactionPage = new PageImpl<>(transactions, PageRequest.of(0, 10), transactions.size());
 
-            when(accountRepository.findByAccountNumber(testFromAccountNumber)).thenReturn(Optional.of(fromAccountEntity));
+            stubAccountLookup(fromAccountEntity);
             when(pagingPolicy.getValidatedPage(null)).thenReturn(0);
             when(pagingPolicy.getValidatedSize(10)).thenReturn(10);
             when(pagingPolicy.getTransactionSortField()).thenReturn("createdTimeStamp");
@@ -517,4 +697,92 @@ class TransactionServiceTest {
             assertEquals(0, pageableCaptor.getValue().getPageNumber());
         }
     }
+    // ========================= 거래 내역 커서 조회 테스트 =========================
+    @Nested
+    class GetTransactionHistoryByCursorTest {
+
+        private final LocalDateTime baseTime = LocalDateTime.of(2025, 8, 8, 12, 0, 0);
+
+        /**
+         * 지정 시각의 거래 생성
+         */
+        private TransactionView transactionAt(AccountEntity from, AccountEntity to, LocalDateTime createdTimeStamp) {
+            return new TransactionView(UUID.randomUUID(), from.getAccountNumber(), to.getAccountNumber(), TransactionType.TRANSFER,
+                new BigDecimal("1000"), new BigDecimal("10"), createdTimeStamp);
+        }
+
+        /**
+         * 커서 조회 시 출금/입금 내역을 최신 순으로 병합하고 다음 커서 반환
+         */
+        @Test
+        void getTransactionHistoryByCursor_mergeAndNextCursor() {
+            TransactionView sent1 = transactionAt(fromAccountEntity, toAccountEntity, baseTime.minusMinutes(1));
+            TransactionView sent2 = transactionAt(fromAccountEntity, toAccountEntity, baseTime.minusMinutes(3));
+            TransactionView received1 = transactionAt(toAccountEntity, fromAccountEntity, baseTime.minusMinutes(2));
+            TransactionView received2 = transactionAt(toAccountEntity, fromAccountEntity, baseTime.minusMinutes(4));
+
+            stubAccountLookup(fromAccountEntity);
+            when(pagingPolicy.getValidatedSize(2)).thenReturn(2);
+            when(transactionRepository.findSentBefore(eq(fromAccountEntity), any(LocalDateTime.class), any(UUID.class), any(Pageable.class))).thenReturn(List.of(sent1, sent2));
+            when(transactionRepository.findReceivedBefore(eq(fromAccountEntity), any(LocalDateTime.class), any(UUID.class), any(Pageable.class))).thenReturn(List.of(received1, received2));
+
+            TransactionSliceResponseDTO result = transactionService.getTransactionHistoryByCursor(testFromAccountNumber, null, 2);
+
+            assertEquals(2, result.getNumberOfElements());
+            assertTrue(result.isHasNext());
+            assertEquals(sent1.transactionId(), result.getContent().get(0).getTransactionId());
+            assertEquals(received1.transactionId(), result.getContent().get(1).getTransactionId());
+
+            TransactionCursor next = TransactionCursor.decode(result.getNextCursor());
+            assertEquals(received1.createdTimeStamp(), next.createdTimeStamp());
+            assertEquals(received1.transactionId(), next.transactionId());
+
+            // 첫 페이지는 size + 1 건을 조회
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(transactionRepository).findSentBefore(eq(fromAccountEntity), eq(TransactionCursor.FIRST.createdTimeStamp()), eq(TransactionCursor.FIRST.transactionId()), pageableCaptor.capture());
+            assertEquals(3, pageableCaptor.getValue().getPageSize());
+        }
+
+        /**
+         * 마지막 페이지는 다음 커서 없음
+         */
+        @Test
+        void getTransactionHistoryByCursor_lastPage() {
+            TransactionCursor cursor = new TransactionCursor(baseTime, UUID.randomUUID());
+
+            stubAccountLookup(fromAccountEntity);
+            when(pagingPolicy.getValidatedSize(10)).thenReturn(10);
+            when(transactionRepository.findSentBefore(fromAccountEntity, cursor.createdTimeStamp(), cursor.transactionId(), PageRequest.of(0, 11))).thenReturn(List.of(view(transactionEntity)));
+            when(transactionRepository.findReceivedBefore(fromAccountEntity, cursor.createdTimeStamp(), cursor.transactionId(), PageRequest.of(0, 11))).thenReturn(List.of());
+
+            TransactionSliceResponseDTO result = transactionService.getTransactionHistoryByCursor(testFromAccountNumber, cursor.encode(), 10);
+
+            assertEquals(1, result.getNumberOfElements());
+            assertFalse(result.isHasNext());
+            assertNull(result.getNextCursor());
+        }
+
+        /**
+         * 커서 조회 시 null 계좌번호
+         */
+        @Test
+        void getTransactionHistoryByCursor_nullAccountNumber() {
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> transactionService.getTransactionHistoryByCursor(null, null, 10));
+            assertEquals(ErrorCode.INVALID_ACCOUNT_NUMBER, exception.getErrorCode());
+        }
+
+        /**
+         * 잘못된 커서
+         */
+        @Test
+        void getTransactionHistoryByCursor_invalidCursor() {
+            stubAccountLookup(fromAccountEntity);
+            when(pagingPolicy.getValidatedSize(10)).thenReturn(10);
+
+            TransferSystemException exception = assertThrows(TransferSystemException.class,
+                () -> transactionService.getTransactionHistoryByCursor(testFromAccountNumber, "not-a-cursor", 10));
+            assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        }
+    }
 }
\ No newline at end of file
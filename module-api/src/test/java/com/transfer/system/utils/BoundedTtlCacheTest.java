@@ -0,0 +1,103 @@
+package com.transfer.system.utils;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private BoundedTtlCache<String, String> cache(int maxSize, Duration ttl) {
+        return new BoundedTtlCache<>(maxSize, ttl, clock::get);
+    }
+
+    // ========================== TTL 테스트 ==========================
+    @Nested
+    class TtlTest {
+
+        /**
+         * TTL 이전에는 조회되고 이후에는 제거
+         */
+        @Test
+        void get_expiresAfterTtl() {
+            BoundedTtlCache<String, String> cache = cache(10, Duration.ofSeconds(1));
+            cache.put("key", "value");
+
+            clock.addAndGet(Duration.ofMillis(999).toNanos());
+            assertEquals(Optional.of("value"), cache.get("key"));
+
+            clock.addAndGet(Duration.ofMillis(1).toNanos());
+            assertEquals(Optional.empty(), cache.get("key"));
+            assertEquals(0, cache.size());
+        }
+
+        /**
+         * 만료된 항목 일괄 제거
+         */
+        @Test
+        void evictExpired_removesOnlyExpired() {
+            BoundedTtlCache<String, String> cache = cache(10, Duration.ofSeconds(1));
+            cache.put("old", "1");
+            clock.addAndGet(Duration.ofMillis(500).toNanos());
+            cache.put("new", "2");
+            clock.addAndGet(Duration.ofMillis(600).toNanos());
+
+            assertEquals(1, cache.evictExpired());
+            assertEquals(Optional.of("2"), cache.get("new"));
+        }
+    }
+
+    // ========================== 크기 제한 테스트 ==========================
+    @Nested
+    class BoundTest {
+
+        /**
+         * 최대 크기 초과 시 가장 오래 저장된 항목 제거
+         */
+        @Test
+        void put_evictsEldest() {
+            BoundedTtlCache<String, String> cache = cache(2, Duration.ofMinutes(1));
+            cache.put("a", "1");
+            cache.put("b", "2");
+            cache.put("a", "3"); // 다시 저장하면 가장 최근 항목이 됨
+            cache.put("c", "4");
+
+            assertEquals(2, cache.size());
+            assertEquals(Optional.empty(), cache.get("b"));
+            assertEquals(Optional.of("3"), cache.get("a"));
+            assertEquals(Optional.of("4"), cache.get("c"));
+        }
+
+        /**
+         * 크기 초과, TTL 만료로 제거된 항목 수 집계 (직접 삭제는 제외)
+         */
+        @Test
+        void evictionCount_countsSizeAndTtlEvictions() {
+            BoundedTtlCache<String, String> cache = cache(1, Duration.ofSeconds(1));
+            cache.put("a", "1");
+            cache.put("b", "2");
+            cache.remove("b");
+            cache.put("c", "3");
+
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            cache.get("c");
+
+            assertEquals(2, cache.getEvictionCount());
+        }
+
+        /**
+         * 잘못된 크기, TTL
+         */
+        @Test
+        void constructor_invalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new BoundedTtlCache<String, String>(0, Duration.ofSeconds(1)));
+            assertThrows(IllegalArgumentException.class, () -> new BoundedTtlCache<String, String>(1, Duration.ZERO));
+        }
+    }
+}
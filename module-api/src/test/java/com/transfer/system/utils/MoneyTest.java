@@ -0,0 +1,119 @@
+package com.transfer.system.utils;
+
+import com.transfer.system.enums.CurrencyType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    // ========================== 변환 테스트 ==========================
+    @Nested
+    class ConversionTest {
+
+        /**
+         * 통화별 소수점 자리수로 변환
+         */
+        @Test
+        void of_usesCurrencyScale() {
+            assertEquals(new Money(1234567L, 2), Money.of(new BigDecimal("12345.67"), CurrencyType.KRW));
+            assertEquals(new Money(1235L, 0), Money.of(new BigDecimal("1234.5"), CurrencyType.JPY));
+            assertEquals(2, Money.scaleOf(null));
+        }
+
+        /**
+         * 자리수를 넘는 소수점은 HALF_UP 반올림
+         */
+        @Test
+        void of_roundsHalfUp() {
+            assertEquals(1001L, Money.of(new BigDecimal("10.005"), 2).minorUnits());
+            assertEquals(-1001L, Money.of(new BigDecimal("-10.005"), 2).minorUnits());
+        }
+
+        /**
+         * long 범위를 넘는 금액은 ArithmeticException
+         */
+        @Test
+        void of_overflowThrows() {
+            assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+20"), 2));
+        }
+
+        /**
+         * 반올림 없는 변환은 통화 자리수로 표현되는 금액만 허용 (끝자리 0은 허용)
+         */
+        @Test
+        void ofExact_rejectsUnrepresentableAmount() {
+            assertEquals(new Money(1250L, 0), Money.ofExact(new BigDecimal("1250.00"), CurrencyType.JPY));
+            assertThrows(IllegalArgumentException.class, () -> Money.ofExact(new BigDecimal("1250.50"), CurrencyType.JPY));
+        }
+
+        /**
+         * BigDecimal 변환 시 자리수 유지
+         */
+        @Test
+        void toBigDecimal_keepsScale() {
+            assertEquals(new BigDecimal("0.00"), Money.zero(2).toBigDecimal());
+            assertEquals(new BigDecimal("100"), Money.ofMinor(100L, 0).toBigDecimal());
+        }
+    }
+
+    // ========================== 연산 테스트 ==========================
+    @Nested
+    class ArithmeticTest {
+
+        /**
+         * 덧셈, 뺄셈, 비교
+         */
+        @Test
+        void addSubtractCompare() {
+            Money balance = Money.ofMinor(10_000L, 2);
+            Money amount = Money.ofMinor(2_550L, 2);
+
+            assertEquals(Money.ofMinor(12_550L, 2), balance.add(amount));
+            assertEquals(Money.ofMinor(7_450L, 2), balance.subtract(amount));
+            assertTrue(balance.compareTo(amount) > 0);
+            assertTrue(amount.subtract(balance).isNegative());
+        }
+
+        /**
+         * long 범위 초과 시 ArithmeticException
+         */
+        @Test
+        void add_overflowThrows() {
+            Money max = Money.ofMinor(Long.MAX_VALUE, 2);
+            assertThrows(ArithmeticException.class, () -> max.add(Money.ofMinor(1L, 2)));
+            assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MIN_VALUE, 2).subtract(Money.ofMinor(1L, 2)));
+        }
+
+        /**
+         * 자리수가 다른 금액 연산 불가
+         */
+        @Test
+        void add_scaleMismatchThrows() {
+            assertThrows(IllegalArgumentException.class, () -> Money.ofMinor(1L, 2).add(Money.ofMinor(1L, 0)));
+        }
+
+        /**
+         * 비율 곱셈 HALF_UP 반올림
+         */
+        @Test
+        void multiply_roundsHalfUp() {
+            assertEquals(Money.ofMinor(12_346L, 2), Money.ofMinor(1_234_567L, 2).multiply(new BigDecimal("0.01")));
+            assertEquals(Money.ofMinor(1L, 2), Money.ofMinor(50L, 2).multiply(new BigDecimal("0.01")));
+            assertEquals(Money.ofMinor(0L, 2), Money.ofMinor(49L, 2).multiply(new BigDecimal("0.01")));
+        }
+
+        /**
+         * 중간값이 long 범위를 넘어도 BigDecimal 계산으로 결과 반환
+         */
+        @Test
+        void multiply_largeIntermediate() {
+            Money amount = Money.ofMinor(Long.MAX_VALUE / 10, 2);
+            Money expected = Money.of(amount.toBigDecimal().multiply(new BigDecimal("0.123456789")), 2);
+            assertEquals(expected, amount.multiply(new BigDecimal("0.123456789")));
+        }
+    }
+}
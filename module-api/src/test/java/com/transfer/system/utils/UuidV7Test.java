@@ -0,0 +1,102 @@
+package com.transfer.system.utils;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+    // ========================== 형식 테스트 ==========================
+    @Nested
+    class FormatTest {
+
+        /**
+         * 버전 7, RFC 변형, 생성 시각 포함
+         */
+        @Test
+        void next_versionAndTimestamp() {
+            long before = System.currentTimeMillis();
+            UUID uuid = UuidV7.next();
+            long after = System.currentTimeMillis();
+
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertTrue(UuidV7.timestampMillis(uuid) >= before);
+            assertTrue(UuidV7.timestampMillis(uuid) <= after + 1);
+        }
+    }
+
+    // ========================== 순서 테스트 ==========================
+    @Nested
+    class OrderTest {
+
+        /**
+         * 같은 밀리초 안에서도 발급 순서대로 증가
+         */
+        @Test
+        void generate_monotonicWithinMillisecond() {
+            UuidV7 generator = new UuidV7(clock::get);
+
+            UUID previous = generator.generate();
+            for (int i = 0; i < 10_000; i++) { // 순번 4096개를 넘겨도 증가
+                UUID current = generator.generate();
+                assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+                previous = current;
+            }
+        }
+
+        /**
+         * 시계가 뒤로 가도 마지막 값 이후로 발급
+         */
+        @Test
+        void generate_clockMovesBackwards() {
+            UuidV7 generator = new UuidV7(clock::get);
+            UUID first = generator.generate();
+
+            clock.addAndGet(-1_000);
+            UUID second = generator.generate();
+
+            assertTrue(Long.compareUnsigned(second.getMostSignificantBits(), first.getMostSignificantBits()) > 0);
+            assertEquals(UuidV7.timestampMillis(first), UuidV7.timestampMillis(second));
+        }
+
+        /**
+         * 여러 스레드가 동시에 발급해도 중복 없이 스레드별 발급 순서대로 증가
+         */
+        @Test
+        void generate_concurrently() throws Exception {
+            UuidV7 generator = new UuidV7(System::currentTimeMillis);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> generated = new ArrayList<>(10_000);
+                    for (int i = 0; i < 10_000; i++) {
+                        generated.add(generator.generate());
+                    }
+                    return generated;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> generated = future.get(1, TimeUnit.MINUTES);
+                for (int i = 1; i < generated.size(); i++) {
+                    assertTrue(Long.compareUnsigned(generated.get(i).getMostSignificantBits(), generated.get(i - 1).getMostSignificantBits()) > 0);
+                }
+                all.addAll(generated);
+            }
+            executor.shutdown();
+
+            assertEquals(80_000, all.size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.dto.AccountBalanceResponseDTO;
+import com.transfer.system.dto.BulkTransferResponseDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이체, 입금, 출금 서비스 호출 벤치마크
+ * hotAccounts가 작을수록 같은 계좌 행 락에 대한 경합이 커짐 (스레드 수는 -PjmhThreads로 지정)
+ * transferBulk는 이체 1건 기준 처리량으로 보고되므로 transfer와 바로 비교 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountServiceBenchmark {
+
+    @Param({"2", "16", "256"})
+    private int hotAccounts;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private TransactionService transactionService;
+    private List<String> accountNumbers;
+
+    private static final BigDecimal AMOUNT = new BigDecimal("100");
+    private static final int BULK_SIZE = 100;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        accountService = context.getBean(AccountService.class);
+        transactionService = context.getBean(TransactionService.class);
+        accountNumbers = BenchmarkContext.createAccounts(accountService, hotAccounts);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponseDTO transfer() {
+        return transactionService.transfer(randomTransfer());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public BulkTransferResponseDTO transferBulk() {
+        List<TransactionRequestDTO> requests = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            requests.add(randomTransfer());
+        }
+        return transactionService.transferBulk(requests);
+    }
+
+    @Benchmark
+    public AccountBalanceResponseDTO deposit() {
+        return accountService.deposit(randomAccount(), AMOUNT);
+    }
+
+    @Benchmark
+    public AccountBalanceResponseDTO withdraw() {
+        return accountService.withdraw(randomAccount(), AMOUNT);
+    }
+
+    private TransactionRequestDTO randomTransfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(hotAccounts);
+        int to = (from + 1 + random.nextInt(hotAccounts - 1)) % hotAccounts;
+
+        return TransactionRequestDTO.builder()
+            .fromAccountNumber(accountNumbers.get(from))
+            .toAccountNumber(accountNumbers.get(to))
+            .amount(AMOUNT)
+            .build();
+    }
+
+    private String randomAccount() {
+        return accountNumbers.get(ThreadLocalRandom.current().nextInt(hotAccounts));
+    }
+}
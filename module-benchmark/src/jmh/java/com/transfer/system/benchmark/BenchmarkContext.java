@@ -0,0 +1,76 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.SystemApplication;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.service.AccountService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 스프링 컨텍스트 (웹 서버 없이 인메모리 H2 사용)
+ */
+public final class BenchmarkContext {
+    private BenchmarkContext() {}
+
+    // 일일 한도에 걸리지 않도록 한도를 크게 설정
+    private static final String UNLIMITED = "100000000000000";
+    public static final BigDecimal INITIAL_BALANCE = new BigDecimal("10000000000000");
+
+    /**
+     * 컨텍스트 시작 (실행마다 별도 DB 사용)
+     */
+    public static ConfigurableApplicationContext start(String... extraProperties) {
+        return start(WebApplicationType.NONE, extraProperties);
+    }
+
+    /**
+     * 임의 포트로 웹 서버를 포함한 컨텍스트 시작 (부하 테스트용)
+     */
+    public static ConfigurableApplicationContext startServer(String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(extraProperties));
+        properties.add("server.port=0");
+        return start(WebApplicationType.SERVLET, properties.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+            "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+            "spring.h2.console.enabled=false",
+            "logging.level.root=WARN",
+            "transfer.withdraw-daily-limit=" + UNLIMITED,
+            "transfer.transfer-daily-limit=" + UNLIMITED
+        ));
+        properties.addAll(List.of(extraProperties));
+
+        return new SpringApplicationBuilder(SystemApplication.class)
+            .web(webApplicationType)
+            .properties(properties.toArray(String[]::new))
+            .run();
+    }
+
+    /**
+     * 초기 잔액이 입금된 계좌 생성
+     */
+    public static List<String> createAccounts(AccountService accountService, int count) {
+        List<String> accountNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String accountNumber = accountService.createAccount(AccountCreateRequestDTO.builder()
+                .accountName("bench-" + i)
+                .accountType(AccountType.PERSONAL)
+                .currencyType(CurrencyType.KRW)
+                .build()).getAccountNumber();
+
+            accountService.deposit(accountNumber, INITIAL_BALANCE);
+            accountNumbers.add(accountNumber);
+        }
+        return accountNumbers;
+    }
+}
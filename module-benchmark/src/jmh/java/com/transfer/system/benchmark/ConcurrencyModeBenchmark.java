@@ -0,0 +1,108 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비관적 락, 낙관적 락, 원자적 갱신 모드의 경합별 처리량 비교
+ * hotAccounts가 작을수록 같은 계좌에 대한 충돌이 많아지며, 재시도를 소진한 요청은 conflicts로 집계
+ * depositHotAccount는 모든 스레드가 한 계좌에만 입금 (수신이 몰리는 계좌)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrencyModeBenchmark {
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "ATOMIC"})
+    private ConcurrencyMode mode;
+
+    @Param({"2", "16", "256"})
+    private int hotAccounts;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private TransactionService transactionService;
+    private List<String> accountNumbers;
+
+    private static final BigDecimal AMOUNT = new BigDecimal("100");
+
+    /**
+     * 스레드별 성공, 충돌 실패 건수
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long succeeded;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            conflicts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+            "concurrency.transfer-mode=" + mode,
+            "concurrency.deposit-mode=" + mode,
+            "concurrency.withdraw-mode=" + mode
+        );
+        accountService = context.getBean(AccountService.class);
+        transactionService = context.getBean(TransactionService.class);
+        accountNumbers = BenchmarkContext.createAccounts(accountService, hotAccounts);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void transfer(Outcome outcome) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(hotAccounts);
+        int to = (from + 1 + random.nextInt(hotAccounts - 1)) % hotAccounts;
+
+        run(outcome, () -> transactionService.transfer(TransactionRequestDTO.builder()
+            .fromAccountNumber(accountNumbers.get(from))
+            .toAccountNumber(accountNumbers.get(to))
+            .amount(AMOUNT)
+            .build()));
+    }
+
+    @Benchmark
+    public void depositHotAccount(Outcome outcome) {
+        run(outcome, () -> accountService.deposit(accountNumbers.get(0), AMOUNT));
+    }
+
+    @Benchmark
+    public void withdraw(Outcome outcome) {
+        String accountNumber = accountNumbers.get(ThreadLocalRandom.current().nextInt(hotAccounts));
+        run(outcome, () -> accountService.withdraw(accountNumber, AMOUNT));
+    }
+
+    private static void run(Outcome outcome, Runnable action) {
+        try {
+            action.run();
+            outcome.succeeded++;
+        } catch (TransferSystemException e) {
+            if (e.getErrorCode() != ErrorCode.CONCURRENT_UPDATE_CONFLICT) {
+                throw e;
+            }
+            outcome.conflicts++;
+        }
+    }
+}
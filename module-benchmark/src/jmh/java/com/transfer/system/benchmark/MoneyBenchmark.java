@@ -0,0 +1,80 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.policy.TransferPolicy;
+import com.transfer.system.utils.Money;
+import com.transfer.system.utils.MoneyUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수수료 계산, 금액 정규화 마이크로 벤치마크 (BigDecimal 경로와 Money(long) 경로 비교)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"1", "100000", "2999999.99"})
+    private String amount;
+
+    private BigDecimal value;
+    private BigDecimal balance;
+    private Money money;
+    private Money balanceMoney;
+    private TransferPolicy transferPolicy;
+
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.01");
+
+    @Setup
+    public void setUp() {
+        value = new BigDecimal(amount);
+        balance = new BigDecimal("10000000.00");
+        money = Money.of(value, Money.DEFAULT_SCALE);
+        balanceMoney = Money.of(balance, Money.DEFAULT_SCALE);
+        transferPolicy = new TransferPolicy(FEE_RATE, new BigDecimal("1000000"), new BigDecimal("3000000"));
+    }
+
+    @Benchmark
+    public BigDecimal calculateFee() {
+        return transferPolicy.calculateFee(value);
+    }
+
+    @Benchmark
+    public Money calculateFeeMoney() {
+        return transferPolicy.calculateFee(money);
+    }
+
+    @Benchmark
+    public BigDecimal normalize() {
+        return MoneyUtils.normalize(value);
+    }
+
+    /**
+     * 기존 BigDecimal 이체 계산 (수수료, 총액, 출금, 입금 잔액)
+     */
+    @Benchmark
+    public void transferArithmeticBigDecimal(Blackhole blackhole) {
+        BigDecimal fee = MoneyUtils.normalize(value.multiply(FEE_RATE));
+        BigDecimal total = value.add(fee);
+        if (balance.compareTo(total) >= 0) {
+            blackhole.consume(MoneyUtils.normalize(balance.subtract(total)));
+        }
+        blackhole.consume(MoneyUtils.normalize(balance.add(value)));
+    }
+
+    /**
+     * Money(long) 이체 계산 (수수료, 총액, 출금, 입금 잔액)
+     */
+    @Benchmark
+    public void transferArithmeticMoney(Blackhole blackhole) {
+        Money fee = transferPolicy.calculateFee(money);
+        Money total = money.add(fee);
+        if (balanceMoney.compareTo(total) >= 0) {
+            blackhole.consume(balanceMoney.subtract(total));
+        }
+        blackhole.consume(balanceMoney.add(money));
+    }
+}
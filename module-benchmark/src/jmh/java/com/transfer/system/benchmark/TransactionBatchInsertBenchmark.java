@@ -0,0 +1,170 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.outbox.TransactionOutbox;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.TransactionRecord;
+import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.TransactionBatchWriter;
+import com.transfer.system.utils.UuidV7;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 대량 저장 방식별 초당 저장 건수 비교 (모드마다 새 인메모리 DB에 rows건 저장)
+ * jdbc : TransactionBatchWriter.writeAll (batch-size건마다 JDBC batch insert)
+ * jpa : EntityManager.persist (hibernate.jdbc.batch_size 단위 batch, batch-size건마다 flush 후 이벤트 기록, clear)
+ * jpa-unbatched : jpa와 같지만 hibernate.jdbc.batch_size=1로 INSERT를 한 건씩 전송 (batch 설정 전 방식)
+ * 각 모드는 commit-size건마다 커밋하고 거래 이벤트 아웃박스 기록도 포함 (릴레이는 끔)
+ *
+ * ./gradlew :module-benchmark:transactionBatchInsertBenchmark -PtxRows=1000000
+ */
+public final class TransactionBatchInsertBenchmark {
+    private TransactionBatchInsertBenchmark() {}
+
+    private static final int ROWS = Integer.getInteger("txbench.rows", 1_000_000);
+    private static final int COMMIT_SIZE = Integer.getInteger("txbench.commit-size", 10_000);
+    private static final int BATCH_SIZE = Integer.getInteger("txbench.batch-size", 1_000);
+    private static final int REPORT_EVERY = Integer.getInteger("txbench.report-every", 100_000);
+    private static final List<String> MODES = List.of(System.getProperty("txbench.modes", "jdbc,jpa,jpa-unbatched").split(","));
+
+    /**
+     * 모드별 측정 결과
+     */
+    private record Result(String mode, long rows, double seconds, double rowsPerSecond, double lastChunkRowsPerSecond) {
+    }
+
+    public static void main(String[] args) {
+        List<Result> results = new ArrayList<>();
+        for (String mode : MODES) {
+            results.add(run(mode.trim()));
+        }
+
+        System.out.printf("%nrows : %d, commitSize : %d, batchSize : %d%n", ROWS, COMMIT_SIZE, BATCH_SIZE);
+        System.out.printf("%-14s %12s %14s %18s%n", "mode", "seconds", "rows/s", "last chunk rows/s");
+        for (Result result : results) {
+            System.out.printf("%-14s %12.1f %14.0f %18.0f%n",
+                result.mode(),
+                result.seconds(),
+                result.rowsPerSecond(),
+                result.lastChunkRowsPerSecond());
+        }
+    }
+
+    private static Result run(String mode) {
+        List<String> properties = new ArrayList<>(List.of(
+            "transaction.write.batch-size=" + BATCH_SIZE,
+            "outbox.relay.enabled=false"
+        ));
+        switch (mode) {
+            case "jdbc", "jpa" -> {
+            }
+            case "jpa-unbatched" -> properties.add("spring.jpa.properties.hibernate.jdbc.batch_size=1");
+            default -> throw new IllegalArgumentException("지원하지 않는 모드입니다. mode : " + mode);
+        }
+
+        try (ConfigurableApplicationContext context = BenchmarkContext.start(properties.toArray(String[]::new))) {
+            TransactionBatchWriter transactionBatchWriter = context.getBean(TransactionBatchWriter.class);
+            TransactionOutbox transactionOutbox = context.getBean(TransactionOutbox.class);
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            List<String> accountNumbers = BenchmarkContext.createAccounts(context.getBean(AccountService.class), 2);
+            AccountRepository accountRepository = context.getBean(AccountRepository.class);
+            AccountEntity from = accountRepository.findByAccountNumber(accountNumbers.get(0)).orElseThrow();
+            AccountEntity to = accountRepository.findByAccountNumber(accountNumbers.get(1)).orElseThrow();
+            BigDecimal amount = new BigDecimal("10000.00");
+            BigDecimal fee = new BigDecimal("100.00");
+
+            long start = System.nanoTime();
+            long chunkStart = start;
+            int reportedRows = 0;
+            double lastChunkRowsPerSecond = 0;
+
+            for (int offset = 0; offset < ROWS; offset += COMMIT_SIZE) {
+                int count = Math.min(COMMIT_SIZE, ROWS - offset);
+                LocalDateTime now = LocalDateTime.now();
+
+                if (mode.equals("jdbc")) {
+                    List<TransactionRecord> records = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        records.add(new TransactionRecord(UuidV7.next(), from.getAccountId(), from.getAccountNumber(), to.getAccountId(), to.getAccountNumber(),
+                            TransactionType.TRANSFER, amount, fee, now));
+                    }
+                    transaction.executeWithoutResult(status -> transactionBatchWriter.writeAll(records));
+                } else {
+                    transaction.executeWithoutResult(status -> {
+                        AccountEntity fromReference = entityManager.getReference(AccountEntity.class, from.getAccountId());
+                        AccountEntity toReference = entityManager.getReference(AccountEntity.class, to.getAccountId());
+                        List<TransactionEntity> entities = new ArrayList<>(count);
+                        for (int i = 0; i < count; i++) {
+                            entities.add(TransactionEntity.builder()
+                                .fromAccount(fromReference)
+                                .toAccount(toReference)
+                                .fromAccountNumber(from.getAccountNumber())
+                                .toAccountNumber(to.getAccountNumber())
+                                .transactionType(TransactionType.TRANSFER)
+                                .amount(amount)
+                                .fee(fee)
+                                .createdTimeStamp(now)
+                                .build());
+                        }
+                        persistAll(entityManager, transactionOutbox, entities);
+                    });
+                }
+
+                int written = offset + count;
+                if (written - reportedRows >= REPORT_EVERY || written == ROWS) {
+                    long current = System.nanoTime();
+                    lastChunkRowsPerSecond = (written - reportedRows) / ((current - chunkStart) / 1_000_000_000.0);
+                    chunkStart = current;
+                    reportedRows = written;
+                    System.out.printf("[%s] rows : %,d, chunk rows/s : %,.0f%n", mode, written, lastChunkRowsPerSecond);
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            long saved = context.getBean(TransactionRepository.class).count() - accountNumbers.size(); // 계좌 생성 시 초기 입금 거래 제외
+            if (saved != ROWS) {
+                throw new IllegalStateException("저장 건수가 일치하지 않습니다. mode : " + mode + ", expected : " + ROWS + ", saved : " + saved);
+            }
+
+            return new Result(mode, ROWS, seconds, ROWS / seconds, lastChunkRowsPerSecond);
+        }
+    }
+
+    /**
+     * 엔티티 대량 저장 (BATCH_SIZE건마다 flush로 Hibernate batch 전송 후 이벤트 기록, clear로 영속성 컨텍스트 비움)
+     * 저장 후 다시 사용하는 엔티티가 없는 측정용 흐름이므로 clear로 준영속 상태가 되어도 무관
+     */
+    private static void persistAll(EntityManager entityManager, TransactionOutbox transactionOutbox, List<TransactionEntity> entities) {
+        List<TransactionRecord> pending = new ArrayList<>(BATCH_SIZE);
+        for (TransactionEntity entity : entities) {
+            entityManager.persist(entity);
+            pending.add(TransactionRecord.from(entity));
+
+            if (pending.size() == BATCH_SIZE) {
+                entityManager.flush();
+                transactionOutbox.appendAll(List.copyOf(pending));
+                entityManager.clear();
+                pending.clear();
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            entityManager.flush();
+            transactionOutbox.appendAll(List.copyOf(pending));
+            entityManager.clear();
+        }
+    }
+}
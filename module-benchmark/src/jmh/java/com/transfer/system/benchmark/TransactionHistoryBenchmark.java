@@ -0,0 +1,71 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 조회 벤치마크 (페이지 번호 조회와 커서 조회 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionHistoryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int historySize;
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private String accountNumber;
+    private int lastPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        AccountService accountService = context.getBean(AccountService.class);
+        transactionService = context.getBean(TransactionService.class);
+
+        List<String> accountNumbers = BenchmarkContext.createAccounts(accountService, 2);
+        accountNumber = accountNumbers.get(0);
+        for (int i = 0; i < historySize; i++) {
+            transactionService.transfer(TransactionRequestDTO.builder()
+                .fromAccountNumber(accountNumbers.get(i % 2))
+                .toAccountNumber(accountNumbers.get((i + 1) % 2))
+                .amount(BigDecimal.ONE)
+                .build());
+        }
+        lastPage = historySize / PAGE_SIZE - 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TransactionResponseDTO> historyFirstPage() {
+        return transactionService.getTransactionHistory(accountNumber, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<TransactionResponseDTO> historyLastPage() {
+        return transactionService.getTransactionHistory(accountNumber, lastPage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TransactionSliceResponseDTO historyCursorFirstPage() {
+        return transactionService.getTransactionHistoryByCursor(accountNumber, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,446 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.ledger.LedgerPersister;
+import com.transfer.system.service.AccountBalanceSlotService;
+import com.transfer.system.service.AccountService;
+import com.transfer.system.service.TransactionService;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * 거래 유형 혼합 부하 테스트 (서비스 계층 직접 호출)
+ * H2(mem, file)로 애플리케이션을 띄워 AccountService.createAccount로 계좌 N개를 만들고, 작업 스레드가 설정 비율의 이체, 입금, 출금, 거래 내역 조회를 반복
+ * 계좌는 Zipf 분포(순위 k의 선택 확률이 1/k^s에 비례)로 골라 소수 계좌에 요청이 몰리는 경합을 재현 (s = 0이면 균등)
+ * 유형별 처리량, 지연 시간 백분위, ErrorCode별 오류 건수를 출력하고 종료 시 전체 잔액 불변식을 확인 (위반 시 종료 코드 1)
+ *
+ * mixload.hot-slot-accounts > 0이면 상위 순위 계좌를 입금 분산 계좌(잔액 슬롯 mixload.hot-slot-count개)로 설정해 수신 경합 분산 효과를 비교
+ *
+ * ./gradlew :module-benchmark:mixLoadTest -PmixAccounts=10000 -PmixWorkers=64 -PmixZipfExponent=1.2 -PmixRatio=transfer=80,deposit=5,withdraw=5,history=10
+ */
+public final class TransferMixLoadTest {
+    private TransferMixLoadTest() {}
+
+    private static final int ACCOUNTS = Integer.getInteger("mixload.accounts", 1000);
+    private static final int WORKERS = Integer.getInteger("mixload.workers", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("mixload.warmup-seconds", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("mixload.duration-seconds", 30));
+    private static final double ZIPF_EXPONENT = Double.parseDouble(System.getProperty("mixload.zipf-exponent", "1.0"));
+    private static final String RATIO = System.getProperty("mixload.ratio", "transfer=70,deposit=10,withdraw=10,history=10");
+    private static final String DATABASE = System.getProperty("mixload.database", "mem");
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal(System.getProperty("mixload.initial-balance", "1000000"));
+    private static final long MAX_AMOUNT = Long.getLong("mixload.max-amount", 10_000);
+    private static final int HOT_SLOT_ACCOUNTS = Integer.getInteger("mixload.hot-slot-accounts", 0); // 입금 분산 계좌로 설정할 상위 순위 계좌 수
+    private static final int HOT_SLOT_COUNT = Integer.getInteger("mixload.hot-slot-count", 8); // 입금 분산 계좌의 잔액 슬롯 수
+    private static final String APP_PROPERTIES = System.getProperty("mixload.app-properties", ""); // 추가 애플리케이션 설정 (;로 구분, 예 : concurrency.transfer-mode=OPTIMISTIC)
+
+    private static final int HISTORY_PAGE_SIZE = 20;
+    private static final Duration PERSIST_TIMEOUT = Duration.ofSeconds(60);
+
+    private enum Operation {
+        TRANSFER, DEPOSIT, WITHDRAW, HISTORY
+    }
+
+    /**
+     * 거래 유형 비율 (누적 가중치로 선택)
+     */
+    private record Mix(Operation[] operations, int[] cumulativeWeights) {
+
+        static Mix parse(String ratio) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : ratio.split(",")) {
+                String[] pair = entry.trim().split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("거래 비율 형식이 올바르지 않습니다. ratio : " + ratio);
+                }
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight < 0) {
+                    throw new IllegalArgumentException("거래 비율은 0 이상이어야 합니다. ratio : " + ratio);
+                }
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+
+            Operation[] operations = weights.keySet().toArray(Operation[]::new);
+            int[] cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("거래 비율 합계가 0입니다. ratio : " + ratio);
+            }
+            return new Mix(operations, cumulativeWeights);
+        }
+
+        Operation next(ThreadLocalRandom random) {
+            int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+
+    /**
+     * Zipf 분포 계좌 순위 선택 (누적 분포를 미리 계산해 이진 탐색)
+     */
+    private static final class ZipfSampler {
+        private final double[] cdf;
+
+        ZipfSampler(int size, double exponent) {
+            cdf = new double[size];
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1.0 / Math.pow(rank + 1, exponent);
+                cdf[rank] = sum;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cdf[rank] /= sum;
+            }
+        }
+
+        int next(ThreadLocalRandom random) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+        }
+    }
+
+    /**
+     * 측정 구간 지연 시간 (작업 스레드 전용)
+     */
+    private static final class Latencies {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+    }
+
+    /**
+     * 작업 스레드별 집계 (금액은 워밍업 구간 포함 성공한 거래 전체, 지연 시간과 오류는 측정 구간만)
+     */
+    private static final class WorkerStats {
+        private final Map<Operation, Latencies> latencies = new EnumMap<>(Operation.class);
+        private final Map<String, Long> errors = new TreeMap<>();
+        private BigDecimal deposited = BigDecimal.ZERO;
+        private BigDecimal withdrawn = BigDecimal.ZERO;
+        private BigDecimal fees = BigDecimal.ZERO;
+
+        WorkerStats() {
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new Latencies());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (ACCOUNTS < 2 || WORKERS < 1) {
+            throw new IllegalArgumentException("계좌는 2개 이상, 작업 스레드는 1개 이상이어야 합니다.");
+        }
+        Mix mix = Mix.parse(RATIO);
+
+        Path databaseDirectory = null;
+        List<String> properties = new ArrayList<>();
+        switch (DATABASE) {
+            case "mem" -> { }
+            case "file" -> {
+                databaseDirectory = Files.createTempDirectory("mixload");
+                properties.add("spring.datasource.url=jdbc:h2:file:" + databaseDirectory.resolve("db") + ";LOCK_TIMEOUT=10000");
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 DB입니다. database : " + DATABASE);
+        }
+        if (HOT_SLOT_ACCOUNTS > 0) {
+            properties.add("account.balance-slot.enabled=true");
+        }
+        Arrays.stream(APP_PROPERTIES.split(";")).map(String::trim).filter(property -> !property.isEmpty()).forEach(properties::add);
+
+        boolean invariantHolds;
+        ConfigurableApplicationContext context = BenchmarkContext.start(properties.toArray(String[]::new));
+        try {
+            invariantHolds = run(context, mix);
+        } finally {
+            context.close();
+            if (databaseDirectory != null) {
+                deleteRecursively(databaseDirectory);
+            }
+        }
+
+        if (!invariantHolds) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean run(ConfigurableApplicationContext context, Mix mix) throws Exception {
+        AccountService accountService = context.getBean(AccountService.class);
+        TransactionService transactionService = context.getBean(TransactionService.class);
+
+        long setupStart = System.nanoTime();
+        List<String> accountNumbers = createAccounts(accountService);
+        System.out.printf("계좌 %d개 생성 (%.1fs)%n", ACCOUNTS, (System.nanoTime() - setupStart) / 1_000_000_000.0);
+
+        int hotSlotAccounts = Math.min(HOT_SLOT_ACCOUNTS, ACCOUNTS);
+        if (hotSlotAccounts > 0) {
+            AccountBalanceSlotService accountBalanceSlotService = context.getBean(AccountBalanceSlotService.class);
+            for (int rank = 0; rank < hotSlotAccounts; rank++) {
+                accountBalanceSlotService.changeSlotCount(accountNumbers.get(rank), HOT_SLOT_COUNT);
+            }
+            System.out.printf("입금 분산 계좌 %d개 (슬롯 %d개)%n", hotSlotAccounts, HOT_SLOT_COUNT);
+        }
+
+        ZipfSampler sampler = new ZipfSampler(ACCOUNTS, ZIPF_EXPONENT);
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long measureUntil = measureFrom + MEASUREMENT.toNanos();
+
+        List<Future<WorkerStats>> futures = new ArrayList<>(WORKERS);
+        try (ExecutorService workers = Executors.newFixedThreadPool(WORKERS)) {
+            for (int i = 0; i < WORKERS; i++) {
+                futures.add(workers.submit(() -> runWorker(accountService, transactionService, accountNumbers, mix, sampler, measureFrom, measureUntil)));
+            }
+        }
+
+        List<WorkerStats> stats = new ArrayList<>(WORKERS);
+        for (Future<WorkerStats> future : futures) {
+            stats.add(future.get());
+        }
+        report(stats);
+
+        LedgerPersister ledgerPersister = context.getBeanProvider(LedgerPersister.class).getIfAvailable();
+        if (ledgerPersister != null && !ledgerPersister.awaitPersisted(PERSIST_TIMEOUT)) {
+            System.out.println("원장 저장 대기 시간 초과 (저장 대기 : " + ledgerPersister.getPendingCount() + ")");
+        }
+        return checkInvariant(context.getBean(JdbcTemplate.class), stats);
+    }
+
+    /**
+     * 초기 잔액이 입금된 계좌 생성 (작업 스레드 수만큼 병렬 생성, 순서는 Zipf 순위로 사용)
+     */
+    private static List<String> createAccounts(AccountService accountService) throws Exception {
+        List<Future<String>> futures = new ArrayList<>(ACCOUNTS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(WORKERS)) {
+            for (int i = 0; i < ACCOUNTS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    String accountNumber = accountService.createAccount(AccountCreateRequestDTO.builder()
+                        .accountName("mixload-" + index)
+                        .accountType(AccountType.PERSONAL)
+                        .currencyType(CurrencyType.KRW)
+                        .build()).getAccountNumber();
+
+                    if (INITIAL_BALANCE.signum() > 0) {
+                        accountService.deposit(accountNumber, INITIAL_BALANCE);
+                    }
+                    return accountNumber;
+                }));
+            }
+        }
+
+        List<String> accountNumbers = new ArrayList<>(ACCOUNTS);
+        for (Future<String> future : futures) {
+            accountNumbers.add(future.get());
+        }
+        return accountNumbers;
+    }
+
+    /**
+     * 측정 종료 시각까지 거래 반복
+     */
+    private static WorkerStats runWorker(AccountService accountService, TransactionService transactionService, List<String> accountNumbers,
+                                         Mix mix, ZipfSampler sampler, long measureFrom, long measureUntil) {
+        WorkerStats stats = new WorkerStats();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= measureUntil) {
+                return stats;
+            }
+
+            Operation operation = mix.next(random);
+            int rank = sampler.next(random);
+            String accountNumber = accountNumbers.get(rank);
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, MAX_AMOUNT + 1));
+            String error = null;
+
+            try {
+                switch (operation) {
+                    case TRANSFER -> {
+                        TransactionResponseDTO response = transactionService.transfer(TransactionRequestDTO.builder()
+                            .fromAccountNumber(accountNumber)
+                            .toAccountNumber(accountNumbers.get(otherRank(sampler, random, rank)))
+                            .amount(amount)
+                            .build());
+                        stats.fees = stats.fees.add(response.getFee());
+                    }
+                    case DEPOSIT -> {
+                        accountService.deposit(accountNumber, amount);
+                        stats.deposited = stats.deposited.add(amount);
+                    }
+                    case WITHDRAW -> {
+                        accountService.withdraw(accountNumber, amount);
+                        stats.withdrawn = stats.withdrawn.add(amount);
+                    }
+                    case HISTORY -> transactionService.getTransactionHistory(accountNumber, 0, HISTORY_PAGE_SIZE);
+                }
+            } catch (TransferSystemException e) {
+                error = operation + ":" + e.getErrorCode().name();
+            } catch (RuntimeException e) {
+                error = operation + ":" + e.getClass().getSimpleName();
+            }
+
+            long end = System.nanoTime();
+            if (start < measureFrom || end > measureUntil) {
+                continue;
+            }
+
+            stats.latencies.get(operation).add(end - start);
+            if (error != null) {
+                stats.errors.merge(error, 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * 받는 계좌 순위 선택 (보내는 계좌와 다른 계좌, 한 계좌에 분포가 몰려 계속 겹치면 다음 순위 사용)
+     */
+    private static int otherRank(ZipfSampler sampler, ThreadLocalRandom random, int fromRank) {
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int rank = sampler.next(random);
+            if (rank != fromRank) {
+                return rank;
+            }
+        }
+        return (fromRank + 1) % ACCOUNTS;
+    }
+
+    /**
+     * 거래 유형별 처리량, 지연 시간 백분위, 오류 건수 출력
+     */
+    private static void report(List<WorkerStats> stats) {
+        System.out.printf("%naccounts : %d, workers : %d, zipf : %.2f, ratio : %s, database : %s, measurement : %ds%n",
+            ACCOUNTS, WORKERS, ZIPF_EXPONENT, RATIO, DATABASE, MEASUREMENT.toSeconds());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s %8s%n", "operation", "count", "ops/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+
+        Map<String, Long> errors = new TreeMap<>();
+        stats.forEach(worker -> worker.errors.forEach((key, count) -> errors.merge(key, count, Long::sum)));
+
+        long totalCount = 0;
+        for (Operation operation : Operation.values()) {
+            long[] latencies = merge(stats, operation);
+            if (latencies.length == 0) {
+                continue;
+            }
+            long errorCount = errors.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(operation + ":"))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+
+            totalCount += latencies.length;
+            System.out.printf("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                operation.name().toLowerCase(),
+                latencies.length,
+                latencies.length / (MEASUREMENT.toNanos() / 1_000_000_000.0),
+                percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99),
+                percentileMillis(latencies, 0.999),
+                percentileMillis(latencies, 1.0),
+                errorCount);
+        }
+        System.out.printf("%-10s %10d %10.1f%n", "total", totalCount, totalCount / (MEASUREMENT.toNanos() / 1_000_000_000.0));
+
+        if (!errors.isEmpty()) {
+            System.out.println("\n오류 (거래 유형:ErrorCode)");
+            errors.forEach((key, count) -> System.out.printf("  %-40s %10d%n", key, count));
+        }
+    }
+
+    private static long[] merge(List<WorkerStats> stats, Operation operation) {
+        int size = stats.stream().mapToInt(worker -> worker.latencies.get(operation).size).sum();
+        long[] merged = new long[size];
+        int offset = 0;
+        for (WorkerStats worker : stats) {
+            Latencies latencies = worker.latencies.get(operation);
+            System.arraycopy(latencies.values, 0, merged, offset, latencies.size);
+            offset += latencies.size;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static double percentileMillis(long[] sortedLatencyNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencyNanos.length) - 1;
+        return sortedLatencyNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * 전체 잔액 불변식 확인 (계좌 잔액은 슬롯 잔액을 포함한 공개 잔액)
+     * - 계좌 잔액 합계 = 거래 내역 합계 (입금 - 출금 - 이체 수수료, 이체 금액은 계좌 간 이동이므로 합계 불변)
+     * - 계좌 잔액 합계 = 클라이언트 집계 (초기 잔액 + 성공한 입금 - 출금 - 수수료)
+     * - 음수 잔액 계좌 없음
+     */
+    private static boolean checkInvariant(JdbcTemplate jdbcTemplate, List<WorkerStats> stats) {
+        BigDecimal balanceTotal = jdbcTemplate.queryForObject("""
+            SELECT (SELECT COALESCE(SUM(balance), 0) FROM account_entity)
+                 + (SELECT COALESCE(SUM(balance), 0) FROM account_balance_slot)
+        """, BigDecimal.class);
+        BigDecimal ledgerTotal = jdbcTemplate.queryForObject("""
+            SELECT COALESCE(SUM(CASE transaction_type
+                WHEN 'DEPOSIT' THEN amount
+                WHEN 'WITHDRAW' THEN -amount
+                ELSE -COALESCE(fee, 0) END), 0)
+            FROM transaction_entity
+        """, BigDecimal.class);
+        Long negativeAccounts = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*)
+            FROM account_entity ae
+            WHERE ae.balance + COALESCE((SELECT SUM(s.balance) FROM account_balance_slot s WHERE s.account_id = ae.account_id), 0) < 0
+        """, Long.class);
+
+        BigDecimal clientTotal = INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS));
+        for (WorkerStats worker : stats) {
+            clientTotal = clientTotal.add(worker.deposited).subtract(worker.withdrawn).subtract(worker.fees);
+        }
+
+        boolean holds = balanceTotal.compareTo(ledgerTotal) == 0
+            && balanceTotal.compareTo(clientTotal) == 0
+            && negativeAccounts != null && negativeAccounts == 0;
+
+        System.out.printf("%n잔액 불변식 : %s%n", holds ? "OK" : "위반");
+        System.out.printf("  계좌 잔액 합계     %s%n", balanceTotal.toPlainString());
+        System.out.printf("  거래 내역 합계     %s%n", ledgerTotal.toPlainString());
+        System.out.printf("  클라이언트 집계    %s%n", clientTotal.toPlainString());
+        System.out.printf("  음수 잔액 계좌     %d%n", negativeAccounts);
+        return holds;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
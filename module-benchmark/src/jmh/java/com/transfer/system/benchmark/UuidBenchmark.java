@@ -0,0 +1,27 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.utils.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 키 UUID 발급 비용 비교 (UUIDv4 SecureRandom, UUIDv7 시간 순서)
+ * -PjmhThreads로 스레드 수를 늘려 UUIDv7 순번 CAS 경합 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidBenchmark {
+
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return UuidV7.next();
+    }
+}
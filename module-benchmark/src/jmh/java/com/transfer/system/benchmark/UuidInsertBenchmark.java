@@ -0,0 +1,149 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.utils.UuidV7;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * UUIDv4, UUIDv7 기본 키의 대량 삽입 속도와 테이블, 인덱스 크기 비교
+ * 전략마다 새 H2 파일 DB에 transaction_entity와 같은 구조의 테이블을 만들고 rows건을 배치로 삽입하며,
+ * reportEvery건마다 구간 삽입 속도를 출력해 테이블이 커질수록 속도가 어떻게 변하는지 확인
+ *
+ * ./gradlew :module-benchmark:uuidInsertBenchmark -PuuidRows=20000000
+ */
+public final class UuidInsertBenchmark {
+    private UuidInsertBenchmark() {}
+
+    private static final long ROWS = Long.getLong("uuidbench.rows", 20_000_000L);
+    private static final int BATCH_SIZE = Integer.getInteger("uuidbench.batch-size", 1_000);
+    private static final long REPORT_EVERY = Long.getLong("uuidbench.report-every", 1_000_000L);
+    private static final List<String> STRATEGIES = List.of(System.getProperty("uuidbench.strategies", "RANDOM_V4,TIME_ORDERED_V7").split(","));
+
+    private static final String CREATE_TABLE = """
+        CREATE TABLE transaction_bench (
+            transaction_id BINARY(16) PRIMARY KEY,
+            from_account_id BINARY(16),
+            to_account_id BINARY(16),
+            transaction_type VARCHAR(20) NOT NULL,
+            amount DECIMAL(19, 2) NOT NULL,
+            fee DECIMAL(19, 2),
+            created_time_stamp TIMESTAMP
+        )
+        """;
+    private static final String INSERT = "INSERT INTO transaction_bench VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 전략별 측정 결과
+     */
+    private record Result(String strategy, long rows, double rowsPerSecond, double lastChunkRowsPerSecond, long diskSpaceUsed, long fileSize) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("uuid-insert-bench");
+        List<Result> results = new ArrayList<>();
+        try {
+            for (String strategy : STRATEGIES) {
+                results.add(run(strategy.trim(), directory));
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+
+        System.out.printf("%nrows : %d, batchSize : %d%n", ROWS, BATCH_SIZE);
+        System.out.printf("%-16s %14s %18s %16s %16s%n", "strategy", "rows/s", "last chunk rows/s", "table+index(MB)", "file(MB)");
+        for (Result result : results) {
+            System.out.printf("%-16s %14.0f %18.0f %16.1f %16.1f%n",
+                result.strategy(),
+                result.rowsPerSecond(),
+                result.lastChunkRowsPerSecond(),
+                result.diskSpaceUsed() / 1024.0 / 1024.0,
+                result.fileSize() / 1024.0 / 1024.0);
+        }
+    }
+
+    private static Result run(String strategy, Path directory) throws SQLException, IOException {
+        Supplier<UUID> idGenerator = switch (strategy) {
+            case "RANDOM_V4" -> UUID::randomUUID;
+            case "TIME_ORDERED_V7" -> UuidV7::next;
+            default -> throw new IllegalArgumentException("지원하지 않는 전략입니다. strategy : " + strategy);
+        };
+
+        Path database = directory.resolve(strategy.toLowerCase());
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + database, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE);
+            }
+            connection.setAutoCommit(false);
+
+            byte[] fromAccountId = toBytes(UuidV7.next());
+            byte[] toAccountId = toBytes(UuidV7.next());
+            BigDecimal amount = new BigDecimal("10000.00");
+            BigDecimal fee = new BigDecimal("100.00");
+
+            long start = System.nanoTime();
+            long chunkStart = start;
+            double lastChunkRowsPerSecond = 0;
+
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (long row = 1; row <= ROWS; row++) {
+                    insert.setBytes(1, toBytes(idGenerator.get()));
+                    insert.setBytes(2, fromAccountId);
+                    insert.setBytes(3, toAccountId);
+                    insert.setString(4, "TRANSFER");
+                    insert.setBigDecimal(5, amount);
+                    insert.setBigDecimal(6, fee);
+                    insert.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+                    insert.addBatch();
+
+                    if (row % BATCH_SIZE == 0 || row == ROWS) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+
+                    if (row % REPORT_EVERY == 0) {
+                        long now = System.nanoTime();
+                        lastChunkRowsPerSecond = REPORT_EVERY / ((now - chunkStart) / 1_000_000_000.0);
+                        chunkStart = now;
+                        System.out.printf("[%s] rows : %,d, chunk rows/s : %,.0f%n", strategy, row, lastChunkRowsPerSecond);
+                    }
+                }
+            }
+            double rowsPerSecond = ROWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+            long diskSpaceUsed;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT DISK_SPACE_USED('TRANSACTION_BENCH')")) {
+                resultSet.next();
+                diskSpaceUsed = resultSet.getLong(1);
+            }
+
+            return new Result(strategy, ROWS, rowsPerSecond, lastChunkRowsPerSecond, diskSpaceUsed, Files.size(Path.of(database + ".mv.db")));
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.transfer.system.benchmark;
+
+import com.transfer.system.monitor.VirtualThreadPinningMonitor;
+import com.transfer.system.service.AccountService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플랫폼 스레드, 가상 스레드 요청 처리 모드의 이체 API 부하 비교
+ * 모드마다 웹 서버를 띄우고 동시 클라이언트(기본 1000)가 hotAccounts개 계좌 사이에서 이체 요청을 반복하며 처리량, 지연 시간 백분위, 오류 응답 수를 출력
+ *
+ * ./gradlew :module-benchmark:loadTest -PloadClients=2000 -PloadDurationSeconds=60 -PloadHotAccounts=16
+ */
+public final class VirtualThreadLoadTest {
+    private VirtualThreadLoadTest() {}
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final int HOT_ACCOUNTS = Integer.getInteger("loadtest.hot-accounts", 16);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30));
+    private static final List<String> MODES = List.of(System.getProperty("loadtest.modes", "platform,virtual").split(","));
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 모드별 측정 결과
+     */
+    private record Result(String mode, long requests, long errors, Map<Integer, Long> statusCounts, long[] sortedLatencyNanos, long pinnedCount) {
+
+        double throughput() {
+            return requests / (MEASUREMENT.toNanos() / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencyNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencyNanos.length) - 1;
+            return sortedLatencyNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 클라이언트별 측정 구간 지연 시간 (측정 중 다른 스레드와 공유하지 않음)
+     */
+    private static final class Latencies {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (String mode : MODES) {
+            results.add(run(mode.trim()));
+        }
+
+        System.out.printf("%nclients : %d, hotAccounts : %d, measurement : %ds%n", CLIENTS, HOT_ACCOUNTS, MEASUREMENT.toSeconds());
+        System.out.printf("%-10s %12s %10s %10s %10s %10s %8s %8s  %s%n", "mode", "requests/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors", "pinned", "status");
+        for (Result result : results) {
+            System.out.printf("%-10s %12.1f %10.2f %10.2f %10.2f %10.2f %8d %8s  %s%n",
+                result.mode(),
+                result.throughput(),
+                result.percentileMillis(0.50),
+                result.percentileMillis(0.99),
+                result.percentileMillis(0.999),
+                result.percentileMillis(1.0),
+                result.errors(),
+                result.pinnedCount() < 0 ? "-" : String.valueOf(result.pinnedCount()),
+                result.statusCounts());
+        }
+    }
+
+    private static Result run(String mode) throws Exception {
+        boolean virtual = switch (mode) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException("지원하지 않는 모드입니다. mode : " + mode);
+        };
+
+        ConfigurableApplicationContext context = BenchmarkContext.startServer("spring.threads.virtual.enabled=" + virtual);
+        try {
+            List<String> accountNumbers = BenchmarkContext.createAccounts(context.getBean(AccountService.class), HOT_ACCOUNTS);
+            URI transferUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/transaction/transfer");
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+            long start = System.nanoTime();
+            long measureFrom = start + WARMUP.toNanos();
+            long measureUntil = measureFrom + MEASUREMENT.toNanos();
+
+            LongAdder errors = new LongAdder();
+            Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+            List<Future<Latencies>> futures = new ArrayList<>(CLIENTS);
+
+            // 클라이언트 수와 관계없이 서버 처리 모드만 비교되도록 클라이언트는 항상 가상 스레드로 실행
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CLIENTS; i++) {
+                    futures.add(clients.submit(() -> runClient(httpClient, transferUri, accountNumbers, measureFrom, measureUntil, errors, statusCounts)));
+                }
+            }
+
+            long requests = 0;
+            for (Future<Latencies> future : futures) {
+                requests += future.get().size;
+            }
+            long[] latencies = new long[(int) requests];
+            int offset = 0;
+            for (Future<Latencies> future : futures) {
+                Latencies client = future.get();
+                System.arraycopy(client.values, 0, latencies, offset, client.size);
+                offset += client.size;
+            }
+            Arrays.sort(latencies);
+
+            Map<Integer, Long> statuses = new TreeMap<>();
+            statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+
+            long pinnedCount = Optional.ofNullable(context.getBeanProvider(VirtualThreadPinningMonitor.class).getIfAvailable())
+                .map(VirtualThreadPinningMonitor::getPinnedCount)
+                .orElse(-1L);
+
+            return new Result(mode, requests, errors.sum(), statuses, latencies, pinnedCount);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 측정 종료 시각까지 이체 요청 반복 (측정 구간 응답만 집계)
+     */
+    private static Latencies runClient(HttpClient httpClient, URI transferUri, List<String> accountNumbers, long measureFrom, long measureUntil,
+                                       LongAdder errors, Map<Integer, LongAdder> statusCounts) {
+        Latencies latencies = new Latencies();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (true) {
+            long requestStart = System.nanoTime();
+            if (requestStart >= measureUntil) {
+                return latencies;
+            }
+
+            int from = random.nextInt(accountNumbers.size());
+            int to = (from + 1 + random.nextInt(accountNumbers.size() - 1)) % accountNumbers.size();
+            String body = "{\"fromAccountNumber\":\"" + accountNumbers.get(from)
+                + "\",\"toAccountNumber\":\"" + accountNumbers.get(to)
+                + "\",\"amount\":100}";
+
+            HttpRequest request = HttpRequest.newBuilder(transferUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return latencies;
+            } catch (Exception e) {
+                status = -1; // 연결 실패, 응답 시간 초과
+            }
+
+            long requestEnd = System.nanoTime();
+            if (requestStart < measureFrom || requestEnd > measureUntil) {
+                continue;
+            }
+
+            latencies.add(requestEnd - requestStart);
+            statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+            if (status != 200) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.transfer.system.service;
+
+import com.transfer.system.benchmark.BenchmarkContext;
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.dto.TransactionCursor;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.TransactionJdbcRepository;
+import com.transfer.system.repository.TransactionRecord;
+import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.UuidV7;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 조회 방식 비교 (거래 historySize건이 있는 계좌의 출금 측 첫 페이지)
+ * entityHydration : 거래 엔티티와 양쪽 계좌를 fetch join으로 적재한 뒤 DTO로 복사 (이전 방식)
+ * dtoProjection : 필요한 7개 컬럼만 TransactionView 레코드로 조회 (읽기 전용 트랜잭션, flush 없음)
+ * 할당량 비교는 -PjmhProfilers=gc로 실행 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HistoryProjectionBenchmark {
+
+    @Param({"100000"})
+    private int historySize;
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+
+    private static final String ENTITY_QUERY = """
+        SELECT te
+        FROM TransactionEntity te
+        LEFT JOIN FETCH te.fromAccount fa
+        LEFT JOIN FETCH te.toAccount ta
+        WHERE te.fromAccount = :account
+          AND (te.createdTimeStamp < :createdTimeStamp
+               OR (te.createdTimeStamp = :createdTimeStamp AND te.transactionId < :transactionId))
+        ORDER BY te.createdTimeStamp DESC, te.transactionId DESC
+    """;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private UUID accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        entityManager = context.getBean(EntityManager.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<String> accountNumbers = BenchmarkContext.createAccounts(context.getBean(AccountService.class), 2);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        AccountEntity from = accountRepository.findByAccountNumber(accountNumbers.get(0)).orElseThrow();
+        AccountEntity to = accountRepository.findByAccountNumber(accountNumbers.get(1)).orElseThrow();
+        accountId = from.getAccountId();
+
+        // 거래 내역만 필요하므로 잔액 변경 없이 JDBC로 직접 적재
+        TransactionJdbcRepository transactionJdbcRepository = context.getBean(TransactionJdbcRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        LocalDateTime baseTime = LocalDateTime.now();
+        for (int offset = 0; offset < historySize; offset += INSERT_CHUNK_SIZE) {
+            List<TransactionRecord> records = new ArrayList<>(INSERT_CHUNK_SIZE);
+            for (int i = offset; i < Math.min(offset + INSERT_CHUNK_SIZE, historySize); i++) {
+                records.add(new TransactionRecord(UuidV7.next(), from.getAccountId(), from.getAccountNumber(), to.getAccountId(), to.getAccountNumber(),
+                    TransactionType.TRANSFER, BigDecimal.ONE, BigDecimal.ZERO, baseTime.minusSeconds(i)));
+            }
+            transaction.executeWithoutResult(status -> transactionJdbcRepository.insertAll(records));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> entityHydration() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(ENTITY_QUERY, TransactionEntity.class)
+            .setParameter("account", entityManager.getReference(AccountEntity.class, accountId))
+            .setParameter("createdTimeStamp", TransactionCursor.FIRST.createdTimeStamp())
+            .setParameter("transactionId", TransactionCursor.FIRST.transactionId())
+            .setMaxResults(pageSize)
+            .getResultList()
+            .stream()
+            .map(HistoryProjectionBenchmark::entityToDto)
+            .toList());
+    }
+
+    @Benchmark
+    public List<TransactionResponseDTO> dtoProjection() {
+        return readOnlyTransaction.execute(status -> transactionRepository.findSentBefore(
+                entityManager.getReference(AccountEntity.class, accountId),
+                TransactionCursor.FIRST.createdTimeStamp(),
+                TransactionCursor.FIRST.transactionId(),
+                PageRequest.of(0, pageSize))
+            .stream()
+            .map(TransactionServiceImpl::toDto)
+            .toList());
+    }
+
+    /**
+     * 이전 방식의 DTO 변환 (적재된 계좌 엔티티에서 계좌 번호를 읽음)
+     */
+    private static TransactionResponseDTO entityToDto(TransactionEntity e) {
+        return TransactionResponseDTO.builder()
+            .transactionId(e.getTransactionId())
+            .fromAccountNumber(e.getFromAccount() != null ? e.getFromAccount().getAccountNumber() : null)
+            .toAccountNumber(e.getToAccount() != null ? e.getToAccount().getAccountNumber() : null)
+            .amount(MoneyUtils.normalize(e.getAmount()))
+            .fee(MoneyUtils.normalize(e.getFee()))
+            .transactionType(e.getTransactionType())
+            .createdTimeStamp(e.getCreatedTimeStamp())
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.repository.TransactionView;
+import com.transfer.system.utils.TimeUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 DTO 변환, 계좌 번호 포맷 마이크로 벤치마크 (패키지 전용 메서드 접근을 위해 service 패키지에 위치)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private TransactionEntity transactionEntity;
+    private TransactionView transactionView;
+    private LocalDate today;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        AccountEntity fromAccount = account("00125080800001");
+        AccountEntity toAccount = account("00125080800002");
+
+        transactionEntity = TransactionEntity.builder()
+            .transactionId(UUID.randomUUID())
+            .fromAccount(fromAccount)
+            .fromAccountNumber(fromAccount.getAccountNumber())
+            .toAccount(toAccount)
+            .toAccountNumber(toAccount.getAccountNumber())
+            .transactionType(TransactionType.TRANSFER)
+            .amount(new BigDecimal("100000"))
+            .fee(new BigDecimal("1000"))
+            .createdTimeStamp(TimeUtils.nowKstLocalDateTime())
+            .build();
+        transactionView = new TransactionView(transactionEntity.getTransactionId(), fromAccount.getAccountNumber(), toAccount.getAccountNumber(),
+            TransactionType.TRANSFER, new BigDecimal("100000"), new BigDecimal("1000"), transactionEntity.getCreatedTimeStamp());
+        today = TimeUtils.nowKstLocalDate();
+    }
+
+    @Benchmark
+    public TransactionResponseDTO transactionToDto() {
+        return TransactionServiceImpl.toDto(transactionEntity);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO transactionViewToDto() {
+        return TransactionServiceImpl.toDto(transactionView);
+    }
+
+    @Benchmark
+    public String formatAccountNumber() {
+        sequence = sequence % 99_999 + 1;
+        return AccountNumberGeneratorService.format(today, sequence);
+    }
+
+    private static AccountEntity account(String accountNumber) {
+        return AccountEntity.builder()
+            .accountId(UUID.randomUUID())
+            .accountNumber(accountNumber)
+            .accountName("bench")
+            .bankName("mxxikrBank")
+            .accountType(AccountType.PERSONAL)
+            .currencyType(CurrencyType.KRW)
+            .balance(new BigDecimal("1000000"))
+            .accountStatus(AccountStatus.ACTIVE)
+            .build();
+    }
+}
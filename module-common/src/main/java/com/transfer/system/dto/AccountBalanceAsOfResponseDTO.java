@@ -0,0 +1,21 @@
+package com.transfer.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceAsOfResponseDTO {
+    private String accountNumber; // 계좌 번호
+    private LocalDateTime asOf; // 조회 시점
+    private BigDecimal balance; // 조회 시점 잔액
+    private LocalDateTime snapshotTimeStamp; // 계산에 사용한 스냅샷 기준 시간 (없으면 null, 처음부터 합산)
+    private long foldedTransactionCount; // 스냅샷 이후 합산한 거래 수
+}
@@ -0,0 +1,22 @@
+package com.transfer.system.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceSlotRequestDTO {
+    @NotBlank
+    private String accountNumber; // 계좌 번호
+
+    @NotNull
+    @PositiveOrZero
+    private Integer slotCount; // 잔액 슬롯 수 (0이면 분산 해제)
+}
@@ -0,0 +1,18 @@
+package com.transfer.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceSlotResponseDTO {
+    private String accountNumber; // 계좌 번호
+    private int slotCount; // 잔액 슬롯 수
+    private BigDecimal balance; // 잔액 (슬롯 잔액을 옮긴 뒤 계좌 잔액)
+}
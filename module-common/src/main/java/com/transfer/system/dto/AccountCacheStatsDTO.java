@@ -0,0 +1,15 @@
+package com.transfer.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AccountCacheStatsDTO {
+    private long hitCount; // 캐시에서 조회된 횟수
+    private long missCount; // DB에서 조회된 횟수
+    private long evictionCount; // 크기 초과, TTL 만료로 제거된 항목 수
+    private long invalidationCount; // 계좌 삭제, 상태 변경으로 무효화된 횟수
+    private double hitRate; // 조회 중 캐시 적중 비율
+    private int size; // 현재 보관 중인 계좌 수
+}
@@ -0,0 +1,34 @@
+package com.transfer.system.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.transfer.system.exception.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkTransferItemResultDTO {
+    private int index; // 요청 목록 내 순번 (0부터 시작)
+    private boolean success;
+    private TransactionResponseDTO transaction; // 성공 시 거래 정보
+    private ErrorCode errorCode; // 실패 시 오류 코드
+    private String message; // 실패 시 오류 메시지
+
+    public static BulkTransferItemResultDTO success(int index, TransactionResponseDTO transaction) {
+        return BulkTransferItemResultDTO.builder()
+            .index(index)
+            .success(true)
+            .transaction(transaction)
+            .build();
+    }
+
+    public static BulkTransferItemResultDTO failure(int index, ErrorCode errorCode) {
+        return BulkTransferItemResultDTO.builder()
+            .index(index)
+            .success(false)
+            .errorCode(errorCode)
+            .message(errorCode.getMessage())
+            .build();
+    }
+}
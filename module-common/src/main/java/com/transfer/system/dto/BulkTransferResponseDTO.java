@@ -0,0 +1,26 @@
+package com.transfer.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkTransferResponseDTO {
+    private int totalCount; // 요청 건수
+    private int successCount; // 성공 건수
+    private int failureCount; // 실패 건수
+    private List<BulkTransferItemResultDTO> results; // 요청 순서대로 정렬된 건별 결과
+
+    public static BulkTransferResponseDTO of(List<BulkTransferItemResultDTO> results) {
+        int successCount = (int) results.stream().filter(BulkTransferItemResultDTO::isSuccess).count();
+
+        return BulkTransferResponseDTO.builder()
+            .totalCount(results.size())
+            .successCount(successCount)
+            .failureCount(results.size() - successCount)
+            .results(results)
+            .build();
+    }
+}
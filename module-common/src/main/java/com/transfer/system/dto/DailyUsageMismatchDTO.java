@@ -0,0 +1,18 @@
+package com.transfer.system.dto;
+
+import com.transfer.system.enums.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class DailyUsageMismatchDTO {
+    private String accountNumber;
+    private LocalDate usageDate;
+    private TransactionType transactionType;
+    private BigDecimal counterAmount; // 누적 테이블 금액
+    private BigDecimal actualAmount; // 거래 내역 집계 금액
+}
@@ -0,0 +1,13 @@
+package com.transfer.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class DailyUsageRebuildResponseDTO {
+    private LocalDate usageDate;
+    private int rebuiltAccountCount; // 재계산된 계좌 수
+}
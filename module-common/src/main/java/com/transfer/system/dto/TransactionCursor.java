@@ -0,0 +1,56 @@
+package com.transfer.system.dto;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 거래 내역 커서 (마지막으로 조회한 거래의 생성 일시 + 거래 ID)
+ */
+public record TransactionCursor(LocalDateTime createdTimeStamp, UUID transactionId) {
+
+    // 첫 페이지 조회용 커서 (모든 거래보다 뒤)
+    public static final TransactionCursor FIRST = new TransactionCursor(
+        LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+        new UUID(-1L, -1L)
+    );
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 외부 노출용 문자열로 변환
+     */
+    public String encode() {
+        String raw = createdTimeStamp + DELIMITER + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 외부 커서 문자열 해석 (없으면 첫 페이지)
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new TransferSystemException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return new TransactionCursor(
+                LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                UUID.fromString(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new TransferSystemException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.transfer.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TransactionSliceResponseDTO {
+    private List<TransactionResponseDTO> content;
+    private int size; // 요청 페이지 크기
+    private int numberOfElements; // 현재 조회 건수
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 조회용 커서
+}
@@ -0,0 +1,16 @@
+package com.transfer.system.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TransferBatchStatsDTO {
+    private long batchCount; // 커밋된 배치 수
+    private long transferCount; // 배치로 처리된 이체 요청 수
+    private double averageBatchSize; // 평균 배치 크기
+    private int maxBatchSize; // 최대 배치 크기
+    private int lastBatchSize; // 마지막 배치 크기
+    private long fallbackBatchCount; // 배치 커밋 실패로 개별 처리된 배치 수
+    private int queuedCount; // 현재 대기 중인 요청 수
+}
@@ -0,0 +1,16 @@
+package com.transfer.system.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ConcurrencyMode {
+    PESSIMISTIC("비관적 락"),
+    OPTIMISTIC("낙관적 락"),
+    ATOMIC("조건부 원자 갱신");
+
+    private final String label;
+
+    ConcurrencyMode(String label) {
+        this.label = label;
+    }
+}
@@ -4,16 +4,18 @@ import lombok.Getter;
 
 @Getter
 public enum CurrencyType {
-    KRW("원화", "₩"),
-    USD("달러", "$"),
-    EUR("유로", "€"),
-    JPY("엔화", "¥");
+    KRW("원화", "₩", 2),
+    USD("달러", "$", 2),
+    EUR("유로", "€", 2),
+    JPY("엔화", "¥", 0);
 
     private final String name;
     private final String symbol;
+    private final int fractionDigits; // 금액 소수점 자리수
 
-    CurrencyType(String name, String symbol) {
+    CurrencyType(String name, String symbol, int fractionDigits) {
         this.name = name;
         this.symbol = symbol;
+        this.fractionDigits = fractionDigits;
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.transfer.system.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum IdempotencyStatus {
+    PROCESSING("처리 중"),
+    COMPLETED("처리 완료");
+
+    private final String label;
+
+    IdempotencyStatus(String label) {
+        this.label = label;
+    }
+}
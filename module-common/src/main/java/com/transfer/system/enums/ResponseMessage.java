@@ -10,10 +10,23 @@ public enum ResponseMessage {
     ACCOUNT_DELETED("계좌 삭제가 완료되었습니다."),
     DEPOSIT_SUCCESSFUL("입금이 완료되었습니다."),
     WITHDRAW_SUCCESSFUL("출금이 완료되었습니다."),
+    BALANCE_AS_OF_RETRIEVED("시점 잔액 조회가 완료되었습니다."),
+    BALANCE_SLOTS_CHANGED("잔액 슬롯 설정이 완료되었습니다."),
 
     // TRANSACTION
     TRANSFER_SUCCESSFUL("이체가 완료되었습니다."),
-    TRANSACTION_HISTORY_RETRIEVED("거래 내역 조회가 완료되었습니다.");
+    BULK_TRANSFER_COMPLETED("일괄 이체 처리가 완료되었습니다."),
+    TRANSACTION_HISTORY_RETRIEVED("거래 내역 조회가 완료되었습니다."),
+
+    // DAILY USAGE
+    DAILY_USAGE_REBUILT("일일 사용량 재계산이 완료되었습니다."),
+    DAILY_USAGE_VERIFIED("일일 사용량 검증이 완료되었습니다."),
+
+    // TRANSFER BATCH
+    TRANSFER_BATCH_STATS_RETRIEVED("이체 배치 통계 조회가 완료되었습니다."),
+
+    // ACCOUNT CACHE
+    ACCOUNT_CACHE_STATS_RETRIEVED("계좌 캐시 통계 조회가 완료되었습니다.");
 
     private final String message;
 
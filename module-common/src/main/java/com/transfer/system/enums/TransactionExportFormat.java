@@ -0,0 +1,17 @@
+package com.transfer.system.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TransactionExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 거래 1건 JSON
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TransactionExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
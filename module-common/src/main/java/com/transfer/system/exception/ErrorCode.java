@@ -11,6 +11,8 @@ public enum ErrorCode {
     TRANSFER_SAME_ACCOUNT("같은 계좌로 이체할 수 없습니다.", HttpStatus.BAD_REQUEST),
     EXCEEDS_WITHDRAW_LIMIT("출금 한도를 초과했습니다.", HttpStatus.BAD_REQUEST),
     ACCOUNT_HAS_TRANSACTIONS("해당 계좌에 거래 이력이 있어 삭제할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    ACCOUNT_NUMBER_EXHAUSTED("오늘 발급 가능한 계좌 번호가 모두 소진되었습니다.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_BALANCE_SLOT_COUNT("유효하지 않은 잔액 슬롯 수입니다.", HttpStatus.BAD_REQUEST),
 
     // TRANSACTION
     INSUFFICIENT_BALANCE("잔액이 부족합니다.", HttpStatus.BAD_REQUEST),
@@ -23,6 +25,15 @@ public enum ErrorCode {
     INVALID_REQUEST("유효하지 않은 요청입니다.", HttpStatus.BAD_REQUEST),
     INVALID_ACCOUNT_NUMBER("유효하지 않은 계좌 번호입니다.", HttpStatus.BAD_REQUEST),
     CURRENCY_TYPE_MISMATCH("통화 종류가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+    TRANSFER_QUEUE_FULL("처리 대기 중인 이체 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    LEDGER_UNAVAILABLE("원장이 요청을 처리할 수 없는 상태입니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_IDEMPOTENCY_KEY("유효하지 않은 멱등 키입니다.", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용된 멱등 키입니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("같은 멱등 키로 처리 중인 요청이 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+    BULK_SIZE_EXCEEDED("한 번에 요청 가능한 이체 건수를 초과했습니다.", HttpStatus.BAD_REQUEST),
+    CONCURRENT_UPDATE_CONFLICT("동시에 처리 중인 요청이 많아 계좌를 변경하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+    DATABASE_BUSY("처리 중인 요청이 많아 DB 연결을 얻지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // ETC
     INTERNAL_ERROR("서버 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -2,6 +2,8 @@ package com.transfer.system.exception;
 
 import com.transfer.system.dto.CommonResponseDTO;
 import com.transfer.system.enums.ResultCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -12,35 +14,62 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import jakarta.validation.ConstraintViolationException;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Slf4j
 @RestControllerAdvice(basePackages = "com.transfer.system")
 public class GlobalExceptionHandler {
+    public static final String ERROR_COUNTER = "transfer.system.errors";
+
+    // 오류 코드별 응답 횟수 (생성 시 모두 등록해 두고 응답 시에는 증가만 수행)
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (ErrorCode code : ErrorCode.values()) {
+            errorCounters.put(code, Counter.builder(ERROR_COUNTER)
+                .description("오류 코드별 오류 응답 횟수")
+                .tag("code", code.name())
+                .tag("status", String.valueOf(code.getStatus().value()))
+                .register(meterRegistry));
+        }
+    }
+
     // 도메인, 비즈니스 예외
     @ExceptionHandler(TransferSystemException.class)
     public ResponseEntity<CommonResponseDTO<Void>> handleTransferException(TransferSystemException ex) {
         ErrorCode code = ex.getErrorCode();
+        errorCounters.get(code).increment();
+
+        return ResponseEntity
+            .status(code.getStatus())
+            .body(CommonResponseDTO.failure(toResultCode(code), code.getMessage()));
+    }
 
-        // ErrorCode에 따라 ResultCode를 결정
-        ResultCode result = switch (code) {
+    /**
+     * ErrorCode에 따라 ResultCode를 결정 (필터 등 컨트롤러 밖의 오류 응답에서도 사용)
+     */
+    public static ResultCode toResultCode(ErrorCode code) {
+        return switch (code) {
             case INVALID_REQUEST,
                  INVALID_ACCOUNT_NUMBER,
                  INVALID_AMOUNT,
                  INVALID_FEE,
                  TRANSFER_SAME_ACCOUNT,
                  EXCEEDS_WITHDRAW_LIMIT,
-                 CURRENCY_TYPE_MISMATCH -> ResultCode.FAIL_INVALID_PARAMETER;
+                 CURRENCY_TYPE_MISMATCH,
+                 INVALID_CURSOR,
+                 INVALID_IDEMPOTENCY_KEY,
+                 BULK_SIZE_EXCEEDED -> ResultCode.FAIL_INVALID_PARAMETER;
             default -> ResultCode.FAIL_DATA_ERROR;
         };
-
-        return ResponseEntity
-            .status(code.getStatus())
-            .body(CommonResponseDTO.failure(result, code.getMessage()));
     }
 
     // 서버 내부 오류 처리
     @ExceptionHandler({HttpMessageNotReadableException.class, MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class
     })
     public ResponseEntity<CommonResponseDTO<Void>> handleServerLikeBadInputs(Exception ex) {
+        errorCounters.get(ErrorCode.INTERNAL_ERROR).increment();
         log.warn("[INTERNAL_ERROR] {}", ex.getMessage());
         return ResponseEntity
                 .status(ErrorCode.INTERNAL_ERROR.getStatus())
@@ -51,6 +80,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class})
     public ResponseEntity<CommonResponseDTO<Void>> handleBadRequest(Exception ex) {
         ErrorCode code = ErrorCode.INVALID_REQUEST;
+        errorCounters.get(code).increment();
         log.warn("[INVALID_REQUEST] {}", ex.getMessage());
         return ResponseEntity
                 .status(code.getStatus())
@@ -60,6 +90,7 @@ public class GlobalExceptionHandler {
     // 그 외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CommonResponseDTO<Void>> handleUnexpected(Exception ex) {
+        errorCounters.get(ErrorCode.INTERNAL_ERROR).increment();
         log.error("[INTERNAL_ERROR] : {}", ex.getMessage(), ex);
         return ResponseEntity
             .status(ErrorCode.INTERNAL_ERROR.getStatus())
@@ -0,0 +1,28 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class AccountCachePolicy {
+    private final int maxSize; // 메모리에 보관하는 최대 계좌 수 (계좌 ID, 계좌 번호 기준 각각)
+    private final Duration ttl; // 보관 기간 (다른 노드에서 변경된 계좌 정보가 반영되기까지의 최대 지연)
+
+    public AccountCachePolicy(
+        @Value("${account.cache.max-size}") int maxSize,
+        @Value("${account.cache.ttl-seconds}") long ttlSeconds) {
+
+        if (maxSize <= 0 || ttlSeconds <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+}
@@ -0,0 +1,35 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class BalanceSlotPolicy {
+    private final boolean enabled; // 입금 분산 계좌의 입금을 잔액 슬롯에 반영할지 여부 (꺼져 있으면 모든 입금이 계좌 행을 잠금)
+    private final int maxSlotCount; // 계좌당 최대 잔액 슬롯 수
+
+    public BalanceSlotPolicy(
+        @Value("${account.balance-slot.enabled}") boolean enabled,
+        @Value("${account.balance-slot.max-count}") int maxSlotCount) {
+
+        if (maxSlotCount <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.enabled = enabled;
+        this.maxSlotCount = maxSlotCount;
+    }
+
+    /**
+     * 잔액 슬롯 수 검증 (0은 분산 해제)
+     */
+    public void validateSlotCount(int slotCount) {
+        if (slotCount < 0 || slotCount > maxSlotCount) {
+            throw new TransferSystemException(ErrorCode.INVALID_BALANCE_SLOT_COUNT);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class BalanceSnapshotPolicy {
+    private final Duration lag; // 스냅샷 기준 시간을 현재보다 늦추는 시간 (커밋 전 거래, 원장 저장 대기 거래가 기준 시간 이전에 끼어들지 않도록)
+    private final int batchSize; // 한 번에 조회, 저장하는 계좌 수
+
+    public BalanceSnapshotPolicy(
+        @Value("${balance.snapshot.lag-ms}") long lagMillis,
+        @Value("${balance.snapshot.batch-size}") int batchSize) {
+
+        if (lagMillis < 0 || batchSize <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.lag = Duration.ofMillis(lagMillis);
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,33 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class BulkTransferPolicy {
+    private final int maxSize; // 한 번에 요청 가능한 최대 이체 건수
+
+    public BulkTransferPolicy(@Value("${transfer.bulk.max-size}") int maxSize) {
+        if (maxSize <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 일괄 이체 건수 검증
+     */
+    public void validateSize(int size) {
+        if (size <= 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+        if (size > maxSize) {
+            throw new TransferSystemException(ErrorCode.BULK_SIZE_EXCEEDED);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Getter
+@Component
+public class ConcurrencyPolicy {
+    private final Map<TransactionType, ConcurrencyMode> modes = new EnumMap<>(TransactionType.class); // 거래 유형별 동시성 제어 방식
+    private final int maxAttempts; // 낙관적 락 충돌 시 최대 시도 횟수
+    private final Duration baseBackoff; // 재시도 대기 시간 기준값
+    private final Duration maxBackoff; // 재시도 대기 시간 상한
+
+    public ConcurrencyPolicy(
+        @Value("${concurrency.transfer-mode}") ConcurrencyMode transferMode,
+        @Value("${concurrency.deposit-mode}") ConcurrencyMode depositMode,
+        @Value("${concurrency.withdraw-mode}") ConcurrencyMode withdrawMode,
+        @Value("${concurrency.optimistic.max-attempts}") int maxAttempts,
+        @Value("${concurrency.optimistic.backoff-base-ms}") long baseBackoffMillis,
+        @Value("${concurrency.optimistic.backoff-max-ms}") long maxBackoffMillis) {
+
+        if (transferMode == null || depositMode == null || withdrawMode == null) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR, "concurrency.*-mode 설정이 필요합니다.");
+        }
+
+        if (maxAttempts <= 0 || baseBackoffMillis < 0 || maxBackoffMillis < baseBackoffMillis) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR, "잘못된 낙관적 락 재시도 설정입니다. maxAttempts : " + maxAttempts
+                + ", backoffBaseMs : " + baseBackoffMillis + ", backoffMaxMs : " + maxBackoffMillis);
+        }
+
+        this.modes.put(TransactionType.TRANSFER, transferMode);
+        this.modes.put(TransactionType.DEPOSIT, depositMode);
+        this.modes.put(TransactionType.WITHDRAW, withdrawMode);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+    }
+
+    /**
+     * 거래 유형별 동시성 제어 방식 조회
+     */
+    public ConcurrencyMode modeOf(TransactionType transactionType) {
+        return modes.get(transactionType);
+    }
+
+    /**
+     * 재시도 대기 시간 계산 (지수 증가 상한 내에서 무작위, full jitter)
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempt, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class IdempotencyPolicy {
+    private final int cacheSize; // 메모리에 보관하는 최근 키 수
+    private final Duration cacheTtl; // 메모리 보관 기간
+    private final Duration retention; // DB 보관 기간 (지나면 같은 키로 다시 실행 가능)
+    private final Duration waitTimeout; // 같은 키로 처리 중인 요청 완료 대기 시간
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    public IdempotencyPolicy(
+        @Value("${idempotency.cache-size}") int cacheSize,
+        @Value("${idempotency.cache-ttl-seconds}") long cacheTtlSeconds,
+        @Value("${idempotency.retention-hours}") long retentionHours,
+        @Value("${idempotency.wait-timeout-ms}") long waitTimeoutMillis) {
+
+        if (cacheSize <= 0 || cacheTtlSeconds <= 0 || retentionHours <= 0 || waitTimeoutMillis <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.cacheSize = cacheSize;
+        this.cacheTtl = Duration.ofSeconds(cacheTtlSeconds);
+        this.retention = Duration.ofHours(retentionHours);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+    }
+}
@@ -0,0 +1,45 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Component
+public class LedgerJournalPolicy {
+    public static final int RECORD_SIZE = 128; // 저널 기록 1건 크기 (고정 길이)
+
+    private final boolean enabled; // 원장 거래를 저널에 기록하고 디스크 반영 후 응답할지 여부
+    private final String directory; // 저널 세그먼트 파일 디렉터리
+    private final int segmentSizeBytes; // 세그먼트 파일 크기 (가득 차면 새 세그먼트로 전환)
+    private final Set<Long> quarantineSequences; // 재반영 중 저장에 실패하면 저장 중단 대신 dead-letter 파일로 옮길 저널 순번
+
+    public LedgerJournalPolicy(
+        @Value("${ledger.journal.enabled}") boolean enabled,
+        @Value("${ledger.journal.directory}") String directory,
+        @Value("${ledger.journal.segment-size-bytes}") int segmentSizeBytes,
+        @Value("${ledger.journal.quarantine-sequences:}") List<Long> quarantineSequences) {
+
+        if (directory == null || directory.isBlank() || segmentSizeBytes < RECORD_SIZE
+            || quarantineSequences.stream().anyMatch(sequence -> sequence == null || sequence <= 0)) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.quarantineSequences = Set.copyOf(quarantineSequences);
+    }
+
+    /**
+     * 세그먼트당 기록 수
+     */
+    public int getRecordsPerSegment() {
+        return segmentSizeBytes / RECORD_SIZE;
+    }
+}
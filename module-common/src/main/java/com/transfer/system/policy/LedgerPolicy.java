@@ -0,0 +1,29 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class LedgerPolicy {
+    private final int shardCount; // 원장 샤드(작성 스레드) 수
+    private final int queueCapacity; // 샤드, 저장 대기열별 최대 대기 건수
+    private final int persistBatchSize; // 한 트랜잭션으로 저장할 최대 거래 건수
+
+    public LedgerPolicy(
+        @Value("${ledger.shard-count}") int shardCount,
+        @Value("${ledger.queue-capacity}") int queueCapacity,
+        @Value("${ledger.persist-batch-size}") int persistBatchSize) {
+
+        if (shardCount <= 0 || queueCapacity <= 0 || persistBatchSize <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.shardCount = shardCount;
+        this.queueCapacity = queueCapacity;
+        this.persistBatchSize = persistBatchSize;
+    }
+}
@@ -0,0 +1,35 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class OutboxPolicy {
+    private final boolean enabled; // 거래 저장 시 아웃박스 이벤트 기록 여부
+    private final int batchSize; // 릴레이가 한 번에 조회, 전달하는 최대 이벤트 수
+    private final int maxBatchesPerRun; // 릴레이 1회 실행 시 최대 배치 수 (대기 이벤트가 많아도 실행 시간 제한)
+    private final int memorySinkCapacity; // 메모리 전달 대상이 보관하는 최대 이벤트 수 (초과 시 오래된 이벤트부터 제거)
+    private final String fileSinkPath; // 파일 전달 대상 경로 (NDJSON 추가 기록)
+
+    public OutboxPolicy(
+        @Value("${outbox.enabled}") boolean enabled,
+        @Value("${outbox.relay.batch-size}") int batchSize,
+        @Value("${outbox.relay.max-batches-per-run}") int maxBatchesPerRun,
+        @Value("${outbox.sink.memory.capacity}") int memorySinkCapacity,
+        @Value("${outbox.sink.file.path}") String fileSinkPath) {
+
+        if (batchSize <= 0 || maxBatchesPerRun <= 0 || memorySinkCapacity <= 0 || fileSinkPath == null || fileSinkPath.isBlank()) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.memorySinkCapacity = memorySinkCapacity;
+        this.fileSinkPath = fileSinkPath;
+    }
+}
@@ -0,0 +1,21 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class TransactionExportPolicy {
+    private final int fetchSize; // JDBC 커서가 DB에서 한 번에 가져오는 행 수 (메모리에 동시에 올라가는 최대 행 수)
+
+    public TransactionExportPolicy(@Value("${transaction.export.fetch-size}") int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.fetchSize = fetchSize;
+    }
+}
@@ -0,0 +1,21 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class TransactionWritePolicy {
+    private final int batchSize; // 거래 대량 저장 시 한 번에 전송하는 행 수 (JDBC batch 크기, JPA flush, clear 주기)
+
+    public TransactionWritePolicy(@Value("${transaction.write.batch-size}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,31 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class TransferBatchPolicy {
+    private final int maxSize; // 한 트랜잭션에 묶을 최대 이체 건수
+    private final Duration maxLinger; // 배치를 채우기 위해 대기하는 최대 시간
+    private final int queueCapacity; // 대기 가능한 최대 이체 요청 수
+
+    public TransferBatchPolicy(
+        @Value("${transfer.batch.max-size}") int maxSize,
+        @Value("${transfer.batch.max-linger-ms}") long maxLingerMillis,
+        @Value("${transfer.batch.queue-capacity}") int queueCapacity) {
+
+        if (maxSize <= 0 || maxLingerMillis < 0 || queueCapacity <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.maxSize = maxSize;
+        this.maxLinger = Duration.ofMillis(maxLingerMillis);
+        this.queueCapacity = queueCapacity;
+    }
+}
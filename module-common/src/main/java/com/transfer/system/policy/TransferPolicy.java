@@ -1,8 +1,10 @@
 package com.transfer.system.policy;
 
+import com.transfer.system.enums.CurrencyType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
-import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.Money;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,6 +18,12 @@ public class TransferPolicy {
     private final BigDecimal withdrawDailyLimit; // 출금 일일 한도
     private final BigDecimal transferDailyLimit; // 이체 일일 한도
 
+    @Getter(AccessLevel.NONE)
+    private final long feeRateUnscaled; // 수수료율 정수 표현 (feeRateUnscaled / 10^feeRateScale)
+
+    @Getter(AccessLevel.NONE)
+    private final int feeRateScale;
+
     public TransferPolicy(
         @Value("${transfer.fee-rate}") BigDecimal feeRate,
         @Value("${transfer.withdraw-daily-limit}") BigDecimal withdrawDailyLimit,
@@ -34,13 +42,47 @@ public class TransferPolicy {
         this.feeRate = feeRate;
         this.withdrawDailyLimit = withdrawDailyLimit;
         this.transferDailyLimit = transferDailyLimit;
+
+        BigDecimal stripped = feeRate.stripTrailingZeros();
+        BigDecimal normalizedRate = stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+        this.feeRateUnscaled = normalizedRate.unscaledValue().longValueExact();
+        this.feeRateScale = normalizedRate.scale();
     }
 
     /**
-     * 수수료 계산
+     * 수수료 계산 (소수점 2자리)
      */
     public BigDecimal calculateFee(BigDecimal amount) {
-        return MoneyUtils.normalize(amount.multiply(feeRate));
+        return calculateFee(amount, null);
+    }
+
+    /**
+     * 통화별 소수점 자리수 기준 수수료 계산
+     */
+    public BigDecimal calculateFee(BigDecimal amount, CurrencyType currencyType) {
+        return calculateFee(Money.of(amount, currencyType)).toBigDecimal();
+    }
+
+    /**
+     * 수수료 계산 (HALF_UP 반올림)
+     */
+    public Money calculateFee(Money amount) {
+        return amount.multiply(feeRateUnscaled, feeRateScale);
+    }
+
+    /**
+     * 금액 통화 단위 검증 (통화 소수점 자리수를 넘거나 최소 단위(long) 범위를 넘는 금액은 반올림하지 않고 INVALID_AMOUNT)
+     */
+    public void validateAmountScale(BigDecimal amount, CurrencyType currencyType) {
+        if (amount.stripTrailingZeros().scale() > Money.scaleOf(currencyType)) {
+            throw new TransferSystemException(ErrorCode.INVALID_AMOUNT);
+        }
+
+        try {
+            Money.of(amount, currencyType);
+        } catch (ArithmeticException e) {
+            throw new TransferSystemException(ErrorCode.INVALID_AMOUNT);
+        }
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.transfer.system.policy;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class VirtualThreadPolicy {
+    private final boolean enabled; // 요청 처리, 서비스 계층을 가상 스레드에서 실행할지 여부
+    private final int poolMaxSize; // DB 연결 풀 최대 크기
+    private final Duration connectionTimeout; // DB 연결 획득 대기 시간 상한
+    private final Duration pinnedThreshold; // 보고할 캐리어 스레드 고정(pinning) 최소 시간
+
+    public static final int DEFAULT_POOL_SIZE = 10;
+
+    public VirtualThreadPolicy(
+        @Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+        @Value("${datasource.pool.max-size}") int poolMaxSize,
+        @Value("${datasource.pool.connection-timeout-ms}") long connectionTimeoutMillis,
+        @Value("${virtual-threads.pinned-threshold-ms}") long pinnedThresholdMillis) {
+
+        // Hikari 최소 연결 대기 시간은 250ms
+        if (poolMaxSize < 0 || connectionTimeoutMillis < 250 || pinnedThresholdMillis < 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        this.enabled = enabled;
+        this.poolMaxSize = poolMaxSize > 0 ? poolMaxSize : autoPoolSize(Runtime.getRuntime().availableProcessors());
+        this.connectionTimeout = Duration.ofMillis(connectionTimeoutMillis);
+        this.pinnedThreshold = Duration.ofMillis(pinnedThresholdMillis);
+    }
+
+    /**
+     * 연결 풀 자동 크기 (CPU 코어 수 * 2 + 1, 최소 기본값 10)
+     * 가상 스레드 모드에서도 동시 요청 수만큼 늘리지 않음 (같은 계좌 행 잠금 대기는 연결을 늘려도 줄지 않음)
+     */
+    static int autoPoolSize(int processors) {
+        return Math.max(DEFAULT_POOL_SIZE, processors * 2 + 1);
+    }
+}
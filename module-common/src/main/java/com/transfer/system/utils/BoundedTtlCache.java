@@ -0,0 +1,131 @@
+package com.transfer.system.utils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 최대 크기, TTL이 있는 메모리 캐시 (크기 초과 시 가장 오래 저장된 항목부터 제거)
+ * 가상 스레드가 잠금 대기 중 캐리어 스레드를 고정하지 않도록 synchronized 대신 ReentrantLock 사용
+ */
+public final class BoundedTtlCache<K, V> {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long evictionCount; // 크기 초과, TTL 만료로 제거된 항목 수
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    BoundedTtlCache(int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("캐시 크기와 TTL은 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * 조회 (만료된 항목은 제거 후 빈 값 반환)
+     */
+    public Optional<V> get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            if (clock.getAsLong() - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                evictionCount++;
+                return Optional.empty();
+            }
+            return Optional.of(entry.value());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장 (같은 키는 새 값과 만료 시각으로 교체)
+     */
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            entries.remove(key);
+            entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+
+            while (entries.size() > maxSize) {
+                Iterator<K> eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictionCount++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 항목 일괄 제거 (저장 순서가 만료 순서와 같으므로 앞에서부터 확인)
+     */
+    public int evictExpired() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            int evicted = 0;
+
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().getValue().expiresAt() < 0) {
+                    break;
+                }
+                iterator.remove();
+                evicted++;
+            }
+            evictionCount += evicted;
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getEvictionCount() {
+        lock.lock();
+        try {
+            return evictionCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.transfer.system.utils;
+
+import com.transfer.system.enums.CurrencyType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 최소 단위(long) 기반 금액 (KRW, USD, EUR는 소수점 2자리, JPY는 0자리)
+ * 연산은 long으로 수행하고 BigDecimal 변환은 DTO, JPA 경계에서만 수행
+ */
+public record Money(long minorUnits, int scale) implements Comparable<Money> {
+
+    public static final int DEFAULT_SCALE = MoneyUtils.FEE_SCALE;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    public Money {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("지원하지 않는 소수점 자리수입니다. scale : " + scale);
+        }
+    }
+
+    public static Money zero(int scale) {
+        return new Money(0L, scale);
+    }
+
+    public static Money ofMinor(long minorUnits, int scale) {
+        return new Money(minorUnits, scale);
+    }
+
+    /**
+     * BigDecimal 금액 변환 (자리수를 넘는 소수점은 HALF_UP 반올림, long 범위를 넘으면 ArithmeticException)
+     */
+    public static Money of(BigDecimal amount, int scale) {
+        return new Money(amount.setScale(scale, MoneyUtils.FEE_ROUNDING_MODE).unscaledValue().longValueExact(), scale);
+    }
+
+    /**
+     * 통화별 소수점 자리수 기준 변환 (통화가 없으면 기본 2자리)
+     */
+    public static Money of(BigDecimal amount, CurrencyType currencyType) {
+        return of(amount, scaleOf(currencyType));
+    }
+
+    /**
+     * 반올림 없는 변환 (저장된 잔액처럼 값이 바뀌면 안 되는 금액, 자리수를 넘는 소수점이 있으면 IllegalArgumentException)
+     */
+    public static Money ofExact(BigDecimal amount, CurrencyType currencyType) {
+        int scale = scaleOf(currencyType);
+        if (amount.stripTrailingZeros().scale() > scale) {
+            throw new IllegalArgumentException("소수점 자리수로 표현할 수 없는 금액입니다. amount : " + amount.toPlainString() + ", scale : " + scale);
+        }
+        return of(amount, scale);
+    }
+
+    public static int scaleOf(CurrencyType currencyType) {
+        return currencyType != null ? currencyType.getFractionDigits() : DEFAULT_SCALE;
+    }
+
+    public Money add(Money other) {
+        checkScale(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), scale);
+    }
+
+    public Money subtract(Money other) {
+        checkScale(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), scale);
+    }
+
+    /**
+     * 비율 곱셈 (수수료 계산, 결과는 HALF_UP 반올림)
+     * rateUnscaled / 10^rateScale 비율을 곱하며, long 범위를 넘는 중간값은 BigDecimal로 계산
+     */
+    public Money multiply(long rateUnscaled, int rateScale) {
+        if (rateScale >= 0 && rateScale < POWERS_OF_TEN.length) {
+            try {
+                long product = Math.multiplyExact(minorUnits, rateUnscaled);
+                return new Money(divideHalfUp(product, POWERS_OF_TEN[rateScale]), scale);
+            } catch (ArithmeticException e) {
+                // long 범위 초과 시 BigDecimal로 계산
+            }
+        }
+
+        BigDecimal product = BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(rateUnscaled, rateScale));
+        return new Money(product.setScale(0, MoneyUtils.FEE_ROUNDING_MODE).longValueExact(), scale);
+    }
+
+    public Money multiply(BigDecimal rate) {
+        BigDecimal stripped = rate.scale() < 0 ? rate.setScale(0, RoundingMode.UNNECESSARY) : rate;
+        return multiply(stripped.unscaledValue().longValueExact(), stripped.scale());
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkScale(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * 정수 나눗셈 HALF_UP 반올림 (0에서 먼 쪽으로 반올림)
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    private void checkScale(Money other) {
+        if (scale != other.scale) {
+            throw new IllegalArgumentException("소수점 자리수가 다른 금액은 연산할 수 없습니다. " + scale + " != " + other.scale);
+        }
+    }
+}
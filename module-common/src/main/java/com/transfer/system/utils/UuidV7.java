@@ -0,0 +1,66 @@
+package com.transfer.system.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 UUID (RFC 9562 UUIDv7)
+ * 상위 48비트 Unix 밀리초, 12비트 같은 밀리초 내 순번(rand_a), 62비트 난수
+ * 새 행이 기본 키 B-tree 끝에 쌓이도록 스레드 간에도 발급 순서대로 증가하는 값을 보장
+ * (같은 밀리초 순번 4096개 초과, 시계 역행 시에는 마지막 값에서 이어서 증가)
+ */
+public final class UuidV7 {
+    private static final UuidV7 INSTANCE = new UuidV7(System::currentTimeMillis);
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong(); // 밀리초 << 12 | 순번
+
+    UuidV7(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 다음 UUIDv7 발급
+     */
+    public static UUID next() {
+        return INSTANCE.generate();
+    }
+
+    /**
+     * UUIDv7의 생성 시각 (Unix 밀리초)
+     */
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    UUID generate() {
+        long state = nextState();
+        long millis = state >>> SEQUENCE_BITS;
+        long sequence = state & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSigBits = (millis << 16) | VERSION | sequence;
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 현재 밀리초가 마지막 발급보다 크면 순번 0부터, 아니면 마지막 값 + 1
+     */
+    private long nextState() {
+        long candidate = clock.getAsLong() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastState.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
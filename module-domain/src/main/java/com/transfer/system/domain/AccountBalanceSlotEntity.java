@@ -0,0 +1,36 @@
+package com.transfer.system.domain;
+
+import com.transfer.system.utils.MoneyUtils;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(AccountBalanceSlotId.class)
+@Table(name = "account_balance_slot")
+public class AccountBalanceSlotEntity {
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID accountId; // 계좌 고유 식별자
+
+    @Id
+    private int slotIndex; // 슬롯 번호 (0 ~ 슬롯 수 - 1)
+
+    @Column(precision = 19, scale = 2, nullable = false)
+    private BigDecimal balance; // 슬롯 잔액
+
+    private LocalDateTime updatedTimeStamp; // 마지막 갱신 일시
+
+    // 슬롯 잔액 비우기 (계좌 잔액으로 옮긴 뒤 호출)
+    public void clearBalance(LocalDateTime updatedTimeStamp) {
+        this.balance = MoneyUtils.normalize(BigDecimal.ZERO);
+        this.updatedTimeStamp = updatedTimeStamp;
+    }
+}
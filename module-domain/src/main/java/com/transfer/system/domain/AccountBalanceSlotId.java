@@ -0,0 +1,18 @@
+package com.transfer.system.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AccountBalanceSlotId implements Serializable {
+    private UUID accountId; // 계좌 고유 식별자
+    private int slotIndex; // 슬롯 번호
+}
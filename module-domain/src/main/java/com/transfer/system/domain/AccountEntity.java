@@ -5,7 +5,7 @@ import com.transfer.system.enums.AccountType;
 import com.transfer.system.enums.CurrencyType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
-import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.Money;
 import com.transfer.system.utils.TimeUtils;
 import jakarta.persistence.*;
 import lombok.*;
@@ -22,7 +22,7 @@ import java.util.UUID;
 @Table(name = "account_entity")
 public class AccountEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(columnDefinition = "BINARY(16)")
     private UUID accountId; // 계좌 고유 식별자
 
@@ -45,32 +45,58 @@ public class AccountEntity {
     @Enumerated(EnumType.STRING)
     private AccountStatus accountStatus; // 계좌 상태
 
+    @Column(nullable = false)
+    private int balanceSlotCount; // 입금 분산 잔액 슬롯 수 (0이면 일반 계좌)
+
     @Column(updatable = false)
     private LocalDateTime createdTimeStamp; // 계좌 생성 일시
 
     private LocalDateTime updatedTimeStamp; // 계좌 정보 수정 일시
 
+    @Version
+    private Long version; // 낙관적 락 버전
+
     // 출금
     public void subtractBalance(BigDecimal amount) {
-        if (this.balance.compareTo(amount) < 0) { // 잔액 부족 여부 확인
+        Money current = balanceOf(this.balance);
+        Money subtracted = Money.of(amount, currencyType);
+
+        if (current.compareTo(subtracted) < 0) { // 잔액 부족 여부 확인
             throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
         }
-        this.balance = MoneyUtils.normalize(this.balance.subtract(amount));
+        this.balance = current.subtract(subtracted).toBigDecimal();
         this.updatedTimeStamp = TimeUtils.nowKstLocalDateTime();
     }
 
     // 입금
     public void addBalance(BigDecimal amount) {
-        this.balance = MoneyUtils.normalize(this.balance.add(amount));
+        this.balance = balanceOf(this.balance).add(Money.of(amount, currencyType)).toBigDecimal();
+        this.updatedTimeStamp = TimeUtils.nowKstLocalDateTime();
+    }
+
+    // 입금 분산 잔액 슬롯 수 변경 (슬롯 잔액을 계좌 잔액으로 옮긴 뒤 호출)
+    public void changeBalanceSlotCount(int balanceSlotCount) {
+        this.balanceSlotCount = balanceSlotCount;
         this.updatedTimeStamp = TimeUtils.nowKstLocalDateTime();
     }
 
     // 계좌 잔액 업데이트
     public void updateBalance(BigDecimal newBalance) {
-        if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+        Money balanceMoney = balanceOf(newBalance);
+
+        if (balanceMoney.isNegative()) {
             throw new TransferSystemException(ErrorCode.NEGATIVE_BALANCE);
         }
-        this.balance = MoneyUtils.normalize(newBalance);
+        this.balance = balanceMoney.toBigDecimal();
         this.updatedTimeStamp = TimeUtils.nowKstLocalDateTime();
     }
+
+    // 잔액 변환 (통화 자리수로 표현할 수 없는 잔액은 반올림해 값을 바꾸지 않고 거부)
+    private Money balanceOf(BigDecimal value) {
+        try {
+            return Money.ofExact(value, currencyType);
+        } catch (IllegalArgumentException e) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR, "통화 자리수로 표현할 수 없는 잔액입니다. accountNumber : " + accountNumber + ", balance : " + value.toPlainString());
+        }
+    }
 }
\ No newline at end of file
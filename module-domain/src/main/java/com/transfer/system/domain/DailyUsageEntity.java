@@ -0,0 +1,47 @@
+package com.transfer.system.domain;
+
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.TimeUtils;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(DailyUsageId.class)
+@Table(name = "daily_usage")
+public class DailyUsageEntity {
+    @Id
+    private String accountNumber; // 계좌 번호
+
+    @Id
+    private LocalDate usageDate; // 사용 일자 (KST)
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType; // 거래 유형
+
+    @Column(precision = 19, scale = 2, nullable = false)
+    private BigDecimal usedAmount; // 누적 사용 금액
+
+    private LocalDateTime updatedTimeStamp; // 마지막 갱신 일시
+
+    // 사용 금액 누적
+    public void addUsedAmount(BigDecimal amount) {
+        this.usedAmount = MoneyUtils.normalize(this.usedAmount.add(amount));
+        this.updatedTimeStamp = TimeUtils.nowKstLocalDateTime();
+    }
+
+    // 거래 내역 기준 재계산 값으로 덮어쓰기
+    public void overwriteUsedAmount(BigDecimal usedAmount) {
+        this.usedAmount = MoneyUtils.normalize(usedAmount);
+        this.updatedTimeStamp = TimeUtils.nowKstLocalDateTime();
+    }
+}
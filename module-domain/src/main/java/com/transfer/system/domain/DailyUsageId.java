@@ -0,0 +1,20 @@
+package com.transfer.system.domain;
+
+import com.transfer.system.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyUsageId implements Serializable {
+    private String accountNumber; // 계좌 번호
+    private LocalDate usageDate; // 사용 일자
+    private TransactionType transactionType; // 거래 유형
+}
@@ -0,0 +1,39 @@
+package com.transfer.system.domain;
+
+import com.transfer.system.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "idempotency_record")
+public class IdempotencyRecordEntity {
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey; // 멱등 키 (Idempotency-Key 헤더)
+
+    @Column(nullable = false)
+    private String requestPath; // 요청 경로
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // 요청 메서드, 경로, 본문 해시 (SHA-256)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IdempotencyStatus status; // 처리 상태
+
+    private Integer responseStatus; // 응답 HTTP 상태 코드
+
+    @Lob
+    private String responseBody; // 응답 본문 (JSON)
+
+    @Column(updatable = false)
+    private LocalDateTime createdTimeStamp; // 최초 요청 일시
+
+    private LocalDateTime completedTimeStamp; // 처리 완료 일시
+}
@@ -7,7 +7,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,7 +20,7 @@ import java.util.UUID;
 @Table(name = "transaction_entity")
 public class TransactionEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     @Column(columnDefinition = "BINARY(16)")
     private UUID transactionId; // 거래 고유 식별자
 
@@ -33,6 +32,12 @@ public class TransactionEntity {
     @JoinColumn(name = "to_account_id")
     private AccountEntity toAccount; // 입금 계좌
 
+    @Column(length = 14)
+    private String fromAccountNumber; // 출금 계좌 번호 (조회용 비정규화)
+
+    @Column(length = 14)
+    private String toAccountNumber; // 입금 계좌 번호 (조회용 비정규화)
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     @NotNull
@@ -45,4 +50,15 @@ public class TransactionEntity {
     private BigDecimal fee; // 수수료
 
     private LocalDateTime createdTimeStamp; // 거래 생성 일시
+
+    // 저장 시 계좌 번호 비정규화 컬럼 채움
+    @PrePersist
+    void fillAccountNumbers() {
+        if (fromAccountNumber == null && fromAccount != null) {
+            fromAccountNumber = fromAccount.getAccountNumber();
+        }
+        if (toAccountNumber == null && toAccount != null) {
+            toAccountNumber = toAccount.getAccountNumber();
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.domain.AccountBalanceSlotEntity;
+import com.transfer.system.domain.AccountBalanceSlotId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlotEntity, AccountBalanceSlotId> {
+
+    // 슬롯 하나에 입금 반영 (계좌 행은 잠그지 않고 해당 슬롯 행만 잠금)
+    @Modifying
+    @Query("""
+        UPDATE AccountBalanceSlotEntity s
+        SET s.balance = s.balance + :amount, s.updatedTimeStamp = :updatedTimeStamp
+        WHERE s.accountId = :accountId AND s.slotIndex = :slotIndex
+    """)
+    int addBalance(@Param("accountId") UUID accountId, @Param("slotIndex") int slotIndex, @Param("amount") BigDecimal amount, @Param("updatedTimeStamp") LocalDateTime updatedTimeStamp);
+
+    // 계좌의 모든 슬롯을 슬롯 번호 순서로 잠금 (진행 중인 슬롯 입금이 커밋될 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT s
+        FROM AccountBalanceSlotEntity s
+        WHERE s.accountId = :accountId
+        ORDER BY s.slotIndex
+    """)
+    List<AccountBalanceSlotEntity> findAllByAccountIdLock(@Param("accountId") UUID accountId);
+
+    // 잔액이 남아 있는 모든 슬롯을 계좌, 슬롯 번호 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT s
+        FROM AccountBalanceSlotEntity s
+        WHERE s.balance <> 0
+        ORDER BY s.accountId, s.slotIndex
+    """)
+    List<AccountBalanceSlotEntity> findAllNonZeroLock();
+
+    // 계좌의 슬롯 잔액 합계
+    @Query("""
+        SELECT COALESCE(SUM(s.balance), 0)
+        FROM AccountBalanceSlotEntity s
+        WHERE s.accountId = :accountId
+    """)
+    BigDecimal sumBalanceByAccountId(@Param("accountId") UUID accountId);
+}
@@ -0,0 +1,13 @@
+package com.transfer.system.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 조회 결과 (계좌 메타데이터는 캐시에서 조회하고 잔액만 DB에서 조회)
+ */
+public record AccountBalanceView(
+    BigDecimal balance,
+    LocalDateTime updatedTimeStamp
+) {
+}
@@ -0,0 +1,17 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.CurrencyType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 원자적 입금 반영 결과 (갱신 직후 계좌 잔액, 입금 분산 계좌는 슬롯 잔액 제외)
+ */
+public record AccountCreditRecord(
+    UUID accountId,
+    BigDecimal balance,
+    CurrencyType currencyType,
+    int balanceSlotCount
+) {
+}
@@ -0,0 +1,63 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.CurrencyType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class AccountJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 조회 없이 한 문장으로 입금 반영 후 갱신된 행 반환 (H2 FINAL TABLE, PostgreSQL은 UPDATE ... RETURNING)
+    // 낙관적 락 사용 중인 트랜잭션이 충돌을 감지하도록 버전 증가
+    private static final String CREDIT_ACTIVE_SQL = """
+        SELECT account_id, balance, currency_type, balance_slot_count
+        FROM FINAL TABLE (
+            UPDATE account_entity
+            SET balance = balance + ?, updated_time_stamp = ?, version = version + 1
+            WHERE %s = ? AND account_status = 'ACTIVE'
+        )
+    """;
+
+    private static final String CREDIT_ACTIVE_BY_ACCOUNT_NUMBER_SQL = CREDIT_ACTIVE_SQL.formatted("account_number");
+    private static final String CREDIT_ACTIVE_BY_ID_SQL = CREDIT_ACTIVE_SQL.formatted("account_id");
+
+    /**
+     * 활성 계좌 입금 반영 (계좌가 없거나 활성 상태가 아니면 빈 값)
+     */
+    public Optional<AccountCreditRecord> creditActive(String accountNumber, BigDecimal amount, LocalDateTime updatedTimeStamp) {
+        return jdbcTemplate.query(CREDIT_ACTIVE_BY_ACCOUNT_NUMBER_SQL, (rs, rowNum) -> toRecord(rs),
+                amount, Timestamp.valueOf(updatedTimeStamp), accountNumber)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * 활성 계좌 입금 반영 (계좌 ID 기준, 계좌가 없거나 활성 상태가 아니면 빈 값)
+     */
+    public Optional<AccountCreditRecord> creditActive(UUID accountId, BigDecimal amount, LocalDateTime updatedTimeStamp) {
+        return jdbcTemplate.query(CREDIT_ACTIVE_BY_ID_SQL, (rs, rowNum) -> toRecord(rs),
+                amount, Timestamp.valueOf(updatedTimeStamp), TransactionJdbcRepository.toBytes(accountId))
+            .stream()
+            .findFirst();
+    }
+
+    private static AccountCreditRecord toRecord(ResultSet rs) throws SQLException {
+        return new AccountCreditRecord(
+            TransactionJdbcRepository.toUuid(rs.getBytes("account_id")),
+            rs.getBigDecimal("balance"),
+            CurrencyType.valueOf(rs.getString("currency_type")),
+            rs.getInt("balance_slot_count")
+        );
+    }
+}
@@ -4,10 +4,15 @@ import com.transfer.system.domain.AccountEntity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,4 +28,52 @@ public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
         WHERE ae.accountNumber = :accountNumber
     """)
     Optional<AccountEntity> findByAccountNumberLock(@Param("accountNumber") String accountNumber);
+
+    // 여러 계좌를 계좌 번호 순서로 한 번에 잠금 (교착 상태 방지를 위해 잠금 순서 고정)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT ae
+        FROM AccountEntity ae
+        WHERE ae.accountNumber IN :accountNumbers
+        ORDER BY ae.accountNumber
+    """)
+    List<AccountEntity> findAllByAccountNumberInLock(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 잔액만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음, 입금 분산 계좌는 슬롯 잔액까지 한 문장으로 합산)
+    @Query("""
+        SELECT new com.transfer.system.repository.AccountBalanceView(
+            ae.balance + COALESCE((SELECT SUM(s.balance) FROM AccountBalanceSlotEntity s WHERE s.accountId = ae.accountId), 0),
+            ae.updatedTimeStamp)
+        FROM AccountEntity ae
+        WHERE ae.accountId = :accountId
+    """)
+    Optional<AccountBalanceView> findBalanceById(@Param("accountId") UUID accountId);
+
+    // 입금 분산 계좌 조회 (잠금 없이 슬롯 선택에 필요한 값만 조회)
+    @Query("""
+        SELECT new com.transfer.system.repository.AccountSlotView(ae.accountId, ae.accountNumber, ae.currencyType, ae.accountStatus, ae.balanceSlotCount)
+        FROM AccountEntity ae
+        WHERE ae.accountNumber = :accountNumber
+    """)
+    Optional<AccountSlotView> findSlotViewByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // 잔액 증감 (엔티티 조회 없이 반영, 낙관적 락 사용 중인 트랜잭션이 충돌을 감지하도록 버전 증가)
+    @Modifying
+    @Query("""
+        UPDATE AccountEntity ae
+        SET ae.balance = ae.balance + :delta, ae.updatedTimeStamp = :updatedTimeStamp, ae.version = ae.version + 1
+        WHERE ae.accountId = :accountId
+    """)
+    int addBalance(@Param("accountId") UUID accountId, @Param("delta") BigDecimal delta, @Param("updatedTimeStamp") LocalDateTime updatedTimeStamp);
+
+    // 조건부 차감 (잔액 확인과 차감을 한 문장으로 수행, 활성 계좌이고 잔액이 충분할 때만 반영되어 1 반환)
+    @Modifying
+    @Query("""
+        UPDATE AccountEntity ae
+        SET ae.balance = ae.balance - :total, ae.updatedTimeStamp = :updatedTimeStamp, ae.version = ae.version + 1
+        WHERE ae.accountNumber = :accountNumber
+          AND ae.balance >= :total
+          AND ae.accountStatus = com.transfer.system.enums.AccountStatus.ACTIVE
+    """)
+    int debitActive(@Param("accountNumber") String accountNumber, @Param("total") BigDecimal total, @Param("updatedTimeStamp") LocalDateTime updatedTimeStamp);
 }
\ No newline at end of file
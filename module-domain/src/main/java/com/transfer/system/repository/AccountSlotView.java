@@ -0,0 +1,18 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.CurrencyType;
+
+import java.util.UUID;
+
+/**
+ * 입금 분산 계좌 조회 결과 (계좌 행을 잠그거나 영속성 컨텍스트에 올리지 않고 입금 슬롯 선택에 필요한 값만 조회)
+ */
+public record AccountSlotView(
+    UUID accountId,
+    String accountNumber,
+    CurrencyType currencyType,
+    AccountStatus accountStatus,
+    int balanceSlotCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.transfer.system.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 거래 내역 기준 계좌별 잔액 증감 집계 결과 (출금 측은 금액 + 수수료, 입금 측은 금액)
+ */
+public interface BalanceMovement {
+    UUID getAccountId();
+
+    BigDecimal getAmount();
+
+    UUID getLastTransactionId();
+
+    long getTransactionCount();
+}
@@ -0,0 +1,108 @@
+package com.transfer.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class BalanceSnapshotJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO balance_snapshot (account_id, snapshot_time_stamp, balance, last_transaction_id, created_time_stamp)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+
+    private static final String LATEST_SNAPSHOT_TIME_SQL = """
+        SELECT MAX(snapshot_time_stamp)
+        FROM balance_snapshot
+    """;
+
+    private static final String LATEST_BY_ACCOUNT_SQL = """
+        SELECT account_id, snapshot_time_stamp, balance, last_transaction_id
+        FROM balance_snapshot
+        WHERE account_id = ?
+          AND snapshot_time_stamp <= ?
+        ORDER BY snapshot_time_stamp DESC
+        LIMIT 1
+    """;
+
+    private static final String LATEST_BY_ACCOUNTS_SQL = """
+        SELECT s.account_id, s.snapshot_time_stamp, s.balance, s.last_transaction_id
+        FROM balance_snapshot s
+        WHERE s.account_id IN (%s)
+          AND s.snapshot_time_stamp = (
+              SELECT MAX(l.snapshot_time_stamp)
+              FROM balance_snapshot l
+              WHERE l.account_id = s.account_id
+                AND l.snapshot_time_stamp <= ?
+          )
+    """;
+
+    /**
+     * 전체 계좌 중 가장 최근 스냅샷 기준 시간
+     */
+    public Optional<LocalDateTime> findLatestSnapshotTimeStamp() {
+        Timestamp latest = jdbcTemplate.queryForObject(LATEST_SNAPSHOT_TIME_SQL, Timestamp.class);
+        return Optional.ofNullable(latest).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * 기준 시간 이전(포함) 계좌의 마지막 스냅샷
+     */
+    public Optional<BalanceSnapshotRecord> findLatest(UUID accountId, LocalDateTime at) {
+        return jdbcTemplate.query(LATEST_BY_ACCOUNT_SQL, (rs, rowNum) -> toRecord(rs),
+                TransactionJdbcRepository.toBytes(accountId), Timestamp.valueOf(at))
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * 기준 시간 이전(포함) 계좌별 마지막 스냅샷 (스냅샷이 없는 계좌는 결과에 없음)
+     */
+    public List<BalanceSnapshotRecord> findLatestByAccountIds(Collection<UUID> accountIds, LocalDateTime at) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> params = new ArrayList<>(accountIds.size() + 1);
+        accountIds.forEach(accountId -> params.add(TransactionJdbcRepository.toBytes(accountId)));
+        params.add(Timestamp.valueOf(at));
+
+        String sql = LATEST_BY_ACCOUNTS_SQL.formatted(String.join(", ", Collections.nCopies(accountIds.size(), "?")));
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toRecord(rs), params.toArray());
+    }
+
+    /**
+     * 스냅샷 일괄 저장 (JDBC batch insert)
+     */
+    public void insertAll(List<BalanceSnapshotRecord> records, LocalDateTime createdTimeStamp) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setBytes(1, TransactionJdbcRepository.toBytes(record.accountId()));
+            ps.setTimestamp(2, Timestamp.valueOf(record.snapshotTimeStamp()));
+            ps.setBigDecimal(3, record.balance());
+            ps.setBytes(4, TransactionJdbcRepository.toBytes(record.lastTransactionId()));
+            ps.setTimestamp(5, Timestamp.valueOf(createdTimeStamp));
+        });
+    }
+
+    private static BalanceSnapshotRecord toRecord(ResultSet rs) throws SQLException {
+        return new BalanceSnapshotRecord(
+            TransactionJdbcRepository.toUuid(rs.getBytes("account_id")),
+            rs.getTimestamp("snapshot_time_stamp").toLocalDateTime(),
+            rs.getBigDecimal("balance"),
+            TransactionJdbcRepository.toUuid(rs.getBytes("last_transaction_id"))
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.transfer.system.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 계좌 잔액 스냅샷 행 (snapshotTimeStamp까지 생성된 거래를 모두 반영한 잔액)
+ */
+public record BalanceSnapshotRecord(
+    UUID accountId,
+    LocalDateTime snapshotTimeStamp,
+    BigDecimal balance,
+    UUID lastTransactionId
+) {
+}
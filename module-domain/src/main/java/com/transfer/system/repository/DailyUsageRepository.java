@@ -0,0 +1,12 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.domain.DailyUsageEntity;
+import com.transfer.system.domain.DailyUsageId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyUsageRepository extends JpaRepository<DailyUsageEntity, DailyUsageId> {
+    List<DailyUsageEntity> findAllByUsageDate(LocalDate usageDate); // 특정 일자의 모든 누적 사용량 조회
+}
@@ -0,0 +1,16 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * 거래 내역 기준 계좌별 사용 금액 집계 결과
+ */
+public interface DailyUsageSum {
+    String getAccountNumber();
+
+    TransactionType getTransactionType();
+
+    BigDecimal getUsedAmount();
+}
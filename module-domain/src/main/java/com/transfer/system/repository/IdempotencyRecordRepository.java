@@ -0,0 +1,50 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.domain.IdempotencyRecordEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecordEntity, String> {
+
+    // 처리 중 상태로 선점 (이미 존재하는 키면 기본 키 중복 예외)
+    @Modifying
+    @Query(value = """
+        INSERT INTO idempotency_record (idempotency_key, request_path, request_hash, status, created_time_stamp)
+        VALUES (:idempotencyKey, :requestPath, :requestHash, 'PROCESSING', :createdTimeStamp)
+    """, nativeQuery = true)
+    int insertProcessing(@Param("idempotencyKey") String idempotencyKey, @Param("requestPath") String requestPath, @Param("requestHash") String requestHash, @Param("createdTimeStamp") LocalDateTime createdTimeStamp);
+
+    // 처리 완료 응답 저장
+    @Modifying
+    @Query("""
+        UPDATE IdempotencyRecordEntity ir
+        SET ir.status = com.transfer.system.enums.IdempotencyStatus.COMPLETED,
+            ir.responseStatus = :responseStatus,
+            ir.responseBody = :responseBody,
+            ir.completedTimeStamp = :completedTimeStamp
+        WHERE ir.idempotencyKey = :idempotencyKey
+          AND ir.status = com.transfer.system.enums.IdempotencyStatus.PROCESSING
+    """)
+    int complete(@Param("idempotencyKey") String idempotencyKey, @Param("responseStatus") int responseStatus, @Param("responseBody") String responseBody, @Param("completedTimeStamp") LocalDateTime completedTimeStamp);
+
+    // 처리 중 선점 해제 (실패한 요청은 같은 키로 다시 실행 가능)
+    @Modifying
+    @Query("""
+        DELETE FROM IdempotencyRecordEntity ir
+        WHERE ir.idempotencyKey = :idempotencyKey
+          AND ir.status = com.transfer.system.enums.IdempotencyStatus.PROCESSING
+    """)
+    int deleteProcessing(@Param("idempotencyKey") String idempotencyKey);
+
+    // 보관 기간이 지난 키 삭제
+    @Modifying
+    @Query("""
+        DELETE FROM IdempotencyRecordEntity ir
+        WHERE ir.createdTimeStamp < :threshold
+    """)
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,43 @@
+package com.transfer.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerJournalCheckpointJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int CHECKPOINT_ID = 1;
+
+    private static final String SELECT_SQL = """
+        SELECT applied_sequence
+        FROM ledger_journal_checkpoint
+        WHERE checkpoint_id = ?
+    """;
+
+    private static final String UPDATE_SQL = """
+        UPDATE ledger_journal_checkpoint
+        SET applied_sequence = ?, updated_time_stamp = ?
+        WHERE checkpoint_id = ? AND applied_sequence < ?
+    """;
+
+    /**
+     * DB에 반영된 마지막 저널 순번
+     */
+    public long findAppliedSequence() {
+        Long appliedSequence = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, CHECKPOINT_ID);
+        return appliedSequence == null ? 0 : appliedSequence;
+    }
+
+    /**
+     * 적용 위치 갱신 (거래 저장과 같은 트랜잭션에서 호출, 뒤로 돌아가지 않음)
+     */
+    public void updateAppliedSequence(long appliedSequence, LocalDateTime updatedTimeStamp) {
+        jdbcTemplate.update(UPDATE_SQL, appliedSequence, Timestamp.valueOf(updatedTimeStamp), CHECKPOINT_ID, appliedSequence);
+    }
+}
@@ -0,0 +1,126 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO transaction_entity (transaction_id, from_account_id, from_account_number, to_account_id, to_account_number, transaction_type, amount, fee, created_time_stamp)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private static final String EXPORT_SQL = """
+        SELECT transaction_id, from_account_number, to_account_number, transaction_type, amount, fee, created_time_stamp
+        FROM transaction_entity
+        WHERE (from_account_id = ? OR to_account_id = ?)
+    """;
+
+    /**
+     * 거래 일괄 저장 (JDBC batch insert)
+     */
+    public void insertAll(List<TransactionRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setBytes(1, toBytes(record.transactionId()));
+            ps.setBytes(2, toBytes(record.fromAccountId()));
+            ps.setString(3, record.fromAccountNumber());
+            ps.setBytes(4, toBytes(record.toAccountId()));
+            ps.setString(5, record.toAccountNumber());
+            ps.setString(6, record.transactionType().name());
+            ps.setBigDecimal(7, record.amount());
+            ps.setBigDecimal(8, record.fee());
+            ps.setTimestamp(9, Timestamp.valueOf(record.createdTimeStamp()));
+        });
+    }
+
+    /**
+     * 계좌 거래 내역을 시간 순으로 한 행씩 전달 (기간 경계는 null이면 제한 없음, from 포함, to 미포함)
+     * 읽기 전용 전방 커서로 fetchSize 행씩 가져오므로 전체 결과를 메모리에 두지 않음
+     * (MySQL은 useCursorFetch=true, PostgreSQL은 autocommit 해제 상태에서만 fetchSize 단위로 스트리밍)
+     */
+    public void streamByAccount(UUID accountId, LocalDateTime from, LocalDateTime to, int fetchSize, Consumer<TransactionView> action) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(toBytes(accountId));
+        params.add(toBytes(accountId));
+
+        if (from != null) {
+            sql.append(" AND created_time_stamp >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND created_time_stamp < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        sql.append(" ORDER BY created_time_stamp, transaction_id");
+
+        RowCallbackHandler handler = rs -> action.accept(toView(rs));
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static TransactionView toView(ResultSet rs) throws SQLException {
+        return new TransactionView(
+            toUuid(rs.getBytes("transaction_id")),
+            rs.getString("from_account_number"),
+            rs.getString("to_account_number"),
+            TransactionType.valueOf(rs.getString("transaction_type")),
+            rs.getBigDecimal("amount"),
+            rs.getBigDecimal("fee"),
+            rs.getTimestamp("created_time_stamp").toLocalDateTime()
+        );
+    }
+
+    /**
+     * UUID를 BINARY(16) 컬럼 값으로 변환 (JPA 매핑과 동일한 빅엔디언 순서)
+     */
+    static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    /**
+     * BINARY(16) 컬럼 값을 UUID로 변환
+     */
+    static UUID toUuid(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
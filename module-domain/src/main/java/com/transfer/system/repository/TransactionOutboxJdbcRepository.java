@@ -0,0 +1,89 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TransactionOutboxJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO transaction_outbox (transaction_id, transaction_type, from_account_number, to_account_number, amount, fee, transaction_time_stamp, created_time_stamp)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private static final String PENDING_SQL = """
+        SELECT outbox_id, transaction_id, transaction_type, from_account_number, to_account_number, amount, fee, transaction_time_stamp, created_time_stamp
+        FROM transaction_outbox
+        ORDER BY outbox_id
+        LIMIT ?
+    """;
+
+    private static final String DELETE_SQL = """
+        DELETE FROM transaction_outbox
+        WHERE outbox_id IN (%s)
+    """;
+
+    /**
+     * 거래 이벤트 일괄 기록 (JDBC batch insert, 거래 저장과 같은 트랜잭션에서 호출)
+     */
+    public void insertAll(List<TransactionRecord> records, LocalDateTime createdTimeStamp) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setBytes(1, TransactionJdbcRepository.toBytes(record.transactionId()));
+            ps.setString(2, record.transactionType().name());
+            ps.setString(3, record.fromAccountNumber());
+            ps.setString(4, record.toAccountNumber());
+            ps.setBigDecimal(5, record.amount());
+            ps.setBigDecimal(6, record.fee());
+            ps.setTimestamp(7, Timestamp.valueOf(record.createdTimeStamp()));
+            ps.setTimestamp(8, Timestamp.valueOf(createdTimeStamp));
+        });
+    }
+
+    /**
+     * 전달 대기 이벤트를 기록 순서대로 조회 (잠금 없는 일반 조회이므로 거래 처리와 경합하지 않음)
+     */
+    public List<TransactionOutboxRecord> findPending(int limit) {
+        return jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> toRecord(rs), limit);
+    }
+
+    /**
+     * 전달 완료 이벤트 삭제 (기본 키 동등 조건만 사용해 범위 잠금 없이 해당 행만 잠금)
+     */
+    public int deleteAll(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = DELETE_SQL.formatted(String.join(", ", Collections.nCopies(outboxIds.size(), "?")));
+        return jdbcTemplate.update(sql, outboxIds.toArray());
+    }
+
+    private static TransactionOutboxRecord toRecord(ResultSet rs) throws SQLException {
+        return new TransactionOutboxRecord(
+            rs.getLong("outbox_id"),
+            TransactionJdbcRepository.toUuid(rs.getBytes("transaction_id")),
+            TransactionType.valueOf(rs.getString("transaction_type")),
+            rs.getString("from_account_number"),
+            rs.getString("to_account_number"),
+            rs.getBigDecimal("amount"),
+            rs.getBigDecimal("fee"),
+            rs.getTimestamp("transaction_time_stamp").toLocalDateTime(),
+            rs.getTimestamp("created_time_stamp").toLocalDateTime()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 아웃박스 거래 이벤트 행 (outboxId 순서가 기록 순서)
+ */
+public record TransactionOutboxRecord(
+    long outboxId,
+    UUID transactionId,
+    TransactionType transactionType,
+    String fromAccountNumber,
+    String toAccountNumber,
+    BigDecimal amount,
+    BigDecimal fee,
+    LocalDateTime transactionTimeStamp,
+    LocalDateTime createdTimeStamp
+) {
+}
@@ -0,0 +1,46 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JDBC 일괄 저장용 거래 행 (거래 ID를 애플리케이션에서 발급)
+ */
+public record TransactionRecord(
+    UUID transactionId,
+    UUID fromAccountId,
+    String fromAccountNumber,
+    UUID toAccountId,
+    String toAccountNumber,
+    TransactionType transactionType,
+    BigDecimal amount,
+    BigDecimal fee,
+    LocalDateTime createdTimeStamp
+) {
+
+    /**
+     * JPA로 저장한 거래의 행 값 (계좌 프록시는 초기화하지 않고 식별자만 사용)
+     */
+    public static TransactionRecord from(TransactionEntity transactionEntity) {
+        return new TransactionRecord(
+            transactionEntity.getTransactionId(),
+            accountId(transactionEntity.getFromAccount()),
+            transactionEntity.getFromAccountNumber(),
+            accountId(transactionEntity.getToAccount()),
+            transactionEntity.getToAccountNumber(),
+            transactionEntity.getTransactionType(),
+            transactionEntity.getAmount(),
+            transactionEntity.getFee(),
+            transactionEntity.getCreatedTimeStamp()
+        );
+    }
+
+    private static UUID accountId(AccountEntity accountEntity) {
+        return accountEntity != null ? accountEntity.getAccountId() : null;
+    }
+}
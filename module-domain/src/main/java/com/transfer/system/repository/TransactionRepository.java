@@ -3,8 +3,11 @@ package com.transfer.system.repository;
 import com.transfer.system.domain.AccountEntity;
 import com.transfer.system.domain.TransactionEntity;
 import com.transfer.system.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.data.domain.Page;
@@ -12,15 +15,21 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionRepository extends JpaRepository<TransactionEntity, UUID> {
+    // 거래 내역 조회는 영속성 컨텍스트에 엔티티를 올리지 않고, 조회 전 자동 flush 없이 실행
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     @Query(
         value = """
-            SELECT te
+            SELECT new com.transfer.system.repository.TransactionView(te.transactionId, te.fromAccountNumber, te.toAccountNumber, te.transactionType, te.amount, te.fee, te.createdTimeStamp)
             FROM TransactionEntity te
-            LEFT JOIN FETCH te.fromAccount fa
-            LEFT JOIN FETCH te.toAccount ta
             WHERE te.fromAccount = :account OR te.toAccount = :account
             ORDER BY te.createdTimeStamp DESC
         """,
@@ -30,18 +39,106 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
             WHERE te.fromAccount = :account OR te.toAccount = :account
         """
     )
-    Page<TransactionEntity> findAllByAccount(@Param("account") AccountEntity account, Pageable pageable); // 특정 계좌의 모든 거래 내역 조회
+    Page<TransactionView> findAllByAccount(@Param("account") AccountEntity account, Pageable pageable); // 특정 계좌의 모든 거래 내역 조회 (계좌 조인 없이 DTO로 조회)
 
-    // 일일 한도 계산용 조회
+    // 커서 이전의 출금 측 거래 조회 (idx_tx_from_created)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("""
+        SELECT new com.transfer.system.repository.TransactionView(te.transactionId, te.fromAccountNumber, te.toAccountNumber, te.transactionType, te.amount, te.fee, te.createdTimeStamp)
+        FROM TransactionEntity te
+        WHERE te.fromAccount = :account
+          AND (te.createdTimeStamp < :createdTimeStamp
+               OR (te.createdTimeStamp = :createdTimeStamp AND te.transactionId < :transactionId))
+        ORDER BY te.createdTimeStamp DESC, te.transactionId DESC
+    """)
+    List<TransactionView> findSentBefore(@Param("account") AccountEntity account, @Param("createdTimeStamp") LocalDateTime createdTimeStamp, @Param("transactionId") UUID transactionId, Pageable pageable);
+
+    // 커서 이전의 입금 측 거래 조회 (idx_tx_to_created)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("""
+        SELECT new com.transfer.system.repository.TransactionView(te.transactionId, te.fromAccountNumber, te.toAccountNumber, te.transactionType, te.amount, te.fee, te.createdTimeStamp)
+        FROM TransactionEntity te
+        WHERE te.toAccount = :account
+          AND (te.createdTimeStamp < :createdTimeStamp
+               OR (te.createdTimeStamp = :createdTimeStamp AND te.transactionId < :transactionId))
+        ORDER BY te.createdTimeStamp DESC, te.transactionId DESC
+    """)
+    List<TransactionView> findReceivedBefore(@Param("account") AccountEntity account, @Param("createdTimeStamp") LocalDateTime createdTimeStamp, @Param("transactionId") UUID transactionId, Pageable pageable);
+
+    // 일일 한도 계산용 조회 (idx_tx_from_number_type_created)
     @Query("""
         SELECT COALESCE(SUM(te.amount), 0)
         FROM TransactionEntity te
-        WHERE te.fromAccount.accountNumber = :accountNumber
+        WHERE te.fromAccountNumber = :accountNumber
           AND te.transactionType = :type
           AND te.createdTimeStamp BETWEEN :startTime AND :endTime
     """)
     BigDecimal getSumTodayUsedAmount(@Param("accountNumber") String accountNumber, @Param("type") TransactionType type, @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
+    // 일일 사용량 재계산용 계좌별 집계
+    @Query("""
+        SELECT te.fromAccountNumber AS accountNumber, te.transactionType AS transactionType, SUM(te.amount) AS usedAmount
+        FROM TransactionEntity te
+        WHERE te.transactionType IN :types
+          AND te.createdTimeStamp BETWEEN :startTime AND :endTime
+        GROUP BY te.fromAccountNumber, te.transactionType
+    """)
+    List<DailyUsageSum> sumUsedAmountGroupByAccount(@Param("types") Collection<TransactionType> types, @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
+    // 잔액 스냅샷용 계좌별 출금 측 증감 집계 (after 초과 until 이하, after가 null이면 처음부터)
+    @Query("""
+        SELECT te.fromAccount.accountId AS accountId, SUM(te.amount + COALESCE(te.fee, 0)) AS amount,
+               MAX(te.transactionId) AS lastTransactionId, COUNT(te) AS transactionCount
+        FROM TransactionEntity te
+        WHERE te.fromAccount IS NOT NULL
+          AND (:after IS NULL OR te.createdTimeStamp > :after)
+          AND te.createdTimeStamp <= :until
+        GROUP BY te.fromAccount.accountId
+    """)
+    List<BalanceMovement> sumSentGroupByAccount(@Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    // 잔액 스냅샷용 계좌별 입금 측 증감 집계 (after 초과 until 이하, after가 null이면 처음부터)
+    @Query("""
+        SELECT te.toAccount.accountId AS accountId, SUM(te.amount) AS amount,
+               MAX(te.transactionId) AS lastTransactionId, COUNT(te) AS transactionCount
+        FROM TransactionEntity te
+        WHERE te.toAccount IS NOT NULL
+          AND (:after IS NULL OR te.createdTimeStamp > :after)
+          AND te.createdTimeStamp <= :until
+        GROUP BY te.toAccount.accountId
+    """)
+    List<BalanceMovement> sumReceivedGroupByAccount(@Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    // 시점 잔액 조회용 출금 측 증감 집계 (idx_tx_from_created)
+    @Query("""
+        SELECT te.fromAccount.accountId AS accountId, SUM(te.amount + COALESCE(te.fee, 0)) AS amount,
+               MAX(te.transactionId) AS lastTransactionId, COUNT(te) AS transactionCount
+        FROM TransactionEntity te
+        WHERE te.fromAccount.accountId = :accountId
+          AND (:after IS NULL OR te.createdTimeStamp > :after)
+          AND te.createdTimeStamp <= :until
+        GROUP BY te.fromAccount.accountId
+    """)
+    Optional<BalanceMovement> sumSentByAccount(@Param("accountId") UUID accountId, @Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+    // 시점 잔액 조회용 입금 측 증감 집계 (idx_tx_to_created)
+    @Query("""
+        SELECT te.toAccount.accountId AS accountId, SUM(te.amount) AS amount,
+               MAX(te.transactionId) AS lastTransactionId, COUNT(te) AS transactionCount
+        FROM TransactionEntity te
+        WHERE te.toAccount.accountId = :accountId
+          AND (:after IS NULL OR te.createdTimeStamp > :after)
+          AND te.createdTimeStamp <= :until
+        GROUP BY te.toAccount.accountId
+    """)
+    Optional<BalanceMovement> sumReceivedByAccount(@Param("accountId") UUID accountId, @Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
     // 계좌 삭제 전 거래 존재 여부
     @Query("""
         SELECT CASE WHEN COUNT(te) > 0 THEN true ELSE false END
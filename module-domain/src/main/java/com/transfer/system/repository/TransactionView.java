@@ -0,0 +1,21 @@
+package com.transfer.system.repository;
+
+import com.transfer.system.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 거래 내역 조회 결과 (계좌 테이블 조인, 엔티티 생성 없이 거래 행의 비정규화 계좌 번호를 그대로 조회)
+ */
+public record TransactionView(
+    UUID transactionId,
+    String fromAccountNumber,
+    String toAccountNumber,
+    TransactionType transactionType,
+    BigDecimal amount,
+    BigDecimal fee,
+    LocalDateTime createdTimeStamp
+) {
+}
@@ -0,0 +1,10 @@
+package com.transfer.system.ledger;
+
+/**
+ * 저널 순번이 붙은 원장 거래 (저널을 사용하지 않으면 순번 0)
+ */
+record JournaledEntry(
+    long sequence,
+    LedgerEntry entry
+) {
+}
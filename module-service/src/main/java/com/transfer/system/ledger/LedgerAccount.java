@@ -0,0 +1,83 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.CurrencyType;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.utils.Money;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 샤드가 소유하는 계좌 상태 (소유 샤드 스레드에서만 접근)
+ */
+@Getter
+final class LedgerAccount {
+    private final UUID accountId; // 계좌 고유 식별자
+    private final String accountNumber; // 계좌 번호
+    private final CurrencyType currencyType; // 통화 종류
+    private final AccountStatus accountStatus; // 계좌 상태
+    @Getter(AccessLevel.NONE)
+    private Money balance; // 원장 기준 잔액 (통화별 최소 단위)
+    private LocalDate usageDate; // 누적 사용 금액 기준 일자
+    private final Map<TransactionType, BigDecimal> usedAmounts = new EnumMap<>(TransactionType.class); // 거래 유형별 누적 사용 금액
+
+    LedgerAccount(AccountEntity accountEntity, LocalDate usageDate) {
+        this.accountId = accountEntity.getAccountId();
+        this.accountNumber = accountEntity.getAccountNumber();
+        this.currencyType = accountEntity.getCurrencyType();
+        this.accountStatus = accountEntity.getAccountStatus();
+        try {
+            this.balance = Money.ofExact(accountEntity.getBalance(), currencyType); // 저장된 잔액은 반올림하지 않음
+        } catch (IllegalArgumentException e) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR, "통화 자리수로 표현할 수 없는 잔액입니다. accountNumber : " + accountNumber + ", balance : " + accountEntity.getBalance().toPlainString());
+        }
+        this.usageDate = usageDate;
+    }
+
+    BigDecimal getBalance() {
+        return balance.toBigDecimal();
+    }
+
+    void addBalance(BigDecimal amount) {
+        this.balance = balance.add(Money.of(amount, balance.scale()));
+    }
+
+    void subtractBalance(BigDecimal amount) {
+        this.balance = balance.subtract(Money.of(amount, balance.scale()));
+    }
+
+    /**
+     * 누적 사용 금액 조회 (일자가 바뀌면 초기화)
+     */
+    BigDecimal getUsedAmount(TransactionType type, LocalDate date) {
+        rollOver(date);
+        return usedAmounts.getOrDefault(type, BigDecimal.ZERO);
+    }
+
+    void addUsedAmount(TransactionType type, LocalDate date, BigDecimal amount) {
+        rollOver(date);
+        usedAmounts.merge(type, amount, BigDecimal::add);
+    }
+
+    void subtractUsedAmount(TransactionType type, LocalDate date, BigDecimal amount) {
+        if (date.equals(usageDate)) {
+            usedAmounts.merge(type, amount.negate(), BigDecimal::add);
+        }
+    }
+
+    private void rollOver(LocalDate date) {
+        if (!date.equals(usageDate)) {
+            usageDate = date;
+            usedAmounts.clear();
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.domain.DailyUsageEntity;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.LedgerPolicy;
+import com.transfer.system.policy.TransferPolicy;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.DailyUsageRepository;
+import com.transfer.system.service.AccountBalanceSlotService;
+import com.transfer.system.service.DailyUsageService;
+import com.transfer.system.utils.TimeUtils;
+import com.transfer.system.utils.UuidV7;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 샤드 단일 작성자 원장
+ * 계좌 번호 해시로 샤드를 정해 샤드 스레드가 메모리 잔액을 락 없이 변경하고, 반영 결과는 LedgerPersister가 비동기로 저장
+ * 샤드가 다른 계좌 간 이체는 출금 계좌 홀드 → 입금 계좌 입금 → (실패 시) 홀드 해제 순서로 처리
+ * 저장 대기열 등록은 반영한 샤드 명령 안에서 수행 (저장 순서가 반영 순서와 같고, 등록하지 못하면 같은 명령에서 반영을 되돌림)
+ * 샤드가 다른 계좌 간 이체는 홀드가 남아 있는 입금 단계에서 등록하므로 송신 계좌의 이후 거래는 홀드를 뺀 잔액 기준으로 반영
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerEngine {
+    private final AccountRepository accountRepository;
+    private final DailyUsageRepository dailyUsageRepository;
+    private final DailyUsageService dailyUsageService;
+    private final TransferPolicy transferPolicy;
+    private final LedgerPersister ledgerPersister;
+    private final AccountBalanceSlotService accountBalanceSlotService;
+    private final LedgerShard[] shards;
+
+    private final AtomicInteger inFlight = new AtomicInteger(); // 처리 중인 요청 수
+    private final StampedLock requestLock = new StampedLock(); // 요청은 읽기 잠금, 계좌 거래 차단은 쓰기 잠금 (처리 중인 요청이 저장 대기열에 등록될 때까지 대기)
+    private volatile boolean running;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    public LedgerEngine(AccountRepository accountRepository, DailyUsageRepository dailyUsageRepository, DailyUsageService dailyUsageService, TransferPolicy transferPolicy, LedgerPersister ledgerPersister, AccountBalanceSlotService accountBalanceSlotService, LedgerPolicy ledgerPolicy) {
+        this.accountRepository = accountRepository;
+        this.dailyUsageRepository = dailyUsageRepository;
+        this.dailyUsageService = dailyUsageService;
+        this.transferPolicy = transferPolicy;
+        this.ledgerPersister = ledgerPersister;
+        this.accountBalanceSlotService = accountBalanceSlotService;
+        this.shards = new LedgerShard[ledgerPolicy.getShardCount()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new LedgerShard(i, ledgerPolicy.getQueueCapacity(), this::loadAccount);
+        }
+    }
+
+    /**
+     * account_entity, 오늘 daily_usage 기준으로 원장 상태를 복구한 뒤 샤드 시작
+     * 원장은 잔액 슬롯을 사용하지 않으므로 남아 있는 슬롯 잔액은 먼저 계좌 잔액으로 옮김
+     */
+    @PostConstruct
+    public void start() {
+        accountBalanceSlotService.sweepAll();
+
+        LocalDate today = TimeUtils.nowKstLocalDate();
+        Map<String, LedgerAccount> accounts = new HashMap<>();
+
+        for (AccountEntity accountEntity : accountRepository.findAll()) {
+            LedgerAccount account = new LedgerAccount(accountEntity, today);
+            accounts.put(account.getAccountNumber(), account);
+            shardOf(account.getAccountNumber()).register(account);
+        }
+
+        for (DailyUsageEntity dailyUsage : dailyUsageRepository.findAllByUsageDate(today)) {
+            LedgerAccount account = accounts.get(dailyUsage.getAccountNumber());
+            if (account != null) {
+                account.addUsedAmount(dailyUsage.getTransactionType(), today, dailyUsage.getUsedAmount());
+            }
+        }
+
+        for (LedgerShard shard : shards) {
+            shard.start();
+        }
+        running = true;
+        log.info("[LedgerEngine] 원장 시작 shards : {}, accounts : {}", shards.length, accounts.size());
+    }
+
+    /**
+     * 신규 요청을 막고 처리 중인 요청을 모두 처리한 뒤 종료 (저장 대기 거래는 LedgerPersister 종료 시 저장)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        while (inFlight.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        for (LedgerShard shard : shards) {
+            shard.stop(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        log.info("[LedgerEngine] 원장 종료");
+    }
+
+    /**
+     * 이체 (입력값 검증은 호출 측에서 수행)
+     */
+    public LedgerEntry transfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
+        enter();
+        try {
+            LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+            LedgerShard fromShard = shardOf(fromAccountNumber);
+            LedgerShard toShard = shardOf(toAccountNumber);
+
+            Applied applied;
+            if (fromShard == toShard) {
+                // 같은 샤드: 한 번의 명령으로 출금, 입금 반영
+                applied = fromShard.call(shard -> {
+                    LedgerAccount fromAccount = shard.account(fromAccountNumber);
+                    LedgerAccount toAccount = shard.account(toAccountNumber);
+                    validateReceiver(fromAccount, toAccount);
+                    BigDecimal fee = hold(fromAccount, amount, now);
+                    toAccount.addBalance(amount);
+                    return enqueue(transferEntry(fromAccount, toAccount, amount, fee, now), () -> {
+                        toAccount.subtractBalance(amount);
+                        release(fromAccount, amount, amount.add(fee), now);
+                    });
+                });
+            } else {
+                // 1단계: 출금 계좌 홀드 (수수료는 송신 계좌 통화 기준으로 계산)
+                Hold held = fromShard.call(shard -> {
+                    LedgerAccount account = shard.account(fromAccountNumber);
+                    return new Hold(account, hold(account, amount, now));
+                });
+
+                // 2단계: 입금 계좌 입금 후 홀드가 남아 있는 동안 저장 대기열에 등록 (실패 시 홀드 해제)
+                try {
+                    applied = toShard.call(shard -> {
+                        LedgerAccount toAccount = shard.account(toAccountNumber);
+                        validateReceiver(held.fromAccount(), toAccount);
+                        toAccount.addBalance(amount);
+                        return enqueue(transferEntry(held.fromAccount(), toAccount, amount, held.fee(), now), () -> toAccount.subtractBalance(amount));
+                    });
+                } catch (RuntimeException e) {
+                    fromShard.callAlways(shard -> {
+                        release(shard.account(fromAccountNumber), amount, amount.add(held.fee()), now);
+                        return null;
+                    });
+                    throw e;
+                }
+            }
+
+            return sync(applied);
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * 입금
+     */
+    public LedgerEntry deposit(String accountNumber, BigDecimal amount) {
+        enter();
+        try {
+            LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+            Applied applied = shardOf(accountNumber).call(shard -> {
+                LedgerAccount account = shard.account(accountNumber);
+                transferPolicy.validateAmountScale(amount, account.getCurrencyType());
+                account.addBalance(amount);
+                return enqueue(new LedgerEntry(UuidV7.next(), TransactionType.DEPOSIT,
+                    null, null, null,
+                    account.getAccountId(), account.getAccountNumber(), account.getBalance(),
+                    amount, BigDecimal.ZERO, now), () -> account.subtractBalance(amount));
+            });
+            return sync(applied);
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * 출금
+     */
+    public LedgerEntry withdraw(String accountNumber, BigDecimal amount) {
+        enter();
+        try {
+            LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+            Applied applied = shardOf(accountNumber).call(shard -> {
+                LedgerAccount account = shard.account(accountNumber);
+                transferPolicy.validateAmountScale(amount, account.getCurrencyType());
+                transferPolicy.validateWithdrawAmount(amount, account.getUsedAmount(TransactionType.WITHDRAW, now.toLocalDate()));
+
+                if (account.getBalance().compareTo(amount) < 0) {
+                    log.warn("[LedgerEngine] 잔액 부족 accountNumber: {}, request: {}, balance: {}", accountNumber, amount, account.getBalance());
+                    throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+                }
+
+                account.subtractBalance(amount);
+                account.addUsedAmount(TransactionType.WITHDRAW, now.toLocalDate(), amount);
+                return enqueue(new LedgerEntry(UuidV7.next(), TransactionType.WITHDRAW,
+                    account.getAccountId(), account.getAccountNumber(), account.getBalance(),
+                    null, null, null,
+                    amount, BigDecimal.ZERO, now), () -> {
+                    account.addBalance(amount);
+                    account.subtractUsedAmount(TransactionType.WITHDRAW, now.toLocalDate(), amount);
+                });
+            });
+            return sync(applied);
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * 원장 기준 잔액 조회 (원장에 적재되지 않은 계좌는 empty)
+     */
+    public Optional<BigDecimal> getBalance(String accountNumber) {
+        enter();
+        try {
+            return shardOf(accountNumber).call(shard -> shard.find(accountNumber).map(LedgerAccount::getBalance));
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * 계좌 거래 차단 (계좌 삭제 전 호출, unblock 전까지 해당 계좌 거래는 LEDGER_UNAVAILABLE)
+     * 처리 중인 요청이 모두 저장 대기열에 등록된 뒤 차단하므로 이후 대기 거래 반영을 기다리면 계좌의 모든 거래가 DB에 반영됨
+     */
+    public void block(String accountNumber) {
+        long stamp = requestLock.writeLock();
+        try {
+            if (!running) {
+                throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+            }
+            shardOf(accountNumber).call(shard -> {
+                shard.block(accountNumber);
+                return null;
+            });
+        } finally {
+            requestLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 계좌 거래 차단 해제
+     */
+    public void unblock(String accountNumber) {
+        shardOf(accountNumber).callAlways(shard -> {
+            shard.unblock(accountNumber);
+            return null;
+        });
+    }
+
+    /**
+     * 삭제된 계좌를 원장에서 제거
+     */
+    public void evict(String accountNumber) {
+        enter();
+        try {
+            shardOf(accountNumber).call(shard -> {
+                shard.remove(accountNumber);
+                return null;
+            });
+        } finally {
+            exit();
+        }
+    }
+
+    int shardIndexOf(String accountNumber) {
+        return Math.floorMod(accountNumber.hashCode(), shards.length);
+    }
+
+    private LedgerShard shardOf(String accountNumber) {
+        return shards[shardIndexOf(accountNumber)];
+    }
+
+    /**
+     * 샤드 명령 안에서 저장 대기열에 등록 (등록하지 못하면 undo로 이 명령의 반영을 되돌린 뒤 예외 전달)
+     * 같은 명령 안에서 되돌리므로 이후 명령이 되돌릴 반영 결과를 사용했을 수 없음
+     */
+    private Applied enqueue(LedgerEntry entry, Runnable undo) {
+        try {
+            return new Applied(entry, ledgerPersister.enqueue(entry));
+        } catch (RuntimeException e) {
+            log.error("[LedgerEngine] 저장 대기열 등록 실패, 메모리 반영 되돌림 transactionId : {}, error : {}", entry.transactionId(), e.getMessage());
+            undo.run();
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드 밖에서 저널 디스크 반영 대기 (등록된 거래는 저장되므로 대기 중 실패해도 되돌리지 않음)
+     */
+    private LedgerEntry sync(Applied applied) {
+        ledgerPersister.sync(applied.sequence());
+        return applied.entry();
+    }
+
+    /**
+     * 원장에 없는 계좌 적재 (원장 시작 이후 생성된 계좌)
+     */
+    private Optional<LedgerAccount> loadAccount(String accountNumber) {
+        LocalDate today = TimeUtils.nowKstLocalDate();
+
+        return accountRepository.findByAccountNumber(accountNumber).map(accountEntity -> {
+            LedgerAccount account = new LedgerAccount(accountEntity, today);
+            account.addUsedAmount(TransactionType.WITHDRAW, today, dailyUsageService.getUsedAmount(accountNumber, TransactionType.WITHDRAW, today));
+            account.addUsedAmount(TransactionType.TRANSFER, today, dailyUsageService.getUsedAmount(accountNumber, TransactionType.TRANSFER, today));
+            return account;
+        });
+    }
+
+    /**
+     * 출금 계좌 홀드 (송신 계좌 상태, 이체 한도, 잔액 확인 후 수수료 포함 금액 차감, 계산된 수수료 반환)
+     */
+    private BigDecimal hold(LedgerAccount fromAccount, BigDecimal amount, LocalDateTime now) {
+        if (fromAccount.getAccountStatus() != AccountStatus.ACTIVE) {
+            throw new TransferSystemException(ErrorCode.SENDER_ACCOUNT_INACTIVE);
+        }
+
+        transferPolicy.validateAmountScale(amount, fromAccount.getCurrencyType()); // 수신 계좌는 같은 통화만 허용
+
+        BigDecimal fee = transferPolicy.calculateFee(amount, fromAccount.getCurrencyType()); // 이체 수수료 계산
+        if (fee == null || fee.compareTo(BigDecimal.ZERO) < 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_FEE);
+        }
+
+        transferPolicy.validateTransferAmount(amount, fromAccount.getUsedAmount(TransactionType.TRANSFER, now.toLocalDate()));
+
+        BigDecimal total = amount.add(fee); // 총 이체 금액
+        if (fromAccount.getBalance().compareTo(total) < 0) {
+            log.warn("[LedgerEngine] 잔액 부족 Account : {}, 이체 금액 : {}, 총 잔액 : {}", fromAccount.getAccountNumber(), total, fromAccount.getBalance());
+            throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        fromAccount.subtractBalance(total);
+        fromAccount.addUsedAmount(TransactionType.TRANSFER, now.toLocalDate(), amount);
+        return fee;
+    }
+
+    /**
+     * 홀드 해제 (입금 단계 실패 시 보상)
+     */
+    private void release(LedgerAccount fromAccount, BigDecimal amount, BigDecimal total, LocalDateTime now) {
+        fromAccount.addBalance(total);
+        fromAccount.subtractUsedAmount(TransactionType.TRANSFER, now.toLocalDate(), amount);
+    }
+
+    /**
+     * 수신 계좌 상태, 통화 종류 확인 (fromAccount의 통화, 상태는 생성 후 변하지 않으므로 다른 샤드에서 읽어도 안전)
+     */
+    private static void validateReceiver(LedgerAccount fromAccount, LedgerAccount toAccount) {
+        if (toAccount.getAccountStatus() != AccountStatus.ACTIVE) {
+            throw new TransferSystemException(ErrorCode.RECEIVER_ACCOUNT_INACTIVE);
+        }
+
+        if (fromAccount.getCurrencyType() == null || toAccount.getCurrencyType() == null || !fromAccount.getCurrencyType().equals(toAccount.getCurrencyType())) {
+            throw new TransferSystemException(ErrorCode.CURRENCY_TYPE_MISMATCH);
+        }
+    }
+
+    private static LedgerEntry transferEntry(LedgerAccount fromAccount, LedgerAccount toAccount, BigDecimal amount, BigDecimal fee, LocalDateTime now) {
+        return new LedgerEntry(UuidV7.next(), TransactionType.TRANSFER,
+            fromAccount.getAccountId(), fromAccount.getAccountNumber(), null,
+            toAccount.getAccountId(), toAccount.getAccountNumber(), toAccount.getBalance(),
+            amount, fee, now);
+    }
+
+    /**
+     * 다른 샤드 간 이체의 1단계 결과 (홀드된 송신 계좌, 수수료)
+     */
+    private record Hold(LedgerAccount fromAccount, BigDecimal fee) {
+    }
+
+    /**
+     * 샤드 명령에서 반영하고 저장 대기열에 등록한 거래와 저널 순번
+     */
+    private record Applied(LedgerEntry entry, long sequence) {
+    }
+
+    /**
+     * 요청 시작 (종료 중이거나 저장이 중단되었으면 LEDGER_UNAVAILABLE, 중단 후 응답하면 저장되지 않는 거래가 쌓임)
+     */
+    private void enter() {
+        requestLock.readLock();
+        inFlight.incrementAndGet();
+        if (!running || ledgerPersister.isHalted()) {
+            exit();
+            throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+        }
+    }
+
+    private void exit() {
+        inFlight.decrementAndGet();
+        requestLock.tryUnlockRead();
+    }
+}
@@ -0,0 +1,26 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 원장에 반영된 거래 (응답 생성, DB 저장에 사용)
+ * 잔액은 원장 반영 직후 값이며, DB에는 출금 계좌 -(amount + fee), 입금 계좌 +amount 만큼 증감으로 반영
+ */
+public record LedgerEntry(
+    UUID transactionId,
+    TransactionType transactionType,
+    UUID fromAccountId,
+    String fromAccountNumber,
+    BigDecimal fromBalance,
+    UUID toAccountId,
+    String toAccountNumber,
+    BigDecimal toBalance,
+    BigDecimal amount,
+    BigDecimal fee,
+    LocalDateTime createdTimeStamp
+) {
+}
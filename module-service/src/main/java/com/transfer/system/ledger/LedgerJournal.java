@@ -0,0 +1,447 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.LedgerJournalPolicy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 원장 거래 저널 (메모리 매핑 세그먼트 파일에 고정 길이 기록을 순서대로 추가)
+ * - 기록 : 순번, 거래 내용, CRC32C (중간에 끊긴 기록은 CRC 또는 순번 불일치로 판별해 그 앞까지만 사용)
+ * - 동기화 : 여러 스레드가 기록한 구간을 한 번의 force로 디스크에 반영하고, 반영된 순번까지 응답
+ * - 세그먼트 : 가득 차면 강제 반영 후 새 세그먼트로 전환하고, DB 반영이 끝난 세그먼트는 삭제
+ * - dead-letter : 운영자가 지정한 순번의 기록이 재반영에 실패하면 같은 형식으로 별도 파일에 옮겨 보관
+ * - 잠금 : 요청 스레드가 세그먼트 전환, force를 기다리므로 가상 스레드 캐리어를 고정하지 않도록 synchronized 대신 ReentrantLock 사용
+ *
+ * 기록 형식 (128 bytes, big endian)
+ * [0] crc int | [4] sequence long | [12] type byte | [13] amount scale byte | [14] fee scale byte | [15] flags byte
+ * [16] transactionId | [32] fromAccountId | [48] toAccountId (UUID msb, lsb)
+ * [64] fromAccountNumber 14 bytes | [78] toAccountNumber 14 bytes
+ * [92] amount unscaled long | [100] fee unscaled long | [108] createdTimeStamp epoch second long | [116] nano int
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerJournal {
+    private static final int RECORD_SIZE = LedgerJournalPolicy.RECORD_SIZE;
+    private static final int ACCOUNT_NUMBER_BYTES = 14;
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String DEAD_LETTER_FILE = "dead-letter.journal";
+
+    private static final int FLAG_FROM = 1;
+    private static final int FLAG_TO = 2;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final Set<Long> quarantineSequences;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+
+    // writeLock으로 보호
+    private final Deque<Segment> closedSegments = new ArrayDeque<>(); // 삭제 대기 세그먼트 (순번 순서)
+    private Segment current;
+    private long nextSequence;
+
+    private volatile long forcedSequence; // 디스크에 반영된 마지막 순번
+
+    public LedgerJournal(LedgerJournalPolicy ledgerJournalPolicy) {
+        this.enabled = ledgerJournalPolicy.isEnabled();
+        this.directory = Path.of(ledgerJournalPolicy.getDirectory());
+        this.recordsPerSegment = ledgerJournalPolicy.getRecordsPerSegment();
+        this.quarantineSequences = ledgerJournalPolicy.getQuarantineSequences();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재반영에 실패해도 저장을 중단하지 않고 dead-letter 파일로 옮길 순번인지 여부 (ledger.journal.quarantine-sequences)
+     */
+    public boolean isQuarantined(long sequence) {
+        return quarantineSequences.contains(sequence);
+    }
+
+    /**
+     * 기록을 dead-letter 파일에 저널과 같은 형식(순번, CRC 포함)으로 추가하고 디스크에 반영
+     */
+    public void writeDeadLetter(JournaledEntry journaledEntry) throws IOException {
+        ByteBuffer record = encode(journaledEntry.entry());
+        record.putLong(4, journaledEntry.sequence());
+        record.putInt(0, crcOf(record, 0));
+
+        Path path = directory.resolve(DEAD_LETTER_FILE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            channel.force(false);
+        }
+        log.warn("[LedgerJournal] dead-letter 기록 sequence : {}, transactionId : {}, file : {}", journaledEntry.sequence(), journaledEntry.entry().transactionId(), path.toAbsolutePath());
+    }
+
+    /**
+     * 세그먼트를 순번 순서로 읽어 appliedSequence 이후 기록을 반환하고 새 세그먼트를 열어 기록 준비
+     * 끊긴 기록 이후의 세그먼트는 응답하지 않은 기록이므로 삭제
+     */
+    public List<JournaledEntry> recover(long appliedSequence) throws IOException {
+        if (!enabled) {
+            return List.of();
+        }
+        Files.createDirectories(directory);
+
+        List<JournaledEntry> pending = new ArrayList<>();
+        long expectedSequence = -1; // 다음 세그먼트의 첫 순번
+        boolean broken = false;
+
+        writeLock.lock();
+        try {
+            for (Path file : listSegments()) {
+                long baseSequence = baseSequenceOf(file);
+                if (broken || (expectedSequence != -1 && baseSequence != expectedSequence)) {
+                    log.warn("[LedgerJournal] 이어지지 않는 세그먼트 삭제 file : {}, expected : {}", file.getFileName(), expectedSequence);
+                    Files.delete(file);
+                    broken = true;
+                    continue;
+                }
+
+                int count = readSegment(file, baseSequence, appliedSequence, pending);
+                expectedSequence = baseSequence + count;
+
+                if (count == 0 || expectedSequence - 1 <= appliedSequence) {
+                    Files.delete(file); // 비어 있거나 모두 DB에 반영된 세그먼트
+                } else {
+                    closedSegments.addLast(new Segment(baseSequence, file, null, null, count));
+                }
+            }
+
+            long lastSequence = expectedSequence == -1 ? 0 : expectedSequence - 1;
+            nextSequence = Math.max(lastSequence, appliedSequence) + 1;
+            forcedSequence = nextSequence - 1;
+            current = openSegment(nextSequence);
+        } finally {
+            writeLock.unlock();
+        }
+
+        log.info("[LedgerJournal] 저널 복구 directory : {}, appliedSequence : {}, replay : {}, nextSequence : {}", directory.toAbsolutePath(), appliedSequence, pending.size(), nextSequence);
+        return pending;
+    }
+
+    /**
+     * 기록 추가 후 순번 반환 (디스크 반영은 sync에서 수행, 저널을 사용하지 않으면 0)
+     */
+    public long append(LedgerEntry entry) {
+        if (!enabled) {
+            return 0;
+        }
+
+        ByteBuffer record = encode(entry); // 잠금 밖에서 직렬화 (변환 실패 시 순번을 소비하지 않음)
+        writeLock.lock();
+        try {
+            try {
+                if (current.count == recordsPerSegment) {
+                    rollover();
+                }
+            } catch (IOException e) {
+                log.error("[LedgerJournal] 세그먼트 전환 실패 nextSequence : {}, error : {}", nextSequence, e.getMessage(), e);
+                throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+            }
+
+            long sequence = nextSequence++;
+            record.putLong(4, sequence);
+            record.putInt(0, crcOf(record, 0));
+            current.buffer.put(current.count * RECORD_SIZE, record, 0, RECORD_SIZE);
+            current.count++;
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * sequence까지 디스크에 반영 (먼저 시작한 force가 반영한 순번이면 바로 반환)
+     */
+    public void sync(long sequence) {
+        if (!enabled || sequence <= forcedSequence) {
+            return;
+        }
+
+        forceLock.lock();
+        try {
+            if (sequence <= forcedSequence) {
+                return;
+            }
+
+            Segment segment;
+            long targetSequence;
+            writeLock.lock();
+            try {
+                segment = current;
+                targetSequence = nextSequence - 1;
+            } finally {
+                writeLock.unlock();
+            }
+
+            // 이전 세그먼트는 전환 시 이미 반영됨
+            long fromSequence = Math.max(forcedSequence + 1, segment.baseSequence);
+            int fromIndex = (int) (fromSequence - segment.baseSequence) * RECORD_SIZE;
+            int toIndex = (int) (targetSequence - segment.baseSequence + 1) * RECORD_SIZE;
+            if (toIndex > fromIndex) {
+                segment.buffer.force(fromIndex, toIndex - fromIndex);
+            }
+            forcedSequence = targetSequence;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 기록이 DB에 반영된 지난 세그먼트 삭제
+     */
+    public void release(long appliedSequence) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Segment> released = new ArrayList<>();
+        writeLock.lock();
+        try {
+            while (!closedSegments.isEmpty() && closedSegments.peekFirst().lastSequence() <= appliedSequence) {
+                released.add(closedSegments.pollFirst());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        for (Segment segment : released) {
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("[LedgerJournal] 세그먼트 삭제 실패 file : {}, error : {}", segment.path.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (current != null) {
+                current.buffer.force();
+                current.channel.close();
+                current = null;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 반영하고 닫은 뒤 새 세그먼트 열기
+     */
+    private void rollover() throws IOException {
+        current.buffer.force();
+        current.channel.close();
+        closedSegments.addLast(current);
+        current = openSegment(nextSequence);
+    }
+
+    private Segment openSegment(long baseSequence) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", baseSequence) + SEGMENT_SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        return new Segment(baseSequence, path, channel, buffer, 0);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX) && file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted(Comparator.comparingLong(LedgerJournal::baseSequenceOf))
+                .toList();
+        }
+    }
+
+    private static long baseSequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 세그먼트의 유효한 기록 수 반환 (appliedSequence 이후 기록은 pending에 추가)
+     */
+    private static int readSegment(Path file, long baseSequence, long appliedSequence, List<JournaledEntry> pending) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int capacity = (int) (channel.size() / RECORD_SIZE);
+            if (capacity == 0) {
+                return 0;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) capacity * RECORD_SIZE);
+
+            int count = 0;
+            while (count < capacity) {
+                long sequence = baseSequence + count;
+                ByteBuffer record = buffer.slice(count * RECORD_SIZE, RECORD_SIZE);
+                if (record.getInt(0) != crcOf(record, 0) || record.getLong(4) != sequence) {
+                    break; // 기록 중 끊긴 위치 (이후 기록은 응답하지 않았으므로 사용하지 않음)
+                }
+                if (sequence > appliedSequence) {
+                    pending.add(new JournaledEntry(sequence, decode(record)));
+                }
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static int crcOf(ByteBuffer record, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.slice(offset + 4, RECORD_SIZE - 4));
+        return (int) crc.getValue();
+    }
+
+    static ByteBuffer encode(LedgerEntry entry) {
+        BigDecimal amount = nonNegativeScale(entry.amount());
+        BigDecimal fee = nonNegativeScale(entry.fee());
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.put(12, typeCode(entry.transactionType()));
+        record.put(13, (byte) amount.scale());
+        record.put(14, (byte) fee.scale());
+        record.put(15, (byte) ((entry.fromAccountId() != null ? FLAG_FROM : 0) | (entry.toAccountId() != null ? FLAG_TO : 0)));
+        putUuid(record, 16, entry.transactionId());
+        putUuid(record, 32, entry.fromAccountId());
+        putUuid(record, 48, entry.toAccountId());
+        putAccountNumber(record, 64, entry.fromAccountNumber());
+        putAccountNumber(record, 78, entry.toAccountNumber());
+        record.putLong(92, amount.unscaledValue().longValueExact());
+        record.putLong(100, fee.unscaledValue().longValueExact());
+        record.putLong(108, entry.createdTimeStamp().toEpochSecond(ZoneOffset.UTC));
+        record.putInt(116, entry.createdTimeStamp().getNano());
+        return record;
+    }
+
+    static LedgerEntry decode(ByteBuffer record) {
+        int flags = record.get(15);
+        boolean hasFrom = (flags & FLAG_FROM) != 0;
+        boolean hasTo = (flags & FLAG_TO) != 0;
+
+        return new LedgerEntry(
+            getUuid(record, 16),
+            typeOf(record.get(12)),
+            hasFrom ? getUuid(record, 32) : null,
+            hasFrom ? getAccountNumber(record, 64) : null,
+            null,
+            hasTo ? getUuid(record, 48) : null,
+            hasTo ? getAccountNumber(record, 78) : null,
+            null,
+            BigDecimal.valueOf(record.getLong(92), record.get(13)),
+            BigDecimal.valueOf(record.getLong(100), record.get(14)),
+            LocalDateTime.ofEpochSecond(record.getLong(108), record.getInt(116), ZoneOffset.UTC)
+        );
+    }
+
+    private static BigDecimal nonNegativeScale(BigDecimal value) {
+        BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+        if (normalized.scale() > Byte.MAX_VALUE) {
+            throw new ArithmeticException("scale");
+        }
+        return normalized;
+    }
+
+    private static byte typeCode(TransactionType transactionType) {
+        return switch (transactionType) {
+            case DEPOSIT -> 1;
+            case WITHDRAW -> 2;
+            case TRANSFER -> 3;
+        };
+    }
+
+    private static TransactionType typeOf(byte code) {
+        return switch (code) {
+            case 1 -> TransactionType.DEPOSIT;
+            case 2 -> TransactionType.WITHDRAW;
+            case 3 -> TransactionType.TRANSFER;
+            default -> throw new UncheckedIOException(new IOException("unknown transaction type code " + code));
+        };
+    }
+
+    private static void putUuid(ByteBuffer record, int offset, UUID uuid) {
+        if (uuid != null) {
+            record.putLong(offset, uuid.getMostSignificantBits());
+            record.putLong(offset + 8, uuid.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID getUuid(ByteBuffer record, int offset) {
+        return new UUID(record.getLong(offset), record.getLong(offset + 8));
+    }
+
+    private static void putAccountNumber(ByteBuffer record, int offset, String accountNumber) {
+        if (accountNumber == null) {
+            return;
+        }
+        byte[] bytes = accountNumber.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > ACCOUNT_NUMBER_BYTES) {
+            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
+        }
+        record.put(offset, bytes);
+    }
+
+    private static String getAccountNumber(ByteBuffer record, int offset) {
+        byte[] bytes = new byte[ACCOUNT_NUMBER_BYTES];
+        record.get(offset, bytes);
+        int length = 0;
+        while (length < bytes.length && bytes[length] != 0) {
+            length++;
+        }
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 세그먼트 파일 (복구 시 읽기만 한 세그먼트는 channel, buffer 없음)
+     */
+    private static final class Segment {
+        private final long baseSequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int count;
+
+        private Segment(long baseSequence, Path path, FileChannel channel, MappedByteBuffer buffer, int count) {
+            this.baseSequence = baseSequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.count = count;
+        }
+
+        private long lastSequence() {
+            return baseSequence + count - 1;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.LedgerPolicy;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.LedgerJournalCheckpointJdbcRepository;
+import com.transfer.system.repository.TransactionRecord;
+import com.transfer.system.service.DailyUsageService;
+import com.transfer.system.service.TransactionBatchWriter;
+import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 원장 반영 결과를 DB에 순서대로 저장 (단일 스레드, 배치 단위 트랜잭션)
+ * - 저널 사용 시 : 저널에 기록하고 디스크에 반영된 뒤 응답, 시작 시 DB에 반영되지 않은 저널 기록을 먼저 재반영
+ * - 저널 사용 시 거래 단위로도 저장할 수 없는 거래가 나오면 저장 중단 (반영 순번이 그 거래를 지나치지 않도록, 이후 거래는 저널에 남아 재시작 시 재반영)
+ * - 저널 미사용 시 저장할 수 없는 거래는 복구할 수 없으므로 중단 상태로 전환해 신규 요청을 막고, 이미 응답한 대기 거래는 계속 저장
+ * - 저장 중단 시 LedgerEngine은 신규 요청을 거절하고, 재시작 시 ledger.journal.quarantine-sequences에 지정한 순번은 dead-letter 파일로 옮긴 뒤 재반영 계속
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerPersister {
+    public static final String HALTED_GAUGE = "transfer.system.ledger.halted"; // 저장 중단 여부 (1이면 중단)
+    public static final String PENDING_GAUGE = "transfer.system.ledger.pending"; // 저장 대기 거래 수
+
+    private final AccountRepository accountRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final DailyUsageService dailyUsageService;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerPolicy ledgerPolicy;
+    private final LedgerJournal ledgerJournal;
+    private final LedgerJournalCheckpointJdbcRepository ledgerJournalCheckpointJdbcRepository;
+    private final BlockingQueue<JournaledEntry> queue;
+    private final ReentrantLock enqueueLock = new ReentrantLock(); // 저널 순번과 대기열 순서를 일치시키기 위한 잠금 (대기열이 가득 차면 대기하므로 가상 스레드 캐리어를 고정하지 않도록 ReentrantLock 사용)
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong quarantinedCount = new AtomicLong(); // dead-letter 파일로 옮긴 거래 수 (failedCount에 포함)
+
+    private volatile boolean running;
+    private volatile boolean replaying; // 시작 시 저널 재반영 중 (원장 구성 전이므로 지정한 순번을 건너뛰어도 원장과 DB가 어긋나지 않음)
+    private volatile boolean halted; // 저장할 수 없는 저널 거래 이후 저장 중단
+    private volatile long haltedSequence; // 저장 중단을 일으킨 저널 순번
+    private Thread worker;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    public LedgerPersister(AccountRepository accountRepository, TransactionBatchWriter transactionBatchWriter, DailyUsageService dailyUsageService, PlatformTransactionManager transactionManager, LedgerPolicy ledgerPolicy, LedgerJournal ledgerJournal, LedgerJournalCheckpointJdbcRepository ledgerJournalCheckpointJdbcRepository, MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.transactionBatchWriter = transactionBatchWriter;
+        this.dailyUsageService = dailyUsageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ledgerPolicy = ledgerPolicy;
+        this.ledgerJournal = ledgerJournal;
+        this.ledgerJournalCheckpointJdbcRepository = ledgerJournalCheckpointJdbcRepository;
+        this.queue = new ArrayBlockingQueue<>(ledgerPolicy.getQueueCapacity());
+
+        Gauge.builder(HALTED_GAUGE, this, persister -> persister.isHalted() ? 1 : 0)
+            .description("원장 저장 중단 여부 (1이면 신규 원장 거래 거절, 재시작과 저널 순번 조치 필요)")
+            .register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE, this, LedgerPersister::getPendingCount)
+            .description("원장 저장 대기 거래 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 저널 재반영 후 저장 스레드 시작 (LedgerEngine은 재반영된 DB 잔액으로 원장을 구성)
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        replayJournal();
+        if (halted) {
+            throw new IllegalStateException("저널 재반영 중 저장할 수 없는 거래가 있어 원장을 시작할 수 없습니다. sequence : " + haltedSequence
+                + " (거래를 dead-letter 파일로 옮기고 시작하려면 ledger.journal.quarantine-sequences=" + haltedSequence + ")");
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("ledger-persister").daemon().start(this::run);
+    }
+
+    /**
+     * 대기 중인 거래를 모두 저장한 뒤 종료 (LedgerEngine 종료 후 호출됨)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        log.info("[LedgerPersister] 저장 종료 저장 대기 : {}, 저장 실패 : {}", getPendingCount(), failedCount.get());
+    }
+
+    /**
+     * 저장 대기열에 등록하고 저널 순번 반환 (대기열이 가득 차면 자리가 날 때까지 대기, 저널을 사용하지 않으면 0)
+     * 반영 순서대로 저장되도록 LedgerEngine은 반영한 샤드 명령 안에서 호출
+     * 예외는 등록하지 못한 경우(저널 기록 실패, 저널 미사용 시 대기 중 인터럽트)에만 발생하며, 저널에 기록한 거래는 반드시 대기열에 등록
+     */
+    long enqueue(LedgerEntry entry) {
+        if (!ledgerJournal.isEnabled()) {
+            try {
+                queue.put(new JournaledEntry(0, entry));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+            }
+            enqueuedCount.incrementAndGet();
+            return 0;
+        }
+
+        enqueueLock.lock();
+        try {
+            long sequence = ledgerJournal.append(entry);
+            putUninterruptibly(new JournaledEntry(sequence, entry));
+            return sequence;
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    /**
+     * 등록한 거래의 저널 기록이 디스크에 반영될 때까지 대기 (동시에 등록된 거래는 한 번에 반영, 저널을 사용하지 않으면 바로 반환)
+     */
+    void sync(long sequence) {
+        ledgerJournal.sync(sequence);
+    }
+
+    /**
+     * 저널 순번을 받은 거래 등록 (인터럽트되어도 등록한 뒤 다시 설정, 등록하지 않으면 반영 순번이 이 거래를 지나침)
+     */
+    private void putUninterruptibly(JournaledEntry journaledEntry) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(journaledEntry);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        enqueuedCount.incrementAndGet();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 등록된 거래가 모두 저장될 때까지 대기 (저장이 중단되었으면 바로 false)
+     */
+    public boolean awaitPersisted(Duration timeout) throws InterruptedException {
+        long target = enqueuedCount.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (persistedCount.get() + failedCount.get() < target) {
+            if (halted || System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    public long getPendingCount() {
+        return enqueuedCount.get() - persistedCount.get() - failedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public boolean isHalted() {
+        return halted;
+    }
+
+    public long getQuarantinedCount() {
+        return quarantinedCount.get();
+    }
+
+    /**
+     * 마지막 반영 순번 이후의 저널 기록을 배치 단위로 DB에 반영
+     */
+    private void replayJournal() throws IOException {
+        if (!ledgerJournal.isEnabled()) {
+            return;
+        }
+
+        List<JournaledEntry> pending = ledgerJournal.recover(ledgerJournalCheckpointJdbcRepository.findAppliedSequence());
+        enqueuedCount.addAndGet(pending.size());
+
+        int batchSize = ledgerPolicy.getPersistBatchSize();
+        replaying = true;
+        try {
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                persist(pending.subList(from, Math.min(from + batchSize, pending.size())));
+            }
+        } finally {
+            replaying = false;
+        }
+
+        if (!pending.isEmpty()) {
+            log.info("[LedgerPersister] 저널 재반영 완료 count : {}, 저장 실패 : {}", pending.size(), failedCount.get());
+        }
+    }
+
+    private void run() {
+        List<JournaledEntry> batch = new ArrayList<>(ledgerPolicy.getPersistBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                JournaledEntry first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, ledgerPolicy.getPersistBatchSize() - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (실패 시 거래 단위로 다시 저장, 저널 사용 시 저장 중단 후에는 저장하지 않고 저널에 남김)
+     */
+    private void persist(List<JournaledEntry> batch) {
+        if (halted && ledgerJournal.isEnabled()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            persistedCount.addAndGet(batch.size());
+            ledgerJournal.release(batch.get(batch.size() - 1).sequence());
+        } catch (RuntimeException e) {
+            log.warn("[LedgerPersister] 배치 저장 실패, 거래 단위로 재시도 size : {}, error : {}", batch.size(), e.getMessage());
+
+            for (JournaledEntry journaledEntry : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(journaledEntry)));
+                    persistedCount.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    // 원장과 DB가 달라진 상태이므로 원장 재시작(재구성)이 필요
+                    failedCount.incrementAndGet();
+                    log.error("[LedgerPersister] 거래 저장 실패 transactionId : {}, error : {}", journaledEntry.entry().transactionId(), ex.getMessage(), ex);
+
+                    if (journaledEntry.sequence() == 0) {
+                        // 저널 미사용 : 재시작해도 복구할 수 없으므로 신규 요청을 막고 이미 응답한 이후 거래는 계속 저장
+                        halted = true;
+                        log.error("[LedgerPersister] 저장 중단, 저널을 사용하지 않아 실패한 거래는 복구되지 않음 transactionId : {}", journaledEntry.entry().transactionId());
+                        continue;
+                    }
+
+                    if (replaying && ledgerJournal.isQuarantined(journaledEntry.sequence()) && quarantine(journaledEntry)) {
+                        continue;
+                    }
+
+                    // 이후 거래를 반영하면 반영 순번이 실패한 거래를 지나쳐 재시작 시 재반영되지 않으므로 저장 중단
+                    halted = true;
+                    haltedSequence = journaledEntry.sequence();
+                    log.error("[LedgerPersister] 저장 중단 반영 순번 : {}, 이후 거래는 재시작 시 저널에서 재반영", journaledEntry.sequence() - 1);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장할 수 없는 거래를 dead-letter 파일로 옮기고 반영 순번을 그 거래까지 진행 (실패하면 false)
+     */
+    private boolean quarantine(JournaledEntry journaledEntry) {
+        try {
+            ledgerJournal.writeDeadLetter(journaledEntry);
+            transactionTemplate.executeWithoutResult(status ->
+                ledgerJournalCheckpointJdbcRepository.updateAppliedSequence(journaledEntry.sequence(), TimeUtils.nowKstLocalDateTime()));
+        } catch (IOException | RuntimeException e) {
+            log.error("[LedgerPersister] dead-letter 이동 실패 sequence : {}, error : {}", journaledEntry.sequence(), e.getMessage(), e);
+            return false;
+        }
+
+        quarantinedCount.incrementAndGet();
+        log.warn("[LedgerPersister] 저장할 수 없는 거래를 dead-letter로 이동 sequence : {}, transactionId : {}", journaledEntry.sequence(), journaledEntry.entry().transactionId());
+        return true;
+    }
+
+    /**
+     * 거래 저장과 거래 이벤트 기록, 계좌별 잔액 증감 합산 반영, 일일 사용량 누적, 저널 반영 순번 갱신
+     */
+    private void write(List<JournaledEntry> journaledEntries) {
+        List<LedgerEntry> entries = journaledEntries.stream().map(JournaledEntry::entry).toList();
+        List<TransactionRecord> records = new ArrayList<>(entries.size());
+        Map<UUID, BigDecimal> balanceDeltas = new LinkedHashMap<>();
+
+        for (LedgerEntry entry : entries) {
+            records.add(new TransactionRecord(
+                entry.transactionId(),
+                entry.fromAccountId(),
+                entry.fromAccountNumber(),
+                entry.toAccountId(),
+                entry.toAccountNumber(),
+                entry.transactionType(),
+                entry.amount(),
+                entry.fee(),
+                entry.createdTimeStamp()
+            ));
+
+            if (entry.fromAccountId() != null) {
+                balanceDeltas.merge(entry.fromAccountId(), entry.amount().add(entry.fee()).negate(), BigDecimal::add);
+            }
+            if (entry.toAccountId() != null) {
+                balanceDeltas.merge(entry.toAccountId(), entry.amount(), BigDecimal::add);
+            }
+        }
+
+        transactionBatchWriter.writeAll(records);
+
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        balanceDeltas.forEach((accountId, delta) -> accountRepository.addBalance(accountId, delta, now));
+
+        for (LedgerEntry entry : entries) {
+            if (entry.transactionType() == TransactionType.WITHDRAW || entry.transactionType() == TransactionType.TRANSFER) {
+                dailyUsageService.addUsedAmount(entry.fromAccountNumber(), entry.transactionType(), entry.createdTimeStamp().toLocalDate(), entry.amount());
+            }
+        }
+
+        long lastSequence = journaledEntries.get(journaledEntries.size() - 1).sequence();
+        if (lastSequence > 0) {
+            ledgerJournalCheckpointJdbcRepository.updateAppliedSequence(lastSequence, now); // 같은 트랜잭션에서 반영 순번 갱신
+        }
+    }
+}
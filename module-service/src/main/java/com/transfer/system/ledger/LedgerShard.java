@@ -0,0 +1,162 @@
+package com.transfer.system.ledger;
+
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 원장 샤드 (단일 스레드가 소속 계좌 상태를 소유하고 명령을 순서대로 실행)
+ */
+@Slf4j
+final class LedgerShard {
+    private final int index;
+    private final BlockingQueue<Runnable> commands;
+    private final Map<String, LedgerAccount> accounts = new HashMap<>();
+    private final Set<String> blockedAccountNumbers = new HashSet<>(); // 삭제 중인 계좌
+    private final Function<String, Optional<LedgerAccount>> accountLoader;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    LedgerShard(int index, int queueCapacity, Function<String, Optional<LedgerAccount>> accountLoader) {
+        this.index = index;
+        this.commands = new LinkedBlockingQueue<>(queueCapacity);
+        this.accountLoader = accountLoader;
+    }
+
+    /**
+     * 계좌 등록 (샤드 시작 전 상태 복구용)
+     */
+    void register(LedgerAccount account) {
+        accounts.put(account.getAccountNumber(), account);
+    }
+
+    /**
+     * 소속 계좌 조회 (원장에 없으면 DB에서 적재, 삭제 중인 계좌는 LEDGER_UNAVAILABLE)
+     */
+    LedgerAccount account(String accountNumber) {
+        if (blockedAccountNumbers.contains(accountNumber)) {
+            throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+        }
+
+        LedgerAccount account = accounts.get(accountNumber);
+        if (account != null) {
+            return account;
+        }
+
+        account = accountLoader.apply(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        accounts.put(accountNumber, account);
+        return account;
+    }
+
+    Optional<LedgerAccount> find(String accountNumber) {
+        return Optional.ofNullable(accounts.get(accountNumber));
+    }
+
+    void remove(String accountNumber) {
+        accounts.remove(accountNumber);
+    }
+
+    void block(String accountNumber) {
+        blockedAccountNumbers.add(accountNumber);
+    }
+
+    void unblock(String accountNumber) {
+        blockedAccountNumbers.remove(accountNumber);
+    }
+
+    void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("ledger-shard-" + index).daemon().start(this::run);
+    }
+
+    /**
+     * 대기 중인 명령을 모두 실행한 뒤 종료
+     */
+    void stop(long timeoutMillis) throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(timeoutMillis);
+        }
+    }
+
+    /**
+     * 명령 실행 후 결과 대기 (대기열이 가득 차면 거절)
+     */
+    <T> T call(Function<LedgerShard, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (!running || !commands.offer(wrap(command, result))) {
+            throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+        }
+        return await(result);
+    }
+
+    /**
+     * 보상 명령 실행 후 결과 대기 (대기열이 가득 차도 자리가 날 때까지 기다려 반드시 실행, 대기 중 인터럽트는 등록 후 다시 설정)
+     */
+    <T> T callAlways(Function<LedgerShard, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable wrapped = wrap(command, result);
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                commands.put(wrapped);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return await(result);
+    }
+
+    private <T> Runnable wrap(Function<LedgerShard, T> command, CompletableFuture<T> result) {
+        return () -> {
+            try {
+                result.complete(command.apply(this));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void run() {
+        while (running || !commands.isEmpty()) {
+            try {
+                Runnable command = commands.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (command != null) {
+                    command.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[LedgerShard] 샤드 {} 명령 실행 오류 : {}", index, e.getMessage(), e);
+            }
+        }
+    }
+}
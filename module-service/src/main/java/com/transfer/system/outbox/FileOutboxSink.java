@@ -0,0 +1,72 @@
+package com.transfer.system.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transfer.system.policy.OutboxPolicy;
+import com.transfer.system.repository.TransactionOutboxRecord;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 파일 전달 대상 (이벤트를 한 줄에 하나씩 NDJSON으로 추가 기록)
+ * 배치를 한 번에 기록한 뒤 디스크 동기화(force)까지 마쳐야 전달 완료로 반환
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    private FileChannel channel;
+
+    private static final int ESTIMATED_LINE_BYTES = 256;
+
+    public FileOutboxSink(ObjectMapper objectMapper, OutboxPolicy outboxPolicy) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(outboxPolicy.getFileSinkPath());
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("[FileOutboxSink] 거래 이벤트 기록 파일 : {}", path.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    @Override
+    public synchronized void publish(List<TransactionOutboxRecord> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * ESTIMATED_LINE_BYTES);
+        for (TransactionOutboxRecord event : events) {
+            buffer.write(objectMapper.writeValueAsBytes(event));
+            buffer.write('\n');
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+    }
+}
@@ -0,0 +1,41 @@
+package com.transfer.system.outbox;
+
+import com.transfer.system.policy.OutboxPolicy;
+import com.transfer.system.repository.TransactionOutboxRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 메모리 전달 대상 (브로커 대체용, 최근 이벤트를 최대 outbox.sink.memory.capacity건 보관)
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+    private final int capacity;
+    private final Deque<TransactionOutboxRecord> events = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(OutboxPolicy outboxPolicy) {
+        this.capacity = outboxPolicy.getMemorySinkCapacity();
+    }
+
+    @Override
+    public synchronized void publish(List<TransactionOutboxRecord> batch) {
+        for (TransactionOutboxRecord event : batch) {
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * 보관 중인 이벤트 (전달 순서)
+     */
+    public synchronized List<TransactionOutboxRecord> getEvents() {
+        return List.copyOf(events);
+    }
+}
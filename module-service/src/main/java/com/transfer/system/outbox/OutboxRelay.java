@@ -0,0 +1,124 @@
+package com.transfer.system.outbox;
+
+import com.transfer.system.policy.OutboxPolicy;
+import com.transfer.system.repository.TransactionOutboxJdbcRepository;
+import com.transfer.system.repository.TransactionOutboxRecord;
+import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트 릴레이 (outbox_id 순서로 배치 조회 후 전달 대상에 전달하고, 전달이 끝난 이벤트만 삭제)
+ * - 최소 1회 전달 : 전달 후 삭제 전에 실패하면 다음 실행에서 같은 이벤트를 다시 전달
+ * - 계좌별 순서 : 같은 계좌 거래는 잔액 잠금으로 직렬화되어 outbox_id 순서가 커밋 순서와 같고,
+ *   배치 전달이 실패하면 이후 배치로 넘어가지 않고 다음 실행에서 같은 위치부터 다시 전달
+ * - 잠금 경합 없음 : 계좌 행은 읽지 않고, 아웃박스 조회는 잠금 없는 일반 조회, 삭제는 커밋된 행의 기본 키로만 수행
+ * 순서 보장을 위해 릴레이는 한 노드에서만 실행 (outbox.relay.enabled)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    public static final String LAG_GAUGE = "transfer.system.outbox.lag"; // 가장 오래된 전달 대기 이벤트의 대기 시간
+    public static final String PUBLISHED_COUNTER = "transfer.system.outbox.published"; // 전달 완료 이벤트 수
+    public static final String FAILURE_COUNTER = "transfer.system.outbox.failures"; // 배치 전달 실패 횟수
+    public static final String BATCH_TIMER = "transfer.system.outbox.batch"; // 배치 전달, 삭제 소요 시간
+
+    private final TransactionOutboxJdbcRepository transactionOutboxJdbcRepository;
+    private final OutboxSink outboxSink;
+    private final OutboxPolicy outboxPolicy;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(TransactionOutboxJdbcRepository transactionOutboxJdbcRepository, OutboxSink outboxSink, OutboxPolicy outboxPolicy, MeterRegistry meterRegistry) {
+        this.transactionOutboxJdbcRepository = transactionOutboxJdbcRepository;
+        this.outboxSink = outboxSink;
+        this.outboxPolicy = outboxPolicy;
+
+        TimeGauge.builder(LAG_GAUGE, lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("가장 오래된 전달 대기 아웃박스 이벤트의 대기 시간 (마지막 조회 기준)")
+            .register(meterRegistry);
+        this.publishedCounter = Counter.builder(PUBLISHED_COUNTER)
+            .description("전달 완료 아웃박스 이벤트 수")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder(FAILURE_COUNTER)
+            .description("아웃박스 배치 전달 실패 횟수")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder(BATCH_TIMER)
+            .description("아웃박스 배치 전달, 삭제 소요 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 주기적 릴레이 실행
+     */
+    @Scheduled(initialDelayString = "${outbox.relay.interval-ms}", fixedDelayString = "${outbox.relay.interval-ms}")
+    public void relayScheduled() {
+        relay();
+    }
+
+    /**
+     * 대기 이벤트를 배치 단위로 전달하고 전달한 이벤트 수 반환 (대기 이벤트가 없거나, 전달에 실패하거나, 최대 배치 수에 도달하면 종료)
+     */
+    public synchronized int relay() {
+        int batchSize = outboxPolicy.getBatchSize();
+        int relayed = 0;
+
+        for (int i = 0; i < outboxPolicy.getMaxBatchesPerRun(); i++) {
+            List<TransactionOutboxRecord> batch = transactionOutboxJdbcRepository.findPending(batchSize);
+            updateLag(batch);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            long startNanos = System.nanoTime();
+            try {
+                outboxSink.publish(batch);
+                transactionOutboxJdbcRepository.deleteAll(batch.stream().map(TransactionOutboxRecord::outboxId).toList());
+            } catch (Exception e) {
+                // 같은 배치부터 다음 실행에서 다시 전달 (뒤 이벤트를 먼저 전달하지 않음)
+                failureCounter.increment();
+                log.warn("[OutboxRelay] 배치 전달 실패 첫 outboxId : {}, size : {}, error : {}", batch.get(0).outboxId(), batch.size(), e.getMessage());
+                break;
+            } finally {
+                batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+
+            publishedCounter.increment(batch.size());
+            relayed += batch.size();
+
+            if (batch.size() < batchSize) {
+                lagMillis.set(0);
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    public Duration getLag() {
+        return Duration.ofMillis(lagMillis.get());
+    }
+
+    private void updateLag(List<TransactionOutboxRecord> batch) {
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+        Duration lag = Duration.between(batch.get(0).createdTimeStamp(), TimeUtils.nowKstLocalDateTime());
+        lagMillis.set(Math.max(0, lag.toMillis()));
+    }
+}
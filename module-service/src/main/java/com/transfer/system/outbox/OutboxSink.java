@@ -0,0 +1,19 @@
+package com.transfer.system.outbox;
+
+import com.transfer.system.repository.TransactionOutboxRecord;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 전달 대상 (메시지 브로커, 파일 등)
+ * publish가 정상 반환되면 전달 완료로 보고 아웃박스에서 삭제하므로 반환 전에 이벤트를 유실 없이 받아들여야 함
+ * 실패 후 같은 배치를 다시 전달할 수 있으므로(최소 1회 전달) 수신 측은 outboxId로 중복을 걸러야 함
+ */
+public interface OutboxSink {
+
+    /**
+     * 이벤트를 주어진 순서대로 전달
+     */
+    void publish(List<TransactionOutboxRecord> events) throws IOException;
+}
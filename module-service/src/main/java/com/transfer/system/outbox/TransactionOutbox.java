@@ -0,0 +1,49 @@
+package com.transfer.system.outbox;
+
+import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.policy.OutboxPolicy;
+import com.transfer.system.repository.TransactionOutboxJdbcRepository;
+import com.transfer.system.repository.TransactionRecord;
+import com.transfer.system.utils.TimeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 거래 이벤트 아웃박스 기록 (거래 저장과 같은 트랜잭션에서 호출해 거래와 이벤트가 함께 커밋, 롤백되도록 함)
+ * 계좌 잔액을 잠근 트랜잭션 안에서 기록되므로 같은 계좌의 이벤트는 커밋 순서대로 outbox_id가 증가함
+ * 예외 : 입금 분산 계좌(잔액 슬롯)의 입금, 이체 수신은 계좌 행을 잠그지 않으므로 그 수신 이벤트는 같은 계좌의 다른 이벤트와 커밋 순서가 outbox_id 순서와 다를 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionOutbox {
+    private final TransactionOutboxJdbcRepository transactionOutboxJdbcRepository;
+    private final OutboxPolicy outboxPolicy;
+
+    /**
+     * JPA로 저장한 거래 이벤트 기록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(TransactionEntity transactionEntity) {
+        if (!outboxPolicy.isEnabled()) {
+            return;
+        }
+
+        transactionOutboxJdbcRepository.insertAll(List.of(TransactionRecord.from(transactionEntity)), TimeUtils.nowKstLocalDateTime());
+    }
+
+    /**
+     * 일괄 저장한 거래 이벤트 기록 (저장 순서 유지)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<TransactionRecord> records) {
+        if (!outboxPolicy.isEnabled()) {
+            return;
+        }
+
+        transactionOutboxJdbcRepository.insertAll(records, TimeUtils.nowKstLocalDateTime());
+    }
+}
@@ -0,0 +1,180 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountBalanceSlotEntity;
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.dto.AccountBalanceSlotResponseDTO;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.BalanceSlotPolicy;
+import com.transfer.system.repository.AccountBalanceSlotRepository;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.AccountSlotView;
+import com.transfer.system.utils.Money;
+import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.TimeUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 입금 분산 계좌 잔액 슬롯 관리
+ * 수신이 몰리는 계좌는 입금을 계좌 행 대신 K개 슬롯 중 하나에 반영해 같은 행을 기다리는 트랜잭션을 1/K로 줄이고,
+ * 출금은 계좌 잔액이 부족할 때만 슬롯을 모두 잠그고 계좌 잔액으로 옮긴 뒤 처리
+ * 공개 잔액(계좌 잔액 + 슬롯 잔액 합계)은 AccountRepository.findBalanceById 한 문장으로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceSlotService {
+    private static final long SLOT_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L; // 피보나치 해싱 (연속된 스레드 ID를 슬롯에 고르게 분산)
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final BalanceSlotPolicy balanceSlotPolicy;
+
+    /**
+     * 입금 분산 계좌 조회 (기능이 꺼져 있거나 슬롯이 없는 계좌면 빈 값, 계좌 행을 잠그지 않음)
+     */
+    public Optional<AccountSlotView> findSlotAccount(String accountNumber) {
+        if (!balanceSlotPolicy.isEnabled()) {
+            return Optional.empty();
+        }
+        return accountRepository.findSlotViewByAccountNumber(accountNumber)
+            .filter(account -> account.balanceSlotCount() > 0);
+    }
+
+    /**
+     * 슬롯 하나에 입금 반영 (호출 측 트랜잭션에 참여, 같은 스레드는 같은 슬롯을 사용)
+     * 슬롯 수가 줄어 선택한 슬롯이 없으면 계좌 잔액에 직접 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(AccountSlotView account, BigDecimal amount, LocalDateTime now) {
+        BigDecimal normalized = Money.of(amount, account.currencyType()).toBigDecimal(); // 금액 단위는 호출 측에서 검증, 통화 자리수로 맞춤
+        int slotIndex = slotIndexOf(Thread.currentThread().threadId(), account.balanceSlotCount());
+
+        if (accountBalanceSlotRepository.addBalance(account.accountId(), slotIndex, normalized, now) == 0) {
+            accountRepository.addBalance(account.accountId(), normalized, now);
+        }
+    }
+
+    /**
+     * 슬롯 잔액을 잠긴 계좌의 잔액으로 옮김 (호출 측 트랜잭션에 참여, 계좌 잔액이 부족할 때만 호출)
+     * 슬롯을 모두 잠그므로 진행 중인 슬롯 입금이 커밋된 뒤의 잔액이 반영됨
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sweep(AccountEntity lockedAccount, LocalDateTime now) {
+        if (lockedAccount.getBalanceSlotCount() == 0) {
+            return;
+        }
+        sweep(lockedAccount, accountBalanceSlotRepository.findAllByAccountIdLock(lockedAccount.getAccountId()), now);
+    }
+
+    /**
+     * 계좌 공개 잔액 (계좌 잔액 + 슬롯 잔액 합계)
+     */
+    public BigDecimal totalBalance(AccountEntity account) {
+        if (account.getBalanceSlotCount() == 0) {
+            return account.getBalance();
+        }
+        return account.getBalance().add(accountBalanceSlotRepository.sumBalanceByAccountId(account.getAccountId()));
+    }
+
+    /**
+     * 잔액 슬롯 수 변경 (계좌 행과 슬롯을 잠그고 슬롯 잔액을 계좌 잔액으로 옮긴 뒤 슬롯을 다시 구성, 0이면 분산 해제)
+     */
+    @Transactional
+    public AccountBalanceSlotResponseDTO changeSlotCount(String accountNumber, int slotCount) {
+        balanceSlotPolicy.validateSlotCount(slotCount);
+
+        AccountEntity account = accountRepository.findByAccountNumberLock(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        List<AccountBalanceSlotEntity> slots = accountBalanceSlotRepository.findAllByAccountIdLock(account.getAccountId());
+        sweep(account, slots, now);
+
+        // 범위를 벗어난 슬롯은 삭제 (이후 해당 슬롯으로의 입금은 계좌 잔액에 직접 반영)
+        Set<Integer> existing = new HashSet<>();
+        List<AccountBalanceSlotEntity> removed = new ArrayList<>();
+        for (AccountBalanceSlotEntity slot : slots) {
+            if (slot.getSlotIndex() < slotCount) {
+                existing.add(slot.getSlotIndex());
+            } else {
+                removed.add(slot);
+            }
+        }
+        accountBalanceSlotRepository.deleteAll(removed);
+
+        List<AccountBalanceSlotEntity> added = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            if (!existing.contains(i)) {
+                added.add(AccountBalanceSlotEntity.builder()
+                    .accountId(account.getAccountId())
+                    .slotIndex(i)
+                    .balance(MoneyUtils.normalize(BigDecimal.ZERO))
+                    .updatedTimeStamp(now)
+                    .build());
+            }
+        }
+        accountBalanceSlotRepository.saveAll(added);
+
+        account.changeBalanceSlotCount(slotCount);
+        log.info("[AccountBalanceSlotService] 잔액 슬롯 수 변경 accountNumber : {}, slotCount : {}", accountNumber, slotCount);
+
+        return AccountBalanceSlotResponseDTO.builder()
+            .accountNumber(account.getAccountNumber())
+            .slotCount(slotCount)
+            .balance(MoneyUtils.normalize(account.getBalance()))
+            .build();
+    }
+
+    /**
+     * 모든 슬롯 잔액을 계좌 잔액으로 옮기고 옮긴 계좌 수 반환 (슬롯을 사용하지 않는 원장 시작 전 호출)
+     */
+    @Transactional
+    public int sweepAll() {
+        Map<UUID, BigDecimal> sums = new LinkedHashMap<>();
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+
+        for (AccountBalanceSlotEntity slot : accountBalanceSlotRepository.findAllNonZeroLock()) {
+            sums.merge(slot.getAccountId(), slot.getBalance(), BigDecimal::add);
+            slot.clearBalance(now);
+        }
+        sums.forEach((accountId, sum) -> accountRepository.addBalance(accountId, sum, now));
+
+        if (!sums.isEmpty()) {
+            log.info("[AccountBalanceSlotService] 슬롯 잔액 일괄 이동 accounts : {}", sums.size());
+        }
+        return sums.size();
+    }
+
+    /**
+     * 슬롯 잔액 합계를 계좌 잔액에 더하고 슬롯 비우기
+     */
+    private static void sweep(AccountEntity lockedAccount, List<AccountBalanceSlotEntity> slots, LocalDateTime now) {
+        BigDecimal swept = BigDecimal.ZERO;
+        for (AccountBalanceSlotEntity slot : slots) {
+            if (slot.getBalance().signum() != 0) {
+                swept = swept.add(slot.getBalance());
+                slot.clearBalance(now);
+            }
+        }
+
+        if (swept.signum() != 0) {
+            lockedAccount.addBalance(swept);
+        }
+    }
+
+    /**
+     * 스레드 ID 기준 슬롯 선택
+     */
+    static int slotIndexOf(long threadId, int slotCount) {
+        return (int) Math.floorMod((threadId * SLOT_HASH_MULTIPLIER) >>> 32, (long) slotCount);
+    }
+}
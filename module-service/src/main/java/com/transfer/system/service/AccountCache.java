@@ -0,0 +1,149 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.AccountCacheStatsDTO;
+import com.transfer.system.policy.AccountCachePolicy;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌 메타데이터 읽기 캐시 (계좌 ID, 계좌 번호 양쪽으로 조회, 없으면 DB에서 적재)
+ * 잔액은 보관하지 않으므로 잔액 변경 시 무효화가 필요 없고, 삭제와 상태 변경 시에만 무효화
+ * 트랜잭션 안에서 적재한 값은 커밋된 뒤에만 보관 (롤백되면 함께 사라질 행을 캐시하지 않음)
+ * 보관, 무효화는 BoundedTtlCache와 같이 가상 스레드 캐리어를 고정하지 않도록 ReentrantLock으로 직렬화
+ */
+@Slf4j
+@Component
+public class AccountCache {
+    private final AccountRepository accountRepository;
+    private final BoundedTtlCache<UUID, AccountSnapshot> byId;
+    private final BoundedTtlCache<String, AccountSnapshot> byNumber;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong(); // 무효화마다 증가, 적재 중 무효화된 값은 보관하지 않음
+    private final ReentrantLock lock = new ReentrantLock(); // 세대 확인과 두 캐시 보관, 무효화를 함께 수행
+
+    public AccountCache(AccountRepository accountRepository, AccountCachePolicy accountCachePolicy) {
+        this.accountRepository = accountRepository;
+        this.byId = new BoundedTtlCache<>(accountCachePolicy.getMaxSize(), accountCachePolicy.getTtl());
+        this.byNumber = new BoundedTtlCache<>(accountCachePolicy.getMaxSize(), accountCachePolicy.getTtl());
+    }
+
+    /**
+     * 계좌 ID로 조회
+     */
+    public Optional<AccountSnapshot> findById(UUID accountId) {
+        Optional<AccountSnapshot> cached = byId.get(accountId);
+        if (cached.isPresent()) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        missCount.incrementAndGet();
+        long loadGeneration = generation.get();
+        return accountRepository.findById(accountId).map(AccountSnapshot::from).map(snapshot -> load(snapshot, loadGeneration));
+    }
+
+    /**
+     * 계좌 번호로 조회
+     */
+    public Optional<AccountSnapshot> findByAccountNumber(String accountNumber) {
+        Optional<AccountSnapshot> cached = byNumber.get(accountNumber);
+        if (cached.isPresent()) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        missCount.incrementAndGet();
+        long loadGeneration = generation.get();
+        return accountRepository.findByAccountNumber(accountNumber).map(AccountSnapshot::from).map(snapshot -> load(snapshot, loadGeneration));
+    }
+
+    /**
+     * 계좌 무효화 (트랜잭션 안이면 커밋 전 다른 조회가 이전 값을 다시 적재할 수 있으므로 완료 후 한 번 더 제거)
+     */
+    public void evict(UUID accountId, String accountNumber) {
+        remove(accountId, accountNumber);
+        invalidationCount.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(accountId, accountNumber);
+                }
+            });
+        }
+        log.debug("[AccountCache] 계좌 캐시 무효화 accountId : {}, accountNumber : {}", accountId, accountNumber);
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public AccountCacheStatsDTO getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+
+        return AccountCacheStatsDTO.builder()
+            .hitCount(hits)
+            .missCount(misses)
+            .evictionCount(byId.getEvictionCount() + byNumber.getEvictionCount())
+            .invalidationCount(invalidationCount.get())
+            .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+            .size(Math.max(byId.size(), byNumber.size()))
+            .build();
+    }
+
+    /**
+     * DB에서 적재한 값 보관 (트랜잭션 안이면 커밋 후, 적재 이후 무효화가 있었으면 보관하지 않음)
+     */
+    private AccountSnapshot load(AccountSnapshot snapshot, long loadGeneration) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(snapshot, loadGeneration);
+            return snapshot;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(snapshot, loadGeneration);
+            }
+        });
+        return snapshot;
+    }
+
+    private void put(AccountSnapshot snapshot, long loadGeneration) {
+        lock.lock();
+        try {
+            if (generation.get() != loadGeneration) {
+                return;
+            }
+
+            byId.put(snapshot.accountId(), snapshot);
+            byNumber.put(snapshot.accountNumber(), snapshot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(UUID accountId, String accountNumber) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            byId.remove(accountId);
+            byNumber.remove(accountNumber);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
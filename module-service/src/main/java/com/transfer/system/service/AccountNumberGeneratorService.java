@@ -1,54 +1,146 @@
 package com.transfer.system.service;
 
 import com.transfer.system.domain.AccountNumberEntity;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.PersistenceException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.transfer.system.utils.TimeUtils.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AccountNumberGeneratorService {
 
     private final EntityManager entityManager;
+    private final TransactionTemplate reserveTransactionTemplate;
+    private final int blockSize;
+
+    private final ReentrantLock reserveLock = new ReentrantLock();
+    private volatile SequenceBlock currentBlock; // 현재 노드가 예약한 시퀀스 구간
 
     private static final String ACCOUNT_PREFIX = "001";
     private static final DateTimeFormatter YYMMDD = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final long MAX_SEQUENCE = 99_999L; // 5자리 시퀀스 최대값
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    public AccountNumberGeneratorService(
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Value("${account.number.block-size}") int blockSize) {
+
+        if (blockSize <= 0) {
+            throw new TransferSystemException(ErrorCode.INTERNAL_ERROR, "account.number.block-size는 1 이상이어야 합니다. blockSize : " + blockSize);
+        }
 
-    @Transactional
+        this.entityManager = entityManager;
+        this.reserveTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.reserveTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 계좌 번호 발급 (구간 예약은 별도 트랜잭션으로 DB 연결을 하나 더 사용하므로 호출 측 트랜잭션 밖에서 호출)
+     */
     public String generateAccountNumber() {
-        LocalDate today = nowKstLocalDate();
+        return generateAccountNumber(nowKstLocalDate());
+    }
+
+    /**
+     * 예약된 구간에서 번호를 발급하고, 소진되거나 날짜가 바뀌면 새 구간 예약
+     */
+    String generateAccountNumber(LocalDate today) {
+        while (true) {
+            SequenceBlock block = currentBlock;
+
+            // 자정 직후 예약된 구간은 직전 요청에서도 그대로 사용
+            if (block != null && !block.date().isBefore(today)) {
+                long value = block.next().getAndIncrement();
+                if (value <= block.last()) {
+                    String accountNumber = format(block.date(), value);
+                    log.debug("[AccountNumber] 생성된 계좌 번호: {}", accountNumber);
+                    return accountNumber;
+                }
+            }
+
+            reserve(today, block);
+        }
+    }
+
+    private void reserve(LocalDate today, SequenceBlock observed) {
+        reserveLock.lock();
+        try {
+            if (currentBlock != observed) { // 다른 스레드가 이미 새 구간 예약
+                return;
+            }
+
+            if (observed != null && observed.next().get() <= observed.last()) {
+                log.debug("[AccountNumber] 날짜 변경으로 미사용 구간 폐기 date: {}, unused: {}", observed.date(), observed.last() - observed.next().get() + 1);
+            }
+
+            currentBlock = reserveBlock(today);
+        } finally {
+            reserveLock.unlock();
+        }
+    }
+
+    private SequenceBlock reserveBlock(LocalDate today) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                SequenceBlock block = reserveTransactionTemplate.execute(status -> reserveBlockInTransaction(today));
+                log.debug("[AccountNumber] 시퀀스 구간 예약 date: {}, range: {} ~ {}", today, block.next().get(), block.last());
+                return block;
+            } catch (PersistenceException | DataAccessException e) {
+                // 다른 노드가 같은 날짜의 시퀀스를 동시에 생성한 경우 재시도
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("[AccountNumber] 시퀀스 구간 예약 재시도 date: {}, attempt: {}", today, attempt);
+            }
+        }
+    }
+
+    private SequenceBlock reserveBlockInTransaction(LocalDate today) {
         // 날짜 기준으로 시퀀스 엔티티를 가져오거나 생성
         AccountNumberEntity seq = entityManager.find(AccountNumberEntity.class, today, LockModeType.PESSIMISTIC_WRITE);
+        long first = seq == null ? 1L : seq.getLastNumber() + 1;
+
+        if (first > MAX_SEQUENCE) {
+            log.warn("[AccountNumber] 시퀀스 소진 date: {}", today);
+            throw new TransferSystemException(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED);
+        }
+
+        long last = Math.min(first + blockSize - 1, MAX_SEQUENCE);
 
         if (seq == null) {
-            seq = new AccountNumberEntity();
-            seq.setId(today);
-            seq.setLastNumber(1L);
-            entityManager.persist(seq);
-            log.debug("[AccountNumber] 신규 시퀀스 생성 date: {}, lastNumber: {}", today, seq.getLastNumber());
+            entityManager.persist(new AccountNumberEntity(today, last));
+            entityManager.flush();
         } else {
-            seq.setLastNumber(seq.getLastNumber() + 1);
-            log.debug("[AccountNumber] 시퀀스 증가 date: {}, lastNumber: {}", today, seq.getLastNumber());
+            seq.setLastNumber(last);
         }
 
-        String accountNumber = format(today, seq.getLastNumber());
-        log.debug("[AccountNumber] 생성된 계좌 번호: {}", accountNumber);
-
-        return accountNumber;
+        return new SequenceBlock(today, new AtomicLong(first), last);
     }
 
-    private String format(LocalDate date, Long value) {
+    static String format(LocalDate date, long value) {
         String datePart = date.format(YYMMDD); // 6자리 날짜
         String sequencePart = String.format("%05d", value); // 5자리 시퀀스
         return ACCOUNT_PREFIX + datePart + sequencePart; // 001YYMMDD00001
     }
-}
\ No newline at end of file
+
+    private record SequenceBlock(LocalDate date, AtomicLong next, long last) {
+    }
+}
@@ -6,21 +6,28 @@ import com.transfer.system.dto.AccountBalanceResponseDTO;
 import com.transfer.system.dto.AccountCreateRequestDTO;
 import com.transfer.system.dto.AccountResponseDTO;
 import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.ConcurrencyMode;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.outbox.TransactionOutbox;
 import com.transfer.system.policy.TransferPolicy;
+import com.transfer.system.repository.AccountBalanceView;
+import com.transfer.system.repository.AccountCreditRecord;
 import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.AccountSlotView;
 import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.service.ServiceMetrics.Step;
 import com.transfer.system.enums.TransactionType;
 import com.transfer.system.utils.MoneyUtils;
 import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -31,14 +38,23 @@ public class AccountServiceImpl implements AccountService {
     private final TransferPolicy transferPolicy;
     private final TransactionRepository transactionRepository;
     private final AccountNumberGeneratorService accountNumberGeneratorService;
+    private final DailyUsageService dailyUsageService;
+    private final ConcurrencyExecutor concurrencyExecutor;
+    private final AccountCache accountCache;
+    private final ServiceMetrics serviceMetrics;
+    private final TransactionOutbox transactionOutbox;
+    private final AccountBalanceSlotService accountBalanceSlotService;
+    private final AtomicBalanceService atomicBalanceService;
 
     private static final String BANK_NAME = "mxxikrBank";
 
     /***
      * 계좌 생성
+     * 계좌 번호 구간 예약(REQUIRES_NEW)이 연결을 점유한 채 두 번째 연결을 기다리지 않도록 트랜잭션 없이 번호를 발급하고,
+     * 계좌 저장은 저장소 트랜잭션 하나로 처리 (번호 중복은 계좌 번호 유니크 제약이 최종 확인)
      */
     @Override
-    @Transactional
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "create_account"}, histogram = true)
     public AccountResponseDTO createAccount(AccountCreateRequestDTO accountCreateRequestDTO) {
         if (accountCreateRequestDTO == null) {
             throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
@@ -82,16 +98,24 @@ public class AccountServiceImpl implements AccountService {
      * 계좌 조회
      */
     @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "get_account"}, histogram = true)
     public AccountResponseDTO getAccount(UUID id) {
-        AccountEntity accountEntity = accountRepository.findById(id)
+        AccountSnapshot account = accountCache.findById(id)
             .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
-        return toDto(accountEntity);
+
+        // 잔액은 캐시하지 않고 매번 조회 (다른 노드에서 삭제된 경우 캐시도 제거)
+        AccountBalanceView balance = accountRepository.findBalanceById(id).orElseThrow(() -> {
+            accountCache.evict(account.accountId(), account.accountNumber());
+            return new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND);
+        });
+        return toDto(account, balance);
     }
 
     /**
      * 계좌 삭제
      */
     @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "delete_account"}, histogram = true)
     public void deleteAccount(UUID id) {
         AccountEntity accountEntity = accountRepository.findById(id)
             .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
@@ -106,20 +130,37 @@ public class AccountServiceImpl implements AccountService {
 
         // 거래 없으면 실제 삭제 허용
         accountRepository.delete(accountEntity);
+        accountCache.evict(accountEntity.getAccountId(), accountEntity.getAccountNumber());
     }
 
     /**
      * 계좌 입금
      */
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "deposit"}, histogram = true)
     public AccountBalanceResponseDTO deposit(String accountNumber, BigDecimal amount) {
         if (accountNumber == null || amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
         }
 
-        AccountEntity accountEntity = accountRepository.findByAccountNumberLock(accountNumber)
+        return concurrencyExecutor.execute(TransactionType.DEPOSIT, mode -> executeDeposit(accountNumber, amount, mode));
+    }
+
+    /**
+     * 입금 처리 (호출 측 트랜잭션에 참여)
+     */
+    private AccountBalanceResponseDTO executeDeposit(String accountNumber, BigDecimal amount, ConcurrencyMode mode) {
+        Optional<AccountSlotView> slotAccount = accountBalanceSlotService.findSlotAccount(accountNumber);
+        if (slotAccount.isPresent()) {
+            return executeSlotDeposit(slotAccount.get(), amount);
+        }
+        if (mode == ConcurrencyMode.ATOMIC) {
+            return executeAtomicDeposit(accountNumber, amount);
+        }
+
+        AccountEntity accountEntity = serviceMetrics.record(TransactionType.DEPOSIT, Step.LOCK, () -> findAccount(accountNumber, mode))
             .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        transferPolicy.validateAmountScale(amount, accountEntity.getCurrencyType());
         accountEntity.addBalance(amount);
         accountRepository.save(accountEntity);
 
@@ -127,19 +168,90 @@ public class AccountServiceImpl implements AccountService {
         TransactionEntity transactionEntity = TransactionEntity.builder()
             .fromAccount(null)
             .toAccount(accountEntity)
+            .toAccountNumber(accountEntity.getAccountNumber())
             .transactionType(TransactionType.DEPOSIT)
             .amount(amount)
             .fee(BigDecimal.ZERO)
             .createdTimeStamp(TimeUtils.nowKstLocalDateTime())
             .build();
 
-        TransactionEntity savedTransactionEntity = transactionRepository.save(transactionEntity);
+        TransactionEntity savedTransactionEntity = serviceMetrics.record(TransactionType.DEPOSIT, Step.INSERT, () -> saveWithOutbox(transactionEntity));
         log.debug("[AccountService] 입금 완료 transactionId: {}, accountNumber: {}", savedTransactionEntity.getTransactionId(), accountNumber);
 
         return AccountBalanceResponseDTO.builder()
             .accountNumber(accountEntity.getAccountNumber())
             .amount(MoneyUtils.normalize(amount))
-            .balance(MoneyUtils.normalize(accountEntity.getBalance()))
+            .balance(MoneyUtils.normalize(publicBalance(accountEntity)))
+            .build();
+    }
+
+    /**
+     * 입금 분산 계좌 입금 (계좌 행을 잠그지 않고 잔액 슬롯 하나에 반영, 응답 잔액은 슬롯 잔액을 포함한 공개 잔액)
+     */
+    private AccountBalanceResponseDTO executeSlotDeposit(AccountSlotView account, BigDecimal amount) {
+        transferPolicy.validateAmountScale(amount, account.currencyType());
+
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        serviceMetrics.record(TransactionType.DEPOSIT, Step.LOCK, () -> accountBalanceSlotService.credit(account, amount, now));
+
+        // 입금 거래 기록 저장 (계좌는 참조만 사용)
+        TransactionEntity transactionEntity = TransactionEntity.builder()
+            .fromAccount(null)
+            .toAccount(accountRepository.getReferenceById(account.accountId()))
+            .toAccountNumber(account.accountNumber())
+            .transactionType(TransactionType.DEPOSIT)
+            .amount(amount)
+            .fee(BigDecimal.ZERO)
+            .createdTimeStamp(now)
+            .build();
+
+        TransactionEntity savedTransactionEntity = serviceMetrics.record(TransactionType.DEPOSIT, Step.INSERT, () -> saveWithOutbox(transactionEntity));
+        log.debug("[AccountService] 분산 입금 완료 transactionId: {}, accountNumber: {}", savedTransactionEntity.getTransactionId(), account.accountNumber());
+
+        BigDecimal balance = accountRepository.findBalanceById(account.accountId())
+            .map(AccountBalanceView::balance)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        return AccountBalanceResponseDTO.builder()
+            .accountNumber(account.accountNumber())
+            .amount(MoneyUtils.normalize(amount))
+            .balance(MoneyUtils.normalize(balance))
+            .build();
+    }
+
+    /**
+     * 원자적 입금 (계좌 행을 조회, 잠금하지 않고 활성 계좌 조건부 UPDATE 한 문장으로 반영, 응답 잔액은 갱신된 행의 잔액)
+     */
+    private AccountBalanceResponseDTO executeAtomicDeposit(String accountNumber, BigDecimal amount) {
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        AccountCreditRecord credited = serviceMetrics.record(TransactionType.DEPOSIT, Step.LOCK, () -> atomicBalanceService.credit(accountNumber, amount, now));
+        BigDecimal balance = credited.balance();
+
+        // 입금 거래 기록 저장 (계좌는 참조만 사용)
+        TransactionEntity transactionEntity = TransactionEntity.builder()
+            .fromAccount(null)
+            .toAccount(accountRepository.getReferenceById(credited.accountId()))
+            .toAccountNumber(accountNumber)
+            .transactionType(TransactionType.DEPOSIT)
+            .amount(amount)
+            .fee(BigDecimal.ZERO)
+            .createdTimeStamp(now)
+            .build();
+
+        TransactionEntity savedTransactionEntity = serviceMetrics.record(TransactionType.DEPOSIT, Step.INSERT, () -> saveWithOutbox(transactionEntity));
+        log.debug("[AccountService] 원자적 입금 완료 transactionId: {}, accountNumber: {}", savedTransactionEntity.getTransactionId(), accountNumber);
+
+        // 슬롯 잔액이 남은 계좌(입금 분산 해제 전)는 슬롯 잔액 포함
+        if (credited.balanceSlotCount() > 0) {
+            balance = accountRepository.findBalanceById(credited.accountId())
+                .map(AccountBalanceView::balance)
+                .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        }
+
+        return AccountBalanceResponseDTO.builder()
+            .accountNumber(accountNumber)
+            .amount(MoneyUtils.normalize(amount))
+            .balance(MoneyUtils.normalize(balance))
             .build();
     }
 
@@ -147,23 +259,38 @@ public class AccountServiceImpl implements AccountService {
      * 계좌 출금
      */
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "withdraw"}, histogram = true)
     public AccountBalanceResponseDTO withdraw(String accountNumber, BigDecimal amount) {
         if (accountNumber == null || amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
         }
 
-        AccountEntity accountEntity = accountRepository.findByAccountNumberLock(accountNumber)
-            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        return concurrencyExecutor.execute(TransactionType.WITHDRAW, mode -> executeWithdraw(accountNumber, amount, mode));
+    }
 
-        LocalDateTime startTime = TimeUtils.startOfTodayKst();
-        LocalDateTime endTime   = TimeUtils.endOfTodayKst();
+    /**
+     * 출금 처리 (호출 측 트랜잭션에 참여)
+     */
+    private AccountBalanceResponseDTO executeWithdraw(String accountNumber, BigDecimal amount, ConcurrencyMode mode) {
+        if (mode == ConcurrencyMode.ATOMIC) {
+            return executeAtomicWithdraw(accountNumber, amount);
+        }
 
-        BigDecimal todayUsed = transactionRepository.getSumTodayUsedAmount(accountNumber, TransactionType.WITHDRAW, startTime, endTime);
-        todayUsed = todayUsed != null ? todayUsed : BigDecimal.ZERO;
+        AccountEntity accountEntity = serviceMetrics.record(TransactionType.WITHDRAW, Step.LOCK, () -> findAccount(accountNumber, mode))
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        transferPolicy.validateAmountScale(amount, accountEntity.getCurrencyType());
+
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        BigDecimal todayUsed = serviceMetrics.record(TransactionType.WITHDRAW, Step.DAILY_USAGE,
+            () -> dailyUsageService.getUsedAmount(accountNumber, TransactionType.WITHDRAW, now.toLocalDate()));
 
         transferPolicy.validateWithdrawAmount(amount, todayUsed);
 
+        // 잔액이 부족하면 잔액 슬롯을 계좌 잔액으로 옮긴 뒤 다시 확인
+        if (accountEntity.getBalance().compareTo(amount) < 0 && accountEntity.getBalanceSlotCount() > 0) {
+            accountBalanceSlotService.sweep(accountEntity, now);
+        }
+
         if (accountEntity.getBalance().compareTo(amount) < 0) {
             log.warn("[AccountService] 잔액 부족 accountNumber: {}, request: {}, balance: {}", accountNumber, amount, accountEntity.getBalance());
             throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
@@ -172,26 +299,103 @@ public class AccountServiceImpl implements AccountService {
         accountEntity.subtractBalance(amount);
         accountRepository.save(accountEntity);
 
+        if (mode == ConcurrencyMode.OPTIMISTIC) {
+            accountRepository.flush(); // 일일 사용량 갱신 전에 버전 충돌 확인
+        }
+
         // 출금 거래 기록 저장
         TransactionEntity transactionEntity = TransactionEntity.builder()
             .fromAccount(accountEntity)
+            .fromAccountNumber(accountEntity.getAccountNumber())
             .toAccount(null)
             .transactionType(TransactionType.WITHDRAW)
             .amount(amount)
             .fee(BigDecimal.ZERO)
-            .createdTimeStamp(TimeUtils.nowKstLocalDateTime())
+            .createdTimeStamp(now)
             .build();
 
-        TransactionEntity savedTransactionEntity = transactionRepository.save(transactionEntity);
+        TransactionEntity savedTransactionEntity = serviceMetrics.record(TransactionType.WITHDRAW, Step.INSERT, () -> saveWithOutbox(transactionEntity));
+        dailyUsageService.addUsedAmount(accountNumber, TransactionType.WITHDRAW, now.toLocalDate(), amount);
         log.debug("[AccountService] 출금 완료 transactionId: {}, accountNumber: {}", savedTransactionEntity.getTransactionId(), accountNumber);
 
         return AccountBalanceResponseDTO.builder()
             .accountNumber(accountEntity.getAccountNumber())
             .amount(MoneyUtils.normalize(amount))
-            .balance(MoneyUtils.normalize(accountEntity.getBalance()))
+            .balance(MoneyUtils.normalize(publicBalance(accountEntity)))
+            .build();
+    }
+
+    /**
+     * 원자적 출금 (계좌 행을 잠그는 조회 없이 잔액 확인과 차감을 조건부 UPDATE 한 문장으로 반영)
+     */
+    private AccountBalanceResponseDTO executeAtomicWithdraw(String accountNumber, BigDecimal amount) {
+        AccountSlotView account = accountRepository.findSlotViewByAccountNumber(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        transferPolicy.validateAmountScale(amount, account.currencyType());
+
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        serviceMetrics.record(TransactionType.WITHDRAW, Step.LOCK, () -> atomicBalanceService.debit(account, amount, now));
+
+        // 차감으로 계좌 행이 잠긴 뒤 출금 한도 확인 (같은 계좌 거래와 직렬화, 초과 시 차감도 롤백)
+        BigDecimal todayUsed = serviceMetrics.record(TransactionType.WITHDRAW, Step.DAILY_USAGE,
+            () -> dailyUsageService.getUsedAmount(accountNumber, TransactionType.WITHDRAW, now.toLocalDate()));
+        transferPolicy.validateWithdrawAmount(amount, todayUsed);
+
+        // 출금 거래 기록 저장 (계좌는 참조만 사용)
+        TransactionEntity transactionEntity = TransactionEntity.builder()
+            .fromAccount(accountRepository.getReferenceById(account.accountId()))
+            .fromAccountNumber(accountNumber)
+            .toAccount(null)
+            .transactionType(TransactionType.WITHDRAW)
+            .amount(amount)
+            .fee(BigDecimal.ZERO)
+            .createdTimeStamp(now)
+            .build();
+
+        TransactionEntity savedTransactionEntity = serviceMetrics.record(TransactionType.WITHDRAW, Step.INSERT, () -> saveWithOutbox(transactionEntity));
+        dailyUsageService.addUsedAmount(accountNumber, TransactionType.WITHDRAW, now.toLocalDate(), amount);
+        log.debug("[AccountService] 원자적 출금 완료 transactionId: {}, accountNumber: {}", savedTransactionEntity.getTransactionId(), accountNumber);
+
+        BigDecimal balance = accountRepository.findBalanceById(account.accountId())
+            .map(AccountBalanceView::balance)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        return AccountBalanceResponseDTO.builder()
+            .accountNumber(accountNumber)
+            .amount(MoneyUtils.normalize(amount))
+            .balance(MoneyUtils.normalize(balance))
             .build();
     }
 
+    /**
+     * 거래 저장 및 같은 트랜잭션에 거래 이벤트 기록
+     */
+    private TransactionEntity saveWithOutbox(TransactionEntity transactionEntity) {
+        TransactionEntity savedTransactionEntity = transactionRepository.save(transactionEntity);
+        transactionOutbox.append(savedTransactionEntity);
+        return savedTransactionEntity;
+    }
+
+    /**
+     * 공개 잔액 (입금 분산 계좌는 슬롯 잔액 합산)
+     */
+    private BigDecimal publicBalance(AccountEntity accountEntity) {
+        if (accountEntity.getBalanceSlotCount() == 0) {
+            return accountEntity.getBalance();
+        }
+        return accountBalanceSlotService.totalBalance(accountEntity);
+    }
+
+    /**
+     * 동시성 제어 방식에 따른 계좌 조회 (낙관적 락은 커밋 시 버전으로 충돌 확인, 그 외는 행 잠금)
+     */
+    private Optional<AccountEntity> findAccount(String accountNumber, ConcurrencyMode mode) {
+        if (mode == ConcurrencyMode.OPTIMISTIC) {
+            return accountRepository.findByAccountNumber(accountNumber);
+        }
+        return accountRepository.findByAccountNumberLock(accountNumber);
+    }
+
     /**
      * Entity를 DTO로 변환
      */
@@ -209,4 +413,22 @@ public class AccountServiceImpl implements AccountService {
             .updatedTimeStamp(e.getUpdatedTimeStamp())
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시된 계좌 정보와 잔액을 DTO로 변환
+     */
+    private AccountResponseDTO toDto(AccountSnapshot account, AccountBalanceView balance) {
+        return AccountResponseDTO.builder()
+            .accountId(account.accountId())
+            .accountNumber(account.accountNumber())
+            .accountName(account.accountName())
+            .bankName(account.bankName())
+            .accountType(account.accountType())
+            .currencyType(account.currencyType())
+            .balance(MoneyUtils.normalize(balance.balance()))
+            .accountStatus(account.accountStatus())
+            .createdTimeStamp(account.createdTimeStamp())
+            .updatedTimeStamp(balance.updatedTimeStamp())
+            .build();
+    }
+}
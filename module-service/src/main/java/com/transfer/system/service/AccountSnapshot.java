@@ -0,0 +1,36 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.AccountType;
+import com.transfer.system.enums.CurrencyType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 캐시에 보관하는 계좌 메타데이터 (자주 바뀌는 잔액, 수정 일시는 포함하지 않음)
+ */
+public record AccountSnapshot(
+    UUID accountId,
+    String accountNumber,
+    String accountName,
+    String bankName,
+    AccountType accountType,
+    CurrencyType currencyType,
+    AccountStatus accountStatus,
+    LocalDateTime createdTimeStamp
+) {
+    public static AccountSnapshot from(AccountEntity e) {
+        return new AccountSnapshot(
+            e.getAccountId(),
+            e.getAccountNumber(),
+            e.getAccountName(),
+            e.getBankName(),
+            e.getAccountType(),
+            e.getCurrencyType(),
+            e.getAccountStatus(),
+            e.getCreatedTimeStamp()
+        );
+    }
+}
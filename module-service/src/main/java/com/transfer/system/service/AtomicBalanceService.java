@@ -0,0 +1,95 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.AccountEntity;
+import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.TransferPolicy;
+import com.transfer.system.repository.AccountCreditRecord;
+import com.transfer.system.repository.AccountJdbcRepository;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.AccountSlotView;
+import com.transfer.system.utils.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 원자적 갱신 방식의 잔액 증감 (계좌 행을 잠그는 조회 없이 조건부 UPDATE 한 문장으로 확인과 반영을 함께 수행)
+ * 갱신한 계좌 행은 커밋까지 잠기므로 이후 같은 트랜잭션의 일일 사용량 확인은 같은 계좌 거래와 직렬화됨
+ * 업무 오류는 호출 측 트랜잭션을 rollback-only로 만들지 않음 (그룹 커밋 배치가 실패한 요청만 세이브포인트로 되돌리도록, 롤백 여부는 호출 측이 결정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AtomicBalanceService {
+    private final AccountRepository accountRepository;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final AccountBalanceSlotService accountBalanceSlotService;
+    private final AccountCache accountCache;
+    private final TransferPolicy transferPolicy;
+
+    /**
+     * 계좌 번호 기준 입금 후 갱신된 행 반환 (호출 측 트랜잭션에 참여)
+     * 계좌가 없으면 ACCOUNT_NOT_FOUND, 활성 상태가 아니면 RECEIVER_ACCOUNT_INACTIVE
+     * 통화 단위로 표현할 수 없는 금액은 반영 전에 INVALID_AMOUNT (통화는 바뀌지 않으므로 계좌 캐시의 통화로 확인)
+     */
+    @Transactional(propagation = Propagation.MANDATORY, noRollbackFor = TransferSystemException.class)
+    public AccountCreditRecord credit(String accountNumber, BigDecimal amount, LocalDateTime now) {
+        AccountSnapshot account = accountCache.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        transferPolicy.validateAmountScale(amount, account.currencyType());
+
+        return accountJdbcRepository.creditActive(accountNumber, amount, now)
+            .orElseThrow(() -> accountRepository.existsByAccountNumber(accountNumber)
+                ? new TransferSystemException(ErrorCode.RECEIVER_ACCOUNT_INACTIVE)
+                : new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * 잠금 없이 확인한 계좌에 입금 (호출 측 트랜잭션에 참여, 그 사이 상태가 바뀌었으면 RECEIVER_ACCOUNT_INACTIVE)
+     */
+    @Transactional(propagation = Propagation.MANDATORY, noRollbackFor = TransferSystemException.class)
+    public void credit(AccountSlotView account, BigDecimal amount, LocalDateTime now) {
+        BigDecimal normalized = Money.of(amount, account.currencyType()).toBigDecimal(); // 금액 단위는 호출 측에서 검증, 통화 자리수로 맞춤
+        accountJdbcRepository.creditActive(account.accountId(), normalized, now)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.RECEIVER_ACCOUNT_INACTIVE));
+    }
+
+    /**
+     * 잔액이 충분한 활성 계좌에서만 차감 (호출 측 트랜잭션에 참여)
+     * 반영되지 않으면 다시 조회해 원인 판별, 입금 분산 계좌는 슬롯 잔액을 계좌 잔액으로 옮긴 뒤 한 번 더 시도
+     */
+    @Transactional(propagation = Propagation.MANDATORY, noRollbackFor = TransferSystemException.class)
+    public void debit(AccountSlotView account, BigDecimal total, LocalDateTime now) {
+        BigDecimal normalized = Money.of(total, account.currencyType()).toBigDecimal();
+        if (accountRepository.debitActive(account.accountNumber(), normalized, now) == 1) {
+            return;
+        }
+
+        AccountSlotView current = accountRepository.findSlotViewByAccountNumber(account.accountNumber())
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        if (current.accountStatus() != AccountStatus.ACTIVE) {
+            throw new TransferSystemException(ErrorCode.SENDER_ACCOUNT_INACTIVE);
+        }
+
+        if (current.balanceSlotCount() > 0) {
+            AccountEntity locked = accountRepository.findByAccountNumberLock(account.accountNumber())
+                .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+            accountBalanceSlotService.sweep(locked, now);
+            accountRepository.flush(); // 옮긴 잔액을 먼저 반영한 뒤 차감
+
+            if (accountRepository.debitActive(account.accountNumber(), normalized, now) == 1) {
+                return;
+            }
+        }
+
+        log.warn("[AtomicBalanceService] 잔액 부족 accountNumber : {}, request : {}", account.accountNumber(), normalized);
+        throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+    }
+}
@@ -0,0 +1,166 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.AccountBalanceAsOfResponseDTO;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.BalanceSnapshotPolicy;
+import com.transfer.system.repository.BalanceMovement;
+import com.transfer.system.repository.BalanceSnapshotJdbcRepository;
+import com.transfer.system.repository.BalanceSnapshotRecord;
+import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.TimeUtils;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 계좌 잔액 스냅샷 생성과 시점 잔액 조회
+ * 시점 잔액은 가장 가까운 이전 스냅샷 잔액에 그 이후 거래만 합산하므로 계좌 사용 기간과 관계없이 조회 범위가 스냅샷 주기 이내로 제한됨
+ */
+@Slf4j
+@Service
+public class BalanceSnapshotService {
+    private final BalanceSnapshotJdbcRepository balanceSnapshotJdbcRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountCache accountCache;
+    private final BalanceSnapshotPolicy balanceSnapshotPolicy;
+    private final TransactionTemplate transactionTemplate;
+
+    public BalanceSnapshotService(BalanceSnapshotJdbcRepository balanceSnapshotJdbcRepository, TransactionRepository transactionRepository, AccountCache accountCache, BalanceSnapshotPolicy balanceSnapshotPolicy, PlatformTransactionManager transactionManager) {
+        this.balanceSnapshotJdbcRepository = balanceSnapshotJdbcRepository;
+        this.transactionRepository = transactionRepository;
+        this.accountCache = accountCache;
+        this.balanceSnapshotPolicy = balanceSnapshotPolicy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적 스냅샷 생성 (기준 시간은 현재 - balance.snapshot.lag-ms)
+     */
+    @Scheduled(initialDelayString = "${balance.snapshot.interval-ms}", fixedDelayString = "${balance.snapshot.interval-ms}")
+    public void takeScheduledSnapshot() {
+        takeSnapshot(TimeUtils.nowKstLocalDateTime().minus(balanceSnapshotPolicy.getLag()));
+    }
+
+    /**
+     * 기준 시간 스냅샷 생성 (직전 스냅샷 이후 거래가 있는 계좌만 생성하고 생성한 계좌 수 반환)
+     * 직전 기준 시간 이전의 마지막 스냅샷 잔액에 (직전 기준 시간, 기준 시간] 거래의 증감을 더하며,
+     * 한 트랜잭션으로 저장해 일부 계좌만 저장된 채 다음 구간으로 넘어가지 않도록 함
+     */
+    public int takeSnapshot(LocalDateTime snapshotTimeStamp) {
+        long startNanos = System.nanoTime();
+        Integer created = transactionTemplate.execute(status -> createSnapshots(snapshotTimeStamp));
+        int count = created != null ? created : 0;
+
+        if (count > 0) {
+            log.info("[BalanceSnapshotService] 잔액 스냅샷 생성 완료 기준 시간 : {}, 계좌 수 : {}, {}ms",
+                snapshotTimeStamp, count, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return count;
+    }
+
+    /**
+     * 계좌의 특정 시점 잔액 조회 (시점 이전 마지막 스냅샷 + 스냅샷 이후 시점까지의 거래 증감)
+     */
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "balance_as_of"}, histogram = true)
+    @Transactional(readOnly = true)
+    public AccountBalanceAsOfResponseDTO getBalanceAsOf(String accountNumber, LocalDateTime asOf) {
+        // 계좌번호 검증
+        if (accountNumber == null || accountNumber.trim().isEmpty()) {
+            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
+        }
+
+        AccountSnapshot account = accountCache.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        // 계좌 생성 전 시점은 조회 불가
+        if (asOf == null || (account.createdTimeStamp() != null && asOf.isBefore(account.createdTimeStamp()))) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Optional<BalanceSnapshotRecord> snapshot = balanceSnapshotJdbcRepository.findLatest(account.accountId(), asOf);
+        LocalDateTime after = snapshot.map(BalanceSnapshotRecord::snapshotTimeStamp).orElse(null);
+
+        BigDecimal balance = snapshot.map(BalanceSnapshotRecord::balance).orElse(BigDecimal.ZERO);
+        long foldedTransactionCount = 0;
+
+        Optional<BalanceMovement> sent = transactionRepository.sumSentByAccount(account.accountId(), after, asOf);
+        if (sent.isPresent()) {
+            balance = balance.subtract(sent.get().getAmount());
+            foldedTransactionCount += sent.get().getTransactionCount();
+        }
+
+        Optional<BalanceMovement> received = transactionRepository.sumReceivedByAccount(account.accountId(), after, asOf);
+        if (received.isPresent()) {
+            balance = balance.add(received.get().getAmount());
+            foldedTransactionCount += received.get().getTransactionCount();
+        }
+
+        return AccountBalanceAsOfResponseDTO.builder()
+            .accountNumber(account.accountNumber())
+            .asOf(asOf)
+            .balance(MoneyUtils.normalize(balance))
+            .snapshotTimeStamp(after)
+            .foldedTransactionCount(foldedTransactionCount)
+            .build();
+    }
+
+    private int createSnapshots(LocalDateTime snapshotTimeStamp) {
+        LocalDateTime previous = balanceSnapshotJdbcRepository.findLatestSnapshotTimeStamp().orElse(null);
+        if (previous != null && !snapshotTimeStamp.isAfter(previous)) {
+            return 0;
+        }
+
+        // 구간 내 계좌별 증감 (출금 측은 금액 + 수수료 차감, 입금 측은 금액 가산)
+        Map<UUID, Movement> movements = new HashMap<>();
+        for (BalanceMovement sent : transactionRepository.sumSentGroupByAccount(previous, snapshotTimeStamp)) {
+            movements.merge(sent.getAccountId(), new Movement(sent.getAmount().negate(), sent.getLastTransactionId()), Movement::merge);
+        }
+        for (BalanceMovement received : transactionRepository.sumReceivedGroupByAccount(previous, snapshotTimeStamp)) {
+            movements.merge(received.getAccountId(), new Movement(received.getAmount(), received.getLastTransactionId()), Movement::merge);
+        }
+
+        List<UUID> accountIds = new ArrayList<>(movements.keySet());
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        int batchSize = balanceSnapshotPolicy.getBatchSize();
+
+        for (int from = 0; from < accountIds.size(); from += batchSize) {
+            List<UUID> chunk = accountIds.subList(from, Math.min(from + batchSize, accountIds.size()));
+
+            // 직전 기준 시간 이전 스냅샷만 사용 (동시에 실행된 다른 스냅샷 작업의 결과를 중복 합산하지 않음)
+            Map<UUID, BigDecimal> baseBalances = new HashMap<>();
+            if (previous != null) {
+                balanceSnapshotJdbcRepository.findLatestByAccountIds(chunk, previous)
+                    .forEach(base -> baseBalances.put(base.accountId(), base.balance()));
+            }
+
+            List<BalanceSnapshotRecord> records = new ArrayList<>(chunk.size());
+            for (UUID accountId : chunk) {
+                Movement movement = movements.get(accountId);
+                BigDecimal balance = baseBalances.getOrDefault(accountId, BigDecimal.ZERO).add(movement.delta());
+                records.add(new BalanceSnapshotRecord(accountId, snapshotTimeStamp, MoneyUtils.normalize(balance), movement.lastTransactionId()));
+            }
+            balanceSnapshotJdbcRepository.insertAll(records, now);
+        }
+        return accountIds.size();
+    }
+
+    /**
+     * 계좌의 구간 내 잔액 증감과 마지막 거래 ID (UUIDv7이므로 가장 큰 ID가 가장 최근 거래)
+     */
+    private record Movement(BigDecimal delta, UUID lastTransactionId) {
+        Movement merge(Movement other) {
+            UUID last = TransactionServiceImpl.compareUuid(lastTransactionId, other.lastTransactionId) >= 0 ? lastTransactionId : other.lastTransactionId;
+            return new Movement(delta.add(other.delta), last);
+        }
+    }
+}
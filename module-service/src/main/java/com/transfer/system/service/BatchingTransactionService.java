@@ -0,0 +1,328 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.BulkTransferResponseDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
+import com.transfer.system.dto.TransferBatchStatsDTO;
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.TransferBatchPolicy;
+import com.transfer.system.repository.AccountRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이체 그룹 커밋 서비스
+ * 요청을 큐에 모아 워커 스레드가 설정된 이체 동시성 제어 방식(concurrency.transfer-mode)의 트랜잭션 하나로 커밋하고, 조회는 TransactionServiceImpl에 위임
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "transfer.batch.enabled", havingValue = "true")
+public class BatchingTransactionService implements TransactionService {
+    private final TransactionServiceImpl transactionService;
+    private final ConcurrencyExecutor concurrencyExecutor;
+    private final TransferBatchPolicy transferBatchPolicy;
+    private final EntityManager entityManager;
+    private final AccountRepository accountRepository;
+    private final BlockingQueue<PendingTransfer> queue;
+
+    // 배치 통계
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong transferCount = new AtomicLong();
+    private final AtomicLong fallbackBatchCount = new AtomicLong();
+    private final AtomicInteger maxBatchSize = new AtomicInteger();
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    public BatchingTransactionService(TransactionServiceImpl transactionService, ConcurrencyExecutor concurrencyExecutor, TransferBatchPolicy transferBatchPolicy, EntityManager entityManager, AccountRepository accountRepository) {
+        this.transactionService = transactionService;
+        this.concurrencyExecutor = concurrencyExecutor;
+        this.transferBatchPolicy = transferBatchPolicy;
+        this.entityManager = entityManager;
+        this.accountRepository = accountRepository;
+        this.queue = new ArrayBlockingQueue<>(transferBatchPolicy.getQueueCapacity());
+    }
+
+    /**
+     * 워커 스레드 시작
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("transfer-batch-worker").daemon().start(this::runWorker);
+        log.info("[BatchingTransactionService] 이체 그룹 커밋 시작 maxSize : {}, maxLinger : {}", transferBatchPolicy.getMaxSize(), transferBatchPolicy.getMaxLinger());
+    }
+
+    /**
+     * 대기 중인 요청을 모두 처리한 뒤 워커 종료 (종료 대기 시간이 지나도 남은 요청은 TRANSFER_QUEUE_FULL로 실패 처리)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+
+        List<PendingTransfer> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (PendingTransfer pending : remaining) {
+            pending.result().completeExceptionally(new TransferSystemException(ErrorCode.TRANSFER_QUEUE_FULL));
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("[BatchingTransactionService] 종료 시 처리하지 못한 이체 요청 실패 처리 count : {}", remaining.size());
+        }
+    }
+
+    /**
+     * 이체 요청을 큐에 등록하고 배치 커밋 결과를 대기
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "transfer"}, histogram = true)
+    public TransactionResponseDTO transfer(TransactionRequestDTO transactionRequestDTO) {
+        PendingTransfer pending = new PendingTransfer(transactionRequestDTO, new CompletableFuture<>());
+
+        if (!running || !queue.offer(pending)) {
+            log.warn("[BatchingTransactionService] 이체 요청 대기열 초과 queued : {}", queue.size());
+            throw new TransferSystemException(ErrorCode.TRANSFER_QUEUE_FULL);
+        }
+
+        // 등록 직전에 종료가 시작되었으면 워커가 이미 끝났을 수 있으므로 직접 회수 (회수하지 못했으면 워커나 종료 처리가 완료)
+        if (!running && queue.remove(pending)) {
+            throw new TransferSystemException(ErrorCode.TRANSFER_QUEUE_FULL);
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 이체는 요청 자체가 하나의 트랜잭션이므로 대기열을 거치지 않고 바로 처리
+     */
+    @Override
+    public BulkTransferResponseDTO transferBulk(List<TransactionRequestDTO> transactionRequestDTOs) {
+        return transactionService.transferBulk(transactionRequestDTOs);
+    }
+
+    @Override
+    public Page<TransactionResponseDTO> getTransactionHistory(String accountNumber, int page, int size) {
+        return transactionService.getTransactionHistory(accountNumber, page, size);
+    }
+
+    @Override
+    public TransactionSliceResponseDTO getTransactionHistoryByCursor(String accountNumber, String cursor, int size) {
+        return transactionService.getTransactionHistoryByCursor(accountNumber, cursor, size);
+    }
+
+    /**
+     * 배치 통계 조회
+     */
+    public TransferBatchStatsDTO getStats() {
+        long batches = batchCount.get();
+        long transfers = transferCount.get();
+
+        return TransferBatchStatsDTO.builder()
+            .batchCount(batches)
+            .transferCount(transfers)
+            .averageBatchSize(batches == 0 ? 0 : (double) transfers / batches)
+            .maxBatchSize(maxBatchSize.get())
+            .lastBatchSize(lastBatchSize.get())
+            .fallbackBatchCount(fallbackBatchCount.get())
+            .queuedCount(queue.size())
+            .build();
+    }
+
+    /**
+     * 큐에서 배치를 모아 커밋 (종료 시 남은 요청까지 처리)
+     */
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingTransfer> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    commitBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[BatchingTransactionService] 배치 워커 오류 : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 최대 건수 또는 최대 대기 시간까지 요청 수집
+     */
+    private List<PendingTransfer> collectBatch() throws InterruptedException {
+        List<PendingTransfer> batch = new ArrayList<>(transferBatchPolicy.getMaxSize());
+
+        PendingTransfer first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + transferBatchPolicy.getMaxLinger().toNanos();
+        while (batch.size() < transferBatchPolicy.getMaxSize()) {
+            if (queue.drainTo(batch, transferBatchPolicy.getMaxSize() - batch.size()) > 0) {
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+
+            PendingTransfer next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 배치를 하나의 트랜잭션으로 커밋 (업무 오류는 해당 요청만 실패 처리, 낙관적 락 충돌 시 배치 전체 재시도)
+     * 배치의 모든 계좌를 계좌 번호 순서로 먼저 잠근 뒤 요청을 처리하므로 다른 배치, 일괄 이체와 잠금 순서가 엇갈리지 않음
+     * 비관적, 낙관적 락 이체는 업무 검증을 잔액 변경과 @Transactional 빈 호출 전에 마치므로 실패한 요청이 공유 트랜잭션을 rollback-only로 만들지 않음
+     * 원자적 갱신 이체는 조건부 UPDATE 자체가 검증이므로 요청마다 세이브포인트를 두고 실패한 요청의 변경만 되돌림
+     */
+    private void commitBatch(List<PendingTransfer> batch) {
+        List<Object> outcomes;
+        try {
+            outcomes = concurrencyExecutor.execute(TransactionType.TRANSFER, mode -> {
+                lockAccounts(batch);
+                List<Object> results = new ArrayList<>(batch.size());
+                for (PendingTransfer pending : batch) {
+                    try {
+                        results.add(mode == ConcurrencyMode.ATOMIC
+                            ? executeInSavepoint(pending.request())
+                            : transactionService.executeTransfer(pending.request(), mode));
+                    } catch (TransferSystemException e) {
+                        results.add(e);
+                    }
+                }
+                return results;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[BatchingTransactionService] 배치 커밋 실패, 개별 처리로 전환 size : {}, error : {}", batch.size(), e.getMessage());
+            fallbackBatchCount.incrementAndGet();
+            commitIndividually(batch);
+            return;
+        }
+
+        recordBatch(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Object outcome = outcomes.get(i);
+            if (outcome instanceof TransactionResponseDTO response) {
+                batch.get(i).result().complete(response);
+            } else {
+                batch.get(i).result().completeExceptionally((TransferSystemException) outcome);
+            }
+        }
+        log.debug("[BatchingTransactionService] 배치 커밋 완료 size : {}", batch.size());
+    }
+
+    /**
+     * 배치 요청의 송신, 수신 계좌를 계좌 번호 순서로 한 번에 잠금 (요청 순서대로 잠그면 교착 상태가 생겨 잠금 대기 시간 초과 후 개별 처리로 전환됨)
+     * 잠금은 세이브포인트 이전에 얻으므로 실패한 요청을 되돌려도 배치가 끝날 때까지 유지
+     */
+    private void lockAccounts(List<PendingTransfer> batch) {
+        Set<String> accountNumbers = new TreeSet<>();
+        for (PendingTransfer pending : batch) {
+            TransactionRequestDTO request = pending.request();
+            if (request == null) {
+                continue;
+            }
+            if (request.getFromAccountNumber() != null) {
+                accountNumbers.add(request.getFromAccountNumber());
+            }
+            if (request.getToAccountNumber() != null) {
+                accountNumbers.add(request.getToAccountNumber());
+            }
+        }
+
+        if (!accountNumbers.isEmpty()) {
+            accountRepository.findAllByAccountNumberInLock(accountNumbers);
+        }
+    }
+
+    /**
+     * 원자적 갱신 이체를 JDBC 세이브포인트 안에서 처리 (JpaTransactionManager는 Hibernate에서 중첩 트랜잭션을 지원하지 않음)
+     * 대기 중인 쓰기를 세이브포인트 안에서 flush하고, 실패 시 되돌린 변경이 영속성 컨텍스트에 남지 않도록 비움 (이전 요청의 변경은 이미 flush됨)
+     */
+    private TransactionResponseDTO executeInSavepoint(TransactionRequestDTO request) {
+        Session session = entityManager.unwrap(Session.class);
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+        try {
+            TransactionResponseDTO response = transactionService.executeTransfer(request, ConcurrencyMode.ATOMIC);
+            entityManager.flush();
+            session.doWork(connection -> connection.releaseSavepoint(savepoint));
+            return response;
+        } catch (TransferSystemException e) {
+            session.doWork(connection -> connection.rollback(savepoint));
+            entityManager.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * 배치 커밋 실패 시 요청별 개별 트랜잭션으로 처리
+     */
+    private void commitIndividually(List<PendingTransfer> batch) {
+        for (PendingTransfer pending : batch) {
+            try {
+                pending.result().complete(transactionService.transfer(pending.request()));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 배치 크기 통계 반영
+     */
+    private void recordBatch(int size) {
+        batchCount.incrementAndGet();
+        transferCount.addAndGet(size);
+        lastBatchSize.set(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    private record PendingTransfer(TransactionRequestDTO request, CompletableFuture<TransactionResponseDTO> result) {
+    }
+}
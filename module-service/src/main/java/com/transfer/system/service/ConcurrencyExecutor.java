@@ -0,0 +1,119 @@
+package com.transfer.system.service;
+
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.ConcurrencyPolicy;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 거래 유형별 동시성 제어 방식으로 계좌 변경 트랜잭션 실행
+ * 비관적 락은 한 번 실행하고, 낙관적 락은 버전 충돌 시 지터를 둔 대기 후 정해진 횟수까지 새 트랜잭션으로 재시도
+ */
+@Slf4j
+@Component
+public class ConcurrencyExecutor {
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrencyPolicy concurrencyPolicy;
+    private final ServiceMetrics serviceMetrics;
+
+    private final AtomicLong retryCount = new AtomicLong(); // 충돌로 재시도한 횟수
+    private final AtomicLong exhaustedCount = new AtomicLong(); // 재시도 횟수를 모두 소진한 요청 수
+
+    public ConcurrencyExecutor(PlatformTransactionManager transactionManager, ConcurrencyPolicy concurrencyPolicy, ServiceMetrics serviceMetrics) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.concurrencyPolicy = concurrencyPolicy;
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    /**
+     * 트랜잭션 실행 (이미 트랜잭션이 진행 중이면 참여하며 재시도하지 않음)
+     */
+    public <T> T execute(TransactionType transactionType, Function<ConcurrencyMode, T> action) {
+        ConcurrencyMode mode = concurrencyPolicy.modeOf(transactionType);
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(status -> action.apply(mode));
+        }
+
+        if (mode != ConcurrencyMode.OPTIMISTIC) {
+            return executeAndCommit(transactionType, mode, action);
+        }
+
+        int maxAttempts = concurrencyPolicy.getMaxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeAndCommit(transactionType, mode, action);
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCount.incrementAndGet();
+                    log.warn("[ConcurrencyExecutor] 버전 충돌 재시도 소진 type : {}, attempts : {}", transactionType, attempt);
+                    throw new TransferSystemException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+                }
+
+                retryCount.incrementAndGet();
+                log.debug("[ConcurrencyExecutor] 버전 충돌 재시도 type : {}, attempt : {}", transactionType, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getExhaustedCount() {
+        return exhaustedCount.get();
+    }
+
+    /**
+     * 새 트랜잭션으로 실행하고 처리 이후 flush, 커밋에 걸린 시간 기록
+     * 연결 풀 대기 시간 안에 DB 연결을 얻지 못하면 503으로 거절
+     */
+    private <T> T executeAndCommit(TransactionType transactionType, ConcurrencyMode mode, Function<ConcurrencyMode, T> action) {
+        long start = System.nanoTime();
+        long[] actionNanos = new long[1];
+        try {
+            return transactionTemplate.execute(status -> {
+                T result = action.apply(mode);
+                actionNanos[0] = System.nanoTime() - start;
+                return result;
+            });
+        } catch (CannotCreateTransactionException e) {
+            log.warn("[ConcurrencyExecutor] DB 연결 획득 실패 type : {}, error : {}", transactionType, e.getMessage());
+            throw new TransferSystemException(ErrorCode.DATABASE_BUSY);
+        } finally {
+            if (actionNanos[0] > 0) { // 처리 중 예외로 롤백된 경우는 제외
+                serviceMetrics.record(transactionType, ServiceMetrics.Step.COMMIT, System.nanoTime() - start - actionNanos[0]);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long sleepMillis = concurrencyPolicy.backoffMillis(attempt);
+        if (sleepMillis <= 0) {
+            Thread.onSpinWait();
+            return;
+        }
+
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransferSystemException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+        }
+    }
+}
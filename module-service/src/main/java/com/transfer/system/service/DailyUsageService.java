@@ -0,0 +1,177 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.DailyUsageEntity;
+import com.transfer.system.domain.DailyUsageId;
+import com.transfer.system.dto.DailyUsageMismatchDTO;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.DailyUsageRepository;
+import com.transfer.system.repository.DailyUsageSum;
+import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.utils.MoneyUtils;
+import com.transfer.system.utils.TimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+public class DailyUsageService {
+    private final DailyUsageRepository dailyUsageRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 일일 한도가 적용되는 거래 유형
+    private static final List<TransactionType> LIMITED_TYPES = List.of(TransactionType.WITHDRAW, TransactionType.TRANSFER);
+
+    public DailyUsageService(DailyUsageRepository dailyUsageRepository, TransactionRepository transactionRepository, AccountRepository accountRepository, PlatformTransactionManager transactionManager) {
+        this.dailyUsageRepository = dailyUsageRepository;
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 누적 사용 금액 조회
+     */
+    public BigDecimal getUsedAmount(String accountNumber, TransactionType type, LocalDate usageDate) {
+        return dailyUsageRepository.findById(new DailyUsageId(accountNumber, usageDate, type))
+            .map(DailyUsageEntity::getUsedAmount)
+            .orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * 누적 사용 금액 증가 (잔액 변경과 같은 트랜잭션에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addUsedAmount(String accountNumber, TransactionType type, LocalDate usageDate, BigDecimal amount) {
+        Optional<DailyUsageEntity> dailyUsage = dailyUsageRepository.findById(new DailyUsageId(accountNumber, usageDate, type));
+
+        if (dailyUsage.isPresent()) {
+            dailyUsage.get().addUsedAmount(amount);
+            return;
+        }
+
+        dailyUsageRepository.save(DailyUsageEntity.builder()
+            .accountNumber(accountNumber)
+            .usageDate(usageDate)
+            .transactionType(type)
+            .usedAmount(MoneyUtils.normalize(amount))
+            .updatedTimeStamp(TimeUtils.nowKstLocalDateTime())
+            .build());
+    }
+
+    /**
+     * 거래 내역 기준 누적 사용 금액 재계산
+     */
+    public int rebuild(LocalDate usageDate) {
+        LocalDateTime startTime = usageDate.atStartOfDay();
+        LocalDateTime endTime = startTime.plusDays(1).minusNanos(1);
+
+        Set<String> accountNumbers = new TreeSet<>();
+        transactionRepository.sumUsedAmountGroupByAccount(LIMITED_TYPES, startTime, endTime)
+            .forEach(sum -> accountNumbers.add(sum.getAccountNumber()));
+        dailyUsageRepository.findAllByUsageDate(usageDate)
+            .forEach(usage -> accountNumbers.add(usage.getAccountNumber()));
+
+        // 계좌 단위 짧은 트랜잭션으로 재계산
+        for (String accountNumber : accountNumbers) {
+            transactionTemplate.executeWithoutResult(status -> rebuildAccount(accountNumber, usageDate, startTime, endTime));
+        }
+
+        log.info("[DailyUsageService] 일일 사용량 재계산 완료 date: {}, accounts: {}", usageDate, accountNumbers.size());
+        return accountNumbers.size();
+    }
+
+    /**
+     * 누적 사용 금액과 거래 내역 집계 비교
+     */
+    public List<DailyUsageMismatchDTO> verify(LocalDate usageDate) {
+        LocalDateTime startTime = usageDate.atStartOfDay();
+        LocalDateTime endTime = startTime.plusDays(1).minusNanos(1);
+
+        Map<DailyUsageId, BigDecimal> actualAmounts = new HashMap<>();
+        for (DailyUsageSum sum : transactionRepository.sumUsedAmountGroupByAccount(LIMITED_TYPES, startTime, endTime)) {
+            actualAmounts.put(new DailyUsageId(sum.getAccountNumber(), usageDate, sum.getTransactionType()), sum.getUsedAmount());
+        }
+
+        Map<DailyUsageId, BigDecimal> counterAmounts = new HashMap<>();
+        for (DailyUsageEntity usage : dailyUsageRepository.findAllByUsageDate(usageDate)) {
+            counterAmounts.put(new DailyUsageId(usage.getAccountNumber(), usageDate, usage.getTransactionType()), usage.getUsedAmount());
+        }
+
+        Set<DailyUsageId> candidates = new HashSet<>(actualAmounts.keySet());
+        candidates.addAll(counterAmounts.keySet());
+        candidates.removeIf(id -> nvl(actualAmounts.get(id)).compareTo(nvl(counterAmounts.get(id))) == 0);
+
+        // 진행 중인 거래로 인한 일시적 차이를 걸러내기 위해 계좌 락을 잡고 재확인
+        List<DailyUsageMismatchDTO> mismatches = new ArrayList<>();
+        for (DailyUsageId id : candidates) {
+            DailyUsageMismatchDTO mismatch = transactionTemplate.execute(status -> recheck(id, startTime, endTime));
+            if (mismatch != null) {
+                mismatches.add(mismatch);
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            log.warn("[DailyUsageService] 일일 사용량 불일치 감지 date: {}, count: {}", usageDate, mismatches.size());
+        }
+        return mismatches;
+    }
+
+    private void rebuildAccount(String accountNumber, LocalDate usageDate, LocalDateTime startTime, LocalDateTime endTime) {
+        // 이체, 출금과 직렬화되도록 계좌 락 획득
+        accountRepository.findByAccountNumberLock(accountNumber);
+
+        for (TransactionType type : LIMITED_TYPES) {
+            BigDecimal actual = nvl(transactionRepository.getSumTodayUsedAmount(accountNumber, type, startTime, endTime));
+            Optional<DailyUsageEntity> dailyUsage = dailyUsageRepository.findById(new DailyUsageId(accountNumber, usageDate, type));
+
+            if (dailyUsage.isPresent()) {
+                dailyUsage.get().overwriteUsedAmount(actual);
+            } else if (actual.compareTo(BigDecimal.ZERO) > 0) {
+                dailyUsageRepository.save(DailyUsageEntity.builder()
+                    .accountNumber(accountNumber)
+                    .usageDate(usageDate)
+                    .transactionType(type)
+                    .usedAmount(MoneyUtils.normalize(actual))
+                    .updatedTimeStamp(TimeUtils.nowKstLocalDateTime())
+                    .build());
+            }
+        }
+    }
+
+    private DailyUsageMismatchDTO recheck(DailyUsageId id, LocalDateTime startTime, LocalDateTime endTime) {
+        accountRepository.findByAccountNumberLock(id.getAccountNumber());
+
+        BigDecimal actual = nvl(transactionRepository.getSumTodayUsedAmount(id.getAccountNumber(), id.getTransactionType(), startTime, endTime));
+        BigDecimal counter = dailyUsageRepository.findById(id)
+            .map(DailyUsageEntity::getUsedAmount)
+            .orElse(BigDecimal.ZERO);
+
+        if (actual.compareTo(counter) == 0) {
+            return null;
+        }
+
+        return DailyUsageMismatchDTO.builder()
+            .accountNumber(id.getAccountNumber())
+            .usageDate(id.getUsageDate())
+            .transactionType(id.getTransactionType())
+            .counterAmount(MoneyUtils.normalize(counter))
+            .actualAmount(MoneyUtils.normalize(actual))
+            .build();
+    }
+
+    private static BigDecimal nvl(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
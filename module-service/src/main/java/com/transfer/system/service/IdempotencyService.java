@@ -0,0 +1,189 @@
+package com.transfer.system.service;
+
+import com.transfer.system.domain.IdempotencyRecordEntity;
+import com.transfer.system.enums.IdempotencyStatus;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.IdempotencyPolicy;
+import com.transfer.system.repository.IdempotencyRecordRepository;
+import com.transfer.system.utils.BoundedTtlCache;
+import com.transfer.system.utils.TimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * 멱등 키 기반 요청 중복 실행 방지
+ * 완료된 응답은 DB와 메모리 캐시에 보관하여 재요청 시 그대로 반환하고, 같은 키의 동시 요청은 한 번만 실행
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyPolicy idempotencyPolicy;
+    private final BoundedTtlCache<String, StoredResponse> completedResponses;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    // 완료된 응답과 원 요청 해시
+    private record StoredResponse(String requestHash, IdempotentResponse response) {
+    }
+
+    // 처리 중인 요청 (같은 키의 동시 요청이 결과를 기다림)
+    private record InFlight(String requestHash, CompletableFuture<IdempotentResponse> result) {
+    }
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository, PlatformTransactionManager transactionManager, IdempotencyPolicy idempotencyPolicy) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idempotencyPolicy = idempotencyPolicy;
+        this.completedResponses = new BoundedTtlCache<>(idempotencyPolicy.getCacheSize(), idempotencyPolicy.getCacheTtl());
+    }
+
+    /**
+     * 멱등 키 기준 요청 실행 (완료된 키는 저장된 응답 반환, 2xx 응답만 저장하며 실패한 요청은 같은 키로 다시 실행 가능)
+     */
+    public IdempotentResponse execute(String idempotencyKey, String requestPath, String requestHash, Callable<IdempotentResponse> action) throws Exception {
+        validateKey(idempotencyKey);
+
+        // 1. 최근 완료된 키는 DB 조회 없이 반환
+        Optional<StoredResponse> cached = completedResponses.get(idempotencyKey);
+        if (cached.isPresent()) {
+            return replay(cached.get().requestHash(), requestHash, cached.get().response());
+        }
+
+        // 2. 같은 키로 처리 중인 요청이 있으면 결과 대기
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(idempotencyKey, mine);
+        if (running != null) {
+            return await(running, requestHash);
+        }
+
+        try {
+            IdempotentResponse response = executeOnce(idempotencyKey, requestPath, requestHash, action);
+            mine.result().complete(response);
+            return response;
+        } catch (Exception e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, mine);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키 삭제
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms}")
+    public void purgeExpired() {
+        LocalDateTime threshold = TimeUtils.nowKstLocalDateTime().minus(idempotencyPolicy.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteCreatedBefore(threshold));
+        completedResponses.evictExpired();
+
+        if (deleted != null && deleted > 0) {
+            log.info("[IdempotencyService] 보관 기간이 지난 멱등 키 삭제 count : {}", deleted);
+        }
+    }
+
+    private IdempotentResponse executeOnce(String idempotencyKey, String requestPath, String requestHash, Callable<IdempotentResponse> action) throws Exception {
+        Optional<IdempotencyRecordEntity> stored = idempotencyRecordRepository.findById(idempotencyKey);
+        if (stored.isPresent()) {
+            IdempotencyRecordEntity record = stored.get();
+            if (record.getStatus() != IdempotencyStatus.COMPLETED) {
+                throw new TransferSystemException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS); // 다른 노드에서 처리 중
+            }
+
+            IdempotentResponse response = new IdempotentResponse(record.getResponseStatus(), record.getResponseBody());
+            completedResponses.put(idempotencyKey, new StoredResponse(record.getRequestHash(), response));
+            return replay(record.getRequestHash(), requestHash, response);
+        }
+
+        claim(idempotencyKey, requestPath, requestHash);
+
+        IdempotentResponse response;
+        try {
+            response = action.call();
+        } catch (Exception e) {
+            release(idempotencyKey);
+            throw e;
+        }
+
+        if (!response.isSuccessful()) {
+            release(idempotencyKey);
+            return response;
+        }
+
+        complete(idempotencyKey, response);
+        completedResponses.put(idempotencyKey, new StoredResponse(requestHash, response));
+        return response;
+    }
+
+    /**
+     * 처리 중 상태로 키 선점 (다른 요청이 먼저 선점했으면 처리 중 오류)
+     */
+    private void claim(String idempotencyKey, String requestPath, String requestHash) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                idempotencyRecordRepository.insertProcessing(idempotencyKey, requestPath, requestHash, TimeUtils.nowKstLocalDateTime()));
+        } catch (DataIntegrityViolationException e) {
+            throw new TransferSystemException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 응답 저장 (저장 실패 시 키는 처리 중으로 남아 같은 키의 재실행을 막음)
+     */
+    private void complete(String idempotencyKey, IdempotentResponse response) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                idempotencyRecordRepository.complete(idempotencyKey, response.status(), response.body(), TimeUtils.nowKstLocalDateTime()));
+        } catch (RuntimeException e) {
+            log.error("[IdempotencyService] 응답 저장 실패 key : {}, error : {}", idempotencyKey, e.getMessage(), e);
+        }
+    }
+
+    private void release(String idempotencyKey) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteProcessing(idempotencyKey));
+        } catch (RuntimeException e) {
+            log.error("[IdempotencyService] 키 선점 해제 실패 key : {}, error : {}", idempotencyKey, e.getMessage(), e);
+        }
+    }
+
+    private IdempotentResponse await(InFlight running, String requestHash) throws Exception {
+        if (!running.requestHash().equals(requestHash)) {
+            throw new TransferSystemException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        try {
+            return running.result().get(idempotencyPolicy.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TransferSystemException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static IdempotentResponse replay(String storedHash, String requestHash, IdempotentResponse response) {
+        if (!storedHash.equals(requestHash)) { // 같은 키로 다른 요청을 보낸 경우
+            throw new TransferSystemException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return response;
+    }
+
+    private static void validateKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyPolicy.MAX_KEY_LENGTH) {
+            throw new TransferSystemException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+}
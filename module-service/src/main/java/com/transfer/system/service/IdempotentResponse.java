@@ -0,0 +1,11 @@
+package com.transfer.system.service;
+
+/**
+ * 멱등 키로 재사용하는 응답 (HTTP 상태 코드, JSON 본문)
+ */
+public record IdempotentResponse(int status, String body) {
+
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+}
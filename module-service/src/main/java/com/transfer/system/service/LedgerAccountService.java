@@ -0,0 +1,129 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.AccountBalanceResponseDTO;
+import com.transfer.system.dto.AccountCreateRequestDTO;
+import com.transfer.system.dto.AccountResponseDTO;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.ledger.LedgerEngine;
+import com.transfer.system.ledger.LedgerEntry;
+import com.transfer.system.ledger.LedgerPersister;
+import com.transfer.system.utils.MoneyUtils;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 원장 기반 입출금 서비스 (계좌 생성, 조회, 삭제는 AccountServiceImpl에 위임)
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerAccountService implements AccountService {
+    private final LedgerEngine ledgerEngine;
+    private final LedgerPersister ledgerPersister;
+    private final AccountServiceImpl accountService;
+
+    private static final Duration DELETE_WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    @Override
+    public AccountResponseDTO createAccount(AccountCreateRequestDTO accountCreateRequestDTO) {
+        return accountService.createAccount(accountCreateRequestDTO);
+    }
+
+    /**
+     * 계좌 조회 (잔액은 원장 기준)
+     */
+    @Override
+    public AccountResponseDTO getAccount(UUID id) {
+        AccountResponseDTO account = accountService.getAccount(id);
+
+        return ledgerEngine.getBalance(account.getAccountNumber())
+            .map(balance -> AccountResponseDTO.builder()
+                .accountId(account.getAccountId())
+                .accountNumber(account.getAccountNumber())
+                .accountName(account.getAccountName())
+                .bankName(account.getBankName())
+                .accountType(account.getAccountType())
+                .currencyType(account.getCurrencyType())
+                .balance(MoneyUtils.normalize(balance))
+                .accountStatus(account.getAccountStatus())
+                .createdTimeStamp(account.getCreatedTimeStamp())
+                .updatedTimeStamp(account.getUpdatedTimeStamp())
+                .build())
+            .orElse(account);
+    }
+
+    /**
+     * 계좌 삭제 (원장에서 계좌 거래를 먼저 막고 저장 대기 중인 거래를 반영한 뒤 거래 이력 확인)
+     * 차단 없이 기다리면 대기 반영과 삭제 사이에 들어온 거래가 삭제된 계좌로 저장될 수 있음
+     */
+    @Override
+    public void deleteAccount(UUID id) {
+        String accountNumber = accountService.getAccount(id).getAccountNumber();
+
+        ledgerEngine.block(accountNumber);
+        try {
+            if (!ledgerPersister.awaitPersisted(DELETE_WAIT_TIMEOUT)) {
+                throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+            }
+
+            accountService.deleteAccount(id);
+            ledgerEngine.evict(accountNumber);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransferSystemException(ErrorCode.LEDGER_UNAVAILABLE);
+        } finally {
+            ledgerEngine.unblock(accountNumber);
+        }
+    }
+
+    /**
+     * 계좌 입금
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "deposit"}, histogram = true)
+    public AccountBalanceResponseDTO deposit(String accountNumber, BigDecimal amount) {
+        if (accountNumber == null || amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+
+        LedgerEntry entry = ledgerEngine.deposit(accountNumber, amount);
+        log.debug("[LedgerAccountService] 입금 완료 transactionId: {}, accountNumber: {}", entry.transactionId(), accountNumber);
+
+        return AccountBalanceResponseDTO.builder()
+            .accountNumber(accountNumber)
+            .amount(MoneyUtils.normalize(amount))
+            .balance(MoneyUtils.normalize(entry.toBalance()))
+            .build();
+    }
+
+    /**
+     * 계좌 출금
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "withdraw"}, histogram = true)
+    public AccountBalanceResponseDTO withdraw(String accountNumber, BigDecimal amount) {
+        if (accountNumber == null || amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+
+        LedgerEntry entry = ledgerEngine.withdraw(accountNumber, amount);
+        log.debug("[LedgerAccountService] 출금 완료 transactionId: {}, accountNumber: {}", entry.transactionId(), accountNumber);
+
+        return AccountBalanceResponseDTO.builder()
+            .accountNumber(accountNumber)
+            .amount(MoneyUtils.normalize(amount))
+            .balance(MoneyUtils.normalize(entry.fromBalance()))
+            .build();
+    }
+}
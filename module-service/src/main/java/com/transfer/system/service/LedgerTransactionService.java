@@ -0,0 +1,111 @@
+package com.transfer.system.service;
+
+import com.transfer.system.dto.BulkTransferItemResultDTO;
+import com.transfer.system.dto.BulkTransferResponseDTO;
+import com.transfer.system.dto.TransactionRequestDTO;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
+import com.transfer.system.enums.TransactionType;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.ledger.LedgerEngine;
+import com.transfer.system.ledger.LedgerEntry;
+import com.transfer.system.policy.BulkTransferPolicy;
+import com.transfer.system.utils.MoneyUtils;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원장 기반 이체 서비스 (거래 내역 조회는 DB 기준이므로 저장 대기 중인 거래는 조회되지 않을 수 있음)
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerTransactionService implements TransactionService {
+    private final LedgerEngine ledgerEngine;
+    private final TransactionServiceImpl transactionService;
+    private final BulkTransferPolicy bulkTransferPolicy;
+
+    /**
+     * 이체 기능
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "transfer"}, histogram = true)
+    public TransactionResponseDTO transfer(TransactionRequestDTO transactionRequestDTO) {
+        if (transactionRequestDTO == null) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+
+        String fromAccountNumber = transactionRequestDTO.getFromAccountNumber();
+        String toAccountNumber = transactionRequestDTO.getToAccountNumber();
+        BigDecimal amount = transactionRequestDTO.getAmount();
+
+        if (fromAccountNumber == null || toAccountNumber == null) {
+            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
+        }
+
+        if (fromAccountNumber.equals(toAccountNumber)) { // 같은 계좌로는 이체할 수 없음
+            throw new TransferSystemException(ErrorCode.TRANSFER_SAME_ACCOUNT);
+        }
+
+        // 이체 금액 유효성 검사
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_AMOUNT);
+        }
+
+        LedgerEntry entry = ledgerEngine.transfer(fromAccountNumber, toAccountNumber, amount);
+        log.debug("[LedgerTransactionService] 이체 완료 거래ID : {}", entry.transactionId());
+
+        return TransactionResponseDTO.builder()
+            .transactionId(entry.transactionId())
+            .fromAccountNumber(entry.fromAccountNumber())
+            .toAccountNumber(entry.toAccountNumber())
+            .amount(MoneyUtils.normalize(entry.amount()))
+            .fee(MoneyUtils.normalize(entry.fee()))
+            .transactionType(TransactionType.TRANSFER)
+            .createdTimeStamp(entry.createdTimeStamp())
+            .build();
+    }
+
+    /**
+     * 일괄 이체 (원장은 계좌별 단일 스레드로 처리하므로 잠금 없이 요청 순서대로 이체)
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "transfer_bulk"}, histogram = true)
+    public BulkTransferResponseDTO transferBulk(List<TransactionRequestDTO> transactionRequestDTOs) {
+        bulkTransferPolicy.validateSize(transactionRequestDTOs == null ? 0 : transactionRequestDTOs.size());
+
+        List<BulkTransferItemResultDTO> results = new ArrayList<>(transactionRequestDTOs.size());
+        for (int i = 0; i < transactionRequestDTOs.size(); i++) {
+            try {
+                results.add(BulkTransferItemResultDTO.success(i, transfer(transactionRequestDTOs.get(i))));
+            } catch (TransferSystemException e) {
+                results.add(BulkTransferItemResultDTO.failure(i, e.getErrorCode()));
+            } catch (ArithmeticException e) { // 금액은 원장에서 미리 검증하므로 잔액이 최소 단위(long) 범위를 넘는 경우만 해당
+                results.add(BulkTransferItemResultDTO.failure(i, ErrorCode.INVALID_AMOUNT));
+            }
+        }
+        return BulkTransferResponseDTO.of(results);
+    }
+
+    @Override
+    public Page<TransactionResponseDTO> getTransactionHistory(String accountNumber, int page, int size) {
+        return transactionService.getTransactionHistory(accountNumber, page, size);
+    }
+
+    @Override
+    public TransactionSliceResponseDTO getTransactionHistoryByCursor(String accountNumber, String cursor, int size) {
+        return transactionService.getTransactionHistoryByCursor(accountNumber, cursor, size);
+    }
+}
@@ -0,0 +1,81 @@
+package com.transfer.system.service;
+
+import com.transfer.system.enums.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 거래 처리 단계별 소요 시간 측정 (잠금 획득, 일일 사용량 조회, 거래 저장, 커밋)
+ * 타이머는 생성 시 모두 등록해 두고 호출 시에는 조회 없이 기록만 수행
+ */
+@Component
+public class ServiceMetrics {
+    public static final String SERVICE_TIMER = "transfer.system.service"; // 서비스 메서드 처리 시간 (@Timed, operation 태그로 구분)
+    public static final String STEP_TIMER = "transfer.system.step";
+
+    private final Map<TransactionType, Map<Step, Timer>> timers = new EnumMap<>(TransactionType.class);
+
+    @Getter
+    public enum Step {
+        LOCK("lock"), // 계좌 잠금 획득 (낙관적 락 사용 시 잠금 없는 계좌 조회)
+        DAILY_USAGE("daily_usage"), // 일일 한도 확인용 누적 사용 금액 조회
+        INSERT("insert"), // 거래 내역 저장
+        COMMIT("commit"); // 변경 내용 flush 및 커밋
+
+        private final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+    }
+
+    public ServiceMetrics(MeterRegistry meterRegistry) {
+        for (TransactionType type : TransactionType.values()) {
+            Map<Step, Timer> stepTimers = new EnumMap<>(Step.class);
+            for (Step step : Step.values()) {
+                stepTimers.put(step, Timer.builder(STEP_TIMER)
+                    .description("거래 처리 단계별 소요 시간")
+                    .tag("operation", type.name().toLowerCase())
+                    .tag("step", step.getLabel())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1)) // 버킷 수를 제한해 기록 비용 최소화
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry));
+            }
+            timers.put(type, stepTimers);
+        }
+    }
+
+    /**
+     * 단계 실행 시간 기록
+     */
+    public <T> T record(TransactionType type, Step step, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(type, step, System.nanoTime() - start);
+        }
+    }
+
+    public void record(TransactionType type, Step step, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(type, step, System.nanoTime() - start);
+        }
+    }
+
+    public void record(TransactionType type, Step step, long elapsedNanos) {
+        timers.get(type).get(step).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
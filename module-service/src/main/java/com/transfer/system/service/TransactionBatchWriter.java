@@ -0,0 +1,37 @@
+package com.transfer.system.service;
+
+import com.transfer.system.outbox.TransactionOutbox;
+import com.transfer.system.policy.TransactionWritePolicy;
+import com.transfer.system.repository.TransactionJdbcRepository;
+import com.transfer.system.repository.TransactionRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 거래 대량 저장 (일괄 이체, 가져오기, 원장 재반영처럼 한 트랜잭션에서 여러 거래를 저장하는 흐름용)
+ * batchSize건 단위로 나눠 전송하고 같은 단위로 거래 이벤트를 기록 (거래 ID는 애플리케이션에서 UUIDv7로 발급하므로 INSERT를 묶을 수 있음)
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionBatchWriter {
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionOutbox transactionOutbox;
+    private final TransactionWritePolicy transactionWritePolicy;
+
+    /**
+     * 거래 행 대량 저장 (batchSize건마다 JDBC batch insert 한 번, 호출 측 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void writeAll(List<TransactionRecord> records) {
+        int batchSize = transactionWritePolicy.getBatchSize();
+        for (int from = 0; from < records.size(); from += batchSize) {
+            List<TransactionRecord> chunk = records.subList(from, Math.min(from + batchSize, records.size()));
+            transactionJdbcRepository.insertAll(chunk);
+            transactionOutbox.appendAll(chunk);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.transfer.system.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 검증이 끝난 거래 내역 내보내기 작업 (호출 시점에 DB를 조회하며 결과를 바로 출력)
+ */
+@FunctionalInterface
+public interface TransactionExport {
+    void writeTo(OutputStream out) throws IOException;
+}
@@ -0,0 +1,117 @@
+package com.transfer.system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.enums.TransactionExportFormat;
+import com.transfer.system.exception.ErrorCode;
+import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.policy.TransactionExportPolicy;
+import com.transfer.system.repository.TransactionJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 계좌 전체 거래 내역 내보내기 (JDBC 커서에서 읽은 행을 바로 출력해 건수와 관계없이 일정한 메모리 사용)
+ * 트랜잭션, 영속성 컨텍스트 없이 조회하며 응답 전송이 끝날 때까지 DB 연결 하나를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+    private final AccountCache accountCache;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionExportPolicy transactionExportPolicy;
+    private final ObjectMapper objectMapper;
+
+    private static final String CSV_HEADER = "transactionId,fromAccountNumber,toAccountNumber,transactionType,amount,fee,createdTimeStamp";
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    /**
+     * 내보내기 준비 (계좌, 기간 검증은 응답 전송 전에 수행하고 조회는 반환된 작업 실행 시 수행)
+     * 기간은 KST 날짜 기준 from 00:00부터 to 다음 날 00:00 전까지, 지정하지 않으면 제한 없음
+     */
+    public TransactionExport prepareExport(String accountNumber, LocalDate fromDate, LocalDate toDate, TransactionExportFormat format) {
+        // 계좌번호 검증
+        if (accountNumber == null || accountNumber.trim().isEmpty()) {
+            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
+        }
+
+        if (format == null || (fromDate != null && toDate != null && fromDate.isAfter(toDate))) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+
+        UUID accountId = accountCache.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND))
+            .accountId();
+
+        LocalDateTime from = fromDate != null ? fromDate.atStartOfDay() : null;
+        LocalDateTime to = toDate != null ? toDate.plusDays(1).atStartOfDay() : null;
+
+        return out -> export(accountId, from, to, format, out);
+    }
+
+    private void export(UUID accountId, LocalDateTime from, LocalDateTime to, TransactionExportFormat format, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        ObjectWriter jsonWriter = objectMapper.writerFor(TransactionResponseDTO.class);
+        long[] rowCount = {0};
+
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            transactionJdbcRepository.streamByAccount(accountId, from, to, transactionExportPolicy.getFetchSize(), view -> {
+                TransactionResponseDTO dto = TransactionServiceImpl.toDto(view);
+                try {
+                    if (format == TransactionExportFormat.CSV) {
+                        writeCsvRow(writer, dto);
+                    } else {
+                        writer.write(jsonWriter.writeValueAsString(dto));
+                        writer.write('\n');
+                    }
+                    rowCount[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 (조회를 중단하고 커서를 닫음)
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("[TransactionExportService] 거래 내역 내보내기 중단 accountId : {}, 전송 {}건, error : {}", accountId, rowCount[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("[TransactionExportService] 거래 내역 내보내기 완료 accountId : {}, format : {}, {}건, {}ms",
+            accountId, format, rowCount[0], (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * CSV 한 행 출력 (모든 값이 UUID, 숫자, 영문 상수, ISO 일시라 따옴표 처리가 필요 없음)
+     */
+    private static void writeCsvRow(Writer writer, TransactionResponseDTO dto) throws IOException {
+        writer.write(dto.getTransactionId().toString());
+        writer.write(',');
+        writer.write(dto.getFromAccountNumber() != null ? dto.getFromAccountNumber() : "");
+        writer.write(',');
+        writer.write(dto.getToAccountNumber() != null ? dto.getToAccountNumber() : "");
+        writer.write(',');
+        writer.write(dto.getTransactionType().name());
+        writer.write(',');
+        writer.write(dto.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(dto.getFee().toPlainString());
+        writer.write(',');
+        writer.write(dto.getCreatedTimeStamp().toString());
+        writer.write('\n');
+    }
+}
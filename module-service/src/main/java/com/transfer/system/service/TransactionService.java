@@ -1,12 +1,20 @@
 package com.transfer.system.service;
 
+import com.transfer.system.dto.BulkTransferResponseDTO;
 import com.transfer.system.dto.TransactionRequestDTO;
 import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 
 public interface TransactionService {
     TransactionResponseDTO transfer(TransactionRequestDTO transactionRequestDTO);
 
+    BulkTransferResponseDTO transferBulk(List<TransactionRequestDTO> transactionRequestDTOs);
+
     Page<TransactionResponseDTO> getTransactionHistory(String accountNumber, int page, int size);
+
+    TransactionSliceResponseDTO getTransactionHistoryByCursor(String accountNumber, String cursor, int size);
 }
\ No newline at end of file
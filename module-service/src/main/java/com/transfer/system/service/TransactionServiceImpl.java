@@ -2,18 +2,32 @@ package com.transfer.system.service;
 
 import com.transfer.system.domain.AccountEntity;
 import com.transfer.system.domain.TransactionEntity;
+import com.transfer.system.dto.BulkTransferItemResultDTO;
+import com.transfer.system.dto.BulkTransferResponseDTO;
+import com.transfer.system.dto.TransactionCursor;
 import com.transfer.system.dto.TransactionRequestDTO;
 import com.transfer.system.dto.TransactionResponseDTO;
+import com.transfer.system.dto.TransactionSliceResponseDTO;
 import com.transfer.system.enums.AccountStatus;
+import com.transfer.system.enums.ConcurrencyMode;
+import com.transfer.system.enums.CurrencyType;
 import com.transfer.system.enums.TransactionType;
 import com.transfer.system.exception.ErrorCode;
 import com.transfer.system.exception.TransferSystemException;
+import com.transfer.system.outbox.TransactionOutbox;
+import com.transfer.system.policy.BulkTransferPolicy;
 import com.transfer.system.policy.PagingPolicy;
 import com.transfer.system.policy.TransferPolicy;
 import com.transfer.system.repository.AccountRepository;
+import com.transfer.system.repository.AccountSlotView;
+import com.transfer.system.repository.TransactionRecord;
 import com.transfer.system.repository.TransactionRepository;
+import com.transfer.system.repository.TransactionView;
+import com.transfer.system.service.ServiceMetrics.Step;
 import com.transfer.system.utils.MoneyUtils;
 import com.transfer.system.utils.TimeUtils;
+import com.transfer.system.utils.UuidV7;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -26,59 +40,89 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
+    // 커서 조회 정렬 순서 (생성 일시 내림차순, 동일 시각은 거래 ID 내림차순)
+    private static final Comparator<TransactionView> CURSOR_ORDER = Comparator
+        .comparing(TransactionView::createdTimeStamp)
+        .thenComparing(TransactionView::transactionId, TransactionServiceImpl::compareUuid)
+        .reversed();
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final TransferPolicy transferPolicy;
     private final PagingPolicy pagingPolicy;
+    private final DailyUsageService dailyUsageService;
+    private final ConcurrencyExecutor concurrencyExecutor;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final BulkTransferPolicy bulkTransferPolicy;
+    private final AccountCache accountCache;
+    private final ServiceMetrics serviceMetrics;
+    private final TransactionOutbox transactionOutbox;
+    private final AccountBalanceSlotService accountBalanceSlotService;
+    private final AtomicBalanceService atomicBalanceService;
 
     /**
-     * 이체 기능
+     * 이체 기능 (설정된 동시성 제어 방식으로 트랜잭션 실행)
      */
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "transfer"}, histogram = true)
     public TransactionResponseDTO transfer(TransactionRequestDTO transactionRequestDTO) {
-        if (transactionRequestDTO == null) {
-            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
-        }
+        return concurrencyExecutor.execute(TransactionType.TRANSFER, mode -> executeTransfer(transactionRequestDTO, mode));
+    }
+
+    /**
+     * 이체 처리 (호출 측 트랜잭션에 참여, 검증 실패 시 변경 없이 예외 발생)
+     * 비관적, 낙관적 락은 업무 검증을 잔액 변경과 @Transactional 빈 호출 전에 수행 (그룹 커밋 배치의 공유 트랜잭션이 rollback-only가 되지 않도록)
+     */
+    public TransactionResponseDTO executeTransfer(TransactionRequestDTO transactionRequestDTO, ConcurrencyMode mode) {
+        validateRequest(transactionRequestDTO);
 
         String fromAccountNumber = transactionRequestDTO.getFromAccountNumber();
         String toAccountNumber = transactionRequestDTO.getToAccountNumber();
         BigDecimal amount = transactionRequestDTO.getAmount();
 
-        if (fromAccountNumber == null || toAccountNumber == null) {
-            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
-        }
+        log.debug("[TransactionService] From: {}, To: {}, Amount: {}", fromAccountNumber, toAccountNumber, amount);
 
-        if (fromAccountNumber.equals(toAccountNumber)) { // 같은 계좌로는 이체할 수 없음
-            throw new TransferSystemException(ErrorCode.TRANSFER_SAME_ACCOUNT);
+        if (mode == ConcurrencyMode.ATOMIC) {
+            return executeAtomicTransfer(fromAccountNumber, toAccountNumber, amount);
         }
 
-        // 이체 금액 유효성 검사
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new TransferSystemException(ErrorCode.INVALID_AMOUNT);
+        // 입금 분산 계좌로의 이체는 송신 계좌만 잠그고 수신 금액은 잔액 슬롯에 반영
+        Optional<AccountSlotView> slotReceiver = accountBalanceSlotService.findSlotAccount(toAccountNumber);
+
+        AccountEntity fromAccount;
+        AccountEntity toAccount;
+        if (slotReceiver.isPresent()) {
+            AccountSlotView receiver = slotReceiver.get();
+            fromAccount = serviceMetrics.record(TransactionType.TRANSFER, Step.LOCK, () -> findAccount(fromAccountNumber, mode))
+                .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+            validateAccounts(fromAccount.getAccountStatus(), fromAccount.getCurrencyType(), receiver.accountStatus(), receiver.currencyType());
+            toAccount = accountRepository.getReferenceById(receiver.accountId()); // 거래 기록용 참조 (계좌 행 조회 없음)
+        } else {
+            // 락 순서 고정
+            String firstAccountNumber = fromAccountNumber.compareTo(toAccountNumber) <= 0 ? fromAccountNumber : toAccountNumber;
+            String secondAccountNumber = fromAccountNumber.compareTo(toAccountNumber) <= 0 ? toAccountNumber : fromAccountNumber;
+
+            // 비관적 락 또는 버전 기반 조회
+            AccountEntity firstLock = serviceMetrics.record(TransactionType.TRANSFER, Step.LOCK, () -> findAccount(firstAccountNumber, mode))
+                .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+            AccountEntity secondLock = serviceMetrics.record(TransactionType.TRANSFER, Step.LOCK, () -> findAccount(secondAccountNumber, mode))
+                .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+            // 송신 계좌 기준 매핑
+            fromAccount = firstAccountNumber.equals(fromAccountNumber) ? firstLock : secondLock;
+            toAccount   = getAccountEntity(fromAccount, firstLock, secondLock);
         }
 
-        log.debug("[TransactionService] From: {}, To: {}, Amount: {}", fromAccountNumber, toAccountNumber, amount);
-
-        // 락 순서 고정
-        String firstAccountNumber = fromAccountNumber.compareTo(toAccountNumber) <= 0 ? fromAccountNumber : toAccountNumber;
-        String secondAccountNumber = fromAccountNumber.compareTo(toAccountNumber) <= 0 ? toAccountNumber : fromAccountNumber;
-
-        // 비관적 락
-        AccountEntity firstLock = accountRepository.findByAccountNumberLock(firstAccountNumber).orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
-        AccountEntity secondLock = accountRepository.findByAccountNumberLock(secondAccountNumber).orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-        // 송신 계좌 기준 매핑
-        AccountEntity fromAccount = firstAccountNumber.equals(fromAccountNumber) ? firstLock : secondLock;
-        AccountEntity toAccount   = getAccountEntity(fromAccount, firstLock, secondLock);
+        transferPolicy.validateAmountScale(amount, fromAccount.getCurrencyType()); // 송신 계좌 통화 단위로 표현할 수 없는 금액 거부
 
         // 이체 수수료 유효성 검사
-        BigDecimal fee = transferPolicy.calculateFee(amount); // 이체 수수료 계산
+        BigDecimal fee = transferPolicy.calculateFee(amount, fromAccount.getCurrencyType()); // 송신 계좌 통화 기준 이체 수수료 계산
 
         if (fee == null || fee.compareTo(BigDecimal.ZERO) < 0) {
             throw new TransferSystemException(ErrorCode.INVALID_FEE);
@@ -90,64 +134,293 @@ public class TransactionServiceImpl implements TransactionService {
         log.debug("[TransactionService] 수수료 계산 결과 Amount : {}, Fee : {}, Total : {}", amount, fee, total);
 
         // 이체 한도 확인
-        LocalDateTime startTime = TimeUtils.startOfTodayKst();
-        LocalDateTime endTime = TimeUtils.endOfTodayKst();
-
-        BigDecimal todayUsed = transactionRepository.getSumTodayUsedAmount(fromAccountNumber, TransactionType.TRANSFER, startTime, endTime);
-        todayUsed = todayUsed != null ? todayUsed : BigDecimal.ZERO;
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        BigDecimal todayUsed = serviceMetrics.record(TransactionType.TRANSFER, Step.DAILY_USAGE,
+            () -> dailyUsageService.getUsedAmount(fromAccountNumber, TransactionType.TRANSFER, now.toLocalDate()));
 
         transferPolicy.validateTransferAmount(amount, todayUsed);
 
-        // 잔액 확인
+        // 잔액 확인 (부족하면 잔액 슬롯을 계좌 잔액으로 옮긴 뒤 다시 확인)
+        if (fromAccount.getBalance().compareTo(total) < 0 && fromAccount.getBalanceSlotCount() > 0) {
+            accountBalanceSlotService.sweep(fromAccount, now);
+        }
         if (fromAccount.getBalance().compareTo(total) < 0) { // 출금 계좌의 잔액이 이체 금액보다 많아야 함
             log.warn("[TransactionService] 잔액 부족 Account : {}, 이체 금액 : {}, 총 잔액 : {}", fromAccountNumber, total, fromAccount.getBalance());
             throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
         }
 
         // 계좌 잔액 업데이트
-        fromAccount.updateBalance(fromAccount.getBalance().subtract(total));
-        toAccount.updateBalance(toAccount.getBalance().add(amount));
+        if (slotReceiver.isPresent()) {
+            accountBalanceSlotService.credit(slotReceiver.get(), amount, now);
+            fromAccount.updateBalance(fromAccount.getBalance().subtract(total));
+        } else {
+            fromAccount.updateBalance(fromAccount.getBalance().subtract(total));
+            toAccount.updateBalance(toAccount.getBalance().add(amount));
+        }
+
+        if (mode == ConcurrencyMode.OPTIMISTIC) {
+            accountRepository.flush(); // 일일 사용량 갱신 전에 버전 충돌 확인
+        }
+
+        return saveTransfer(fromAccount, fromAccountNumber, toAccount, toAccountNumber, amount, fee, now);
+    }
+
+    /**
+     * 원자적 갱신 이체 (계좌 행을 잠그는 조회 없이 조건부 차감, 입금 UPDATE와 거래 저장으로 처리)
+     * 두 계좌 행은 계좌 번호가 작은 쪽부터 갱신해 잠금 순서를 유지하고, 이후 검증에 실패하면 트랜잭션과 함께 롤백
+     */
+    private TransactionResponseDTO executeAtomicTransfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
+        AccountSlotView sender = accountRepository.findSlotViewByAccountNumber(fromAccountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        Optional<AccountSlotView> slotReceiver = accountBalanceSlotService.findSlotAccount(toAccountNumber);
+        AccountSlotView receiver = slotReceiver.isPresent() ? slotReceiver.get() : accountRepository.findSlotViewByAccountNumber(toAccountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        // 잠금 없는 사전 확인 (계좌 상태는 UPDATE 조건으로 다시 확인)
+        validateAccounts(sender.accountStatus(), sender.currencyType(), receiver.accountStatus(), receiver.currencyType());
+        transferPolicy.validateAmountScale(amount, sender.currencyType());
+
+        BigDecimal fee = transferPolicy.calculateFee(amount, sender.currencyType());
+        if (fee == null || fee.compareTo(BigDecimal.ZERO) < 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_FEE);
+        }
+        BigDecimal total = amount.add(fee);
+
+        // 입금 분산 계좌는 슬롯 행만 갱신하므로 항상 송신 계좌 먼저 차감
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        boolean creditFirst = slotReceiver.isEmpty() && toAccountNumber.compareTo(fromAccountNumber) < 0;
+        if (creditFirst) {
+            atomicBalanceService.credit(receiver, amount, now);
+        }
+        serviceMetrics.record(TransactionType.TRANSFER, Step.LOCK, () -> atomicBalanceService.debit(sender, total, now));
+        if (slotReceiver.isPresent()) {
+            accountBalanceSlotService.credit(receiver, amount, now);
+        } else if (!creditFirst) {
+            atomicBalanceService.credit(receiver, amount, now);
+        }
+
+        // 차감으로 송신 계좌 행이 잠긴 뒤 이체 한도 확인 (같은 계좌 거래와 직렬화)
+        BigDecimal todayUsed = serviceMetrics.record(TransactionType.TRANSFER, Step.DAILY_USAGE,
+            () -> dailyUsageService.getUsedAmount(fromAccountNumber, TransactionType.TRANSFER, now.toLocalDate()));
+        transferPolicy.validateTransferAmount(amount, todayUsed);
+
+        // 거래 기록용 참조 (계좌 행 조회 없음)
+        return saveTransfer(accountRepository.getReferenceById(sender.accountId()), fromAccountNumber,
+            accountRepository.getReferenceById(receiver.accountId()), toAccountNumber, amount, fee, now);
+    }
 
-        // 기록 저장
+    /**
+     * 이체 거래 저장, 같은 트랜잭션에 거래 이벤트 기록, 일일 사용량 누적
+     */
+    private TransactionResponseDTO saveTransfer(AccountEntity fromAccount, String fromAccountNumber, AccountEntity toAccount, String toAccountNumber, BigDecimal amount, BigDecimal fee, LocalDateTime now) {
         TransactionEntity transactionEntity = TransactionEntity.builder()
                 .fromAccount(fromAccount)
+                .fromAccountNumber(fromAccountNumber)
                 .toAccount(toAccount)
+                .toAccountNumber(toAccountNumber)
                 .transactionType(TransactionType.TRANSFER)
                 .amount(amount)
                 .fee(fee)
-                .createdTimeStamp(TimeUtils.nowKstLocalDateTime())
+                .createdTimeStamp(now)
                 .build();
 
-        TransactionEntity savedTransactionEntity = transactionRepository.save(transactionEntity);
+        TransactionEntity savedTransactionEntity = serviceMetrics.record(TransactionType.TRANSFER, Step.INSERT, () -> {
+            TransactionEntity saved = transactionRepository.save(transactionEntity);
+            transactionOutbox.append(saved); // 같은 트랜잭션에 거래 이벤트 기록
+            return saved;
+        });
+        dailyUsageService.addUsedAmount(fromAccountNumber, TransactionType.TRANSFER, now.toLocalDate(), amount);
         log.debug("[TranscationService] 이체 완료 거래ID : {}", savedTransactionEntity.getTransactionId());
 
         return toDto(savedTransactionEntity);
     }
 
+    /**
+     * 일괄 이체 (관련 계좌를 계좌 번호 순서로 한 번에 잠근 뒤 요청 순서대로 처리, 실패한 건은 변경 없이 건너뜀)
+     * 건별 잠금과 재시도가 없으므로 동시성 제어 방식과 관계없이 비관적 락 사용
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "transfer_bulk"}, histogram = true)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BulkTransferResponseDTO transferBulk(List<TransactionRequestDTO> transactionRequestDTOs) {
+        bulkTransferPolicy.validateSize(transactionRequestDTOs == null ? 0 : transactionRequestDTOs.size());
+
+        List<BulkTransferItemResultDTO> results = new ArrayList<>(Collections.nCopies(transactionRequestDTOs.size(), null));
+
+        // 요청 검증 및 관련 계좌 번호 수집 (정렬된 순서로 잠금)
+        Set<String> accountNumbers = new TreeSet<>();
+        for (int i = 0; i < transactionRequestDTOs.size(); i++) {
+            TransactionRequestDTO request = transactionRequestDTOs.get(i);
+            try {
+                validateRequest(request);
+                accountNumbers.add(request.getFromAccountNumber());
+                accountNumbers.add(request.getToAccountNumber());
+            } catch (TransferSystemException e) {
+                results.set(i, BulkTransferItemResultDTO.failure(i, e.getErrorCode()));
+            }
+        }
+
+        Map<String, AccountEntity> accounts = new HashMap<>();
+        if (!accountNumbers.isEmpty()) {
+            List<AccountEntity> locked = serviceMetrics.record(TransactionType.TRANSFER, Step.LOCK, () -> accountRepository.findAllByAccountNumberInLock(accountNumbers));
+            for (AccountEntity account : locked) {
+                accounts.put(account.getAccountNumber(), account);
+            }
+        }
+
+        LocalDateTime now = TimeUtils.nowKstLocalDateTime();
+        Map<String, BigDecimal> todayUsedAmounts = new HashMap<>(); // 송신 계좌별 누적 사용 금액 (이번 요청 반영분 포함)
+        Map<String, BigDecimal> addedAmounts = new LinkedHashMap<>(); // 송신 계좌별 이번 요청 이체 금액 합계
+        List<TransactionRecord> records = new ArrayList<>(transactionRequestDTOs.size());
+
+        for (int i = 0; i < transactionRequestDTOs.size(); i++) {
+            if (results.get(i) != null) {
+                continue;
+            }
+
+            TransactionRequestDTO request = transactionRequestDTOs.get(i);
+            try {
+                TransactionResponseDTO response = applyBulkItem(request, accounts, todayUsedAmounts, now, records);
+                addedAmounts.merge(request.getFromAccountNumber(), request.getAmount(), BigDecimal::add);
+                results.set(i, BulkTransferItemResultDTO.success(i, response));
+            } catch (TransferSystemException e) {
+                results.set(i, BulkTransferItemResultDTO.failure(i, e.getErrorCode()));
+            } catch (ArithmeticException e) { // 금액은 미리 검증하므로 잔액이 최소 단위(long) 범위를 넘는 경우만 해당
+                results.set(i, BulkTransferItemResultDTO.failure(i, ErrorCode.INVALID_AMOUNT));
+            }
+        }
+
+        // 거래 일괄 저장 및 송신 계좌별 일일 사용량 한 번씩 반영
+        serviceMetrics.record(TransactionType.TRANSFER, Step.INSERT, () -> transactionBatchWriter.writeAll(records));
+        addedAmounts.forEach((accountNumber, amount) -> dailyUsageService.addUsedAmount(accountNumber, TransactionType.TRANSFER, now.toLocalDate(), amount));
+
+        BulkTransferResponseDTO response = BulkTransferResponseDTO.of(results);
+        log.info("[TransactionService] 일괄 이체 완료 요청 : {}건, 성공 : {}건, 실패 : {}건", response.getTotalCount(), response.getSuccessCount(), response.getFailureCount());
+
+        return response;
+    }
+
+    /**
+     * 일괄 이체 건별 처리 (검증을 모두 통과한 경우에만 잔액 변경)
+     */
+    private TransactionResponseDTO applyBulkItem(TransactionRequestDTO request, Map<String, AccountEntity> accounts, Map<String, BigDecimal> todayUsedAmounts, LocalDateTime now, List<TransactionRecord> records) {
+        String fromAccountNumber = request.getFromAccountNumber();
+        BigDecimal amount = request.getAmount();
+
+        AccountEntity fromAccount = accounts.get(fromAccountNumber);
+        AccountEntity toAccount = accounts.get(request.getToAccountNumber());
+        if (fromAccount == null || toAccount == null) {
+            throw new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        getAccountEntity(fromAccount, fromAccount, toAccount); // 계좌 상태, 통화 종류 확인
+        transferPolicy.validateAmountScale(amount, fromAccount.getCurrencyType());
+
+        BigDecimal fee = transferPolicy.calculateFee(amount, fromAccount.getCurrencyType());
+        if (fee == null || fee.compareTo(BigDecimal.ZERO) < 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_FEE);
+        }
+        BigDecimal total = amount.add(fee);
+
+        // 이체 한도 확인 (앞선 건의 이체 금액 포함)
+        BigDecimal todayUsed = todayUsedAmounts.computeIfAbsent(fromAccountNumber,
+            accountNumber -> serviceMetrics.record(TransactionType.TRANSFER, Step.DAILY_USAGE,
+                () -> dailyUsageService.getUsedAmount(accountNumber, TransactionType.TRANSFER, now.toLocalDate())));
+        transferPolicy.validateTransferAmount(amount, todayUsed);
+
+        // 잔액 확인 (부족하면 잔액 슬롯을 계좌 잔액으로 옮긴 뒤 다시 확인)
+        if (fromAccount.getBalance().compareTo(total) < 0 && fromAccount.getBalanceSlotCount() > 0) {
+            accountBalanceSlotService.sweep(fromAccount, now);
+        }
+        if (fromAccount.getBalance().compareTo(total) < 0) {
+            throw new TransferSystemException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // 수신 계좌 먼저 반영 (수신 잔액이 범위를 넘어 실패하면 송신 계좌가 변경되지 않도록)
+        toAccount.updateBalance(toAccount.getBalance().add(amount));
+        fromAccount.updateBalance(fromAccount.getBalance().subtract(total));
+        todayUsedAmounts.put(fromAccountNumber, todayUsed.add(amount));
+
+        TransactionRecord record = new TransactionRecord(UuidV7.next(), fromAccount.getAccountId(), fromAccountNumber, toAccount.getAccountId(), toAccount.getAccountNumber(), TransactionType.TRANSFER, amount, fee, now);
+        records.add(record);
+
+        return TransactionResponseDTO.builder()
+            .transactionId(record.transactionId())
+            .fromAccountNumber(fromAccountNumber)
+            .toAccountNumber(toAccount.getAccountNumber())
+            .amount(MoneyUtils.normalize(amount))
+            .fee(MoneyUtils.normalize(fee))
+            .transactionType(TransactionType.TRANSFER)
+            .createdTimeStamp(now)
+            .build();
+    }
+
+    /**
+     * 이체 요청 유효성 검사
+     */
+    private static void validateRequest(TransactionRequestDTO transactionRequestDTO) {
+        if (transactionRequestDTO == null) {
+            throw new TransferSystemException(ErrorCode.INVALID_REQUEST);
+        }
+
+        String fromAccountNumber = transactionRequestDTO.getFromAccountNumber();
+        String toAccountNumber = transactionRequestDTO.getToAccountNumber();
+        BigDecimal amount = transactionRequestDTO.getAmount();
+
+        if (fromAccountNumber == null || toAccountNumber == null) {
+            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
+        }
+
+        if (fromAccountNumber.equals(toAccountNumber)) { // 같은 계좌로는 이체할 수 없음
+            throw new TransferSystemException(ErrorCode.TRANSFER_SAME_ACCOUNT);
+        }
+
+        // 이체 금액 유효성 검사
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new TransferSystemException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    /**
+     * 동시성 제어 방식에 따른 계좌 조회 (낙관적 락은 커밋 시 버전으로 충돌 확인)
+     */
+    private Optional<AccountEntity> findAccount(String accountNumber, ConcurrencyMode mode) {
+        if (mode == ConcurrencyMode.OPTIMISTIC) {
+            return accountRepository.findByAccountNumber(accountNumber);
+        }
+        return accountRepository.findByAccountNumberLock(accountNumber);
+    }
+
     private static AccountEntity getAccountEntity(AccountEntity fromAccount, AccountEntity firstLock, AccountEntity secondLock) {
         AccountEntity toAccount = fromAccount == firstLock ? secondLock : firstLock;
+        validateAccounts(fromAccount.getAccountStatus(), fromAccount.getCurrencyType(), toAccount.getAccountStatus(), toAccount.getCurrencyType());
+        return toAccount;
+    }
 
+    /**
+     * 송신, 수신 계좌 상태와 통화 종류 확인
+     */
+    private static void validateAccounts(AccountStatus fromStatus, CurrencyType fromCurrency, AccountStatus toStatus, CurrencyType toCurrency) {
         // 수신 계좌 상태 확인
-        if (toAccount.getAccountStatus() != AccountStatus.ACTIVE) {
+        if (toStatus != AccountStatus.ACTIVE) {
             throw new TransferSystemException(ErrorCode.RECEIVER_ACCOUNT_INACTIVE);
         }
 
         // 송신 계좌 상태 확인
-        if (fromAccount.getAccountStatus() != AccountStatus.ACTIVE) {
+        if (fromStatus != AccountStatus.ACTIVE) {
             throw new TransferSystemException(ErrorCode.SENDER_ACCOUNT_INACTIVE);
         }
 
         // 통화 종류 일치 확인
-        if (fromAccount.getCurrencyType() == null || toAccount.getCurrencyType() == null || !fromAccount.getCurrencyType().equals(toAccount.getCurrencyType())) {
+        if (fromCurrency == null || toCurrency == null || !fromCurrency.equals(toCurrency)) {
             throw new TransferSystemException(ErrorCode.CURRENCY_TYPE_MISMATCH);
         }
-        return toAccount;
     }
 
     /**
      * 계좌 거래 내역 조회
      */
     @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "history"}, histogram = true)
     @Transactional(readOnly = true)
     public Page<TransactionResponseDTO> getTransactionHistory(String accountNumber, int page, int size) {
         // 계좌번호 검증
@@ -155,9 +428,8 @@ public class TransactionServiceImpl implements TransactionService {
             throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
         }
 
-        // 계좌 존재 여부 확인
-        AccountEntity account = accountRepository.findByAccountNumber(accountNumber)
-            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        // 계좌 존재 여부 확인 (캐시된 계좌 ID로 참조만 생성하고 계좌 행은 조회하지 않음)
+        AccountEntity account = findAccountReference(accountNumber);
 
         // 페이징 정책 적용
         int validatedPage = pagingPolicy.getValidatedPage(page >= 0 ? page : null);
@@ -169,28 +441,106 @@ public class TransactionServiceImpl implements TransactionService {
             Sort.by(pagingPolicy.getTransactionSortField()).descending()
         );
 
-        Page<TransactionEntity> transactions = transactionRepository.findAllByAccount(account, pageable);
+        Page<TransactionView> transactions = transactionRepository.findAllByAccount(account, pageable);
 
         log.info("[TranscationService] 거래 내역 조회 완료: 총 {}건, 현재 페이지 {}건", transactions.getTotalElements(), transactions.getNumberOfElements());
 
-        return transactions.map(this::toDto);
+        return transactions.map(TransactionServiceImpl::toDto);
+    }
+
+    /**
+     * 계좌 거래 내역 커서 조회 (전체 건수 집계 없이 다음 페이지 여부만 확인)
+     */
+    @Override
+    @Timed(value = ServiceMetrics.SERVICE_TIMER, extraTags = {"operation", "history_cursor"}, histogram = true)
+    @Transactional(readOnly = true)
+    public TransactionSliceResponseDTO getTransactionHistoryByCursor(String accountNumber, String cursor, int size) {
+        // 계좌번호 검증
+        if (accountNumber == null || accountNumber.trim().isEmpty()) {
+            throw new TransferSystemException(ErrorCode.INVALID_ACCOUNT_NUMBER);
+        }
+
+        // 계좌 존재 여부 확인 (캐시된 계좌 ID로 참조만 생성하고 계좌 행은 조회하지 않음)
+        AccountEntity account = findAccountReference(accountNumber);
+
+        int validatedSize = pagingPolicy.getValidatedSize(size);
+        TransactionCursor position = TransactionCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, validatedSize + 1);
+        List<TransactionView> sent = transactionRepository.findSentBefore(account, position.createdTimeStamp(), position.transactionId(), limit);
+        List<TransactionView> received = transactionRepository.findReceivedBefore(account, position.createdTimeStamp(), position.transactionId(), limit);
+
+        // 출금/입금 측 결과 병합 (양쪽 모두 같은 순서로 정렬되어 있음)
+        List<TransactionView> merged = new ArrayList<>(sent.size() + received.size());
+        merged.addAll(sent);
+        merged.addAll(received);
+        merged.sort(CURSOR_ORDER);
+
+        boolean hasNext = merged.size() > validatedSize;
+        List<TransactionView> page = hasNext ? merged.subList(0, validatedSize) : merged;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionView last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.createdTimeStamp(), last.transactionId()).encode();
+        }
+
+        log.info("[TranscationService] 거래 내역 커서 조회 완료: 현재 페이지 {}건, 다음 페이지 여부 {}", page.size(), hasNext);
+
+        return TransactionSliceResponseDTO.builder()
+            .content(page.stream().map(TransactionServiceImpl::toDto).toList())
+            .size(validatedSize)
+            .numberOfElements(page.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
     }
 
     /**
-     * Entity를 DTO로 변환
+     * 계좌 번호로 조회용 계좌 참조 생성
      */
-    private TransactionResponseDTO toDto(TransactionEntity e) {
-        String fromNumber = (e.getFromAccount() != null) ? e.getFromAccount().getAccountNumber() : null;
-        String toNumber = (e.getToAccount() != null) ? e.getToAccount().getAccountNumber() : null;
+    private AccountEntity findAccountReference(String accountNumber) {
+        AccountSnapshot account = accountCache.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new TransferSystemException(ErrorCode.ACCOUNT_NOT_FOUND));
+        return accountRepository.getReferenceById(account.accountId());
+    }
 
+    /**
+     * UUID 비교 (DB의 바이트 비교와 동일하게 부호 없는 값으로 비교)
+     */
+    static int compareUuid(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * Entity를 DTO로 변환 (비정규화된 계좌 번호 사용, 계좌 엔티티를 읽지 않음)
+     */
+    static TransactionResponseDTO toDto(TransactionEntity e) {
         return TransactionResponseDTO.builder()
             .transactionId(e.getTransactionId())
-            .fromAccountNumber(fromNumber)
-            .toAccountNumber(toNumber)
+            .fromAccountNumber(e.getFromAccountNumber())
+            .toAccountNumber(e.getToAccountNumber())
             .amount(MoneyUtils.normalize(e.getAmount()))
             .fee(MoneyUtils.normalize(e.getFee()))
             .transactionType(e.getTransactionType())
             .createdTimeStamp(e.getCreatedTimeStamp())
             .build();
     }
+
+    /**
+     * 조회 결과를 DTO로 변환
+     */
+    static TransactionResponseDTO toDto(TransactionView v) {
+        return TransactionResponseDTO.builder()
+            .transactionId(v.transactionId())
+            .fromAccountNumber(v.fromAccountNumber())
+            .toAccountNumber(v.toAccountNumber())
+            .amount(MoneyUtils.normalize(v.amount()))
+            .fee(MoneyUtils.normalize(v.fee()))
+            .transactionType(v.transactionType())
+            .createdTimeStamp(v.createdTimeStamp())
+            .build();
+    }
 }
\ No newline at end of file